@@ -0,0 +1,59 @@
+package software.amazon.glue.job;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * DefaultArguments conversion in the Translator against the stream and collector based conversion it replaced.
+ * Run with {@code -prof gc} to compare allocation per operation, JobTranslatorBenchmark covers the conversion as
+ * part of the full request translation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobArgumentConversionBenchmark {
+
+    @Param({"10", "100", "500"})
+    public int argumentCount;
+
+    // Whether every argument value is a String, as CloudFormation hands them over for almost all templates
+    @Param({"true", "false"})
+    public boolean stringValues;
+
+    private ResourceModel model;
+
+    @Setup
+    public void setup() {
+        model = JobFixtures.model("benchmark_job", argumentCount, 10);
+        if (!stringValues) {
+            model.getDefaultArguments().put("--conf.0", 200);
+        }
+    }
+
+    @Benchmark
+    public Map<String, String> convert() {
+        return Translator.convertObjectMapToStringMap(model.getDefaultArguments());
+    }
+
+    @Benchmark
+    public Map<String, String> convertWithCollector() {
+        return model.getDefaultArguments().entrySet().stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toString()));
+    }
+}
@@ -0,0 +1,63 @@
+package software.amazon.glue.job;
+
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Job models shaped like real ETL jobs, with a configurable number of default arguments.
+ */
+final class JobFixtures {
+
+    private JobFixtures() {
+    }
+
+    static ResourceModel model(final String name, final int argumentCount, final int tagCount) {
+        return ResourceModel.builder()
+            .name(name)
+            .description("Nightly ingestion of the orders feed")
+            .role("arn:aws:iam::" + HandlerHarness.ACCOUNT_ID + ":role/GlueJobRole")
+            .command(JobCommand.builder()
+                .name("glueetl")
+                .scriptLocation("s3://benchmark-bucket/scripts/" + name + ".py")
+                .pythonVersion("3")
+                .build())
+            .defaultArguments(arguments("--conf.", argumentCount))
+            .nonOverridableArguments(arguments("--locked.", Math.max(1, argumentCount / 10)))
+            .connections(ConnectionsList.builder().connections(Arrays.asList("orders-db", "warehouse")).build())
+            .executionProperty(ExecutionProperty.builder().maxConcurrentRuns(2.0).build())
+            .notificationProperty(NotificationProperty.builder().notifyDelayAfter(10).build())
+            .glueVersion("4.0")
+            .workerType("G.1X")
+            .numberOfWorkers(10)
+            .maxRetries(1.0)
+            .timeout(2880)
+            .executionClass("STANDARD")
+            .logUri("s3://benchmark-bucket/logs/")
+            .tags(arguments("team-", tagCount))
+            .build();
+    }
+
+    static ResourceHandlerRequest<ResourceModel> request(final ResourceModel desired, final ResourceModel previous) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(desired)
+            .previousResourceState(previous)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .stackId("arn:aws:cloudformation:us-east-1:123456789012:stack/benchmark/1")
+            .logicalResourceIdentifier("BenchmarkJob")
+            .clientRequestToken("benchmark-token")
+            .build();
+    }
+
+    static Map<String, Object> arguments(final String prefix, final int count) {
+        final Map<String, Object> arguments = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            arguments.put(prefix + i, "value-" + i + "-spark.sql.shuffle.partitions=200");
+        }
+        return arguments;
+    }
+}
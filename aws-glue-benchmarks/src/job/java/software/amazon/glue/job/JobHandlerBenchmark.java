@@ -0,0 +1,116 @@
+package software.amazon.glue.job;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full handler invocations, including the proxy call chain and callback re-invocations, against an in-memory Glue.
+ *
+ * <p>The GetJob cache is disabled so every operation reaches the client and results do not depend on the TTL.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Daws.region=us-east-1", "-Dglue.job.getJobCache.enabled=false"})
+@State(Scope.Benchmark)
+public class JobHandlerBenchmark {
+
+    private static final int LISTED_JOBS = 100;
+
+    @Param({"10", "100"})
+    public int argumentCount;
+
+    private HandlerHarness harness;
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private UpdateHandler updateHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+
+    private ResourceHandlerRequest<ResourceModel> createRequest;
+    private ResourceHandlerRequest<ResourceModel> deleteRequest;
+    private ResourceHandlerRequest<ResourceModel> readRequest;
+    private ResourceHandlerRequest<ResourceModel> updateRequest;
+    private ResourceHandlerRequest<ResourceModel> revertRequest;
+    private ResourceHandlerRequest<ResourceModel> listRequest;
+    private boolean reverting;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glueClient = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        harness = new HandlerHarness(glueClient);
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        updateHandler = new UpdateHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+
+        final ResourceModel transientJob = JobFixtures.model("benchmark_transient_job", argumentCount, 10);
+        createRequest = JobFixtures.request(transientJob, null);
+        deleteRequest = JobFixtures.request(ResourceModel.builder().name(transientJob.getName()).build(), null);
+
+        final ResourceModel stableJob = JobFixtures.model("benchmark_stable_job", argumentCount, 10);
+        final ResourceModel changedJob = JobFixtures.model("benchmark_stable_job", argumentCount, 10);
+        changedJob.setDescription("Hourly ingestion of the orders feed");
+        changedJob.setTags(JobFixtures.arguments("owner-", 10));
+        harness.complete(CallbackContext::new, context ->
+            createHandler.handleRequest(harness.proxy(), JobFixtures.request(stableJob, null), context,
+                harness.proxyClient(), harness.logger()));
+        readRequest = JobFixtures.request(ResourceModel.builder().name(stableJob.getName()).build(), null);
+        updateRequest = JobFixtures.request(changedJob, stableJob);
+        revertRequest = JobFixtures.request(stableJob, changedJob);
+
+        for (int i = 0; i < LISTED_JOBS; i++) {
+            glueClient.createJob(Translator.translateToCreateRequest(
+                null, "benchmark_listed_job_" + i, JobFixtures.model("benchmark_listed_job_" + i, 1, 0)));
+        }
+        listRequest = JobFixtures.request(ResourceModel.builder().build(), null);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> createAndDelete() {
+        harness.complete(CallbackContext::new, context ->
+            createHandler.handleRequest(harness.proxy(), createRequest, context, harness.proxyClient(), harness.logger()));
+        return harness.complete(CallbackContext::new, context ->
+            deleteHandler.handleRequest(harness.proxy(), deleteRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return harness.complete(CallbackContext::new, context ->
+            readHandler.handleRequest(harness.proxy(), readRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    /**
+     * Alternates between two definitions, so every invocation changes the description and the tags.
+     */
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        final ResourceHandlerRequest<ResourceModel> request = reverting ? revertRequest : updateRequest;
+        reverting = !reverting;
+        return harness.complete(CallbackContext::new, context ->
+            updateHandler.handleRequest(harness.proxy(), request, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return harness.complete(CallbackContext::new, context ->
+            listHandler.handleRequest(harness.proxy(), listRequest, context, harness.proxyClient(), harness.logger()));
+    }
+}
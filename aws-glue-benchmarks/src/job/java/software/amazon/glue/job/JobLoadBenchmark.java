@@ -0,0 +1,97 @@
+package software.amazon.glue.job;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.benchmarks.LoadProfile;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent Job lifecycles, create, read, update and delete, against an emulated Glue with service latency and
+ * throttling. Run in sample mode for tail latencies, the handler outcomes are reported as secondary results.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgsAppend = {"-Daws.region=us-east-1", "-Dglue.job.getJobCache.enabled=false"})
+@Threads(16)
+@State(Scope.Benchmark)
+public class JobLoadBenchmark {
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    @Param({"0.0", "0.05"})
+    public double throttleRate;
+
+    private HandlerHarness harness;
+
+    @Setup
+    public void setup() {
+        harness = new HandlerHarness(LoadProfile.apply(
+            new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID), latencyMillis, throttleRate));
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+        private final CreateHandler createHandler = new CreateHandler();
+        private final ReadHandler readHandler = new ReadHandler();
+        private final UpdateHandler updateHandler = new UpdateHandler();
+        private final DeleteHandler deleteHandler = new DeleteHandler();
+        private String prefix;
+        private int sequence;
+
+        @Setup
+        public void setup(final ThreadParams threadParams) {
+            prefix = "load_job_" + threadParams.getThreadIndex() + "_";
+        }
+
+        private String nextName() {
+            return prefix + sequence++;
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> lifecycle(
+        final Worker worker,
+        final HandlerHarness.Outcomes outcomes) {
+
+        final ResourceModel job = JobFixtures.model(worker.nextName(), 10, 5);
+        final ResourceModel changed = JobFixtures.model(job.getName(), 10, 5);
+        changed.setDescription("Hourly ingestion of the orders feed");
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = harness.invoke(CallbackContext::new, context ->
+            worker.createHandler.handleRequest(harness.proxy(), JobFixtures.request(job, null), context,
+                harness.proxyClient(), harness.logger()), outcomes);
+        if (created.getStatus() == OperationStatus.SUCCESS) {
+            harness.invoke(CallbackContext::new, context ->
+                worker.readHandler.handleRequest(harness.proxy(),
+                    JobFixtures.request(ResourceModel.builder().name(job.getName()).build(), null), context,
+                    harness.proxyClient(), harness.logger()), outcomes);
+            harness.invoke(CallbackContext::new, context ->
+                worker.updateHandler.handleRequest(harness.proxy(), JobFixtures.request(changed, job), context,
+                    harness.proxyClient(), harness.logger()), outcomes);
+        }
+        // Delete even if the create failed, a throttled create may still have created the job
+        return harness.invoke(CallbackContext::new, context ->
+            worker.deleteHandler.handleRequest(harness.proxy(),
+                JobFixtures.request(ResourceModel.builder().name(job.getName()).build(), null), context,
+                harness.proxyClient(), harness.logger()), outcomes);
+    }
+}
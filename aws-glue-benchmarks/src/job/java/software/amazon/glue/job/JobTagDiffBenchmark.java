@@ -0,0 +1,58 @@
+package software.amazon.glue.job;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.glue.common.TagReconciler;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tag reconciliation done by the Update handler, for an update that keeps half of the tags, changes a
+ * quarter, removes a quarter and adds as many as it removes.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobTagDiffBenchmark {
+
+    @Param({"10", "50", "200"})
+    public int tagCount;
+
+    private Map<String, String> previousTags;
+    private Map<String, String> desiredTags;
+
+    @Setup
+    public void setup() {
+        previousTags = new HashMap<>();
+        desiredTags = new HashMap<>();
+        for (int i = 0; i < tagCount; i++) {
+            previousTags.put("key-" + i, "value-" + i);
+            if (i % 4 == 1) {
+                desiredTags.put("key-" + i, "changed-" + i);
+            } else if (i % 4 == 2) {
+                desiredTags.put("added-" + i, "value-" + i);
+            } else {
+                desiredTags.put("key-" + i, "value-" + i);
+            }
+        }
+    }
+
+    @Benchmark
+    public TagReconciler.Plan reconcile() {
+        return TagReconciler.reconcile(previousTags, desiredTags);
+    }
+}
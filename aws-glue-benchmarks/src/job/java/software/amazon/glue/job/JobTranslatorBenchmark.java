@@ -0,0 +1,71 @@
+package software.amazon.glue.job;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.CreateJobRequest;
+import software.amazon.awssdk.services.glue.model.GetJobRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.JobUpdate;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Model to SDK translation and back for jobs with growing argument maps.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobTranslatorBenchmark {
+
+    private static final String JOB_NAME = "benchmark_job";
+
+    @Param({"10", "100", "500"})
+    public int argumentCount;
+
+    private ResourceModel model;
+    private Map<String, String> tags;
+    private CallbackContext readContext;
+
+    @Setup
+    public void setup() {
+        model = JobFixtures.model(JOB_NAME, argumentCount, 10);
+        tags = Translator.convertObjectMapToStringMap(model.getTags());
+
+        final GlueEmulator glueClient = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        glueClient.createJob(Translator.translateToCreateRequest(tags, JOB_NAME, model));
+        readContext = new CallbackContext();
+        readContext.setGetJobResponse(glueClient.getJob(GetJobRequest.builder().jobName(JOB_NAME).build()));
+        readContext.setGetTagsResponse(
+            glueClient.getTags(GetTagsRequest.builder().resourceArn(glueClient.jobArn(JOB_NAME)).build()));
+    }
+
+    @Benchmark
+    public CreateJobRequest translateToCreateRequest() {
+        return Translator.translateToCreateRequest(tags, JOB_NAME, model);
+    }
+
+    @Benchmark
+    public JobUpdate translateToJobUpdate() {
+        return Translator.translateToJobUpdate(model);
+    }
+
+    @Benchmark
+    public ResourceModel translateFromReadResponse() {
+        return Translator.translateFromReadResponse(readContext);
+    }
+}
@@ -0,0 +1,157 @@
+package software.amazon.glue.benchmarks;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.exceptions.BaseHandlerException;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Drives handlers the way the CloudFormation runtime does, re-invoking them with the returned callback context
+ * until they reach a terminal status, against a given {@link GlueClient}.
+ *
+ * <p>The handlers' five argument handleRequest is protected, so benchmarks live in the handler packages and pass
+ * it in as a function of the callback context.
+ */
+public final class HandlerHarness {
+
+    public static final String REGION = "us-east-1";
+    public static final String ACCOUNT_ID = "123456789012";
+
+    // The runtime would have long given up on a handler that is still in progress after this many invocations
+    private static final int MAX_INVOCATIONS = 16;
+    // Failures the runtime retries with a fresh invocation rather than reporting to the stack
+    private static final Set<HandlerErrorCode> RETRIABLE_ERROR_CODES =
+        EnumSet.of(HandlerErrorCode.Throttling, HandlerErrorCode.ServiceInternalError);
+
+    private final AmazonWebServicesClientProxy proxy;
+    private final ProxyClient<GlueClient> proxyClient;
+    private final LoggerProxy logger;
+
+    public HandlerHarness(final GlueClient glueClient) {
+        this.logger = new LoggerProxy();
+        this.proxy = new AmazonWebServicesClientProxy(
+            logger,
+            new Credentials("accessKey", "secretKey", "token"),
+            () -> Duration.ofMinutes(15).toMillis());
+        this.proxyClient = proxy.newProxy(() -> glueClient);
+    }
+
+    public AmazonWebServicesClientProxy proxy() {
+        return proxy;
+    }
+
+    public ProxyClient<GlueClient> proxyClient() {
+        return proxyClient;
+    }
+
+    public LoggerProxy logger() {
+        return logger;
+    }
+
+    /**
+     * Invokes the handler with a fresh callback context, then with whatever context it hands back, until it
+     * stops returning IN_PROGRESS.
+     *
+     * @throws IllegalStateException if the handler fails or never completes, so a benchmark cannot silently
+     *                               measure an error path
+     */
+    public <M, C> ProgressEvent<M, C> complete(
+        final Supplier<C> newCallbackContext,
+        final Function<C, ProgressEvent<M, C>> invocation) {
+
+        final ProgressEvent<M, C> event = invoke(newCallbackContext, invocation, new Outcomes());
+        if (event.getStatus() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException(
+                String.format("Handler failed with %s: %s", event.getErrorCode(), event.getMessage()));
+        }
+        return event;
+    }
+
+    /**
+     * Like {@link #complete}, but reports failures the way the runtime does instead of throwing: exceptions
+     * thrown by the handler become FAILED events, and Throttling and ServiceInternalError failures are retried
+     * from a fresh callback context. The outcome is recorded in {@code outcomes}.
+     *
+     * @return the terminal event, SUCCESS or FAILED
+     */
+    public <M, C> ProgressEvent<M, C> invoke(
+        final Supplier<C> newCallbackContext,
+        final Function<C, ProgressEvent<M, C>> invocation,
+        final Outcomes outcomes) {
+
+        C callbackContext = newCallbackContext.get();
+        for (int invocations = 1; ; invocations++) {
+            final ProgressEvent<M, C> event = apply(invocation, callbackContext);
+            if (event.getStatus() == OperationStatus.SUCCESS) {
+                outcomes.succeeded++;
+                return event;
+            }
+
+            final boolean inProgress = event.getStatus() == OperationStatus.IN_PROGRESS;
+            if (!inProgress && !RETRIABLE_ERROR_CODES.contains(event.getErrorCode())) {
+                outcomes.failed++;
+                return event;
+            }
+            if (invocations == MAX_INVOCATIONS) {
+                outcomes.failed++;
+                return ProgressEvent.defaultFailureHandler(new IllegalStateException(
+                    String.format("Handler still %s after %d invocations", event.getStatus(), invocations)),
+                    HandlerErrorCode.NotStabilized);
+            }
+
+            if (!inProgress) {
+                outcomes.retried++;
+                callbackContext = newCallbackContext.get();
+            } else if (event.getCallbackContext() != null) {
+                callbackContext = event.getCallbackContext();
+            }
+        }
+    }
+
+    private static <M, C> ProgressEvent<M, C> apply(
+        final Function<C, ProgressEvent<M, C>> invocation,
+        final C callbackContext) {
+        try {
+            return invocation.apply(callbackContext);
+        } catch (final BaseHandlerException e) {
+            return ProgressEvent.defaultFailureHandler(e, e.getErrorCode());
+        } catch (final RuntimeException e) {
+            return ProgressEvent.defaultFailureHandler(e, HandlerErrorCode.InternalFailure);
+        }
+    }
+
+    /**
+     * Per-thread handler outcomes, reported by JMH next to the primary result of load benchmarks that take it as
+     * a parameter.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Outcomes {
+        public long succeeded;
+        public long failed;
+        public long retried;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            succeeded = 0L;
+            failed = 0L;
+            retried = 0L;
+        }
+    }
+}
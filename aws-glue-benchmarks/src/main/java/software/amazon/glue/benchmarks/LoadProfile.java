@@ -0,0 +1,25 @@
+package software.amazon.glue.benchmarks;
+
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.time.Duration;
+
+/**
+ * Service behaviour applied to the emulator by the load benchmarks, after they have seeded it.
+ */
+public final class LoadProfile {
+
+    private LoadProfile() {
+    }
+
+    /**
+     * Every call takes between {@code latencyMillis} and twice that, uniformly distributed, and the given fraction
+     * of calls is throttled.
+     */
+    public static GlueEmulator apply(final GlueEmulator glue, final int latencyMillis, final double throttleRate) {
+        final Duration latency = Duration.ofMillis(latencyMillis);
+        return glue
+            .latency(GlueEmulator.ALL_OPERATIONS, latency, latency)
+            .throttlingRate(GlueEmulator.ALL_OPERATIONS, throttleRate);
+    }
+}
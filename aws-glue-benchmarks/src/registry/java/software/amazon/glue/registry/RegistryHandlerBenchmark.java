@@ -0,0 +1,112 @@
+package software.amazon.glue.registry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full Registry handler invocations against an in-memory Glue.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistryHandlerBenchmark {
+
+    private static final int LISTED_REGISTRIES = 100;
+
+    private HandlerHarness harness;
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private UpdateHandler updateHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+
+    private ResourceHandlerRequest<ResourceModel> createRequest;
+    private ResourceHandlerRequest<ResourceModel> deleteRequest;
+    private ResourceHandlerRequest<ResourceModel> readRequest;
+    private ResourceHandlerRequest<ResourceModel> updateRequest;
+    private ResourceHandlerRequest<ResourceModel> listRequest;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glueClient = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        harness = new HandlerHarness(glueClient);
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        updateHandler = new UpdateHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+
+        createRequest = request(model("benchmark-transient-registry", "Transient registry"));
+        deleteRequest = request(ResourceModel.builder().name("benchmark-transient-registry").build());
+
+        glueClient.createRegistry(CreateRegistryRequest.builder().registryName("benchmark-registry").build());
+        readRequest = request(ResourceModel.builder().name("benchmark-registry").build());
+        updateRequest = request(model("benchmark-registry", "Updated registry"));
+
+        for (int i = 0; i < LISTED_REGISTRIES; i++) {
+            glueClient.createRegistry(CreateRegistryRequest.builder().registryName("benchmark-listed-" + i).build());
+        }
+        listRequest = request(ResourceModel.builder().build());
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> createAndDelete() {
+        harness.complete(CallbackContext::new, context ->
+            createHandler.handleRequest(harness.proxy(), createRequest, context, harness.proxyClient(), harness.logger()));
+        return harness.complete(CallbackContext::new, context ->
+            deleteHandler.handleRequest(harness.proxy(), deleteRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return harness.complete(CallbackContext::new, context ->
+            readHandler.handleRequest(harness.proxy(), readRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        return harness.complete(CallbackContext::new, context ->
+            updateHandler.handleRequest(harness.proxy(), updateRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return harness.complete(CallbackContext::new, context ->
+            listHandler.handleRequest(harness.proxy(), listRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    private static ResourceModel model(final String name, final String description) {
+        return ResourceModel.builder()
+            .name(name)
+            .description(description)
+            .tags(Arrays.asList(new Tag("team", "platform"), new Tag("stage", "benchmark")))
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
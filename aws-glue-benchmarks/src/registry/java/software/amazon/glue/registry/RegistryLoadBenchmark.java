@@ -0,0 +1,105 @@
+package software.amazon.glue.registry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.benchmarks.LoadProfile;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent Registry lifecycles, create, read, update and delete, against an emulated Glue with service latency
+ * and throttling.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class RegistryLoadBenchmark {
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    @Param({"0.0", "0.05"})
+    public double throttleRate;
+
+    private HandlerHarness harness;
+
+    @Setup
+    public void setup() {
+        harness = new HandlerHarness(LoadProfile.apply(
+            new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID), latencyMillis, throttleRate));
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+        private final CreateHandler createHandler = new CreateHandler();
+        private final ReadHandler readHandler = new ReadHandler();
+        private final UpdateHandler updateHandler = new UpdateHandler();
+        private final DeleteHandler deleteHandler = new DeleteHandler();
+        private String prefix;
+        private int sequence;
+
+        @Setup
+        public void setup(final ThreadParams threadParams) {
+            prefix = "load-registry-" + threadParams.getThreadIndex() + "-";
+        }
+
+        private String nextName() {
+            return prefix + sequence++;
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> lifecycle(
+        final Worker worker,
+        final HandlerHarness.Outcomes outcomes) {
+
+        final String name = worker.nextName();
+        final ResourceHandlerRequest<ResourceModel> byName = request(ResourceModel.builder().name(name).build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> created = harness.invoke(CallbackContext::new, context ->
+            worker.createHandler.handleRequest(harness.proxy(),
+                request(ResourceModel.builder().name(name).description("Load test registry").build()), context,
+                harness.proxyClient(), harness.logger()), outcomes);
+        if (created.getStatus() == OperationStatus.SUCCESS) {
+            harness.invoke(CallbackContext::new, context ->
+                worker.readHandler.handleRequest(harness.proxy(), byName, context, harness.proxyClient(),
+                    harness.logger()), outcomes);
+            harness.invoke(CallbackContext::new, context ->
+                worker.updateHandler.handleRequest(harness.proxy(),
+                    request(ResourceModel.builder().name(name).description("Updated registry").build()), context,
+                    harness.proxyClient(), harness.logger()), outcomes);
+        }
+        // Delete even if the create failed, a throttled create may still have created the registry
+        return harness.invoke(CallbackContext::new, context ->
+            worker.deleteHandler.handleRequest(harness.proxy(), byName, context, harness.proxyClient(),
+                harness.logger()), outcomes);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
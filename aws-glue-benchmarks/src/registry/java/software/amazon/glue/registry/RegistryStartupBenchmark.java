@@ -0,0 +1,71 @@
+package software.amazon.glue.registry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.common.CannedResponseHttpClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first response of a Registry Read in a fresh JVM: building the Glue client and the handler, and the first
+ * Glue call through the SDK, whose HTTP client answers with a canned GetRegistry response instead of calling Glue.
+ *
+ * <p>With {@code warmUp} the handler's SDK warm-up runs before the measurement, the way it runs in the Lambda init
+ * phase. Every fork is a new JVM, so every measurement is a cold start.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(value = 20, jvmArgsAppend = {"-Daws.region=us-east-1", "-Dglue.registry.warmUp.enabled=false"})
+@State(Scope.Benchmark)
+public class RegistryStartupBenchmark {
+
+    private static final String GET_REGISTRY_RESPONSE = "{\"RegistryName\":\"startup-registry\","
+        + "\"RegistryArn\":\"arn:aws:glue:us-east-1:123456789012:registry/startup-registry\","
+        + "\"Description\":\"Startup registry\",\"Status\":\"AVAILABLE\"}";
+
+    @Param({"false", "true"})
+    public boolean warmUp;
+
+    @Setup
+    public void setup() {
+        if (warmUp) {
+            ClientBuilder.warmUp();
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> firstRead() {
+        final GlueClient glueClient = GlueClient.builder()
+            .httpClient(new CannedResponseHttpClient(operation -> GET_REGISTRY_RESPONSE))
+            .region(Region.of(HandlerHarness.REGION))
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+            .build();
+        final HandlerHarness harness = new HandlerHarness(glueClient);
+        final ReadHandler readHandler = new ReadHandler();
+        final ResourceHandlerRequest<ResourceModel> request = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder().name("startup-registry").build())
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+        return harness.complete(CallbackContext::new, context ->
+            readHandler.handleRequest(harness.proxy(), request, context, harness.proxyClient(), harness.logger()));
+    }
+}
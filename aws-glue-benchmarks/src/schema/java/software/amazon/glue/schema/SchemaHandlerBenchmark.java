@@ -0,0 +1,139 @@
+package software.amazon.glue.schema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full Schema handler invocations against an in-memory Glue.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaHandlerBenchmark {
+
+    private static final String REGISTRY = "benchmark-registry";
+    private static final int LISTED_SCHEMAS = 100;
+    private static final String DEFINITION =
+        "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"string\"},"
+            + "{\"name\":\"amount\",\"type\":\"double\"},"
+            + "{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}}]}";
+
+    private HandlerHarness harness;
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private UpdateHandler updateHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+
+    private ResourceHandlerRequest<ResourceModel> createRequest;
+    private ResourceHandlerRequest<ResourceModel> readRequest;
+    private ResourceHandlerRequest<ResourceModel> updateRequest;
+    private ResourceHandlerRequest<ResourceModel> listRequest;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glueClient = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        harness = new HandlerHarness(glueClient);
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        updateHandler = new UpdateHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+
+        glueClient.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        createRequest = request(model("benchmark-transient-schema"));
+
+        final String schemaArn = glueClient.createSchema(createSchemaRequest("benchmark-schema")).schemaArn();
+        readRequest = request(ResourceModel.builder().arn(schemaArn).build());
+        final ResourceModel updated = model("benchmark-schema");
+        updated.setArn(schemaArn);
+        updated.setDescription("Updated schema");
+        updated.setCompatibility("FULL");
+        updateRequest = request(updated);
+
+        for (int i = 0; i < LISTED_SCHEMAS; i++) {
+            glueClient.createSchema(createSchemaRequest("benchmark-listed-" + i));
+        }
+        listRequest = request(ResourceModel.builder().registry(Registry.builder().name(REGISTRY).build()).build());
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> createAndDelete() {
+        final ProgressEvent<ResourceModel, CallbackContext> created = harness.complete(CallbackContext::new, context ->
+            createHandler.handleRequest(harness.proxy(), createRequest, context, harness.proxyClient(), harness.logger()));
+        final ResourceHandlerRequest<ResourceModel> deleteRequest =
+            request(ResourceModel.builder().arn(created.getResourceModel().getArn()).build());
+        return harness.complete(CallbackContext::new, context ->
+            deleteHandler.handleRequest(harness.proxy(), deleteRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return harness.complete(CallbackContext::new, context ->
+            readHandler.handleRequest(harness.proxy(), readRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> update() {
+        return harness.complete(CallbackContext::new, context ->
+            updateHandler.handleRequest(harness.proxy(), updateRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return harness.complete(CallbackContext::new, context ->
+            listHandler.handleRequest(harness.proxy(), listRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    private static ResourceModel model(final String name) {
+        return ResourceModel.builder()
+            .name(name)
+            .registry(Registry.builder().name(REGISTRY).build())
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .description("Orders placed on the storefront")
+            .schemaDefinition(DEFINITION)
+            .tags(Arrays.asList(new Tag("team", "platform"), new Tag("stage", "benchmark")))
+            .build();
+    }
+
+    private static CreateSchemaRequest createSchemaRequest(final String name) {
+        return CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName(REGISTRY).build())
+            .schemaName(name)
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .schemaDefinition(DEFINITION)
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
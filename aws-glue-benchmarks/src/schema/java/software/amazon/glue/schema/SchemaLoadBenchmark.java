@@ -0,0 +1,127 @@
+package software.amazon.glue.schema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.benchmarks.LoadProfile;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent Schema lifecycles, create, read, update and delete, in a shared registry of an emulated Glue with
+ * service latency and throttling.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class SchemaLoadBenchmark {
+
+    private static final String REGISTRY = "load-registry";
+    private static final String DEFINITION =
+        "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"string\"},"
+            + "{\"name\":\"amount\",\"type\":\"double\"}]}";
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    @Param({"0.0", "0.05"})
+    public double throttleRate;
+
+    private HandlerHarness harness;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glue = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        glue.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        harness = new HandlerHarness(LoadProfile.apply(glue, latencyMillis, throttleRate));
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+        private final CreateHandler createHandler = new CreateHandler();
+        private final ReadHandler readHandler = new ReadHandler();
+        private final UpdateHandler updateHandler = new UpdateHandler();
+        private final DeleteHandler deleteHandler = new DeleteHandler();
+        private String prefix;
+        private int sequence;
+
+        @Setup
+        public void setup(final ThreadParams threadParams) {
+            prefix = "load-schema-" + threadParams.getThreadIndex() + "-";
+        }
+
+        private String nextName() {
+            return prefix + sequence++;
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> lifecycle(
+        final Worker worker,
+        final HandlerHarness.Outcomes outcomes) {
+
+        final ResourceModel schema = model(worker.nextName());
+        final ProgressEvent<ResourceModel, CallbackContext> created = harness.invoke(CallbackContext::new, context ->
+            worker.createHandler.handleRequest(harness.proxy(), request(schema), context, harness.proxyClient(),
+                harness.logger()), outcomes);
+        if (created.getStatus() != OperationStatus.SUCCESS) {
+            return created;
+        }
+
+        final String arn = created.getResourceModel().getArn();
+        harness.invoke(CallbackContext::new, context ->
+            worker.readHandler.handleRequest(harness.proxy(), request(ResourceModel.builder().arn(arn).build()),
+                context, harness.proxyClient(), harness.logger()), outcomes);
+
+        final ResourceModel updated = model(schema.getName());
+        updated.setArn(arn);
+        updated.setDescription("Updated schema");
+        harness.invoke(CallbackContext::new, context ->
+            worker.updateHandler.handleRequest(harness.proxy(), request(updated), context, harness.proxyClient(),
+                harness.logger()), outcomes);
+
+        return harness.invoke(CallbackContext::new, context ->
+            worker.deleteHandler.handleRequest(harness.proxy(), request(ResourceModel.builder().arn(arn).build()),
+                context, harness.proxyClient(), harness.logger()), outcomes);
+    }
+
+    private static ResourceModel model(final String name) {
+        return ResourceModel.builder()
+            .name(name)
+            .registry(Registry.builder().name(REGISTRY).build())
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .description("Orders placed on the storefront")
+            .schemaDefinition(DEFINITION)
+            .build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
@@ -0,0 +1,127 @@
+package software.amazon.glue.schema;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.benchmarks.LoadProfile;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Schema Update against an emulated Glue with service latency, once reading the schema back after UpdateSchema
+ * and once merging the UpdateSchema response with the cached schema fields. The {@code glueCalls} counter
+ * reports the Glue calls made per update.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaUpdateBenchmark {
+
+    private static final String REGISTRY = "update-registry";
+    private static final String DEFINITION =
+        "{\"type\":\"record\",\"name\":\"Order\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}";
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    private GlueEmulator glue;
+    private HandlerHarness harness;
+    private UpdateHandler readingBack;
+    private UpdateHandler merging;
+    private ResourceHandlerRequest<ResourceModel> updateRequest;
+
+    @Setup
+    public void setup() {
+        glue = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        glue.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        final String schemaArn = glue.createSchema(CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName(REGISTRY).build())
+            .schemaName("update-schema")
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .schemaDefinition(DEFINITION)
+            .build())
+            .schemaArn();
+        harness = new HandlerHarness(LoadProfile.apply(glue, latencyMillis, 0.0));
+
+        final InitialSchemaVersionCache schemaFields = new InitialSchemaVersionCache(true, 16);
+        readingBack = new UpdateHandler(new ReadHandler(schemaFields, null), schemaFields, false);
+        merging = new UpdateHandler(new ReadHandler(schemaFields, null), schemaFields, true);
+
+        updateRequest = ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(ResourceModel.builder()
+                .arn(schemaArn)
+                .description("Orders placed on the storefront")
+                .compatibility("FULL")
+                .checkpointVersion(SchemaVersion.builder().versionNumber(1).isLatest(true).build())
+                .build())
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+
+        // The first update reads the schema back and caches its fields for the merging handler
+        update(readingBack);
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> readBack(final Calls calls) {
+        return calls.count(glue, () -> update(readingBack));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> mergedResponse(final Calls calls) {
+        return calls.count(glue, () -> update(merging));
+    }
+
+    private ProgressEvent<ResourceModel, CallbackContext> update(final UpdateHandler handler) {
+        return harness.complete(CallbackContext::new, context ->
+            handler.handleRequest(harness.proxy(), updateRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    /**
+     * Glue calls made by the benchmarked updates, reported by JMH as a total per iteration next to the number
+     * of operations.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Calls {
+        public long glueCalls;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            glueCalls = 0L;
+        }
+
+        <T> T count(final GlueEmulator glue, final Supplier<T> invocation) {
+            final long before = total(glue);
+            final T result = invocation.get();
+            glueCalls += total(glue) - before;
+            return result;
+        }
+
+        private static long total(final GlueEmulator glue) {
+            return glue.callCounts().values().stream().mapToLong(Long::longValue).sum();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package software.amazon.glue.schema;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.benchmarks.LoadProfile;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deleting every version of a schema with {@code versionCount} versions from an emulated Glue with service
+ * latency, once one version per DeleteSchemaVersions call and once in ranged batches deleted by
+ * {@link SchemaVersionCleanup}. Version 1 stays as the schema checkpoint. Versions per second is
+ * {@code versionCount - 1} over the reported time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaVersionCleanupBenchmark {
+
+    private static final String REGISTRY = "cleanup-registry";
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    @Param({"200", "1000"})
+    public int versionCount;
+
+    @Param({"50"})
+    public int batchSize;
+
+    private GlueEmulator glue;
+    private HandlerHarness harness;
+    private SchemaVersionCleanup cleanup;
+    private int schemas;
+    private String schemaArn;
+
+    @Setup
+    public void setup() {
+        glue = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        glue.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        harness = new HandlerHarness(LoadProfile.apply(glue, latencyMillis, 0.0));
+        cleanup = new SchemaVersionCleanup(true, batchSize, TimeUnit.MINUTES.toNanos(10), System::nanoTime);
+    }
+
+    @Setup(Level.Invocation)
+    public void createVersions() {
+        schemaArn = glue.createSchema(CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName(REGISTRY).build())
+            .schemaName("cleanup-schema-" + schemas++)
+            .dataFormat("AVRO")
+            .compatibility("NONE")
+            .schemaDefinition(definition(1))
+            .build())
+            .schemaArn();
+        final SchemaId schemaId = SchemaId.builder().schemaArn(schemaArn).build();
+        for (int i = 2; i <= versionCount; i++) {
+            glue.registerSchemaVersion(RegisterSchemaVersionRequest.builder()
+                .schemaId(schemaId)
+                .schemaDefinition(definition(i))
+                .build());
+        }
+    }
+
+    @Benchmark
+    public int perVersion() {
+        final SchemaId schemaId = SchemaId.builder().schemaArn(schemaArn).build();
+        // version 1 is the checkpoint, which DeleteSchemaVersions refuses
+        for (int version = 2; version <= versionCount; version++) {
+            final DeleteSchemaVersionsRequest request = DeleteSchemaVersionsRequest.builder()
+                .schemaId(schemaId)
+                .versions(Integer.toString(version))
+                .build();
+            harness.proxyClient().injectCredentialsAndInvokeV2(request, harness.proxyClient().client()::deleteSchemaVersions);
+        }
+        return versionCount - 1;
+    }
+
+    @Benchmark
+    public SchemaVersionCleanup.Result ranged() {
+        final List<String> ranges = cleanup.listVersionRanges(harness.proxyClient(), schemaArn);
+        return cleanup.deleteVersionRanges(harness.proxyClient(), schemaArn, ranges);
+    }
+
+    private static String definition(final int version) {
+        return "{\"type\":\"record\",\"name\":\"Event\",\"fields\":[{\"name\":\"field_" + version
+            + "\",\"type\":[\"null\",\"string\"],\"default\":null}]}";
+    }
+}
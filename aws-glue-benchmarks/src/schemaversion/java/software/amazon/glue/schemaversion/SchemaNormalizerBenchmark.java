@@ -0,0 +1,112 @@
+package software.amazon.glue.schemaversion;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.glue.common.SchemaNormalizer;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Canonicalization and fingerprinting of large pretty printed schema definitions, against hashing the
+ * definition as is. Run with {@code -prof gc} to see the allocation of the canonical form.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaNormalizerBenchmark {
+
+    @Param({"AVRO", "JSON", "PROTOBUF"})
+    public String dataFormat;
+
+    // Glue accepts definitions of up to 170,000 characters, 1 MB is the size of our largest generated schemas
+    @Param({"170000", "1048576"})
+    public int definitionSize;
+
+    private String definition;
+
+    @Setup
+    public void setup() {
+        switch (dataFormat) {
+            case "AVRO":
+                definition = avroSchema(definitionSize);
+                break;
+            case "JSON":
+                definition = jsonSchema(definitionSize);
+                break;
+            default:
+                definition = protobufSchema(definitionSize);
+        }
+    }
+
+    @Benchmark
+    public String canonicalize() {
+        return SchemaNormalizer.canonicalize(dataFormat, definition);
+    }
+
+    @Benchmark
+    public String fingerprint() {
+        return SchemaNormalizer.fingerprint(dataFormat, definition);
+    }
+
+    @Benchmark
+    public byte[] sha256AsIs() throws NoSuchAlgorithmException {
+        return MessageDigest.getInstance("SHA-256").digest(definition.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String avroSchema(final int size) {
+        final StringBuilder schema = new StringBuilder(size + 256)
+            .append("{\n  \"type\" : \"record\",\n  \"name\" : \"Event\",\n  \"namespace\" : \"com.example\",\n")
+            .append("  \"fields\" : [");
+        for (int i = 0; schema.length() < size; i++) {
+            schema.append(i == 0 ? "\n" : ",\n")
+                .append("    {\n      \"name\" : \"field_").append(i).append("\",\n")
+                .append("      \"type\" : [ \"null\", \"string\" ],\n")
+                .append("      \"doc\" : \"Generated field \\\"").append(i).append("\\\" of the event\",\n")
+                .append("      \"default\" : null\n    }");
+        }
+        return schema.append("\n  ]\n}\n").toString();
+    }
+
+    private static String jsonSchema(final int size) {
+        final StringBuilder schema = new StringBuilder(size + 256)
+            .append("{\n  \"$schema\" : \"http://json-schema.org/draft-07/schema#\",\n")
+            .append("  \"type\" : \"object\",\n  \"properties\" : {");
+        for (int i = 0; schema.length() < size; i++) {
+            schema.append(i == 0 ? "\n" : ",\n")
+                .append("    \"property_").append(i).append("\" : {\n")
+                .append("      \"type\" : \"number\",\n")
+                .append("      \"minimum\" : 0.0,\n")
+                .append("      \"maximum\" : 1.0E3,\n")
+                .append("      \"description\" : \"Generated property ").append(i).append("\"\n    }");
+        }
+        return schema.append("\n  }\n}\n").toString();
+    }
+
+    private static String protobufSchema(final int size) {
+        final StringBuilder schema = new StringBuilder(size + 256)
+            .append("syntax = \"proto3\";\n\npackage com.example;\n\n");
+        for (int i = 0; schema.length() < size; i++) {
+            schema.append("// Generated message ").append(i).append('\n')
+                .append("message Message").append(i).append(" {\n")
+                .append("  string id = 1; /* identifier */\n")
+                .append("  int64 created_at = 2 [json_name = \"createdAt\"];\n")
+                .append("  repeated double values = 3;\n}\n\n");
+        }
+        return schema.toString();
+    }
+}
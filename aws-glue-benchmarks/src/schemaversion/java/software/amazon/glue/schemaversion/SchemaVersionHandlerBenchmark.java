@@ -0,0 +1,119 @@
+package software.amazon.glue.schemaversion;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full SchemaVersion handler invocations against an in-memory Glue.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaVersionHandlerBenchmark {
+
+    private static final String REGISTRY = "benchmark-registry";
+    private static final String SCHEMA = "benchmark-schema";
+    private static final int LISTED_VERSIONS = 100;
+
+    private HandlerHarness harness;
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+
+    private Schema schemaId;
+    private ResourceHandlerRequest<ResourceModel> readRequest;
+    private ResourceHandlerRequest<ResourceModel> listRequest;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glueClient = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        harness = new HandlerHarness(glueClient);
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+
+        glueClient.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        final CreateSchemaResponse schema = glueClient.createSchema(CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName(REGISTRY).build())
+            .schemaName(SCHEMA)
+            .dataFormat("AVRO")
+            .compatibility("NONE")
+            .schemaDefinition(definition(0))
+            .build());
+        schemaId = Schema.builder().registryName(REGISTRY).schemaName(SCHEMA).build();
+
+        for (int i = 1; i < LISTED_VERSIONS; i++) {
+            glueClient.registerSchemaVersion(RegisterSchemaVersionRequest.builder()
+                .schemaId(SchemaId.builder().schemaArn(schema.schemaArn()).build())
+                .schemaDefinition(definition(i))
+                .build());
+        }
+
+        readRequest = request(ResourceModel.builder().versionId(schema.schemaVersionId()).build());
+        listRequest = request(ResourceModel.builder().schema(schemaId).build());
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> createAndDelete() {
+        // The Create handler records the new VersionId on the desired model, so each invocation gets its own
+        final ResourceHandlerRequest<ResourceModel> createRequest =
+            request(ResourceModel.builder().schema(schemaId).schemaDefinition(definition(-1)).build());
+        final ProgressEvent<ResourceModel, CallbackContext> created = harness.complete(CallbackContext::new, context ->
+            createHandler.handleRequest(harness.proxy(), createRequest, context, harness.proxyClient(), harness.logger()));
+        final ResourceHandlerRequest<ResourceModel> deleteRequest =
+            request(ResourceModel.builder().versionId(created.getResourceModel().getVersionId()).build());
+        return harness.complete(CallbackContext::new, context ->
+            deleteHandler.handleRequest(harness.proxy(), deleteRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return harness.complete(CallbackContext::new, context ->
+            readHandler.handleRequest(harness.proxy(), readRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return harness.complete(CallbackContext::new, context ->
+            listHandler.handleRequest(harness.proxy(), listRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    private static String definition(final int revision) {
+        return "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"string\"},"
+            + "{\"name\":\"revision" + (revision < 0 ? "Latest" : String.valueOf(revision)) + "\",\"type\":\"int\"}]}";
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
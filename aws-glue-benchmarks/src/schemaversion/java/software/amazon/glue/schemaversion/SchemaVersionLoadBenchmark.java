@@ -0,0 +1,129 @@
+package software.amazon.glue.schemaversion;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.benchmarks.LoadProfile;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent SchemaVersion lifecycles, create, read and delete, on a shared schema of an emulated Glue with
+ * service latency and throttling. New versions stay PENDING for {@code registrationDelayMillis}, so the Create
+ * handler's stabilization is part of the measured latency.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class SchemaVersionLoadBenchmark {
+
+    private static final String REGISTRY = "load-registry";
+    private static final String SCHEMA = "load-schema";
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    @Param({"0.0", "0.05"})
+    public double throttleRate;
+
+    @Param({"100"})
+    public int registrationDelayMillis;
+
+    private HandlerHarness harness;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glue = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        glue.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        glue.createSchema(CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName(REGISTRY).build())
+            .schemaName(SCHEMA)
+            .dataFormat("AVRO")
+            .compatibility("NONE")
+            .schemaDefinition(definition("initial"))
+            .build());
+        glue.registrationDelay(Duration.ofMillis(registrationDelayMillis));
+        harness = new HandlerHarness(LoadProfile.apply(glue, latencyMillis, throttleRate));
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+        private final CreateHandler createHandler = new CreateHandler();
+        private final ReadHandler readHandler = new ReadHandler();
+        private final DeleteHandler deleteHandler = new DeleteHandler();
+        private String prefix;
+        private int sequence;
+
+        @Setup
+        public void setup(final ThreadParams threadParams) {
+            prefix = "revision_" + threadParams.getThreadIndex() + "_";
+        }
+
+        private String nextRevision() {
+            return prefix + sequence++;
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> lifecycle(
+        final Worker worker,
+        final HandlerHarness.Outcomes outcomes) {
+
+        final ResourceHandlerRequest<ResourceModel> createRequest = request(ResourceModel.builder()
+            .schema(Schema.builder().registryName(REGISTRY).schemaName(SCHEMA).build())
+            .schemaDefinition(definition(worker.nextRevision()))
+            .build());
+        final ProgressEvent<ResourceModel, CallbackContext> created = harness.invoke(CallbackContext::new, context ->
+            worker.createHandler.handleRequest(harness.proxy(), createRequest, context, harness.proxyClient(),
+                harness.logger()), outcomes);
+        if (created.getStatus() != OperationStatus.SUCCESS) {
+            return created;
+        }
+
+        final ResourceHandlerRequest<ResourceModel> byId =
+            request(ResourceModel.builder().versionId(created.getResourceModel().getVersionId()).build());
+        harness.invoke(CallbackContext::new, context ->
+            worker.readHandler.handleRequest(harness.proxy(), byId, context, harness.proxyClient(), harness.logger()),
+            outcomes);
+        return harness.invoke(CallbackContext::new, context ->
+            worker.deleteHandler.handleRequest(harness.proxy(), byId, context, harness.proxyClient(), harness.logger()),
+            outcomes);
+    }
+
+    private static String definition(final String revision) {
+        return "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"string\"},"
+            + "{\"name\":\"" + revision + "\",\"type\":\"int\"}]}";
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
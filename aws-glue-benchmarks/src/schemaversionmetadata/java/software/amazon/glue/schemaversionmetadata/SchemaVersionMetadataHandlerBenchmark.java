@@ -0,0 +1,117 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full SchemaVersionMetadata handler invocations against an in-memory Glue.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaVersionMetadataHandlerBenchmark {
+
+    private static final String REGISTRY = "benchmark-registry";
+    // Glue allows up to 10 metadata keys per schema version
+    private static final int LISTED_KEYS = 10;
+
+    private HandlerHarness harness;
+    private CreateHandler createHandler;
+    private ReadHandler readHandler;
+    private DeleteHandler deleteHandler;
+    private ListHandler listHandler;
+
+    private ResourceHandlerRequest<ResourceModel> createRequest;
+    private ResourceHandlerRequest<ResourceModel> deleteRequest;
+    private ResourceHandlerRequest<ResourceModel> readRequest;
+    private ResourceHandlerRequest<ResourceModel> listRequest;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glueClient = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        harness = new HandlerHarness(glueClient);
+        createHandler = new CreateHandler();
+        readHandler = new ReadHandler();
+        deleteHandler = new DeleteHandler();
+        listHandler = new ListHandler();
+
+        glueClient.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        final String versionId = glueClient.createSchema(CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName(REGISTRY).build())
+            .schemaName("benchmark-schema")
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .schemaDefinition("{\"type\":\"record\",\"name\":\"Order\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}")
+            .build())
+            .schemaVersionId();
+
+        for (int i = 0; i < LISTED_KEYS; i++) {
+            glueClient.putSchemaVersionMetadata(PutSchemaVersionMetadataRequest.builder()
+                .schemaVersionId(versionId)
+                .metadataKeyValue(MetadataKeyValuePair.builder()
+                    .metadataKey("key-" + i)
+                    .metadataValue("value-" + i)
+                    .build())
+                .build());
+        }
+
+        createRequest = request(model(versionId, "key-0", "transient"));
+        deleteRequest = request(model(versionId, "key-0", "transient"));
+        readRequest = request(model(versionId, "key-1", "value-1"));
+        listRequest = request(ResourceModel.builder().schemaVersionId(versionId).build());
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> createAndDelete() {
+        harness.complete(CallbackContext::new, context ->
+            createHandler.handleRequest(harness.proxy(), createRequest, context, harness.proxyClient(), harness.logger()));
+        return harness.complete(CallbackContext::new, context ->
+            deleteHandler.handleRequest(harness.proxy(), deleteRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> read() {
+        return harness.complete(CallbackContext::new, context ->
+            readHandler.handleRequest(harness.proxy(), readRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> list() {
+        return harness.complete(CallbackContext::new, context ->
+            listHandler.handleRequest(harness.proxy(), listRequest, context, harness.proxyClient(), harness.logger()));
+    }
+
+    private static ResourceModel model(final String versionId, final String key, final String value) {
+        return ResourceModel.builder().schemaVersionId(versionId).key(key).value(value).build();
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
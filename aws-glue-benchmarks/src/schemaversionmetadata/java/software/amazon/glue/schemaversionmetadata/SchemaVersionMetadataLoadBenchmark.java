@@ -0,0 +1,113 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.benchmarks.HandlerHarness;
+import software.amazon.glue.benchmarks.LoadProfile;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent SchemaVersionMetadata lifecycles, create, read and delete, on a shared schema version of an emulated
+ * Glue with service latency and throttling. Each thread uses its own metadata key.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class SchemaVersionMetadataLoadBenchmark {
+
+    private static final String REGISTRY = "load-registry";
+
+    @Param({"5"})
+    public int latencyMillis;
+
+    @Param({"0.0", "0.05"})
+    public double throttleRate;
+
+    private HandlerHarness harness;
+    private String versionId;
+
+    @Setup
+    public void setup() {
+        final GlueEmulator glue = new GlueEmulator(HandlerHarness.REGION, HandlerHarness.ACCOUNT_ID);
+        glue.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        versionId = glue.createSchema(CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName(REGISTRY).build())
+            .schemaName("load-schema")
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .schemaDefinition("{\"type\":\"record\",\"name\":\"Order\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}")
+            .build())
+            .schemaVersionId();
+        harness = new HandlerHarness(LoadProfile.apply(glue, latencyMillis, throttleRate));
+    }
+
+    @State(Scope.Thread)
+    public static class Worker {
+        private final CreateHandler createHandler = new CreateHandler();
+        private final ReadHandler readHandler = new ReadHandler();
+        private final DeleteHandler deleteHandler = new DeleteHandler();
+        private String key;
+        private int sequence;
+
+        @Setup
+        public void setup(final ThreadParams threadParams) {
+            key = "load-key-" + threadParams.getThreadIndex();
+        }
+
+        private String nextValue() {
+            return "value-" + sequence++;
+        }
+    }
+
+    @Benchmark
+    public ProgressEvent<ResourceModel, CallbackContext> lifecycle(
+        final Worker worker,
+        final HandlerHarness.Outcomes outcomes) {
+
+        final ResourceModel metadata =
+            ResourceModel.builder().schemaVersionId(versionId).key(worker.key).value(worker.nextValue()).build();
+        final ProgressEvent<ResourceModel, CallbackContext> created = harness.invoke(CallbackContext::new, context ->
+            worker.createHandler.handleRequest(harness.proxy(), request(metadata), context, harness.proxyClient(),
+                harness.logger()), outcomes);
+        if (created.getStatus() == OperationStatus.SUCCESS) {
+            harness.invoke(CallbackContext::new, context ->
+                worker.readHandler.handleRequest(harness.proxy(), request(metadata), context, harness.proxyClient(),
+                    harness.logger()), outcomes);
+        }
+        // Delete even if the create failed, a throttled create may still have added the metadata
+        return harness.invoke(CallbackContext::new, context ->
+            worker.deleteHandler.handleRequest(harness.proxy(), request(metadata), context, harness.proxyClient(),
+                harness.logger()), outcomes);
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) {
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(model)
+            .region(HandlerHarness.REGION)
+            .awsAccountId(HandlerHarness.ACCOUNT_ID)
+            .build();
+    }
+}
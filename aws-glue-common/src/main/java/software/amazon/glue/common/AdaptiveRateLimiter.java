@@ -0,0 +1,252 @@
+package software.amazon.glue.common;
+
+import lombok.Value;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.RetryUtils;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.utils.SystemSetting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Client side rate limiter shared by every Glue client a resource type builds in this JVM, see {@link GlueClients}.
+ *
+ * Requests reserve a slot from a token bucket refilled at the current permitted rate. The rate grows
+ * additively on every successful call and is cut multiplicatively when Glue answers with a throttling
+ * error (Throttling, ThrottlingException, TooManyRequestsException, RequestLimitExceeded, HTTP 429),
+ * so concurrent handlers converge on the rate the account can actually sustain instead of backing off
+ * blindly and retrying in lock step.
+ */
+public final class AdaptiveRateLimiter {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final ExecutionAttribute<Integer> THROTTLE_SIGNALLED_AT_ATTEMPT =
+            new ExecutionAttribute<>("GlueThrottleSignalledAtAttempt");
+
+    private final double minRate;
+    private final double maxRate;
+    private final double increaseStep;
+    private final double decreaseFactor;
+    private final long cooldownNanos;
+    private final long maxWaitNanos;
+    private final Ticker ticker;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong throttleCount = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+
+    private double permittedRate;
+    private long nextFreeSlotNanos;
+    private long lastDecreaseNanos;
+    private boolean decreasedOnce;
+
+    AdaptiveRateLimiter(final double initialRate,
+                        final double minRate,
+                        final double maxRate,
+                        final double increaseStep,
+                        final double decreaseFactor,
+                        final long cooldownNanos,
+                        final long maxWaitNanos,
+                        final Ticker ticker) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException(String.format("Invalid rate bounds [%s, %s]", minRate, maxRate));
+        }
+        if (decreaseFactor <= 0 || decreaseFactor >= 1) {
+            throw new IllegalArgumentException(String.format("Decrease factor must be in (0, 1), was %s", decreaseFactor));
+        }
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.increaseStep = Math.max(0, increaseStep);
+        this.decreaseFactor = decreaseFactor;
+        this.cooldownNanos = Math.max(0, cooldownNanos);
+        this.maxWaitNanos = Math.max(0, maxWaitNanos);
+        this.ticker = ticker;
+        this.permittedRate = clamp(initialRate);
+        this.nextFreeSlotNanos = ticker.nanoTime();
+    }
+
+    public static AdaptiveRateLimiter fromSettings(final SystemSetting initialRate,
+                                                   final SystemSetting minRate,
+                                                   final SystemSetting maxRate,
+                                                   final SystemSetting increaseStep,
+                                                   final SystemSetting decreaseFactor,
+                                                   final SystemSetting cooldownMillis,
+                                                   final SystemSetting maxWaitMillis) {
+        return new AdaptiveRateLimiter(
+                Settings.doubleValue(initialRate),
+                Settings.doubleValue(minRate),
+                Settings.doubleValue(maxRate),
+                Settings.doubleValue(increaseStep),
+                Settings.doubleValue(decreaseFactor),
+                TimeUnit.MILLISECONDS.toNanos(Settings.longValue(cooldownMillis)),
+                TimeUnit.MILLISECONDS.toNanos(Settings.longValue(maxWaitMillis)),
+                Ticker.SYSTEM);
+    }
+
+    /**
+     * Blocks until the caller may send one request. Waits are capped at the configured maximum so a
+     * saturated limiter degrades to the SDK retry behaviour instead of stalling a handler indefinitely.
+     */
+    void acquire() {
+        final long waitNanos = reserve();
+        if (waitNanos <= 0) {
+            return;
+        }
+        queueDepth.incrementAndGet();
+        try {
+            ticker.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            queueDepth.decrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+        }
+    }
+
+    void onSuccess() {
+        successCount.incrementAndGet();
+        synchronized (this) {
+            permittedRate = clamp(permittedRate + increaseStep);
+        }
+    }
+
+    void onThrottle() {
+        throttleCount.incrementAndGet();
+        synchronized (this) {
+            final long now = ticker.nanoTime();
+            // Requests already in flight were admitted at the old rate; let them drain before cutting again.
+            if (decreasedOnce && now - lastDecreaseNanos < cooldownNanos) {
+                return;
+            }
+            decreasedOnce = true;
+            lastDecreaseNanos = now;
+            permittedRate = clamp(permittedRate * decreaseFactor);
+        }
+    }
+
+    public Metrics metrics() {
+        final double rate;
+        synchronized (this) {
+            rate = permittedRate;
+        }
+        return new Metrics(rate,
+                queueDepth.get(),
+                TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get()),
+                throttleCount.get(),
+                successCount.get());
+    }
+
+    /**
+     * Interceptor gating every attempt, including SDK retries, through this limiter. It blocks the thread sending
+     * the request, so it is only meant for sync clients: on an async client it would stall the event loop.
+     */
+    ExecutionInterceptor interceptor() {
+        return new ExecutionInterceptor() {
+            @Override
+            public void beforeTransmission(final Context.BeforeTransmission context,
+                                           final ExecutionAttributes executionAttributes) {
+                acquire();
+            }
+
+            @Override
+            public void afterExecution(final Context.AfterExecution context,
+                                       final ExecutionAttributes executionAttributes) {
+                onSuccess();
+            }
+        };
+    }
+
+    /**
+     * Wraps a retry condition so that every throttled attempt feeds back into this limiter, including the
+     * final attempt that is not retried.
+     */
+    RetryCondition retryCondition(final RetryCondition delegate) {
+        return new RetryCondition() {
+            @Override
+            public boolean shouldRetry(final RetryPolicyContext context) {
+                signalIfThrottled(context);
+                return delegate.shouldRetry(context);
+            }
+
+            @Override
+            public void requestWillNotBeRetried(final RetryPolicyContext context) {
+                signalIfThrottled(context);
+                delegate.requestWillNotBeRetried(context);
+            }
+
+            @Override
+            public void requestSucceeded(final RetryPolicyContext context) {
+                delegate.requestSucceeded(context);
+            }
+        };
+    }
+
+    private void signalIfThrottled(final RetryPolicyContext context) {
+        if (context.exception() == null || !RetryUtils.isThrottlingException(context.exception())) {
+            return;
+        }
+        final ExecutionAttributes attributes = context.executionAttributes();
+        final Integer attempt = context.retriesAttempted();
+        if (attributes != null) {
+            if (attempt.equals(attributes.getAttribute(THROTTLE_SIGNALLED_AT_ATTEMPT))) {
+                return;
+            }
+            attributes.putAttribute(THROTTLE_SIGNALLED_AT_ATTEMPT, attempt);
+        }
+        onThrottle();
+    }
+
+    private synchronized long reserve() {
+        final long now = ticker.nanoTime();
+        final long intervalNanos = (long) (NANOS_PER_SECOND / permittedRate);
+        // Idle time refills at most one second worth of permits, which bounds the burst after a quiet period.
+        final long burstNanos = NANOS_PER_SECOND - intervalNanos;
+        // A caller whose wait is capped is admitted at the cap, so the schedule never runs further ahead than that:
+        // sustained overload does not pile up waits for the callers that come after it.
+        final long slot = Math.min(Math.max(nextFreeSlotNanos, now - Math.max(0, burstNanos)), now + maxWaitNanos);
+        nextFreeSlotNanos = slot + intervalNanos;
+        return slot - now;
+    }
+
+    private double clamp(final double rate) {
+        return Math.min(maxRate, Math.max(minRate, rate));
+    }
+
+    /**
+     * Point in time view of the limiter.
+     */
+    @Value
+    public static class Metrics {
+        double permittedRate;
+        int queueDepth;
+        long totalWaitMillis;
+        long throttleCount;
+        long successCount;
+    }
+
+    interface Ticker {
+        Ticker SYSTEM = new Ticker() {
+            @Override
+            public long nanoTime() {
+                return System.nanoTime();
+            }
+
+            @Override
+            public void sleep(final long nanos) throws InterruptedException {
+                TimeUnit.NANOSECONDS.sleep(nanos);
+            }
+        };
+
+        long nanoTime();
+
+        void sleep(long nanos) throws InterruptedException;
+    }
+}
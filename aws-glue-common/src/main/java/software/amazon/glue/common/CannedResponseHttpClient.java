@@ -0,0 +1,72 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.http.ExecutableHttpRequest;
+import software.amazon.awssdk.http.HttpExecuteRequest;
+import software.amazon.awssdk.http.HttpExecuteResponse;
+import software.amazon.awssdk.http.SdkHttpClient;
+import software.amazon.awssdk.http.SdkHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * HTTP client that answers every Glue call with HTTP 200 and a canned JSON body, without opening a connection.
+ * A Glue client built on it runs the whole SDK pipeline (endpoint resolution, marshalling, signing and
+ * unmarshalling), which is what {@link GlueWarmUp} and the startup benchmarks need.
+ */
+public final class CannedResponseHttpClient implements SdkHttpClient {
+
+    private static final String TARGET_HEADER = "X-Amz-Target";
+
+    private final Function<String, String> responseBodies;
+
+    /**
+     * @param responseBodies JSON response body by Glue operation name, for example {@code GetRegistry}
+     */
+    public CannedResponseHttpClient(final Function<String, String> responseBodies) {
+        this.responseBodies = responseBodies;
+    }
+
+    /**
+     * Answers every operation with an empty JSON object.
+     */
+    public static CannedResponseHttpClient emptyResponses() {
+        return new CannedResponseHttpClient(operation -> "{}");
+    }
+
+    @Override
+    public ExecutableHttpRequest prepareRequest(final HttpExecuteRequest request) {
+        // Glue is a JSON 1.1 protocol service, the operation is named by the target header as AWSGlue.<Operation>
+        final String target = request.httpRequest().firstMatchingHeader(TARGET_HEADER).orElse("");
+        final String body = responseBodies.apply(target.substring(target.lastIndexOf('.') + 1));
+        final byte[] content = (body != null ? body : "{}").getBytes(StandardCharsets.UTF_8);
+        return new ExecutableHttpRequest() {
+            @Override
+            public HttpExecuteResponse call() {
+                return HttpExecuteResponse.builder()
+                    .response(SdkHttpResponse.builder()
+                        .statusCode(200)
+                        .putHeader("Content-Type", "application/x-amz-json-1.1")
+                        .putHeader("Content-Length", Integer.toString(content.length))
+                        .build())
+                    .responseBody(AbortableInputStream.create(new ByteArrayInputStream(content)))
+                    .build();
+            }
+
+            @Override
+            public void abort() {
+            }
+        };
+    }
+
+    @Override
+    public String clientName() {
+        return "CannedResponse";
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,65 @@
+package software.amazon.glue.common;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Progress of a handler operation, kept in the CallbackContext of the resource type so that a re-invocation
+ * resumes from the last completed step instead of repeating the calls made before it.
+ *
+ * <p>Phases only move forward. Identifiers resolved along the way are kept by name, and stabilization polls
+ * are counted with the time of the first and the latest one.
+ */
+@lombok.Getter
+@lombok.Setter
+@lombok.ToString
+@lombok.EqualsAndHashCode
+public class Checkpoint {
+
+    public enum Phase {
+        STARTED,
+        // Identifiers needed by the mutating call are known
+        RESOLVED,
+        // The mutating call succeeded, only stabilization is left
+        REQUESTED,
+        STABILIZED
+    }
+
+    private Phase phase = Phase.STARTED;
+    private Map<String, String> resolvedIdentifiers = new HashMap<>();
+    private int pollAttempts;
+    private long firstPollEpochMillis;
+    private long lastPollEpochMillis;
+
+    public boolean hasReached(final Phase target) {
+        return phase.compareTo(target) >= 0;
+    }
+
+    public void advanceTo(final Phase target) {
+        if (!hasReached(target)) {
+            phase = target;
+        }
+    }
+
+    public String resolved(final String name) {
+        return resolvedIdentifiers.get(name);
+    }
+
+    public void resolve(final String name, final Object value) {
+        if (value != null) {
+            resolvedIdentifiers.put(name, value.toString());
+        }
+    }
+
+    public void recordPoll(final long epochMillis) {
+        if (pollAttempts == 0) {
+            firstPollEpochMillis = epochMillis;
+        }
+        pollAttempts++;
+        lastPollEpochMillis = epochMillis;
+    }
+
+    public long pollingMillis() {
+        return lastPollEpochMillis - firstPollEpochMillis;
+    }
+}
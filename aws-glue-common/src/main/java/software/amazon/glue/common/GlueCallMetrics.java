@@ -0,0 +1,233 @@
+package software.amazon.glue.common;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Latency of the Glue calls made by the handlers running in this JVM, per handler and Glue API. Latencies are kept
+ * in one HdrHistogram per handler and API for the life of the JVM, while call, error, throttle and retry counts are
+ * kept per invocation so that each invocation can log one summary line of what it spent its time on.
+ *
+ * <p>Retries and throttles are counted per attempt by the client itself, through {@link #interceptor()} and
+ * {@link #retryCondition(RetryCondition)}, so the retries the SDK makes within one call are included. A sync client
+ * makes every attempt of a call on the thread that called it, which ties the attempts to the call in flight on that
+ * thread. Calls made without them, such as async calls, only count a throttle when their final outcome is one.
+ */
+public final class GlueCallMetrics {
+
+    private static final GlueCallMetrics SHARED = new GlueCallMetrics();
+
+    // Calls slower than this are recorded as this
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(15);
+    private static final int SIGNIFICANT_DIGITS = 2;
+
+    // Attempts of the sync call in flight on each thread
+    private static final ThreadLocal<Attempts> IN_FLIGHT = new ThreadLocal<>();
+
+    private final ConcurrentMap<String, Histogram> latencies = new ConcurrentHashMap<>();
+
+    public static GlueCallMetrics shared() {
+        return SHARED;
+    }
+
+    public Invocation start(final String handler) {
+        return new Invocation(handler);
+    }
+
+    /**
+     * Latency histogram of the API as called by the handler, in microseconds.
+     */
+    public Histogram latency(final String handler, final String api) {
+        return latencies.computeIfAbsent(handler + "." + api, key -> new ConcurrentHistogram(
+            HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+    }
+
+    /**
+     * Interceptor counting every attempt of the sync call in flight on the thread, SDK retries included.
+     */
+    public static ExecutionInterceptor interceptor() {
+        return new ExecutionInterceptor() {
+            @Override
+            public void beforeTransmission(final Context.BeforeTransmission context,
+                                           final ExecutionAttributes executionAttributes) {
+                final Attempts attempts = IN_FLIGHT.get();
+                if (attempts != null) {
+                    attempts.attempts++;
+                }
+            }
+        };
+    }
+
+    /**
+     * Wraps a retry condition so that every throttled attempt of the sync call in flight on the thread is counted,
+     * including the final attempt that is not retried.
+     */
+    public static RetryCondition retryCondition(final RetryCondition delegate) {
+        return new RetryCondition() {
+            @Override
+            public boolean shouldRetry(final RetryPolicyContext context) {
+                countIfThrottled(context);
+                return delegate.shouldRetry(context);
+            }
+
+            @Override
+            public void requestWillNotBeRetried(final RetryPolicyContext context) {
+                countIfThrottled(context);
+                delegate.requestWillNotBeRetried(context);
+            }
+
+            @Override
+            public void requestSucceeded(final RetryPolicyContext context) {
+                delegate.requestSucceeded(context);
+            }
+        };
+    }
+
+    private static void countIfThrottled(final RetryPolicyContext context) {
+        final Attempts attempts = IN_FLIGHT.get();
+        if (attempts == null || !GlueExceptionTranslator.isThrottling(context.exception())) {
+            return;
+        }
+        // The last attempt can be seen by both shouldRetry and requestWillNotBeRetried
+        if (attempts.throttledAttempt != context.retriesAttempted()) {
+            attempts.throttledAttempt = context.retriesAttempted();
+            attempts.throttles++;
+        }
+    }
+
+    public static String api(final Object request) {
+        final String name = request.getClass().getSimpleName();
+        return name.endsWith("Request") ? name.substring(0, name.length() - "Request".length()) : name;
+    }
+
+    /**
+     * Glue calls of one handler invocation. Calls can be recorded from several threads.
+     */
+    public final class Invocation {
+        private final String handler;
+        private final Map<String, ApiCalls> calls = new TreeMap<>();
+
+        private Invocation(final String handler) {
+            this.handler = handler;
+        }
+
+        /**
+         * Makes a sync call and records it along with the attempts the client made for it.
+         */
+        public <T> T call(final String api, final Supplier<T> call) {
+            final Attempts outer = IN_FLIGHT.get();
+            final Attempts attempts = new Attempts();
+            IN_FLIGHT.set(attempts);
+            final long start = System.nanoTime();
+            try {
+                final T result = call.get();
+                record(api, System.nanoTime() - start, null, attempts);
+                return result;
+            } catch (final RuntimeException e) {
+                record(api, System.nanoTime() - start, e, attempts);
+                throw e;
+            } finally {
+                if (outer == null) {
+                    IN_FLIGHT.remove();
+                } else {
+                    IN_FLIGHT.set(outer);
+                }
+            }
+        }
+
+        /**
+         * Records a call whose attempts are not known, only its outcome.
+         */
+        public void record(final String api, final long elapsedNanos, final Throwable error) {
+            record(api, elapsedNanos, error, null);
+        }
+
+        private void record(final String api, final long elapsedNanos, final Throwable error, final Attempts attempts) {
+            final long elapsedMicros = Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS);
+            latency(handler, api).recordValue(elapsedMicros);
+            synchronized (this) {
+                calls.computeIfAbsent(api, key -> new ApiCalls()).record(elapsedMicros, error, attempts);
+            }
+        }
+
+        public synchronized int callCount() {
+            return calls.values().stream().mapToInt(apiCalls -> apiCalls.calls).sum();
+        }
+
+        /**
+         * One line per invocation, for example
+         * {@code GlueCalls[ReadHandler] GetSchema n=1 err=0 thr=0 retry=0 ms=12 p50=9 p99=31}, where the
+         * percentiles cover every call of the API by the handler since the JVM started.
+         */
+        public synchronized String summary() {
+            final StringBuilder summary = new StringBuilder("GlueCalls[").append(handler).append(']');
+            if (calls.isEmpty()) {
+                return summary.append(" none").toString();
+            }
+            calls.forEach((api, apiCalls) -> {
+                final Histogram latency = latency(handler, api);
+                summary.append(' ').append(api)
+                    .append(" n=").append(apiCalls.calls)
+                    .append(" err=").append(apiCalls.errors)
+                    .append(" thr=").append(apiCalls.throttles)
+                    .append(" retry=").append(apiCalls.retries)
+                    .append(" ms=").append(TimeUnit.MICROSECONDS.toMillis(apiCalls.totalMicros))
+                    .append(" p50=").append(TimeUnit.MICROSECONDS.toMillis(latency.getValueAtPercentile(50.0)))
+                    .append(" p99=").append(TimeUnit.MICROSECONDS.toMillis(latency.getValueAtPercentile(99.0)));
+                if (!apiCalls.errorCodes.isEmpty()) {
+                    summary.append(" codes=").append(apiCalls.errorCodes);
+                }
+                summary.append(';');
+            });
+            summary.setLength(summary.length() - 1);
+            return summary.toString();
+        }
+    }
+
+    /**
+     * Attempts of one sync call, counted on the thread making it.
+     */
+    private static final class Attempts {
+        private int attempts;
+        private int throttles;
+        private int throttledAttempt = -1;
+    }
+
+    private static final class ApiCalls {
+        private int calls;
+        private int errors;
+        private int throttles;
+        private int retries;
+        private long totalMicros;
+        private final Map<String, Integer> errorCodes = new TreeMap<>();
+
+        private void record(final long elapsedMicros, final Throwable error, final Attempts attempts) {
+            calls++;
+            totalMicros += elapsedMicros;
+            if (attempts != null && attempts.attempts > 0) {
+                retries += attempts.attempts - 1;
+                throttles += attempts.throttles;
+            } else if (GlueExceptionTranslator.isThrottling(error)) {
+                // Not made through a client counting its attempts, only the final outcome is known
+                throttles++;
+            }
+            if (error == null) {
+                return;
+            }
+            errors++;
+            errorCodes.merge(GlueExceptionTranslator.errorCode(error), 1, Integer::sum);
+        }
+    }
+}
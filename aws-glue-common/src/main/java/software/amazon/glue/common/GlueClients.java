@@ -0,0 +1,109 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
+import software.amazon.awssdk.core.retry.RetryPolicy;
+import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
+import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.cloudformation.AbstractWrapper;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Sync Glue client of one resource type, created on first use and shared by every handler of the JVM: building a
+ * client resolves the region, endpoint rules and signer, which is a large part of a cold start, and the handler proxy
+ * injects the caller's credentials into every request, so one client serves all callers.
+ *
+ * <p>Each resource type is built against its own Glue SDK, so the client is created from the builder the resource
+ * type passes in, for example {@code GlueClient::builder}, and this module only depends on the SDK core.
+ */
+public final class GlueClients<C extends SdkClient> {
+
+    private static final BackoffStrategy THROTTLING_BACKOFF_STRATEGY =
+            EqualJitterBackoffStrategy.builder()
+                    .baseDelay(Duration.ofMillis(2000)) // 1st retry is ~2 sec
+                    .maxBackoffTime(SdkDefaultRetrySetting.MAX_BACKOFF) // default is 20s
+                    .build();
+
+    private static final int NUM_RETRIES = 4;
+
+    private final Supplier<C> factory;
+
+    private volatile C client;
+
+    /**
+     * @param builder               creates the client builder of the resource type's Glue SDK
+     * @param overrideConfiguration configuration of the client, null for the SDK defaults
+     */
+    public <B extends AwsClientBuilder<B, C> & AwsSyncClientBuilder<B, C>> GlueClients(
+            final Supplier<B> builder,
+            final ClientOverrideConfiguration overrideConfiguration) {
+        this.factory = () -> {
+            final B clientBuilder = builder.get().httpClient(AbstractWrapper.HTTP_CLIENT);
+            if (overrideConfiguration != null) {
+                clientBuilder.overrideConfiguration(overrideConfiguration);
+            }
+            return clientBuilder.build();
+        };
+    }
+
+    public C client() {
+        C syncClient = client;
+        if (syncClient == null) {
+            synchronized (this) {
+                syncClient = client;
+                if (syncClient == null) {
+                    syncClient = factory.get();
+                    client = syncClient;
+                }
+            }
+        }
+        return syncClient;
+    }
+
+    /**
+     * Keeps the SDK default retry policy, with every attempt and throttle counted by {@link GlueCallMetrics}.
+     */
+    public static ClientOverrideConfiguration defaultOverrideConfiguration() {
+        final RetryPolicy defaultRetryPolicy = RetryPolicy.defaultRetryPolicy();
+        return ClientOverrideConfiguration.builder()
+                .retryPolicy(defaultRetryPolicy.toBuilder()
+                        .retryCondition(GlueCallMetrics.retryCondition(defaultRetryPolicy.retryCondition()))
+                        .build())
+                .addExecutionInterceptor(GlueCallMetrics.interceptor())
+                .build();
+    }
+
+    /**
+     * Retries throttled calls with an equal jitter backoff starting at about two seconds. When a rate limiter is
+     * given, every attempt is gated through it and throttled attempts feed back into it, so all the clients of the
+     * JVM converge on the rate the account can sustain. Every attempt and throttle is counted by
+     * {@link GlueCallMetrics}.
+     *
+     * @param rateLimiter limiter shared by the sync clients, null to send calls as fast as the handlers make them. The
+     *                    limiter blocks the calling thread, async clients are configured without it.
+     */
+    public static ClientOverrideConfiguration overrideConfiguration(final AdaptiveRateLimiter rateLimiter) {
+        final RetryCondition retryCondition = GlueCallMetrics.retryCondition(RetryCondition.defaultRetryCondition());
+        final RetryPolicy retryPolicy = RetryPolicy.builder()
+                .numRetries(NUM_RETRIES)
+                .retryCondition(rateLimiter != null
+                        // Throttled attempts feed the shared rate limiter before the default decision is taken
+                        ? rateLimiter.retryCondition(retryCondition)
+                        : retryCondition)
+                .throttlingBackoffStrategy(THROTTLING_BACKOFF_STRATEGY)
+                .build();
+        final ClientOverrideConfiguration.Builder overrideConfiguration = ClientOverrideConfiguration.builder()
+                .retryPolicy(retryPolicy)
+                .addExecutionInterceptor(GlueCallMetrics.interceptor());
+        if (rateLimiter != null) {
+            overrideConfiguration.addExecutionInterceptor(rateLimiter.interceptor());
+        }
+        return overrideConfiguration.build();
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
+
+/**
+ * Translates Glue errors to the CloudFormation exceptions of the handler contract. Errors without a dedicated
+ * exception, throttling included, are translated to {@link CfnGeneralServiceException}: the Glue client has already
+ * retried a throttled call by the time it gets here.
+ *
+ * <p>Errors are matched by their Glue error code rather than by exception class, so the translation does not depend on
+ * the Glue SDK build of a resource type. Modeled Glue exceptions carry their name as error code.
+ */
+public final class GlueExceptionTranslator {
+
+    static final String ACCESS_DENIED = "AccessDeniedException";
+    static final String ALREADY_EXISTS = "AlreadyExistsException";
+    static final String ENTITY_NOT_FOUND = "EntityNotFoundException";
+    static final String RESOURCE_NUMBER_LIMIT_EXCEEDED = "ResourceNumberLimitExceededException";
+    static final String INVALID_INPUT = "InvalidInputException";
+
+    private GlueExceptionTranslator() {
+    }
+
+    public static void translateToCfnException(
+        final AwsServiceException exception,
+        final String typeName,
+        final String identifier) {
+        final String errorCode = errorCode(exception);
+        if (ACCESS_DENIED.equals(errorCode)) {
+            throw new CfnAccessDeniedException(typeName, exception);
+        }
+        if (ALREADY_EXISTS.equals(errorCode)) {
+            throw new CfnAlreadyExistsException(typeName, identifier, exception);
+        }
+        if (ENTITY_NOT_FOUND.equals(errorCode)) {
+            throw new CfnNotFoundException(typeName, identifier, exception);
+        }
+        if (RESOURCE_NUMBER_LIMIT_EXCEEDED.equals(errorCode)) {
+            throw new CfnServiceLimitExceededException(typeName, exception.getMessage(), exception);
+        }
+        if (INVALID_INPUT.equals(errorCode)) {
+            throw new CfnInvalidRequestException(exception);
+        }
+        throw new CfnGeneralServiceException(exception.getMessage(), exception);
+    }
+
+    /**
+     * Whether Glue throttled the call, by HTTP 429 or by any of the throttling error codes Glue answers with.
+     */
+    public static boolean isThrottling(final Throwable error) {
+        if (!(error instanceof AwsServiceException)) {
+            return false;
+        }
+        final AwsServiceException serviceError = (AwsServiceException) error;
+        if (serviceError.isThrottlingException()) {
+            return true;
+        }
+        final String errorCode = errorCode(serviceError);
+        return "ThrottlingException".equals(errorCode)
+            || "Throttling".equals(errorCode)
+            || "TooManyRequestsException".equals(errorCode)
+            || "RequestLimitExceeded".equals(errorCode);
+    }
+
+    /**
+     * Glue error code of a service error, or the simple class name of any other error.
+     */
+    public static String errorCode(final Throwable error) {
+        if (error instanceof AwsServiceException && ((AwsServiceException) error).awsErrorDetails() != null
+            && ((AwsServiceException) error).awsErrorDetails().errorCode() != null) {
+            return ((AwsServiceException) error).awsErrorDetails().errorCode();
+        }
+        return error.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,125 @@
+package software.amazon.glue.common;
+
+import lombok.Value;
+import org.crac.Context;
+import org.crac.Core;
+import org.crac.Resource;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
+import software.amazon.awssdk.awscore.client.builder.AwsSyncClientBuilder;
+import software.amazon.awssdk.core.SdkClient;
+import software.amazon.awssdk.core.SdkSystemSetting;
+import software.amazon.awssdk.regions.Region;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Makes the Glue calls of a resource type once against a {@link CannedResponseHttpClient}, so the classes and caches
+ * behind a first call (service model, endpoint rules, signer, JSON marshallers and unmarshallers) are loaded and
+ * initialized before the first invocation needs them. Run from class initialization, the cost moves into the Lambda
+ * init phase; registered for CRaC, it also runs before a checkpoint, so a restored snapshot starts warm.
+ *
+ * The warm-up client is configured like the handler clients but without the rate limiter, so the warm-up never takes
+ * permits from real calls. Calls that fail are counted, never thrown: a failed warm-up only means a slower first call.
+ */
+public final class GlueWarmUp<C extends SdkClient> implements Resource {
+
+    private static final Region FALLBACK_REGION = Region.US_EAST_1;
+
+    private final Supplier<C> warmUpClient;
+    private final List<Function<C, ?>> calls;
+
+    private volatile Result result;
+
+    /**
+     * @param builder creates the client builder of the resource type's Glue SDK, such as {@code GlueClient::builder}
+     * @param calls   Glue calls to make, each with a representative request of an operation the handlers use
+     */
+    public <B extends AwsClientBuilder<B, C> & AwsSyncClientBuilder<B, C>> GlueWarmUp(
+        final Supplier<B> builder,
+        final List<Function<C, ?>> calls) {
+        this.warmUpClient = () -> builder.get()
+            .httpClient(CannedResponseHttpClient.emptyResponses())
+            .region(region())
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("warm-up", "warm-up")))
+            .overrideConfiguration(GlueClients.overrideConfiguration(null))
+            .build();
+        this.calls = calls;
+    }
+
+    /**
+     * Makes the calls the first time it is invoked, later invocations return the first result.
+     */
+    public Result run() {
+        Result done = result;
+        if (done == null) {
+            synchronized (this) {
+                done = result;
+                if (done == null) {
+                    done = makeCalls();
+                    result = done;
+                }
+            }
+        }
+        return done;
+    }
+
+    /**
+     * Runs the warm-up before a CRaC checkpoint, if it has not run yet. The CRaC context only holds a weak reference,
+     * callers keep this instance reachable.
+     */
+    public GlueWarmUp<C> registerForCheckpoint() {
+        Core.getGlobalContext().register(this);
+        return this;
+    }
+
+    @Override
+    public void beforeCheckpoint(final Context<? extends Resource> context) {
+        run();
+    }
+
+    @Override
+    public void afterRestore(final Context<? extends Resource> context) {
+        // The warm-up client is closed once the calls are made, there is no connection to reopen
+    }
+
+    private Result makeCalls() {
+        final long start = System.nanoTime();
+        int failed = 0;
+        try (C client = warmUpClient.get()) {
+            for (final Function<C, ?> call : calls) {
+                try {
+                    call.apply(client);
+                } catch (RuntimeException e) {
+                    failed++;
+                }
+            }
+        } catch (RuntimeException e) {
+            failed = calls.size();
+        }
+        return new Result(calls.size() - failed, failed, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    /**
+     * Region of the Lambda function from AWS_REGION or aws.region. The default provider chain is not used, it may
+     * fall back to the instance metadata service, which is a network call.
+     */
+    private static Region region() {
+        return SdkSystemSetting.AWS_REGION.getStringValue().map(Region::of).orElse(FALLBACK_REGION);
+    }
+
+    @Value
+    public static class Result {
+        int succeeded;
+        int failed;
+        long millis;
+
+        public String summary() {
+            return String.format("GlueWarmUp calls=%d failed=%d ms=%d", succeeded + failed, failed, millis);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package software.amazon.glue.common;
+
+import lombok.Value;
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.cloudformation.proxy.Logger;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Level gated logging on top of the CloudFormation {@link Logger}. Nothing is formatted unless the level is enabled,
+ * field values given as {@link Supplier}s are only computed when the line is written, and every value is cut to
+ * a maximum length, so that a job's DefaultArguments or a SchemaDefinition cannot turn one line into hundreds of KB.
+ *
+ * <p>Fields are passed as alternating keys and values and written either as text,
+ * {@code Entered Create Handler [StackId: s, Name: n]}, or as key/value pairs for log queries,
+ * {@code level=INFO msg="Entered Create Handler" StackId=s Name=n}.
+ */
+public final class HandlerLog {
+
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    public enum Format {
+        TEXT, KEY_VALUE
+    }
+
+    private final Logger logger;
+    private final Level level;
+    private final Format format;
+    private final int maxFieldLength;
+
+    public HandlerLog(final Logger logger, final Level level, final Format format, final int maxFieldLength) {
+        this.logger = logger;
+        this.level = level;
+        this.format = format;
+        this.maxFieldLength = maxFieldLength;
+    }
+
+    public boolean isEnabled(final Level level) {
+        return logger != null && level.compareTo(this.level) >= 0;
+    }
+
+    public void debug(final String message, final Object... fields) {
+        log(Level.DEBUG, message, fields);
+    }
+
+    public void info(final String message, final Object... fields) {
+        log(Level.INFO, message, fields);
+    }
+
+    public void warn(final String message, final Object... fields) {
+        log(Level.WARN, message, fields);
+    }
+
+    public void error(final String message, final Object... fields) {
+        log(Level.ERROR, message, fields);
+    }
+
+    /**
+     * Writes a message that is itself expensive to build, such as a summary, only when the level is enabled.
+     */
+    public void log(final Level level, final Supplier<String> message) {
+        if (isEnabled(level)) {
+            log(level, message.get());
+        }
+    }
+
+    public void log(final Level level, final String message, final Object... fields) {
+        if (!isEnabled(level)) {
+            return;
+        }
+        if (fields.length % 2 != 0) {
+            throw new IllegalArgumentException("Log fields must be key/value pairs: " + message);
+        }
+        logger.log(format == Format.KEY_VALUE ? keyValueLine(level, message, fields) : textLine(level, message, fields));
+    }
+
+    /**
+     * Level, format and field length of the log lines of a resource type, read once from its settings.
+     */
+    @Value
+    public static class Config {
+        Level level;
+        Format format;
+        int maxFieldLength;
+
+        public static Config fromSettings(final SystemSetting level,
+                                          final SystemSetting format,
+                                          final SystemSetting maxFieldLength) {
+            return new Config(
+                Settings.enumValue(level, Level.class),
+                Settings.enumValue(format, Format.class),
+                (int) Math.min(Integer.MAX_VALUE, Math.max(0L, Settings.longValue(maxFieldLength))));
+        }
+
+        public HandlerLog to(final Logger logger) {
+            return new HandlerLog(logger, level, format, maxFieldLength);
+        }
+    }
+
+    private String textLine(final Level level, final String message, final Object[] fields) {
+        final StringBuilder line = new StringBuilder(64);
+        if (level != Level.INFO) {
+            line.append('[').append(level).append("] ");
+        }
+        line.append(message);
+        if (fields.length > 0) {
+            line.append(" [");
+            for (int i = 0; i < fields.length; i += 2) {
+                if (i > 0) {
+                    line.append(", ");
+                }
+                line.append(fields[i]).append(": ");
+                appendValue(line, fields[i + 1]);
+            }
+            line.append(']');
+        }
+        return line.toString();
+    }
+
+    private String keyValueLine(final Level level, final String message, final Object[] fields) {
+        final StringBuilder line = new StringBuilder(64).append("level=").append(level).append(" msg=");
+        appendQuoted(line, message);
+        final StringBuilder value = new StringBuilder();
+        for (int i = 0; i < fields.length; i += 2) {
+            value.setLength(0);
+            appendValue(value, fields[i + 1]);
+            line.append(' ').append(fields[i]).append('=');
+            if (needsQuotes(value)) {
+                appendQuoted(line, value);
+            } else {
+                line.append(value);
+            }
+        }
+        return line.toString();
+    }
+
+    /**
+     * Appends at most {@code maxFieldLength} characters of the value. Maps and collections are rendered entry by
+     * entry so that a large one is never turned into a single string only to be cut.
+     */
+    private void appendValue(final StringBuilder out, final Object field) {
+        final Object value = field instanceof Supplier ? ((Supplier<?>) field).get() : field;
+        final int limit = out.length() + maxFieldLength;
+        if (value instanceof Map) {
+            appendElements(out, ((Map<?, ?>) value).entrySet(), limit, '{', '}');
+        } else if (value instanceof Collection) {
+            appendElements(out, (Collection<?>) value, limit, '[', ']');
+        } else {
+            final String text = String.valueOf(value);
+            if (text.length() <= maxFieldLength) {
+                out.append(text);
+            } else {
+                out.append(text, 0, maxFieldLength).append("...(").append(text.length()).append(" chars)");
+            }
+        }
+    }
+
+    private static void appendElements(
+        final StringBuilder out,
+        final Collection<?> elements,
+        final int limit,
+        final char open,
+        final char close) {
+
+        out.append(open);
+        final Iterator<?> iterator = elements.iterator();
+        for (int written = 0; iterator.hasNext(); written++) {
+            if (written > 0) {
+                out.append(", ");
+            }
+            out.append(iterator.next());
+            if (out.length() > limit) {
+                out.setLength(limit);
+                out.append("...(").append(elements.size()).append(" entries)");
+                break;
+            }
+        }
+        out.append(close);
+    }
+
+    private static boolean needsQuotes(final CharSequence value) {
+        if (value.length() == 0) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c <= ' ' || c == '"' || c == '=' || c == '\\') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void appendQuoted(final StringBuilder out, final CharSequence value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\').append(c);
+            } else if (c == '\n') {
+                out.append("\\n");
+            } else if (c == '\r') {
+                out.append("\\r");
+            } else if (c == '\t') {
+                out.append("\\t");
+            } else {
+                out.append(c);
+            }
+        }
+        out.append('"');
+    }
+}
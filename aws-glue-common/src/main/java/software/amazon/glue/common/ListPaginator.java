@@ -0,0 +1,147 @@
+package software.amazon.glue.common;
+
+import lombok.Value;
+import software.amazon.awssdk.utils.SystemSetting;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Fetches one or more consecutive pages of a Glue list API within a single handler invocation.
+ *
+ * By default exactly one page is fetched, which is what CloudFormation expects from a List handler.
+ * With draining enabled, pages are fetched until Glue runs out of results or the next page is expected
+ * to overrun the time or byte budget, estimated from the pages fetched so far since a page can not be
+ * split. The returned token is the one of the first page that was not fetched, so the caller resumes
+ * exactly where this invocation stopped. A failure after the first page ends the drain early with the
+ * models gathered so far and the token of the failed page.
+ *
+ * Each page is translated as a stream straight into the combined result, so no per-page lists are built.
+ */
+public final class ListPaginator {
+
+    private final boolean drainEnabled;
+    private final long timeBudgetNanos;
+    private final long maxBytes;
+    private final LongSupplier nanoTime;
+
+    public ListPaginator(final boolean drainEnabled,
+                         final long timeBudgetNanos,
+                         final long maxBytes,
+                         final LongSupplier nanoTime) {
+        this.drainEnabled = drainEnabled;
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.maxBytes = maxBytes;
+        this.nanoTime = nanoTime;
+    }
+
+    public static ListPaginator fromSettings(final SystemSetting drainEnabled,
+                                             final SystemSetting timeBudgetMillis,
+                                             final SystemSetting maxBytes) {
+        return new ListPaginator(
+            Settings.booleanValue(drainEnabled),
+            TimeUnit.MILLISECONDS.toNanos(Settings.longValue(timeBudgetMillis)),
+            Settings.longValue(maxBytes),
+            System::nanoTime);
+    }
+
+    /**
+     * Lists from {@code nextToken} onwards.
+     *
+     * @param nextToken     token of the first page to fetch, null for the beginning of the listing
+     * @param fetchPage     fetches the page for a token, exceptions from the first page propagate
+     * @param translatePage translates a page to models
+     * @param nextTokenOf   extracts the token of the following page, null or empty on the last page
+     * @param sizeOf        estimated serialized size of a model in bytes
+     */
+    public <R, T> Page<T> list(final String nextToken,
+                               final Function<String, R> fetchPage,
+                               final Function<R, Stream<T>> translatePage,
+                               final Function<R, String> nextTokenOf,
+                               final ToLongFunction<T> sizeOf) {
+        final long start = nanoTime.getAsLong();
+        final List<T> models = new ArrayList<>();
+        String token = nextToken;
+        long bytes = 0L;
+        int pages = 0;
+        StopReason stopReason;
+
+        while (true) {
+            final R response;
+            try {
+                response = fetchPage.apply(token);
+            } catch (RuntimeException e) {
+                if (pages == 0) {
+                    throw e;
+                }
+                stopReason = StopReason.PAGE_FAILED;
+                break;
+            }
+            pages++;
+
+            final Iterator<T> page = translatePage.apply(response).iterator();
+            while (page.hasNext()) {
+                final T model = page.next();
+                bytes += sizeOf.applyAsLong(model);
+                models.add(model);
+            }
+
+            final String next = nextTokenOf.apply(response);
+            if (next == null || next.isEmpty()) {
+                token = null;
+                stopReason = StopReason.EXHAUSTED;
+                break;
+            }
+            token = next;
+
+            if (!drainEnabled) {
+                stopReason = StopReason.SINGLE_PAGE;
+                break;
+            }
+            final long elapsed = nanoTime.getAsLong() - start;
+            if (elapsed + elapsed / pages > timeBudgetNanos) {
+                stopReason = StopReason.TIME_BUDGET;
+                break;
+            }
+            if (bytes + bytes / pages > maxBytes) {
+                stopReason = StopReason.BYTE_BUDGET;
+                break;
+            }
+        }
+
+        return new Page<>(models, token, pages, bytes,
+            TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - start), stopReason);
+    }
+
+    public enum StopReason {
+        EXHAUSTED,
+        SINGLE_PAGE,
+        TIME_BUDGET,
+        BYTE_BUDGET,
+        PAGE_FAILED
+    }
+
+    /**
+     * Combined result of the pages fetched by one invocation.
+     */
+    @Value
+    public static class Page<T> {
+        List<T> models;
+        String nextToken;
+        int pages;
+        long bytes;
+        long elapsedMillis;
+        StopReason stopReason;
+
+        public String summary() {
+            return String.format("Listed %d models from %d pages (~%d bytes) in %d ms, stopped on %s",
+                models.size(), pages, bytes, elapsedMillis, stopReason);
+        }
+    }
+}
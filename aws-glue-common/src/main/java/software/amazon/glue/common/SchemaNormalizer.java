@@ -0,0 +1,483 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.utils.BinaryUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Canonical form and fingerprint of a schema definition, so that definitions that only differ in
+ * formatting compare equal.
+ *
+ * <p>AVRO and JSON definitions are rewritten as JSON without insignificant whitespace, with object members
+ * sorted by name, strings escaped minimally and numbers in their shortest form. Array order is kept, so
+ * the order of Avro record fields and enum symbols still counts. PROTOBUF definitions are reduced to their
+ * token stream: comments are dropped and tokens are separated by a single space only where two words meet.
+ *
+ * <p>Each definition is read once, left to right; only the members of the object being read are buffered
+ * to sort them.
+ */
+public final class SchemaNormalizer {
+
+    private static final int MAX_NESTING_DEPTH = 512;
+
+    enum Format {
+        AVRO,
+        JSON,
+        PROTOBUF;
+
+        /**
+         * Format of a schema whose DataFormat is not known or not supported here, as for a SchemaVersion: Avro and JSON
+         * definitions are JSON documents, anything else is read as Protobuf.
+         */
+        static Format detect(final String schemaDefinition) {
+            for (int i = 0; i < schemaDefinition.length(); i++) {
+                final char c = schemaDefinition.charAt(i);
+                if (!isJsonWhitespace(c)) {
+                    return c == '{' || c == '[' || c == '"' ? JSON : PROTOBUF;
+                }
+            }
+            return PROTOBUF;
+        }
+
+        static Format of(final String dataFormat, final String schemaDefinition) {
+            if (dataFormat != null) {
+                final String name = dataFormat.toUpperCase(Locale.ROOT);
+                for (final Format format : values()) {
+                    if (format.name().equals(name)) {
+                        return format;
+                    }
+                }
+            }
+            return detect(schemaDefinition);
+        }
+    }
+
+    private SchemaNormalizer() {
+    }
+
+    /**
+     * @param dataFormat DataFormat of the schema, detected from the definition when null or unknown.
+     * @return the canonical form of the definition.
+     * @throws IllegalArgumentException if the definition is not well formed for the format.
+     */
+    public static String canonicalize(final String dataFormat, final String schemaDefinition) {
+        final String definition = schemaDefinition == null ? "" : schemaDefinition;
+        switch (Format.of(dataFormat, definition)) {
+            case AVRO:
+            case JSON:
+                return new JsonCanonicalizer(definition).canonicalize();
+            default:
+                return new ProtobufCanonicalizer(definition).canonicalize();
+        }
+    }
+
+    /**
+     * SHA-256 of the canonical form, as hex. A definition that can not be canonicalized is fingerprinted
+     * as is, it is up to Glue to reject it.
+     */
+    public static String fingerprint(final String dataFormat, final String schemaDefinition) {
+        String canonical;
+        try {
+            canonical = canonicalize(dataFormat, schemaDefinition);
+        } catch (IllegalArgumentException e) {
+            canonical = schemaDefinition == null ? "" : schemaDefinition;
+        }
+        return sha256(canonical);
+    }
+
+    private static String sha256(final String value) {
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        return BinaryUtils.toHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static boolean isJsonWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r';
+    }
+
+    private static final class JsonCanonicalizer {
+        private final String input;
+        private int position;
+
+        private JsonCanonicalizer(final String input) {
+            this.input = input;
+        }
+
+        String canonicalize() {
+            final StringBuilder out = new StringBuilder(input.length());
+            value(out, 0);
+            skipWhitespace();
+            if (position != input.length()) {
+                throw malformed("unexpected content after the document");
+            }
+            return out.toString();
+        }
+
+        private void value(final StringBuilder out, final int depth) {
+            if (depth > MAX_NESTING_DEPTH) {
+                throw malformed("nesting exceeds " + MAX_NESTING_DEPTH + " levels");
+            }
+            skipWhitespace();
+            if (position == input.length()) {
+                throw malformed("unexpected end of document");
+            }
+            final char c = input.charAt(position);
+            switch (c) {
+                case '{':
+                    object(out, depth);
+                    break;
+                case '[':
+                    array(out, depth);
+                    break;
+                case '"':
+                    writeString(out, string());
+                    break;
+                case 't':
+                    literal(out, "true");
+                    break;
+                case 'f':
+                    literal(out, "false");
+                    break;
+                case 'n':
+                    literal(out, "null");
+                    break;
+                default:
+                    if (c == '-' || (c >= '0' && c <= '9')) {
+                        number(out);
+                    } else {
+                        throw malformed("unexpected character '" + c + "'");
+                    }
+            }
+        }
+
+        private void object(final StringBuilder out, final int depth) {
+            position++;
+            final List<Member> members = new ArrayList<>();
+            skipWhitespace();
+            if (!consume('}')) {
+                do {
+                    skipWhitespace();
+                    if (position == input.length() || input.charAt(position) != '"') {
+                        throw malformed("expected a member name");
+                    }
+                    final String name = string();
+                    skipWhitespace();
+                    expect(':');
+                    final StringBuilder memberValue = new StringBuilder();
+                    value(memberValue, depth + 1);
+                    members.add(new Member(name, memberValue));
+                    skipWhitespace();
+                } while (consume(','));
+                expect('}');
+            }
+            // Stable, so duplicate names keep their document order
+            members.sort(Comparator.comparing((Member member) -> member.name));
+            out.append('{');
+            for (int i = 0; i < members.size(); i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                writeString(out, members.get(i).name);
+                out.append(':').append(members.get(i).value);
+            }
+            out.append('}');
+        }
+
+        private void array(final StringBuilder out, final int depth) {
+            position++;
+            out.append('[');
+            skipWhitespace();
+            if (!consume(']')) {
+                boolean first = true;
+                do {
+                    if (!first) {
+                        out.append(',');
+                    }
+                    first = false;
+                    value(out, depth + 1);
+                    skipWhitespace();
+                } while (consume(','));
+                expect(']');
+            }
+            out.append(']');
+        }
+
+        private String string() {
+            position++;
+            final StringBuilder value = new StringBuilder();
+            while (true) {
+                if (position == input.length()) {
+                    throw malformed("unterminated string");
+                }
+                final char c = input.charAt(position++);
+                if (c == '"') {
+                    return value.toString();
+                }
+                if (c < 0x20) {
+                    throw malformed("unescaped control character in string");
+                }
+                if (c != '\\') {
+                    value.append(c);
+                    continue;
+                }
+                if (position == input.length()) {
+                    throw malformed("unterminated string");
+                }
+                final char escaped = input.charAt(position++);
+                switch (escaped) {
+                    case '"':
+                    case '\\':
+                    case '/':
+                        value.append(escaped);
+                        break;
+                    case 'b':
+                        value.append('\b');
+                        break;
+                    case 'f':
+                        value.append('\f');
+                        break;
+                    case 'n':
+                        value.append('\n');
+                        break;
+                    case 'r':
+                        value.append('\r');
+                        break;
+                    case 't':
+                        value.append('\t');
+                        break;
+                    case 'u':
+                        if (position + 4 > input.length()) {
+                            throw malformed("truncated unicode escape");
+                        }
+                        try {
+                            value.append((char) Integer.parseInt(input.substring(position, position + 4), 16));
+                        } catch (NumberFormatException e) {
+                            throw malformed("invalid unicode escape");
+                        }
+                        position += 4;
+                        break;
+                    default:
+                        throw malformed("invalid escape '\\" + escaped + "'");
+                }
+            }
+        }
+
+        private void number(final StringBuilder out) {
+            final int start = position;
+            consume('-');
+            if (!consume('0')) {
+                digits();
+            }
+            if (consume('.')) {
+                digits();
+            }
+            if (consume('e') || consume('E')) {
+                if (!consume('+')) {
+                    consume('-');
+                }
+                digits();
+            }
+            final BigDecimal number;
+            try {
+                number = new BigDecimal(input.substring(start, position));
+            } catch (NumberFormatException e) {
+                throw malformed("number out of range");
+            }
+            if (number.signum() == 0) {
+                out.append('0');
+                return;
+            }
+            final BigDecimal stripped = number.stripTrailingZeros();
+            if (stripped.scale() <= 0 && stripped.precision() - stripped.scale() <= 21) {
+                out.append(stripped.toBigInteger());
+            } else if (stripped.scale() > 0 && stripped.scale() <= 21) {
+                out.append(stripped.toPlainString());
+            } else {
+                out.append(stripped.toString());
+            }
+        }
+
+        private void digits() {
+            final int start = position;
+            while (position < input.length() && input.charAt(position) >= '0' && input.charAt(position) <= '9') {
+                position++;
+            }
+            if (position == start) {
+                throw malformed("expected a digit");
+            }
+        }
+
+        private void literal(final StringBuilder out, final String literal) {
+            if (!input.startsWith(literal, position)) {
+                throw malformed("expected '" + literal + "'");
+            }
+            position += literal.length();
+            out.append(literal);
+        }
+
+        private void skipWhitespace() {
+            while (position < input.length() && isJsonWhitespace(input.charAt(position))) {
+                position++;
+            }
+        }
+
+        private boolean consume(final char c) {
+            if (position < input.length() && input.charAt(position) == c) {
+                position++;
+                return true;
+            }
+            return false;
+        }
+
+        private void expect(final char c) {
+            if (!consume(c)) {
+                throw malformed("expected '" + c + "'");
+            }
+        }
+
+        private IllegalArgumentException malformed(final String reason) {
+            return new IllegalArgumentException(
+                String.format("Schema definition is not valid JSON at offset %d: %s", position, reason));
+        }
+
+        private static void writeString(final StringBuilder out, final String value) {
+            out.append('"');
+            for (int i = 0; i < value.length(); i++) {
+                final char c = value.charAt(i);
+                switch (c) {
+                    case '"':
+                        out.append("\\\"");
+                        break;
+                    case '\\':
+                        out.append("\\\\");
+                        break;
+                    case '\b':
+                        out.append("\\b");
+                        break;
+                    case '\f':
+                        out.append("\\f");
+                        break;
+                    case '\n':
+                        out.append("\\n");
+                        break;
+                    case '\r':
+                        out.append("\\r");
+                        break;
+                    case '\t':
+                        out.append("\\t");
+                        break;
+                    default:
+                        if (c < 0x20) {
+                            out.append(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.append(c);
+                        }
+                }
+            }
+            out.append('"');
+        }
+
+        private static final class Member {
+            private final String name;
+            private final CharSequence value;
+
+            private Member(final String name, final CharSequence value) {
+                this.name = name;
+                this.value = value;
+            }
+        }
+    }
+
+    private static final class ProtobufCanonicalizer {
+        private final String input;
+        private int position;
+
+        private ProtobufCanonicalizer(final String input) {
+            this.input = input;
+        }
+
+        String canonicalize() {
+            final StringBuilder out = new StringBuilder(input.length());
+            boolean previousIsWord = false;
+            while (skipWhitespaceAndComments()) {
+                final char c = input.charAt(position);
+                final int start = position;
+                final boolean word;
+                if (c == '"' || c == '\'') {
+                    string(c);
+                    word = true;
+                } else if (isWordCharacter(c)) {
+                    while (position < input.length() && isWordCharacter(input.charAt(position))) {
+                        position++;
+                    }
+                    word = true;
+                } else {
+                    position++;
+                    word = false;
+                }
+                if (word && previousIsWord) {
+                    out.append(' ');
+                }
+                out.append(input, start, position);
+                previousIsWord = word;
+            }
+            return out.toString();
+        }
+
+        /**
+         * @return whether there is a token left.
+         */
+        private boolean skipWhitespaceAndComments() {
+            while (position < input.length()) {
+                final char c = input.charAt(position);
+                if (Character.isWhitespace(c)) {
+                    position++;
+                } else if (input.startsWith("//", position)) {
+                    final int end = input.indexOf('\n', position);
+                    position = end < 0 ? input.length() : end + 1;
+                } else if (input.startsWith("/*", position)) {
+                    final int end = input.indexOf("*/", position + 2);
+                    if (end < 0) {
+                        throw new IllegalArgumentException(
+                            String.format("Schema definition has an unterminated comment at offset %d", position));
+                    }
+                    position = end + 2;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void string(final char quote) {
+            final int start = position++;
+            while (position < input.length()) {
+                final char c = input.charAt(position++);
+                if (c == '\\') {
+                    position++;
+                } else if (c == quote) {
+                    return;
+                } else if (c == '\n') {
+                    break;
+                }
+            }
+            throw new IllegalArgumentException(
+                String.format("Schema definition has an unterminated string at offset %d", start));
+        }
+
+        private static boolean isWordCharacter(final char c) {
+            return Character.isLetterOrDigit(c) || c == '_' || c == '.';
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.utils.SystemSetting;
+
+import java.util.Locale;
+
+/**
+ * Typed values of a {@link SystemSetting}, read from the JVM system property or else the environment variable.
+ * A value that does not parse falls back to the setting's default, so a typo in a tunable never fails a handler.
+ * Each resource type declares its tunables in its own {@code HandlerSetting} enum and passes them to the shared
+ * components, which keeps the property names of every resource type under its own prefix.
+ */
+public final class Settings {
+
+    private Settings() {
+    }
+
+    public static String stringValue(final SystemSetting setting) {
+        return setting.getStringValue().orElse(setting.defaultValue()).trim();
+    }
+
+    public static boolean booleanValue(final SystemSetting setting) {
+        return Boolean.parseBoolean(stringValue(setting));
+    }
+
+    public static long longValue(final SystemSetting setting) {
+        try {
+            return Long.parseLong(stringValue(setting));
+        } catch (NumberFormatException e) {
+            return Long.parseLong(setting.defaultValue());
+        }
+    }
+
+    public static double doubleValue(final SystemSetting setting) {
+        try {
+            return Double.parseDouble(stringValue(setting));
+        } catch (NumberFormatException e) {
+            return Double.parseDouble(setting.defaultValue());
+        }
+    }
+
+    public static <E extends Enum<E>> E enumValue(final SystemSetting setting, final Class<E> type) {
+        try {
+            return Enum.valueOf(type, stringValue(setting).toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return Enum.valueOf(type, setting.defaultValue());
+        }
+    }
+}
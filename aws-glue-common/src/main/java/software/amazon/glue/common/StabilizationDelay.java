@@ -0,0 +1,125 @@
+package software.amazon.glue.common;
+
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.cloudformation.proxy.Delay;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Stabilization polling policy: capped exponential growth with full jitter.
+ *
+ * The n-th poll waits a random duration between {@code minDelay} and
+ * {@code min(maxDelay, baseDelay * 2^(n-1))}, so the first polls happen quickly after the
+ * mutating call and concurrent stabilizations against the same account spread out instead of
+ * polling Glue in lock step. The policy is stateless, so the timeout is enforced against the
+ * expected elapsed time (the sum of the mean delay of every attempt so far) and
+ * {@link Duration#ZERO} is returned once that exceeds the timeout.
+ */
+public final class StabilizationDelay implements Delay {
+
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final Duration minDelay;
+    private final Duration timeout;
+    private final DoubleSupplier random;
+
+    private StabilizationDelay(final Builder builder) {
+        this.baseDelay = builder.baseDelay;
+        this.maxDelay = builder.maxDelay;
+        this.minDelay = builder.minDelay;
+        this.timeout = builder.timeout;
+        this.random = builder.random;
+    }
+
+    public static Builder of() {
+        return new Builder();
+    }
+
+    /**
+     * Builds the policy for a resource type from its settings, falling back to their defaults.
+     */
+    public static StabilizationDelay fromSettings(final SystemSetting baseDelayMillis,
+                                                  final SystemSetting maxDelayMillis,
+                                                  final SystemSetting timeoutSeconds) {
+        return of()
+            .baseDelay(Duration.ofMillis(Settings.longValue(baseDelayMillis)))
+            .maxDelay(Duration.ofMillis(Settings.longValue(maxDelayMillis)))
+            .timeout(Duration.ofSeconds(Settings.longValue(timeoutSeconds)))
+            .build();
+    }
+
+    @Override
+    public Duration nextDelay(final int attempt) {
+        final int n = Math.max(1, attempt);
+        long expectedElapsedMillis = 0L;
+        for (int i = 1; i <= n; i++) {
+            expectedElapsedMillis += (floorMillis(i) + ceilingMillis(i)) / 2;
+            if (expectedElapsedMillis > timeout.toMillis()) {
+                return Duration.ZERO;
+            }
+        }
+        final long ceiling = ceilingMillis(n);
+        final long floor = floorMillis(n);
+        return Duration.ofMillis(floor + (long) (random.getAsDouble() * (ceiling - floor)));
+    }
+
+    private long floorMillis(final int attempt) {
+        return Math.min(minDelay.toMillis(), ceilingMillis(attempt));
+    }
+
+    private long ceilingMillis(final int attempt) {
+        // Shift at most 30 places, larger attempts are at the cap anyway
+        final long exponential = baseDelay.toMillis() << Math.min(attempt - 1, 30);
+        return Math.min(maxDelay.toMillis(), exponential);
+    }
+
+    public static final class Builder {
+        private Duration baseDelay = Duration.ofMillis(500L);
+        private Duration maxDelay = Duration.ofSeconds(8L);
+        private Duration minDelay = Duration.ofMillis(250L);
+        private Duration timeout = Duration.ofSeconds(120L);
+        private DoubleSupplier random = () -> ThreadLocalRandom.current().nextDouble();
+
+        private Builder() {
+        }
+
+        public Builder baseDelay(final Duration baseDelay) {
+            this.baseDelay = baseDelay;
+            return this;
+        }
+
+        public Builder maxDelay(final Duration maxDelay) {
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        public Builder minDelay(final Duration minDelay) {
+            this.minDelay = minDelay;
+            return this;
+        }
+
+        public Builder timeout(final Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        Builder random(final DoubleSupplier random) {
+            this.random = random;
+            return this;
+        }
+
+        public StabilizationDelay build() {
+            if (baseDelay.isNegative() || baseDelay.isZero() || maxDelay.compareTo(baseDelay) < 0) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid stabilization delay bounds [%s, %s]", baseDelay, maxDelay));
+            }
+            if (minDelay.isNegative() || timeout.isNegative() || timeout.isZero()) {
+                throw new IllegalArgumentException(
+                    String.format("Invalid stabilization delay floor %s or timeout %s", minDelay, timeout));
+            }
+            return new StabilizationDelay(this);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package software.amazon.glue.common;
+
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the TagResource and UntagResource calls that turn one set of tags into another.
+ *
+ * <p>Only depends on plain maps, so any Glue resource provider can use it with the tags of its previous and
+ * desired resource state.
+ */
+public final class TagReconciler {
+
+    // TagResource and UntagResource accept at most 50 tags per call
+    public static final int MAX_TAGS_PER_CALL = 50;
+
+    // System tags can not be removed, and are never part of the desired tags
+    private static final String RESERVED_PREFIX = "aws:";
+
+    private TagReconciler() {
+    }
+
+    /**
+     * @param currentTags tags on the resource, null for none
+     * @param desiredTags tags the resource should have, null for none
+     * @return the tags to add or overwrite and the tags to remove
+     */
+    public static Plan reconcile(final Map<String, String> currentTags, final Map<String, String> desiredTags) {
+        final Map<String, String> current = currentTags == null ? Collections.emptyMap() : currentTags;
+        final Map<String, String> desired = desiredTags == null ? Collections.emptyMap() : desiredTags;
+
+        final Map<String, String> tagsToAdd = new HashMap<>();
+        desired.forEach((key, value) -> {
+            if (key != null && value != null && !value.equals(current.get(key))) {
+                tagsToAdd.put(key, value);
+            }
+        });
+        final Map<String, String> tagsToRemove = new HashMap<>();
+        current.forEach((key, value) -> {
+            if (key != null && !desired.containsKey(key) && !key.startsWith(RESERVED_PREFIX)) {
+                tagsToRemove.put(key, value);
+            }
+        });
+        return new Plan(tagsToAdd, tagsToRemove);
+    }
+
+    static List<Map<String, String>> batches(final Map<String, String> tags, final int batchSize) {
+        final List<Map<String, String>> batches = new ArrayList<>((tags.size() + batchSize - 1) / batchSize);
+        Map<String, String> batch = null;
+        for (final Map.Entry<String, String> entry : tags.entrySet()) {
+            if (batch == null || batch.size() == batchSize) {
+                batch = new LinkedHashMap<>();
+                batches.add(batch);
+            }
+            batch.put(entry.getKey(), entry.getValue());
+        }
+        return batches;
+    }
+
+    @Value
+    public static class Plan {
+        Map<String, String> tagsToAdd;
+        Map<String, String> tagsToRemove;
+
+        public boolean isEmpty() {
+            return tagsToAdd.isEmpty() && tagsToRemove.isEmpty();
+        }
+
+        /**
+         * Tags to add, split into batches that fit a single TagResource call.
+         */
+        public List<Map<String, String>> tagsToAddInBatches() {
+            return batches(tagsToAdd, MAX_TAGS_PER_CALL);
+        }
+
+        /**
+         * Tags to remove, split into batches that fit a single UntagResource call.
+         */
+        public List<Map<String, String>> tagsToRemoveInBatches() {
+            return batches(tagsToRemove, MAX_TAGS_PER_CALL);
+        }
+    }
+}
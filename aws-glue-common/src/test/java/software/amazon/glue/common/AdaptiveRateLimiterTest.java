@@ -0,0 +1,165 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class AdaptiveRateLimiterTest {
+
+    private static final long COOLDOWN_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_WAIT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private FakeTicker ticker;
+    private AdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    public void setup() {
+        ticker = new FakeTicker();
+        limiter = new AdaptiveRateLimiter(10, 1, 20, 0.5, 0.5, COOLDOWN_NANOS, MAX_WAIT_NANOS, ticker);
+    }
+
+    @Test
+    public void acquire_SpacesRequestsAtPermittedRate() {
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(ticker.slept).isEqualTo(TimeUnit.MILLISECONDS.toNanos(200));
+        assertThat(limiter.metrics().getTotalWaitMillis()).isEqualTo(200);
+        assertThat(limiter.metrics().getQueueDepth()).isZero();
+    }
+
+    @Test
+    public void acquire_AllowsBoundedBurstAfterIdle() {
+        ticker.now += TimeUnit.SECONDS.toNanos(30);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire();
+        }
+        assertThat(ticker.slept).isZero();
+
+        limiter.acquire();
+        assertThat(ticker.slept).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void acquire_CapsWaitAtMaximum() {
+        limiter = new AdaptiveRateLimiter(1, 1, 1, 0, 0.5, COOLDOWN_NANOS, TimeUnit.MILLISECONDS.toNanos(1500), ticker);
+        ticker.advanceOnSleep = false;
+        limiter.acquire();
+        limiter.acquire();
+        limiter.acquire();
+
+        assertThat(ticker.slept).isEqualTo(TimeUnit.MILLISECONDS.toNanos(2500));
+    }
+
+    @Test
+    public void acquire_CappedWaitsDoNotAccumulate() {
+        limiter = new AdaptiveRateLimiter(1, 1, 1, 0, 0.5, COOLDOWN_NANOS, TimeUnit.MILLISECONDS.toNanos(1500), ticker);
+        ticker.advanceOnSleep = false;
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire();
+        }
+
+        // The load stops: once the capped wait and one interval have passed, the next caller goes straight through
+        ticker.now += TimeUnit.MILLISECONDS.toNanos(2500);
+        ticker.slept = 0;
+        limiter.acquire();
+
+        assertThat(ticker.slept).isZero();
+    }
+
+    @Test
+    public void onSuccess_IncreasesAdditivelyUpToMaximum() {
+        limiter.onSuccess();
+        assertThat(limiter.metrics().getPermittedRate()).isCloseTo(10.5, within(1e-9));
+
+        for (int i = 0; i < 100; i++) {
+            limiter.onSuccess();
+        }
+        assertThat(limiter.metrics().getPermittedRate()).isEqualTo(20);
+        assertThat(limiter.metrics().getSuccessCount()).isEqualTo(101);
+    }
+
+    @Test
+    public void onThrottle_DecreasesMultiplicativelyOncePerCooldown() {
+        limiter.onThrottle();
+        limiter.onThrottle();
+        assertThat(limiter.metrics().getPermittedRate()).isEqualTo(5);
+
+        ticker.now += COOLDOWN_NANOS;
+        limiter.onThrottle();
+        assertThat(limiter.metrics().getPermittedRate()).isEqualTo(2.5);
+
+        for (int i = 0; i < 10; i++) {
+            ticker.now += COOLDOWN_NANOS;
+            limiter.onThrottle();
+        }
+        assertThat(limiter.metrics().getPermittedRate()).isEqualTo(1);
+        assertThat(limiter.metrics().getThrottleCount()).isEqualTo(13);
+    }
+
+    @Test
+    public void retryCondition_SignalsThrottledAttemptOnceAndDelegates() {
+        final RetryCondition condition = limiter.retryCondition(RetryCondition.defaultRetryCondition());
+        final RetryPolicyContext context = RetryPolicyContext.builder()
+                .exception(AwsServiceException.builder()
+                        .statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+                        .build())
+                .executionAttributes(new ExecutionAttributes())
+                .retriesAttempted(0)
+                .build();
+
+        assertThat(condition.shouldRetry(context)).isTrue();
+        condition.requestWillNotBeRetried(context);
+
+        assertThat(limiter.metrics().getThrottleCount()).isEqualTo(1);
+        assertThat(limiter.metrics().getPermittedRate()).isEqualTo(5);
+    }
+
+    @Test
+    public void retryCondition_IgnoresNonThrottlingErrors() {
+        final RetryCondition condition = limiter.retryCondition(RetryCondition.defaultRetryCondition());
+        final RetryPolicyContext context = RetryPolicyContext.builder()
+                .exception(AwsServiceException.builder()
+                        .statusCode(400)
+                        .awsErrorDetails(AwsErrorDetails.builder().errorCode("InvalidInputException").build())
+                        .build())
+                .executionAttributes(new ExecutionAttributes())
+                .retriesAttempted(0)
+                .build();
+
+        assertThat(condition.shouldRetry(context)).isFalse();
+        assertThat(limiter.metrics().getThrottleCount()).isZero();
+        assertThat(limiter.metrics().getPermittedRate()).isEqualTo(10);
+    }
+
+    private static final class FakeTicker implements AdaptiveRateLimiter.Ticker {
+        private long now = TimeUnit.HOURS.toNanos(1);
+        private long slept;
+        private boolean advanceOnSleep = true;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+
+        @Override
+        public void sleep(final long nanos) {
+            slept += nanos;
+            if (advanceOnSleep) {
+                now += nanos;
+            }
+        }
+    }
+}
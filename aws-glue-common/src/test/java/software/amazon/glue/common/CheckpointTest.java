@@ -0,0 +1,42 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CheckpointTest {
+
+    @Test
+    public void advanceTo_NeverMovesBackwards() {
+        final Checkpoint checkpoint = new Checkpoint();
+        checkpoint.advanceTo(Checkpoint.Phase.REQUESTED);
+        checkpoint.advanceTo(Checkpoint.Phase.RESOLVED);
+
+        assertThat(checkpoint.getPhase()).isEqualTo(Checkpoint.Phase.REQUESTED);
+        assertThat(checkpoint.hasReached(Checkpoint.Phase.RESOLVED)).isTrue();
+        assertThat(checkpoint.hasReached(Checkpoint.Phase.STABILIZED)).isFalse();
+    }
+
+    @Test
+    public void resolve_KeepsNonNullValuesAsStrings() {
+        final Checkpoint checkpoint = new Checkpoint();
+        checkpoint.resolve("VersionNumber", 7L);
+        checkpoint.resolve("SchemaArn", null);
+
+        assertThat(checkpoint.resolved("VersionNumber")).isEqualTo("7");
+        assertThat(checkpoint.getResolvedIdentifiers()).doesNotContainKey("SchemaArn");
+    }
+
+    @Test
+    public void recordPoll_CountsAttemptsAndSpan() {
+        final Checkpoint checkpoint = new Checkpoint();
+        checkpoint.recordPoll(1_000L);
+        checkpoint.recordPoll(1_500L);
+        checkpoint.recordPoll(4_000L);
+
+        assertThat(checkpoint.getPollAttempts()).isEqualTo(3);
+        assertThat(checkpoint.getFirstPollEpochMillis()).isEqualTo(1_000L);
+        assertThat(checkpoint.getLastPollEpochMillis()).isEqualTo(4_000L);
+        assertThat(checkpoint.pollingMillis()).isEqualTo(3_000L);
+    }
+}
@@ -0,0 +1,171 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.awscore.AwsRequest;
+import software.amazon.awssdk.awscore.AwsResponse;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.pagination.sync.SdkIterable;
+import software.amazon.awssdk.core.retry.RetryPolicyContext;
+import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.GlueException;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class GlueCallMetricsTest {
+
+    private static final GetRegistryRequest GET_REGISTRY_REQUEST = GetRegistryRequest.builder()
+        .registryId(RegistryId.builder().registryName("unit-test-registry").build())
+        .build();
+
+    private static final GlueException THROTTLED = (GlueException) GlueException.builder()
+        .statusCode(400)
+        .awsErrorDetails(AwsErrorDetails.builder().errorCode("ThrottlingException").build())
+        .build();
+
+    private static final ExecutionInterceptor INTERCEPTOR = GlueCallMetrics.interceptor();
+
+    private static final RetryCondition RETRY_CONDITION = GlueCallMetrics.retryCondition(RetryCondition.none());
+
+    @Mock
+    private GlueClient glueClient;
+
+    @Test
+    public void summary_CountsErrorsThrottlesAndRetriesPerApi() {
+        final GlueCallMetrics.Invocation invocation = new GlueCallMetrics().start("ReadHandler");
+
+        // Two throttled attempts retried by the SDK, then a successful one
+        invocation.call("GetRegistry", () -> {
+            attempt(THROTTLED, 0, true);
+            attempt(THROTTLED, 1, true);
+            attempt(null, 2, true);
+            return GetRegistryResponse.builder().build();
+        });
+        // A throttled attempt retried, then a throttled one that is not, seen by both retry hooks
+        assertThrows(GlueException.class, () -> invocation.call("GetRegistry", () -> {
+            attempt(THROTTLED, 0, true);
+            attempt(THROTTLED, 1, false);
+            throw THROTTLED;
+        }));
+        // Made outside of a client counting its attempts
+        invocation.record("GetTags", TimeUnit.MILLISECONDS.toNanos(3), THROTTLED);
+
+        assertThat(invocation.callCount()).isEqualTo(3);
+        assertThat(invocation.summary())
+            .contains("GetRegistry n=2 err=1 thr=4 retry=3 ")
+            .contains("codes={ThrottlingException=1}; GetTags n=1 err=1 thr=1 retry=0 ms=3 p50=3 p99=3");
+    }
+
+    @Test
+    public void summary_WithoutCalls_SaysSo() {
+        assertThat(new GlueCallMetrics().start("ListHandler").summary()).isEqualTo("GlueCalls[ListHandler] none");
+    }
+
+    @Test
+    public void instrumentedProxyClient_RecordsSuccessfulAndFailedCalls() {
+        final GlueCallMetrics.Invocation invocation = new GlueCallMetrics().start("ReadHandler");
+        final ProxyClient<GlueClient> proxyClient = new InstrumentedProxyClient<>(
+            directProxy(glueClient), invocation);
+
+        when(glueClient.getRegistry(any(GetRegistryRequest.class)))
+            .thenReturn(GetRegistryResponse.builder().build())
+            .thenThrow(EntityNotFoundException.builder()
+                .awsErrorDetails(AwsErrorDetails.builder().errorCode("EntityNotFoundException").build())
+                .build());
+
+        proxyClient.injectCredentialsAndInvokeV2(GET_REGISTRY_REQUEST, glueClient::getRegistry);
+        assertThrows(EntityNotFoundException.class, () ->
+            proxyClient.injectCredentialsAndInvokeV2(GET_REGISTRY_REQUEST, glueClient::getRegistry));
+
+        assertThat(invocation.callCount()).isEqualTo(2);
+        assertThat(invocation.summary())
+            .startsWith("GlueCalls[ReadHandler] GetRegistry n=2 err=1 thr=0 retry=0")
+            .endsWith("codes={EntityNotFoundException=1}");
+    }
+
+    /**
+     * One attempt of a call as the client makes it: transmitted, then, when it failed, shown to the retry condition.
+     */
+    private static void attempt(final GlueException error, final int retriesAttempted, final boolean retried) {
+        INTERCEPTOR.beforeTransmission(null, new ExecutionAttributes());
+        if (error == null) {
+            return;
+        }
+        final RetryPolicyContext context = RetryPolicyContext.builder()
+            .exception(error)
+            .retriesAttempted(retriesAttempted)
+            .build();
+        RETRY_CONDITION.shouldRetry(context);
+        if (!retried) {
+            RETRY_CONDITION.requestWillNotBeRetried(context);
+        }
+    }
+
+    /**
+     * Proxy client that invokes the request function directly, as the CloudFormation proxy does once the
+     * credentials are injected.
+     */
+    private static ProxyClient<GlueClient> directProxy(final GlueClient glueClient) {
+        return new ProxyClient<GlueClient>() {
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseT
+            injectCredentialsAndInvokeV2(RequestT request, Function<RequestT, ResponseT> requestFunction) {
+                return requestFunction.apply(request);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse>
+            CompletableFuture<ResponseT>
+            injectCredentialsAndInvokeV2Async(RequestT request,
+                Function<RequestT, CompletableFuture<ResponseT>> requestFunction) {
+                return requestFunction.apply(request);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse, IterableT extends SdkIterable<ResponseT>>
+            IterableT
+            injectCredentialsAndInvokeIterableV2(RequestT request, Function<RequestT, IterableT> requestFunction) {
+                return requestFunction.apply(request);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseInputStream<ResponseT>
+            injectCredentialsAndInvokeV2InputStream(RequestT requestT,
+                Function<RequestT, ResponseInputStream<ResponseT>> function) {
+                return function.apply(requestT);
+            }
+
+            @Override
+            public <RequestT extends AwsRequest, ResponseT extends AwsResponse> ResponseBytes<ResponseT>
+            injectCredentialsAndInvokeV2Bytes(RequestT requestT,
+                Function<RequestT, ResponseBytes<ResponseT>> function) {
+                return function.apply(requestT);
+            }
+
+            @Override
+            public GlueClient client() {
+                return glueClient;
+            }
+        };
+    }
+}
@@ -0,0 +1,66 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GlueException;
+import software.amazon.awssdk.services.glue.model.InvalidInputException;
+import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GlueExceptionTranslatorTest {
+
+    private static final String TYPE_NAME = "AWS::Glue::Registry";
+
+    @Test
+    public void translateToCfnException_MapsGlueErrors() {
+        assertThrows(CfnNotFoundException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            EntityNotFoundException.builder().build(), TYPE_NAME, "unit-test-registry"));
+        assertThrows(CfnAlreadyExistsException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            AlreadyExistsException.builder().build(), TYPE_NAME, "unit-test-registry"));
+        assertThrows(CfnInvalidRequestException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            InvalidInputException.builder().build(), TYPE_NAME, "unit-test-registry"));
+        assertThrows(CfnGeneralServiceException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            glueError(500, "InternalServiceException"), TYPE_NAME, "unit-test-registry"));
+    }
+
+    @Test
+    public void translateToCfnException_MatchesByErrorCode() {
+        // As unmarshalled by a Glue SDK build whose exception classes are not the ones this module sees
+        assertThrows(CfnNotFoundException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            glueError(400, "EntityNotFoundException"), TYPE_NAME, "unit-test-registry"));
+        assertThrows(CfnAlreadyExistsException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            glueError(400, "AlreadyExistsException"), TYPE_NAME, "unit-test-registry"));
+    }
+
+    @Test
+    public void translateToCfnException_ThrottlingIsGeneralServiceError() {
+        assertThrows(CfnGeneralServiceException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            glueError(400, "ThrottlingException"), TYPE_NAME, "unit-test-registry"));
+        assertThrows(CfnGeneralServiceException.class, () -> GlueExceptionTranslator.translateToCfnException(
+            glueError(429, "SlowDown"), TYPE_NAME, "unit-test-registry"));
+        assertThat(GlueExceptionTranslator.isThrottling(glueError(429, "SlowDown"))).isTrue();
+    }
+
+    @Test
+    public void errorCode_FallsBackToClassName() {
+        assertThat(GlueExceptionTranslator.errorCode(glueError(400, "ThrottlingException")))
+            .isEqualTo("ThrottlingException");
+        assertThat(GlueExceptionTranslator.errorCode(new IllegalStateException()))
+            .isEqualTo("IllegalStateException");
+        assertThat(GlueExceptionTranslator.isThrottling(new IllegalStateException())).isFalse();
+    }
+
+    private static GlueException glueError(final int statusCode, final String errorCode) {
+        return (GlueException) GlueException.builder()
+            .statusCode(statusCode)
+            .awsErrorDetails(AwsErrorDetails.builder().errorCode(errorCode).build())
+            .build();
+    }
+}
@@ -0,0 +1,80 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.ListRegistriesRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GlueWarmUpTest {
+
+    private static final GetRegistryRequest GET_REGISTRY_REQUEST = GetRegistryRequest.builder()
+        .registryId(RegistryId.builder().registryName("unit-test-registry").build())
+        .build();
+
+    @Test
+    public void run_MakesEveryCallOnce() {
+        final AtomicInteger calls = new AtomicInteger();
+        final GlueWarmUp<GlueClient> warmUp = new GlueWarmUp<>(GlueClient::builder,
+            Arrays.<Function<GlueClient, ?>>asList(
+                glue -> {
+                    calls.incrementAndGet();
+                    return glue.getRegistry(GET_REGISTRY_REQUEST);
+                },
+                glue -> {
+                    calls.incrementAndGet();
+                    return glue.listRegistries(ListRegistriesRequest.builder().build());
+                }));
+
+        final GlueWarmUp.Result result = warmUp.run();
+
+        assertThat(result.getSucceeded()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(0);
+        assertThat(warmUp.run()).isSameAs(result);
+        assertThat(calls.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void run_CountsFailedCalls() {
+        final GlueWarmUp<GlueClient> warmUp = new GlueWarmUp<>(GlueClient::builder,
+            Arrays.<Function<GlueClient, ?>>asList(
+                glue -> glue.getRegistry(GET_REGISTRY_REQUEST),
+                glue -> {
+                    throw new IllegalStateException("warm-up failure");
+                }));
+
+        final GlueWarmUp.Result result = warmUp.run();
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.summary()).startsWith("GlueWarmUp calls=2 failed=1 ms=");
+    }
+
+    @Test
+    public void cannedResponseHttpClient_AnswersByOperation() {
+        try (GlueClient glue = GlueClient.builder()
+            .httpClient(new CannedResponseHttpClient(operation -> "GetRegistry".equals(operation)
+                ? "{\"RegistryName\":\"unit-test-registry\",\"Status\":\"AVAILABLE\"}"
+                : null))
+            .region(Region.US_EAST_1)
+            .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKey", "secretKey")))
+            .build()) {
+
+            final GetRegistryResponse response = glue.getRegistry(GET_REGISTRY_REQUEST);
+
+            assertThat(response.registryName()).isEqualTo("unit-test-registry");
+            assertThat(response.statusAsString()).isEqualTo("AVAILABLE");
+            assertThat(glue.listRegistries(ListRegistriesRequest.builder().build()).registries()).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class HandlerLogTest {
+
+    private final List<String> lines = new ArrayList<>();
+
+    @Test
+    public void info_WritesTextWithFields() {
+        final HandlerLog log = new HandlerLog(lines::add, HandlerLog.Level.INFO, HandlerLog.Format.TEXT, 64);
+        log.info("Successfully created", "Type", "AWS::Glue::Registry", "Id", "unit-test-registry");
+        log.warn("Retrying");
+
+        assertThat(lines).containsExactly(
+            "Successfully created [Type: AWS::Glue::Registry, Id: unit-test-registry]",
+            "[WARN] Retrying");
+    }
+
+    @Test
+    public void debug_BelowLevel_DoesNotComputeSuppliedValues() {
+        final HandlerLog log = new HandlerLog(lines::add, HandlerLog.Level.INFO, HandlerLog.Format.TEXT, 64);
+        final Supplier<String> expensive = () -> {
+            throw new AssertionError("computed a value that is not logged");
+        };
+        log.debug("Polled", "Status", expensive);
+        log.log(HandlerLog.Level.DEBUG, expensive);
+
+        assertThat(lines).isEmpty();
+    }
+
+    @Test
+    public void info_TruncatesLargeValues() {
+        final HandlerLog log = new HandlerLog(lines::add, HandlerLog.Level.INFO, HandlerLog.Format.TEXT, 16);
+        final Map<String, String> arguments = new TreeMap<>();
+        for (int i = 0; i < 100; i++) {
+            arguments.put("--key" + i, "value" + i);
+        }
+        final StringBuilder definition = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            definition.append('x');
+        }
+        log.info("Large", "Arguments", arguments, "SchemaDefinition", definition);
+
+        assertThat(lines).containsExactly(
+            "Large [Arguments: {--key0=value0, ...(100 entries)}, "
+                + "SchemaDefinition: xxxxxxxxxxxxxxxx...(100 chars)]");
+    }
+
+    @Test
+    public void info_KeyValueFormat_QuotesAndEscapesValues() {
+        final HandlerLog log = new HandlerLog(lines::add, HandlerLog.Level.INFO, HandlerLog.Format.KEY_VALUE, 64);
+        log.info("Successfully read", "Id", "unit-test-registry", "Description", "line one\n\"two\"", "Empty", "");
+
+        assertThat(lines).containsExactly(
+            "level=INFO msg=\"Successfully read\" Id=unit-test-registry "
+                + "Description=\"line one\\n\\\"two\\\"\" Empty=\"\"");
+    }
+
+    @Test
+    public void info_WithUnpairedField_Throws() {
+        final HandlerLog log = new HandlerLog(lines::add, HandlerLog.Level.INFO, HandlerLog.Format.TEXT, 64);
+
+        assertThrows(IllegalArgumentException.class, () -> log.info("Unpaired", "Id"));
+    }
+}
@@ -0,0 +1,126 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ListPaginatorTest {
+
+    private static final long PAGE_LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private long now;
+    private List<String> requestedTokens;
+
+    @BeforeEach
+    public void setup() {
+        now = 0L;
+        requestedTokens = new ArrayList<>();
+    }
+
+    @Test
+    public void list_FetchesSinglePageWhenDrainingDisabled() {
+        final ListPaginator.Page<String> page = paginator(false, Long.MAX_VALUE, Long.MAX_VALUE)
+            .list("t0", this::fetch, p -> p.items.stream(), p -> p.nextToken, String::length);
+
+        assertThat(page.getModels()).containsExactly("a0", "b0");
+        assertThat(page.getNextToken()).isEqualTo("t1");
+        assertThat(page.getStopReason()).isEqualTo(ListPaginator.StopReason.SINGLE_PAGE);
+        assertThat(requestedTokens).containsExactly("t0");
+    }
+
+    @Test
+    public void list_DrainsUntilExhausted() {
+        final ListPaginator.Page<String> page = paginator(true, Long.MAX_VALUE, Long.MAX_VALUE)
+            .list(null, this::fetch, p -> p.items.stream(), p -> p.nextToken, String::length);
+
+        assertThat(page.getModels()).containsExactly("a", "b", "a1", "b1", "a2", "b2", "a3", "b3", "a4", "b4");
+        assertThat(page.getNextToken()).isNull();
+        assertThat(page.getPages()).isEqualTo(5);
+        assertThat(page.getBytes()).isEqualTo(18L);
+        assertThat(page.getStopReason()).isEqualTo(ListPaginator.StopReason.EXHAUSTED);
+    }
+
+    @Test
+    public void list_StopsBeforeNextPageWouldOverrunTimeBudget() {
+        // 100ms per page, the third page is expected to end at 300ms
+        final ListPaginator.Page<String> page = paginator(true, TimeUnit.MILLISECONDS.toNanos(250), Long.MAX_VALUE)
+            .list(null, this::fetch, p -> p.items.stream(), p -> p.nextToken, String::length);
+
+        assertThat(page.getPages()).isEqualTo(2);
+        assertThat(page.getNextToken()).isEqualTo("t2");
+        assertThat(page.getElapsedMillis()).isEqualTo(200L);
+        assertThat(page.getStopReason()).isEqualTo(ListPaginator.StopReason.TIME_BUDGET);
+    }
+
+    @Test
+    public void list_StopsBeforeNextPageWouldOverrunByteBudget() {
+        final ListPaginator.Page<String> page = paginator(true, Long.MAX_VALUE, 8L)
+            .list(null, this::fetch, p -> p.items.stream(), p -> p.nextToken, String::length);
+
+        assertThat(page.getModels()).containsExactly("a", "b", "a1", "b1");
+        assertThat(page.getNextToken()).isEqualTo("t2");
+        assertThat(page.getStopReason()).isEqualTo(ListPaginator.StopReason.BYTE_BUDGET);
+    }
+
+    @Test
+    public void list_PropagatesFailureOfFirstPage() {
+        assertThrows(IllegalStateException.class, () -> paginator(true, Long.MAX_VALUE, Long.MAX_VALUE)
+            .list(null, failingAt("t0"), p -> p.items.stream(), p -> p.nextToken, String::length));
+        assertThrows(IllegalStateException.class, () -> paginator(true, Long.MAX_VALUE, Long.MAX_VALUE)
+            .list("t0", failingAt("t0"), p -> p.items.stream(), p -> p.nextToken, String::length));
+    }
+
+    @Test
+    public void list_ReturnsPartialResultWithFailedTokenWhenLaterPageFails() {
+        final ListPaginator.Page<String> page = paginator(true, Long.MAX_VALUE, Long.MAX_VALUE)
+            .list(null, failingAt("t3"), p -> p.items.stream(), p -> p.nextToken, String::length);
+
+        assertThat(page.getModels()).containsExactly("a", "b", "a1", "b1", "a2", "b2");
+        assertThat(page.getNextToken()).isEqualTo("t3");
+        assertThat(page.getStopReason()).isEqualTo(ListPaginator.StopReason.PAGE_FAILED);
+    }
+
+    private ListPaginator paginator(final boolean drainEnabled, final long timeBudgetNanos, final long maxBytes) {
+        return new ListPaginator(drainEnabled, timeBudgetNanos, maxBytes, () -> now);
+    }
+
+    /**
+     * Five pages of two items, page n is requested with token "tn" and the first page with no token.
+     */
+    private FakePage fetch(final String token) {
+        requestedTokens.add(token);
+        now += PAGE_LATENCY_NANOS;
+        final int index = token == null ? 0 : Integer.parseInt(token.substring(1));
+        final String suffix = token == null ? "" : String.valueOf(index);
+        return new FakePage(
+            Arrays.asList("a" + suffix, "b" + suffix),
+            index < 4 ? "t" + (index + 1) : null);
+    }
+
+    private Function<String, FakePage> failingAt(final String failingToken) {
+        return token -> {
+            if (failingToken.equals(token) || (token == null && "t0".equals(failingToken))) {
+                throw new IllegalStateException("InternalServiceException");
+            }
+            return fetch(token);
+        };
+    }
+
+    private static final class FakePage {
+        private final List<String> items;
+        private final String nextToken;
+
+        private FakePage(final List<String> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SchemaNormalizerTest {
+
+    private static final String AVRO_SCHEMA =
+        "{\"type\":\"record\",\"name\":\"Order\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"string\"},"
+            + "{\"name\":\"total\",\"type\":\"double\",\"default\":0.0}]}";
+
+    @Test
+    public void canonicalize_Avro_SortsMembersAndDropsWhitespace() {
+        final String reformatted = "{\n"
+            + "  \"fields\" : [\n"
+            + "    { \"type\" : \"string\", \"name\" : \"id\" },\n"
+            + "    { \"default\" : 0e0, \"name\" : \"total\", \"type\" : \"double\" }\n"
+            + "  ],\n"
+            + "  \"name\" : \"Order\",\n"
+            + "  \"type\" : \"record\"\n"
+            + "}\n";
+
+        assertThat(SchemaNormalizer.canonicalize("AVRO", reformatted))
+            .isEqualTo(SchemaNormalizer.canonicalize("AVRO", AVRO_SCHEMA))
+            .isEqualTo("{\"fields\":[{\"name\":\"id\",\"type\":\"string\"},"
+                + "{\"default\":0,\"name\":\"total\",\"type\":\"double\"}],\"name\":\"Order\",\"type\":\"record\"}");
+    }
+
+    @Test
+    public void canonicalize_Avro_KeepsFieldOrder() {
+        final String swapped =
+            "{\"type\":\"record\",\"name\":\"Order\",\"fields\":["
+                + "{\"name\":\"total\",\"type\":\"double\",\"default\":0.0},"
+                + "{\"name\":\"id\",\"type\":\"string\"}]}";
+
+        assertThat(SchemaNormalizer.fingerprint("AVRO", swapped))
+            .isNotEqualTo(SchemaNormalizer.fingerprint("AVRO", AVRO_SCHEMA));
+    }
+
+    @Test
+    public void canonicalize_Json_NormalizesStringsAndNumbers() {
+        assertThat(SchemaNormalizer.canonicalize("JSON", "{\"a\\u0062\" : \"\\/\\u00e9\\t\", \"n\" : [1.50, 1E2, -0, 1e-30]}"))
+            .isEqualTo("{\"ab\":\"/\u00e9\\t\",\"n\":[1.5,100,0,1E-30]}");
+    }
+
+    @Test
+    public void canonicalize_Protobuf_DropsCommentsAndWhitespace() {
+        final String definition = "syntax = \"proto3\";\n"
+            + "// Orders placed in the store\n"
+            + "message Order {\n"
+            + "  string id = 1; /* UUID */\n"
+            + "  double total = 2 [json_name = \"total // amount\"];\n"
+            + "}\n";
+
+        assertThat(SchemaNormalizer.canonicalize("PROTOBUF", definition))
+            .isEqualTo("syntax=\"proto3\";message Order{string id=1;double total=2[json_name=\"total // amount\"];}");
+    }
+
+    @Test
+    public void canonicalize_WithoutDataFormat_DetectsFormat() {
+        assertThat(SchemaNormalizer.canonicalize(null, "  \"string\" ")).isEqualTo("\"string\"");
+        assertThat(SchemaNormalizer.canonicalize(null, "message A {}")).isEqualTo("message A{}");
+    }
+
+    @Test
+    public void canonicalize_MalformedJson_Throws() {
+        for (final String definition : new String[] {"{", "{\"a\" 1}", "[1,]", "01", "{\"a\":1} {}", "\"\\x\""}) {
+            assertThrows(IllegalArgumentException.class, () -> SchemaNormalizer.canonicalize("AVRO", definition));
+        }
+    }
+
+    @Test
+    public void fingerprint_MalformedDefinition_UsesDefinitionAsIs() {
+        assertThat(SchemaNormalizer.fingerprint("AVRO", "{\"a\":"))
+            .hasSize(64)
+            .isNotEqualTo(SchemaNormalizer.fingerprint("AVRO", "{\"a\": "));
+    }
+}
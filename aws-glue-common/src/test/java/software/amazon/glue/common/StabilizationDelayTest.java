@@ -0,0 +1,171 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.cloudformation.proxy.Delay;
+import software.amazon.cloudformation.proxy.delay.Constant;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.DoubleSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.assertj.core.api.Assertions.withinPercentage;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class StabilizationDelayTest {
+
+    private static final long POLL_LATENCY_MILLIS = 50L;
+
+    private static final int SIMULATED_STABILIZATIONS = 5000;
+
+    @Test
+    public void nextDelay_GrowsExponentiallyUpToCap() {
+        final StabilizationDelay delay = fixedJitter(1.0);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofMillis(500));
+        assertThat(delay.nextDelay(2)).isEqualTo(Duration.ofMillis(1000));
+        assertThat(delay.nextDelay(3)).isEqualTo(Duration.ofMillis(2000));
+        assertThat(delay.nextDelay(4)).isEqualTo(Duration.ofMillis(4000));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofMillis(8000));
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ofMillis(8000));
+    }
+
+    @Test
+    public void nextDelay_FullJitterIsBoundedByFloor() {
+        final StabilizationDelay delay = fixedJitter(0.0);
+
+        assertThat(delay.nextDelay(1)).isEqualTo(Duration.ofMillis(250));
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofMillis(250));
+        assertThat(fixedJitter(0.5).nextDelay(5)).isEqualTo(Duration.ofMillis(4125));
+    }
+
+    @Test
+    public void nextDelay_ReturnsZeroOnceTimeoutBoundIsExceeded() {
+        final StabilizationDelay delay = StabilizationDelay.of()
+            .timeout(Duration.ofSeconds(10L))
+            .random(() -> 1.0)
+            .build();
+
+        // Mean delays 0.375 + 0.625 + 1.125 + 2.125 + 4.125 = 8.375s, the next mean of 4.125s exceeds the 10s timeout
+        assertThat(delay.nextDelay(5)).isEqualTo(Duration.ofMillis(8000));
+        assertThat(delay.nextDelay(6)).isEqualTo(Duration.ZERO);
+        assertThat(delay.nextDelay(Integer.MAX_VALUE)).isEqualTo(Duration.ZERO);
+    }
+
+    @Test
+    public void build_RejectsInvalidBounds() {
+        assertThrows(IllegalArgumentException.class, () -> StabilizationDelay.of()
+            .baseDelay(Duration.ofSeconds(10L))
+            .maxDelay(Duration.ofSeconds(1L))
+            .build());
+        assertThrows(IllegalArgumentException.class, () -> StabilizationDelay.of()
+            .timeout(Duration.ZERO)
+            .build());
+    }
+
+    /**
+     * Simulates deletions against a backend where the resource disappears after a random delay and checks the
+     * time-to-stabilize percentiles and poll counts of the previous constant policy and the jittered policy.
+     * Against lognormal deletion times centred on 1.5s the jittered policy polls about twice as often as the
+     * constant one for a slightly slower median, the price of its faster first polls.
+     */
+    @Test
+    public void simulate_TimeToStabilizeAgainstSimulatedBackend() {
+        final Random random = new Random(42L);
+        final Delay constant = Constant.of()
+            .timeout(Duration.ofSeconds(120L))
+            .delay(Duration.ofSeconds(2L))
+            .build();
+        final Delay jittered = StabilizationDelay.of()
+            .random(random::nextDouble)
+            .build();
+
+        final SimulationResult constantShort = simulate(constant, () -> 200 + random.nextDouble() * 800);
+        final SimulationResult jitteredShort = simulate(jittered, () -> 200 + random.nextDouble() * 800);
+        final SimulationResult constantTypical = simulate(constant, () -> logNormal(random, 1500, 0.9));
+        final SimulationResult jitteredTypical = simulate(jittered, () -> logNormal(random, 1500, 0.9));
+        final SimulationResult constantLong = simulate(constant, () -> 20000 + random.nextDouble() * 40000);
+        final SimulationResult jitteredLong = simulate(jittered, () -> 20000 + random.nextDouble() * 40000);
+
+        // A constant 2s delay always polls once for quick deletions and every 2.05s for long ones
+        assertResult(constantShort, 2050L, 2050L, 1.00);
+        assertResult(constantTypical, 2050L, 12300L, 1.62);
+        assertResult(constantLong, 41000L, 61500L, 19.99);
+        assertResult(jitteredShort, 1027L, 2648L, 1.80);
+        assertResult(jitteredTypical, 2403L, 14513L, 3.09);
+        assertResult(jitteredLong, 42761L, 64053L, 13.21);
+
+        // Fast first polls pay off for quick deletions, the cap keeps long deletions from hammering Glue
+        assertThat(jitteredShort.p50).isLessThan(constantShort.p50);
+        assertThat(jitteredLong.meanPolls).isLessThan(constantLong.meanPolls);
+        assertThat(constantLong.timeouts).isZero();
+        assertThat(jitteredLong.timeouts).isZero();
+    }
+
+    private static StabilizationDelay fixedJitter(final double value) {
+        return StabilizationDelay.of()
+            .random(() -> value)
+            .build();
+    }
+
+    private static double logNormal(final Random random, final double medianMillis, final double sigma) {
+        return Math.exp(Math.log(medianMillis) + sigma * random.nextGaussian());
+    }
+
+    private static SimulationResult simulate(final Delay delay, final DoubleSupplier stableAfterMillis) {
+        final long[] timesToStabilize = new long[SIMULATED_STABILIZATIONS];
+        long polls = 0L;
+        int timeouts = 0;
+        for (int i = 0; i < SIMULATED_STABILIZATIONS; i++) {
+            final double stableAt = stableAfterMillis.getAsDouble();
+            long elapsed = 0L;
+            int attempt = 1;
+            while (true) {
+                final Duration next = delay.nextDelay(attempt++);
+                if (next.isZero()) {
+                    timeouts++;
+                    break;
+                }
+                elapsed += next.toMillis() + POLL_LATENCY_MILLIS;
+                polls++;
+                if (elapsed >= stableAt) {
+                    break;
+                }
+            }
+            timesToStabilize[i] = elapsed;
+        }
+        Arrays.sort(timesToStabilize);
+        return new SimulationResult(
+            timesToStabilize[SIMULATED_STABILIZATIONS / 2],
+            timesToStabilize[(int) (SIMULATED_STABILIZATIONS * 0.99)],
+            (double) polls / SIMULATED_STABILIZATIONS,
+            timeouts);
+    }
+
+    /**
+     * The simulation is seeded, percentiles are allowed 2% and the mean poll count 0.05 polls of slack so that
+     * rounding changes in the policy do not fail the test.
+     */
+    private static void assertResult(final SimulationResult result, final long p50, final long p99,
+                                     final double meanPolls) {
+        assertThat(result.p50).isCloseTo(p50, withinPercentage(2));
+        assertThat(result.p99).isCloseTo(p99, withinPercentage(2));
+        assertThat(result.meanPolls).isCloseTo(meanPolls, within(0.05));
+    }
+
+    private static final class SimulationResult {
+        private final long p50;
+        private final long p99;
+        private final double meanPolls;
+        private final int timeouts;
+
+        private SimulationResult(final long p50, final long p99, final double meanPolls, final int timeouts) {
+            this.p50 = p50;
+            this.p99 = p99;
+            this.meanPolls = meanPolls;
+            this.timeouts = timeouts;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package software.amazon.glue.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TagReconcilerTest {
+
+    @Test
+    public void reconcile_ComputesMinimalDiff() {
+        final Map<String, String> current = new HashMap<>();
+        current.put("kept", "value");
+        current.put("changed", "old");
+        current.put("removed", "value");
+        final Map<String, String> desired = new HashMap<>();
+        desired.put("kept", "value");
+        desired.put("changed", "new");
+        desired.put("added", "value");
+
+        final TagReconciler.Plan plan = TagReconciler.reconcile(current, desired);
+
+        assertThat(plan.getTagsToAdd()).containsOnly(entry("changed", "new"), entry("added", "value"));
+        assertThat(plan.getTagsToRemove()).containsOnlyKeys("removed");
+        assertThat(plan.isEmpty()).isFalse();
+    }
+
+    @Test
+    public void reconcile_RemovesAllTagsWhenNoneDesired() {
+        final TagReconciler.Plan plan = TagReconciler.reconcile(Collections.singletonMap("key", "value"), null);
+
+        assertThat(plan.getTagsToAdd()).isEmpty();
+        assertThat(plan.getTagsToRemove()).containsOnlyKeys("key");
+    }
+
+    @Test
+    public void reconcile_KeepsSystemTags() {
+        final Map<String, String> current = new HashMap<>();
+        current.put("aws:cloudformation:stack-name", "stack");
+        current.put("team", "platform");
+
+        final TagReconciler.Plan plan = TagReconciler.reconcile(current, Collections.singletonMap("team", "platform"));
+
+        assertThat(plan.isEmpty()).isTrue();
+    }
+
+    @Test
+    public void tagsToAddInBatches_SplitsAtPerCallLimit() {
+        final Map<String, String> desired = new HashMap<>();
+        for (int i = 0; i < 2 * TagReconciler.MAX_TAGS_PER_CALL + 1; i++) {
+            desired.put("key-" + i, "value");
+        }
+
+        final List<Map<String, String>> batches = TagReconciler.reconcile(null, desired).tagsToAddInBatches();
+
+        assertThat(batches).hasSize(3);
+        assertThat(batches.get(0)).hasSize(TagReconciler.MAX_TAGS_PER_CALL);
+        assertThat(batches.get(2)).hasSize(1);
+        assertThat(TagReconciler.reconcile(null, null).tagsToRemoveInBatches()).isEmpty();
+    }
+
+    private static Map.Entry<String, String> entry(final String key, final String value) {
+        return new AbstractMap.SimpleImmutableEntry<>(key, value);
+    }
+}
@@ -0,0 +1,150 @@
+package software.amazon.glue.emulator;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cold start of a handler jar with and without its AppCDS archive. Each run is a fresh JVM that executes
+ * a training main, which drives the handlers against a {@link GlueEmulator} and prints a line such as
+ * {@code ColdStart firstResponseMillis=412 totalMillis=655}, both measured from JVM start. The harness adds the wall
+ * clock time of the whole process and reports the median and 90th percentile of each for both variants.
+ *
+ * <p>Runs alternate between the variants so that background noise on the machine affects both alike. Runs with the
+ * archive use {@code -Xshare:on}, so an archive the JVM cannot map fails the run instead of silently measuring a start
+ * without it. Runs without it keep the default CDS archive of the JDK, so the difference is what the application
+ * archive adds. The children run on the JVM running the harness, which must be the one that dumped the archive.
+ *
+ * <pre>
+ * java -cp ... software.amazon.glue.emulator.ColdStartHarness &lt;jar&gt; &lt;archive&gt; &lt;training main&gt; [runs]
+ * </pre>
+ *
+ * The child classpath is the jar followed by the classpath of the harness: an archive only applies when the classpath
+ * it was dumped with is a prefix of the runtime one.
+ */
+public final class ColdStartHarness {
+
+    static final String RESULT_PREFIX = "ColdStart ";
+
+    private static final int DEFAULT_RUNS = 10;
+    private static final long RUN_TIMEOUT_MINUTES = 5;
+
+    private static final String PROCESS = "processMillis";
+    private static final String FIRST_RESPONSE = "firstResponseMillis";
+    private static final String TOTAL = "totalMillis";
+    private static final List<String> METRICS = Arrays.asList(PROCESS, FIRST_RESPONSE, TOTAL);
+
+    private ColdStartHarness() {
+    }
+
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        if (args.length < 3) {
+            System.err.println("Usage: ColdStartHarness <jar> <archive> <training main> [runs]");
+            System.exit(2);
+        }
+        final File jar = new File(args[0]);
+        final File archive = new File(args[1]);
+        final String trainingMain = args[2];
+        final int runs = args.length > 3 ? Integer.parseInt(args[3]) : DEFAULT_RUNS;
+        if (!jar.isFile() || !archive.isFile()) {
+            System.err.println("ColdStartHarness needs both " + jar + " and " + archive + ", build with -Pcds");
+            System.exit(2);
+        }
+
+        final String classpath = jar.getAbsolutePath() + File.pathSeparator + System.getProperty("java.class.path");
+        final List<Map<String, Long>> withoutArchive = new ArrayList<>();
+        final List<Map<String, Long>> withArchive = new ArrayList<>();
+        for (int i = 0; i < runs; i++) {
+            // Alternate which variant goes first, so neither always runs right after the other
+            final boolean archiveFirst = i % 2 == 1;
+            for (final boolean useArchive : new boolean[] {archiveFirst, !archiveFirst}) {
+                final List<String> command = new ArrayList<>();
+                command.add(new File(System.getProperty("java.home"), "bin" + File.separator + "java").getPath());
+                if (useArchive) {
+                    command.add("-Xshare:on");
+                    command.add("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+                }
+                command.add("-cp");
+                command.add(classpath);
+                command.add(trainingMain);
+                (useArchive ? withArchive : withoutArchive).add(run(command));
+            }
+        }
+
+        System.out.println(String.format("Cold start of %s, %d runs each, median / p90 in ms", jar.getName(), runs));
+        for (final String metric : METRICS) {
+            System.out.println(String.format("  %-20s without archive %6d / %6d    with archive %6d / %6d",
+                metric,
+                percentile(withoutArchive, metric, 50), percentile(withoutArchive, metric, 90),
+                percentile(withArchive, metric, 50), percentile(withArchive, metric, 90)));
+        }
+    }
+
+    private static Map<String, Long> run(final List<String> command) throws IOException, InterruptedException {
+        final long start = System.nanoTime();
+        final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        final List<String> output = new ArrayList<>();
+        String result = null;
+        try (BufferedReader reader = new BufferedReader(
+            new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                output.add(line);
+                if (line.startsWith(RESULT_PREFIX)) {
+                    result = line;
+                }
+            }
+        }
+        if (!process.waitFor(RUN_TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+            process.destroyForcibly();
+            throw new IllegalStateException("Cold start run did not finish: " + String.join(" ", command));
+        }
+        final long processMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        if (process.exitValue() != 0 || result == null) {
+            output.forEach(System.err::println);
+            throw new IllegalStateException("Cold start run failed with exit code " + process.exitValue() + ": "
+                + String.join(" ", command));
+        }
+
+        final Map<String, Long> metrics = parse(result);
+        metrics.put(PROCESS, processMillis);
+        return metrics;
+    }
+
+    static Map<String, Long> parse(final String result) {
+        final Map<String, Long> metrics = new HashMap<>();
+        for (final String field : result.substring(RESULT_PREFIX.length()).trim().split("\\s+")) {
+            final int separator = field.indexOf('=');
+            if (separator > 0) {
+                metrics.put(field.substring(0, separator), Long.parseLong(field.substring(separator + 1)));
+            }
+        }
+        return metrics;
+    }
+
+    static long percentile(final List<Map<String, Long>> runs, final String metric, final int percentile) {
+        final List<Long> values = new ArrayList<>();
+        for (final Map<String, Long> run : runs) {
+            final Long value = run.get(metric);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        if (values.isEmpty()) {
+            return -1;
+        }
+        Collections.sort(values);
+        // Nearest rank: the smallest value with at least the given percentage of the values at or below it
+        final int rank = (int) Math.ceil(percentile / 100.0 * values.size());
+        return values.get(Math.max(rank, 1) - 1);
+    }
+}
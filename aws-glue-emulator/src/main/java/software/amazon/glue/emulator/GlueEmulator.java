@@ -0,0 +1,1074 @@
+package software.amazon.glue.emulator;
+
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
+import software.amazon.awssdk.services.glue.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.glue.model.CreateJobRequest;
+import software.amazon.awssdk.services.glue.model.CreateJobResponse;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateRegistryResponse;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
+import software.amazon.awssdk.services.glue.model.DeleteJobRequest;
+import software.amazon.awssdk.services.glue.model.DeleteJobResponse;
+import software.amazon.awssdk.services.glue.model.DeleteRegistryRequest;
+import software.amazon.awssdk.services.glue.model.DeleteRegistryResponse;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaResponse;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.ErrorDetails;
+import software.amazon.awssdk.services.glue.model.GetJobRequest;
+import software.amazon.awssdk.services.glue.model.GetJobResponse;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsResponse;
+import software.amazon.awssdk.services.glue.model.GlueException;
+import software.amazon.awssdk.services.glue.model.InternalServiceException;
+import software.amazon.awssdk.services.glue.model.InvalidInputException;
+import software.amazon.awssdk.services.glue.model.Job;
+import software.amazon.awssdk.services.glue.model.JobUpdate;
+import software.amazon.awssdk.services.glue.model.ListJobsRequest;
+import software.amazon.awssdk.services.glue.model.ListJobsResponse;
+import software.amazon.awssdk.services.glue.model.ListRegistriesRequest;
+import software.amazon.awssdk.services.glue.model.ListRegistriesResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
+import software.amazon.awssdk.services.glue.model.MetadataInfo;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
+import software.amazon.awssdk.services.glue.model.OtherMetadataValueListItem;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.RegistryListItem;
+import software.amazon.awssdk.services.glue.model.RegistryStatus;
+import software.amazon.awssdk.services.glue.model.RemoveSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.RemoveSchemaVersionMetadataResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaListItem;
+import software.amazon.awssdk.services.glue.model.SchemaStatus;
+import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.TagResourceResponse;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceResponse;
+import software.amazon.awssdk.services.glue.model.UpdateJobRequest;
+import software.amazon.awssdk.services.glue.model.UpdateJobResponse;
+import software.amazon.awssdk.services.glue.model.UpdateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.UpdateRegistryResponse;
+import software.amazon.awssdk.services.glue.model.UpdateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.UpdateSchemaResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Stateful in-memory stand-in for the subset of {@link GlueClient} the handlers call, for offline load and latency
+ * testing.
+ *
+ * <p>Writes are visible to the next read. Schema versions are AVAILABLE as soon as they are registered unless a
+ * {@link #registrationDelay(Duration) registration delay} is set, in which case they report PENDING until it has
+ * passed. Failures are raised as the same modeled exceptions the service returns, with the error code set, so both
+ * the instanceof and the error-code based translators in the handlers apply.
+ *
+ * <p>Latency, throttling and service errors can be injected per operation, named as in the Glue API (for example
+ * {@code "GetSchemaVersion"}), or for {@link #ALL_OPERATIONS}. Injected latency is spent outside the emulator's
+ * lock, so concurrent callers overlap the way they would against the service.
+ */
+public class GlueEmulator implements GlueClient {
+
+    public static final String DEFAULT_REGISTRY = "default-registry";
+    public static final String ALL_OPERATIONS = "*";
+
+    private static final int DEFAULT_PAGE_SIZE = 25;
+
+    private final String region;
+    private final String accountId;
+    private final LongSupplier nanoTime;
+
+    private final ConcurrentMap<String, Faults> faults = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> calls = new ConcurrentHashMap<>();
+    private volatile long registrationDelayNanos;
+
+    private final Map<String, Job> jobs = new TreeMap<>();
+    private final Map<String, Map<String, String>> tags = new HashMap<>();
+    private final Map<String, RegistryEntry> registries = new TreeMap<>();
+    private final Map<String, SchemaEntry> schemas = new TreeMap<>();
+    private final Map<String, VersionEntry> versions = new HashMap<>();
+
+    public GlueEmulator(final String region, final String accountId) {
+        this(region, accountId, System::nanoTime);
+    }
+
+    GlueEmulator(final String region, final String accountId, final LongSupplier nanoTime) {
+        this.region = region;
+        this.accountId = accountId;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Adds a fixed latency plus a uniformly distributed jitter of up to {@code jitter} to every call of the
+     * operation.
+     */
+    public GlueEmulator latency(final String operation, final Duration latency, final Duration jitter) {
+        faults.merge(operation, Faults.NONE.latency(latency.toNanos(), jitter.toNanos()),
+            (current, update) -> current.latency(update.latencyNanos, update.jitterNanos));
+        return this;
+    }
+
+    /**
+     * Fails the given fraction of calls of the operation with a ThrottlingException, before they reach any state.
+     */
+    public GlueEmulator throttlingRate(final String operation, final double rate) {
+        faults.merge(operation, Faults.NONE.throttlingRate(rate),
+            (current, update) -> current.throttlingRate(update.throttlingRate));
+        return this;
+    }
+
+    /**
+     * Fails the given fraction of calls of the operation with an InternalServiceException, before they reach any
+     * state.
+     */
+    public GlueEmulator errorRate(final String operation, final double rate) {
+        faults.merge(operation, Faults.NONE.errorRate(rate),
+            (current, update) -> current.errorRate(update.errorRate));
+        return this;
+    }
+
+    /**
+     * Keeps newly registered schema versions PENDING for the given time before they become AVAILABLE.
+     */
+    public GlueEmulator registrationDelay(final Duration delay) {
+        registrationDelayNanos = delay.toNanos();
+        return this;
+    }
+
+    /**
+     * Removes all injected latency, throttling and errors and the registration delay.
+     */
+    public GlueEmulator clearFaults() {
+        faults.clear();
+        registrationDelayNanos = 0L;
+        return this;
+    }
+
+    /**
+     * Number of calls of the operation since creation or the last {@link #resetCallCounts()}, including calls that
+     * failed.
+     */
+    public long callCount(final String operation) {
+        final LongAdder count = calls.get(operation);
+        return count == null ? 0L : count.sum();
+    }
+
+    public Map<String, Long> callCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        calls.forEach((operation, count) -> counts.put(operation, count.sum()));
+        return counts;
+    }
+
+    public void resetCallCounts() {
+        calls.clear();
+    }
+
+    /**
+     * Drops all state, for reuse across benchmark iterations. Injected faults and call counts are kept.
+     */
+    public synchronized void reset() {
+        jobs.clear();
+        tags.clear();
+        registries.clear();
+        schemas.clear();
+        versions.clear();
+    }
+
+    public String jobArn(final String jobName) {
+        return arn("job/" + jobName);
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    // Jobs
+
+    @Override
+    public CreateJobResponse createJob(final CreateJobRequest request) {
+        return invoke("CreateJob", () -> {
+            if (jobs.containsKey(request.name())) {
+                throw error(AlreadyExistsException.builder(), "AlreadyExistsException",
+                    "Job " + request.name() + " already exists.");
+            }
+            final Instant now = Instant.now();
+            jobs.put(request.name(), Job.builder()
+                .name(request.name())
+                .description(request.description())
+                .logUri(request.logUri())
+                .role(request.role())
+                .createdOn(now)
+                .lastModifiedOn(now)
+                .executionProperty(request.executionProperty())
+                .command(request.command())
+                .defaultArguments(request.defaultArguments())
+                .nonOverridableArguments(request.nonOverridableArguments())
+                .connections(request.connections())
+                .maxRetries(request.maxRetries())
+                .allocatedCapacity(request.allocatedCapacity())
+                .timeout(request.timeout())
+                .maxCapacity(request.maxCapacity())
+                .workerType(request.workerTypeAsString())
+                .numberOfWorkers(request.numberOfWorkers())
+                .securityConfiguration(request.securityConfiguration())
+                .notificationProperty(request.notificationProperty())
+                .glueVersion(request.glueVersion())
+                .executionClass(request.executionClassAsString())
+                .maintenanceWindow(request.maintenanceWindow())
+                .build());
+            if (request.hasTags()) {
+                tags.put(jobArn(request.name()), new HashMap<>(request.tags()));
+            }
+            return CreateJobResponse.builder().name(request.name()).build();
+        });
+    }
+
+    @Override
+    public GetJobResponse getJob(final GetJobRequest request) {
+        return invoke("GetJob", () ->
+            GetJobResponse.builder().job(job(request.jobName())).build());
+    }
+
+    @Override
+    public UpdateJobResponse updateJob(final UpdateJobRequest request) {
+        return invoke("UpdateJob", () -> {
+            final Job current = job(request.jobName());
+            final JobUpdate update = request.jobUpdate();
+            // UpdateJob replaces the definition, fields left out of the update are reset
+            jobs.put(current.name(), Job.builder()
+                .name(current.name())
+                .createdOn(current.createdOn())
+                .lastModifiedOn(Instant.now())
+                .description(update.description())
+                .logUri(update.logUri())
+                .role(update.role())
+                .executionProperty(update.executionProperty())
+                .command(update.command())
+                .defaultArguments(update.defaultArguments())
+                .nonOverridableArguments(update.nonOverridableArguments())
+                .connections(update.connections())
+                .maxRetries(update.maxRetries())
+                .allocatedCapacity(update.allocatedCapacity())
+                .timeout(update.timeout())
+                .maxCapacity(update.maxCapacity())
+                .workerType(update.workerTypeAsString())
+                .numberOfWorkers(update.numberOfWorkers())
+                .securityConfiguration(update.securityConfiguration())
+                .notificationProperty(update.notificationProperty())
+                .glueVersion(update.glueVersion())
+                .executionClass(update.executionClassAsString())
+                .maintenanceWindow(update.maintenanceWindow())
+                .build());
+            return UpdateJobResponse.builder().jobName(current.name()).build();
+        });
+    }
+
+    @Override
+    public DeleteJobResponse deleteJob(final DeleteJobRequest request) {
+        return invoke("DeleteJob", () -> {
+            // DeleteJob succeeds for jobs that do not exist
+            jobs.remove(request.jobName());
+            tags.remove(jobArn(request.jobName()));
+            return DeleteJobResponse.builder().jobName(request.jobName()).build();
+        });
+    }
+
+    @Override
+    public ListJobsResponse listJobs(final ListJobsRequest request) {
+        return invoke("ListJobs", () -> {
+            final Slice<String> slice = Slice.of(new ArrayList<>(jobs.keySet()), request.nextToken(), request.maxResults());
+            return ListJobsResponse.builder().jobNames(slice.items).nextToken(slice.nextToken).build();
+        });
+    }
+
+    @Override
+    public GetTagsResponse getTags(final GetTagsRequest request) {
+        return invoke("GetTags", () ->
+            GetTagsResponse.builder()
+                .tags(new HashMap<>(tags.getOrDefault(request.resourceArn(), Collections.emptyMap())))
+                .build());
+    }
+
+    @Override
+    public TagResourceResponse tagResource(final TagResourceRequest request) {
+        return invoke("TagResource", () -> {
+            tags.computeIfAbsent(request.resourceArn(), arn -> new HashMap<>()).putAll(request.tagsToAdd());
+            return TagResourceResponse.builder().build();
+        });
+    }
+
+    @Override
+    public UntagResourceResponse untagResource(final UntagResourceRequest request) {
+        return invoke("UntagResource", () -> {
+            final Map<String, String> resourceTags = tags.get(request.resourceArn());
+            if (resourceTags != null) {
+                request.tagsToRemove().forEach(resourceTags::remove);
+            }
+            return UntagResourceResponse.builder().build();
+        });
+    }
+
+    // Registries
+
+    @Override
+    public CreateRegistryResponse createRegistry(final CreateRegistryRequest request) {
+        return invoke("CreateRegistry", () -> {
+            final RegistryEntry registry = createRegistry(request.registryName(), request.description());
+            if (request.hasTags()) {
+                tags.put(registry.arn, new HashMap<>(request.tags()));
+            }
+            return CreateRegistryResponse.builder()
+                .registryName(registry.name)
+                .registryArn(registry.arn)
+                .description(registry.description)
+                .tags(request.tags())
+                .build();
+        });
+    }
+
+    @Override
+    public GetRegistryResponse getRegistry(final GetRegistryRequest request) {
+        return invoke("GetRegistry", () -> {
+            final RegistryEntry registry = registry(request.registryId());
+            return GetRegistryResponse.builder()
+                .registryName(registry.name)
+                .registryArn(registry.arn)
+                .description(registry.description)
+                .status(RegistryStatus.AVAILABLE)
+                .createdTime(registry.createdTime)
+                .updatedTime(registry.updatedTime)
+                .build();
+        });
+    }
+
+    @Override
+    public UpdateRegistryResponse updateRegistry(final UpdateRegistryRequest request) {
+        return invoke("UpdateRegistry", () -> {
+            final RegistryEntry registry = registry(request.registryId());
+            registry.description = request.description();
+            registry.updatedTime = Instant.now().toString();
+            return UpdateRegistryResponse.builder()
+                .registryName(registry.name)
+                .registryArn(registry.arn)
+                .build();
+        });
+    }
+
+    @Override
+    public DeleteRegistryResponse deleteRegistry(final DeleteRegistryRequest request) {
+        return invoke("DeleteRegistry", () -> {
+            final RegistryEntry registry = registry(request.registryId());
+            registries.remove(registry.name);
+            tags.remove(registry.arn);
+            new ArrayList<>(schemas.values()).stream()
+                .filter(schema -> schema.registryName.equals(registry.name))
+                .forEach(this::removeSchema);
+            return DeleteRegistryResponse.builder()
+                .registryName(registry.name)
+                .registryArn(registry.arn)
+                .status(RegistryStatus.DELETING)
+                .build();
+        });
+    }
+
+    @Override
+    public ListRegistriesResponse listRegistries(final ListRegistriesRequest request) {
+        return invoke("ListRegistries", () -> {
+            final Slice<RegistryEntry> slice =
+                Slice.of(new ArrayList<>(registries.values()), request.nextToken(), request.maxResults());
+            return ListRegistriesResponse.builder()
+                .registries(slice.items.stream()
+                    .map(registry -> RegistryListItem.builder()
+                        .registryName(registry.name)
+                        .registryArn(registry.arn)
+                        .description(registry.description)
+                        .status(RegistryStatus.AVAILABLE)
+                        .createdTime(registry.createdTime)
+                        .updatedTime(registry.updatedTime)
+                        .build())
+                    .collect(Collectors.toList()))
+                .nextToken(slice.nextToken)
+                .build();
+        });
+    }
+
+    // Schemas
+
+    @Override
+    public CreateSchemaResponse createSchema(final CreateSchemaRequest request) {
+        return invoke("CreateSchema", () -> {
+            final RegistryEntry registry = request.registryId() == null
+                ? registries.computeIfAbsent(DEFAULT_REGISTRY, name -> newRegistry(name, null))
+                : registry(request.registryId());
+            final String schemaArn = arn("schema/" + registry.name + "/" + request.schemaName());
+            if (schemas.containsKey(schemaArn)) {
+                throw error(AlreadyExistsException.builder(), "AlreadyExistsException",
+                    "Schema " + request.schemaName() + " already exists.");
+            }
+
+            final SchemaEntry schema = new SchemaEntry(registry, request.schemaName(), schemaArn);
+            schema.description = request.description();
+            schema.dataFormat = request.dataFormatAsString();
+            schema.compatibility = request.compatibility() == null ? "BACKWARD" : request.compatibilityAsString();
+            schemas.put(schemaArn, schema);
+            if (request.hasTags()) {
+                tags.put(schemaArn, new HashMap<>(request.tags()));
+            }
+
+            final VersionEntry first = request.schemaDefinition() == null
+                ? null
+                : registerVersion(schema, request.schemaDefinition());
+
+            return CreateSchemaResponse.builder()
+                .registryName(schema.registryName)
+                .registryArn(schema.registryArn)
+                .schemaName(schema.name)
+                .schemaArn(schema.arn)
+                .description(schema.description)
+                .dataFormat(schema.dataFormat)
+                .compatibility(schema.compatibility)
+                .schemaCheckpoint(schema.checkpoint)
+                .latestSchemaVersion(schema.latestVersion())
+                .nextSchemaVersion(schema.nextVersion)
+                .schemaStatus(SchemaStatus.AVAILABLE)
+                .tags(request.tags())
+                .schemaVersionId(first == null ? null : first.id)
+                .schemaVersionStatus(first == null ? null : status(first))
+                .build();
+        });
+    }
+
+    @Override
+    public GetSchemaResponse getSchema(final GetSchemaRequest request) {
+        return invoke("GetSchema", () -> {
+            final SchemaEntry schema = schema(request.schemaId());
+            return GetSchemaResponse.builder()
+                .registryName(schema.registryName)
+                .registryArn(schema.registryArn)
+                .schemaName(schema.name)
+                .schemaArn(schema.arn)
+                .description(schema.description)
+                .dataFormat(schema.dataFormat)
+                .compatibility(schema.compatibility)
+                .schemaCheckpoint(schema.checkpoint)
+                .latestSchemaVersion(schema.latestVersion())
+                .nextSchemaVersion(schema.nextVersion)
+                .schemaStatus(SchemaStatus.AVAILABLE)
+                .createdTime(schema.createdTime)
+                .updatedTime(schema.updatedTime)
+                .build();
+        });
+    }
+
+    @Override
+    public UpdateSchemaResponse updateSchema(final UpdateSchemaRequest request) {
+        return invoke("UpdateSchema", () -> {
+            final SchemaEntry schema = schema(request.schemaId());
+            if (request.schemaVersionNumber() != null) {
+                schema.checkpoint = version(schema, request.schemaVersionNumber()).number;
+            }
+            if (request.compatibility() != null) {
+                schema.compatibility = request.compatibilityAsString();
+            }
+            if (request.description() != null) {
+                schema.description = request.description();
+            }
+            schema.updatedTime = Instant.now().toString();
+            return UpdateSchemaResponse.builder()
+                .schemaArn(schema.arn)
+                .schemaName(schema.name)
+                .registryName(schema.registryName)
+                .build();
+        });
+    }
+
+    @Override
+    public DeleteSchemaResponse deleteSchema(final DeleteSchemaRequest request) {
+        return invoke("DeleteSchema", () -> {
+            final SchemaEntry schema = schema(request.schemaId());
+            removeSchema(schema);
+            return DeleteSchemaResponse.builder()
+                .schemaArn(schema.arn)
+                .schemaName(schema.name)
+                .status(SchemaStatus.DELETING)
+                .build();
+        });
+    }
+
+    @Override
+    public ListSchemasResponse listSchemas(final ListSchemasRequest request) {
+        return invoke("ListSchemas", () -> {
+            final String registryName = request.registryId() == null ? null : registry(request.registryId()).name;
+            final List<SchemaEntry> matching = schemas.values().stream()
+                .filter(schema -> registryName == null || schema.registryName.equals(registryName))
+                .collect(Collectors.toList());
+            final Slice<SchemaEntry> slice = Slice.of(matching, request.nextToken(), request.maxResults());
+            return ListSchemasResponse.builder()
+                .schemas(slice.items.stream()
+                    .map(schema -> SchemaListItem.builder()
+                        .registryName(schema.registryName)
+                        .schemaName(schema.name)
+                        .schemaArn(schema.arn)
+                        .description(schema.description)
+                        .schemaStatus(SchemaStatus.AVAILABLE)
+                        .createdTime(schema.createdTime)
+                        .updatedTime(schema.updatedTime)
+                        .build())
+                    .collect(Collectors.toList()))
+                .nextToken(slice.nextToken)
+                .build();
+        });
+    }
+
+    // Schema versions
+
+    @Override
+    public RegisterSchemaVersionResponse registerSchemaVersion(final RegisterSchemaVersionRequest request) {
+        return invoke("RegisterSchemaVersion", () -> {
+            final SchemaEntry schema = schema(request.schemaId());
+            final VersionEntry existing = byDefinition(schema, request.schemaDefinition());
+            final VersionEntry version = existing != null ? existing : registerVersion(schema, request.schemaDefinition());
+            return RegisterSchemaVersionResponse.builder()
+                .schemaVersionId(version.id)
+                .versionNumber(version.number)
+                .status(status(version))
+                .build();
+        });
+    }
+
+    @Override
+    public GetSchemaVersionResponse getSchemaVersion(final GetSchemaVersionRequest request) {
+        return invoke("GetSchemaVersion", () -> {
+            final VersionEntry version;
+            if (request.schemaVersionId() != null) {
+                version = versions.get(request.schemaVersionId());
+                if (version == null) {
+                    throw notFound("Schema version " + request.schemaVersionId() + " not found.");
+                }
+            } else {
+                version = version(schema(request.schemaId()), request.schemaVersionNumber());
+            }
+            return GetSchemaVersionResponse.builder()
+                .schemaVersionId(version.id)
+                .schemaDefinition(version.definition)
+                .dataFormat(version.schema.dataFormat)
+                .schemaArn(version.schema.arn)
+                .versionNumber(version.number)
+                .status(status(version))
+                .createdTime(version.createdTime)
+                .build();
+        });
+    }
+
+    @Override
+    public GetSchemaByDefinitionResponse getSchemaByDefinition(final GetSchemaByDefinitionRequest request) {
+        return invoke("GetSchemaByDefinition", () -> {
+            final SchemaEntry schema = schema(request.schemaId());
+            final VersionEntry version = byDefinition(schema, request.schemaDefinition());
+            if (version == null) {
+                throw notFound("Schema version with the given definition not found in " + schema.arn + ".");
+            }
+            return GetSchemaByDefinitionResponse.builder()
+                .schemaVersionId(version.id)
+                .schemaArn(schema.arn)
+                .dataFormat(schema.dataFormat)
+                .status(status(version))
+                .createdTime(version.createdTime)
+                .build();
+        });
+    }
+
+    @Override
+    public DeleteSchemaVersionsResponse deleteSchemaVersions(final DeleteSchemaVersionsRequest request) {
+        return invoke("DeleteSchemaVersions", () -> {
+            final SchemaEntry schema = schema(request.schemaId());
+            final List<Long> numbers = parseVersions(request.versions());
+            if (numbers.contains(schema.checkpoint)) {
+                // Glue refuses the whole request rather than reporting the checkpoint as a version error
+                throw error(ConcurrentModificationException.builder(), "ConcurrentModificationException",
+                    "Cannot delete the checkpoint version " + schema.checkpoint + ".", 409);
+            }
+            final List<SchemaVersionErrorItem> errors = new ArrayList<>();
+            for (final long number : numbers) {
+                final VersionEntry version = schema.versions.get(number);
+                if (version == null) {
+                    errors.add(SchemaVersionErrorItem.builder()
+                        .versionNumber(number)
+                        .errorDetails(ErrorDetails.builder()
+                            .errorCode("EntityNotFoundException")
+                            .errorMessage("Schema version " + number + " not found.")
+                            .build())
+                        .build());
+                } else {
+                    schema.versions.remove(number);
+                    versions.remove(version.id);
+                }
+            }
+            return DeleteSchemaVersionsResponse.builder().schemaVersionErrors(errors).build();
+        });
+    }
+
+    @Override
+    public ListSchemaVersionsResponse listSchemaVersions(final ListSchemaVersionsRequest request) {
+        return invoke("ListSchemaVersions", () -> {
+            final SchemaEntry schema = schema(request.schemaId());
+            final Slice<VersionEntry> slice =
+                Slice.of(new ArrayList<>(schema.versions.values()), request.nextToken(), request.maxResults());
+            return ListSchemaVersionsResponse.builder()
+                .schemas(slice.items.stream()
+                    .map(version -> SchemaVersionListItem.builder()
+                        .schemaArn(schema.arn)
+                        .schemaVersionId(version.id)
+                        .versionNumber(version.number)
+                        .status(status(version))
+                        .createdTime(version.createdTime)
+                        .build())
+                    .collect(Collectors.toList()))
+                .nextToken(slice.nextToken)
+                .build();
+        });
+    }
+
+    // Schema version metadata
+
+    @Override
+    public PutSchemaVersionMetadataResponse putSchemaVersionMetadata(final PutSchemaVersionMetadataRequest request) {
+        return invoke("PutSchemaVersionMetadata", () -> {
+            final VersionEntry version =
+                version(request.schemaVersionId(), request.schemaId(), request.schemaVersionNumber());
+            final MetadataKeyValuePair pair = request.metadataKeyValue();
+            final Map<String, String> values =
+                version.metadata.computeIfAbsent(pair.metadataKey(), key -> new LinkedHashMap<>());
+            if (values.containsKey(pair.metadataValue())) {
+                throw error(AlreadyExistsException.builder(), "AlreadyExistsException",
+                    "Metadata " + pair.metadataKey() + "=" + pair.metadataValue() + " already exists.");
+            }
+            values.put(pair.metadataValue(), Instant.now().toString());
+            return PutSchemaVersionMetadataResponse.builder()
+                .schemaArn(version.schema.arn)
+                .schemaName(version.schema.name)
+                .registryName(version.schema.registryName)
+                .latestVersion(version.number == version.schema.latestVersion())
+                .versionNumber(version.number)
+                .schemaVersionId(version.id)
+                .metadataKey(pair.metadataKey())
+                .metadataValue(pair.metadataValue())
+                .build();
+        });
+    }
+
+    @Override
+    public QuerySchemaVersionMetadataResponse querySchemaVersionMetadata(final QuerySchemaVersionMetadataRequest request) {
+        return invoke("QuerySchemaVersionMetadata", () -> {
+            final VersionEntry version =
+                version(request.schemaVersionId(), request.schemaId(), request.schemaVersionNumber());
+
+            final List<Map.Entry<String, MetadataInfo>> matching = new ArrayList<>();
+            version.metadata.forEach((key, values) -> {
+                final List<String> selected = values.keySet().stream()
+                    .filter(value -> !request.hasMetadataList() || request.metadataList().stream()
+                        .anyMatch(filter -> key.equals(filter.metadataKey())
+                            && (filter.metadataValue() == null || value.equals(filter.metadataValue()))))
+                    .collect(Collectors.toList());
+                if (!selected.isEmpty()) {
+                    final String value = selected.get(selected.size() - 1);
+                    matching.add(new AbstractMap.SimpleImmutableEntry<>(key, MetadataInfo.builder()
+                        .metadataValue(value)
+                        .createdTime(values.get(value))
+                        .otherMetadataValueList(selected.subList(0, selected.size() - 1).stream()
+                            .map(other -> OtherMetadataValueListItem.builder()
+                                .metadataValue(other)
+                                .createdTime(values.get(other))
+                                .build())
+                            .collect(Collectors.toList()))
+                        .build()));
+                }
+            });
+
+            final Slice<Map.Entry<String, MetadataInfo>> slice =
+                Slice.of(matching, request.nextToken(), request.maxResults());
+            return QuerySchemaVersionMetadataResponse.builder()
+                .schemaVersionId(version.id)
+                .metadataInfoMap(slice.items.stream()
+                    .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (a, b) -> b, LinkedHashMap::new)))
+                .nextToken(slice.nextToken)
+                .build();
+        });
+    }
+
+    @Override
+    public RemoveSchemaVersionMetadataResponse removeSchemaVersionMetadata(final RemoveSchemaVersionMetadataRequest request) {
+        return invoke("RemoveSchemaVersionMetadata", () -> {
+            final VersionEntry version =
+                version(request.schemaVersionId(), request.schemaId(), request.schemaVersionNumber());
+            final MetadataKeyValuePair pair = request.metadataKeyValue();
+            final Map<String, String> values = version.metadata.get(pair.metadataKey());
+            if (values == null || values.remove(pair.metadataValue()) == null) {
+                throw notFound("Metadata " + pair.metadataKey() + "=" + pair.metadataValue() + " not found.");
+            }
+            if (values.isEmpty()) {
+                version.metadata.remove(pair.metadataKey());
+            }
+            return RemoveSchemaVersionMetadataResponse.builder()
+                .schemaArn(version.schema.arn)
+                .schemaName(version.schema.name)
+                .registryName(version.schema.registryName)
+                .latestVersion(version.number == version.schema.latestVersion())
+                .versionNumber(version.number)
+                .schemaVersionId(version.id)
+                .metadataKey(pair.metadataKey())
+                .metadataValue(pair.metadataValue())
+                .build();
+        });
+    }
+
+    private Job job(final String jobName) {
+        final Job job = jobs.get(jobName);
+        if (job == null) {
+            throw notFound("Job " + jobName + " not found.");
+        }
+        return job;
+    }
+
+    private RegistryEntry createRegistry(final String name, final String description) {
+        if (registries.containsKey(name)) {
+            throw error(AlreadyExistsException.builder(), "AlreadyExistsException",
+                "Registry " + name + " already exists.");
+        }
+        final RegistryEntry registry = newRegistry(name, description);
+        registries.put(name, registry);
+        return registry;
+    }
+
+    private RegistryEntry newRegistry(final String name, final String description) {
+        return new RegistryEntry(name, arn("registry/" + name), description);
+    }
+
+    private RegistryEntry registry(final RegistryId registryId) {
+        final String name = registryId.registryArn() != null
+            ? registryId.registryArn().substring(registryId.registryArn().indexOf(":registry/") + ":registry/".length())
+            : registryId.registryName();
+        final RegistryEntry registry = name == null ? null : registries.get(name);
+        if (registry == null) {
+            throw notFound("Registry " + registryId + " not found.");
+        }
+        return registry;
+    }
+
+    private SchemaEntry schema(final SchemaId schemaId) {
+        if (schemaId == null) {
+            throw error(InvalidInputException.builder(), "InvalidInputException", "SchemaId is required.");
+        }
+        final String schemaArn = schemaId.schemaArn() != null
+            ? schemaId.schemaArn()
+            : arn("schema/" + (schemaId.registryName() == null ? DEFAULT_REGISTRY : schemaId.registryName())
+                + "/" + schemaId.schemaName());
+        final SchemaEntry schema = schemas.get(schemaArn);
+        if (schema == null) {
+            throw notFound("Schema " + schemaId + " not found.");
+        }
+        return schema;
+    }
+
+    private VersionEntry version(final SchemaEntry schema, final SchemaVersionNumber number) {
+        final Long versionNumber = Boolean.TRUE.equals(number.latestVersion())
+            ? schema.latestVersion()
+            : number.versionNumber();
+        final VersionEntry version = versionNumber == null ? null : schema.versions.get(versionNumber);
+        if (version == null) {
+            throw notFound("Schema version " + number + " not found in " + schema.arn + ".");
+        }
+        return version;
+    }
+
+    private VersionEntry version(
+        final String schemaVersionId,
+        final SchemaId schemaId,
+        final SchemaVersionNumber number) {
+        if (schemaVersionId != null) {
+            final VersionEntry version = versions.get(schemaVersionId);
+            if (version == null) {
+                throw notFound("Schema version " + schemaVersionId + " not found.");
+            }
+            return version;
+        }
+        return version(schema(schemaId), number);
+    }
+
+    private VersionEntry registerVersion(final SchemaEntry schema, final String definition) {
+        final long delay = registrationDelayNanos;
+        final VersionEntry version = new VersionEntry(schema, schema.nextVersion++, definition);
+        if (delay > 0L) {
+            version.status = SchemaVersionStatus.PENDING;
+            version.availableAtNanos = nanoTime.getAsLong() + delay;
+        }
+        schema.versions.put(version.number, version);
+        versions.put(version.id, version);
+        if (schema.checkpoint == 0L) {
+            schema.checkpoint = version.number;
+        }
+        return version;
+    }
+
+    private SchemaVersionStatus status(final VersionEntry version) {
+        if (version.status == SchemaVersionStatus.PENDING && nanoTime.getAsLong() - version.availableAtNanos >= 0L) {
+            version.status = SchemaVersionStatus.AVAILABLE;
+        }
+        return version.status;
+    }
+
+    private VersionEntry byDefinition(final SchemaEntry schema, final String definition) {
+        for (final VersionEntry version : schema.versions.values()) {
+            if (version.definition.equals(definition)) {
+                return version;
+            }
+        }
+        return null;
+    }
+
+    private void removeSchema(final SchemaEntry schema) {
+        schemas.remove(schema.arn);
+        tags.remove(schema.arn);
+        schema.versions.values().forEach(version -> versions.remove(version.id));
+    }
+
+    /**
+     * Accepts "n", "a-b" and comma separated combinations of both, as DeleteSchemaVersions does.
+     */
+    private static List<Long> parseVersions(final String spec) {
+        final List<Long> numbers = new ArrayList<>();
+        for (final String part : spec.split(",")) {
+            final String[] range = part.trim().split("-");
+            final long from = Long.parseLong(range[0].trim());
+            final long to = range.length > 1 ? Long.parseLong(range[1].trim()) : from;
+            for (long number = from; number <= to; number++) {
+                numbers.add(number);
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Counts the call and applies the faults configured for the operation, then runs it under the emulator's lock.
+     */
+    private <T> T invoke(final String operation, final Supplier<T> action) {
+        calls.computeIfAbsent(operation, name -> new LongAdder()).increment();
+        final Faults configured = faults.getOrDefault(operation, faults.getOrDefault(ALL_OPERATIONS, Faults.NONE));
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        final long latency = configured.latencyNanos
+            + (configured.jitterNanos > 0L ? random.nextLong(configured.jitterNanos + 1) : 0L);
+        if (latency > 0L) {
+            final long deadline = System.nanoTime() + latency;
+            for (long remaining = latency; remaining > 0L; remaining = deadline - System.nanoTime()) {
+                LockSupport.parkNanos(remaining);
+            }
+        }
+        if (configured.throttlingRate > 0d && random.nextDouble() < configured.throttlingRate) {
+            throw error(GlueException.builder(), "ThrottlingException", "Rate exceeded", 400);
+        }
+        if (configured.errorRate > 0d && random.nextDouble() < configured.errorRate) {
+            throw error(InternalServiceException.builder(), "InternalServiceException",
+                "An internal service error occurred.", 500);
+        }
+
+        synchronized (this) {
+            return action.get();
+        }
+    }
+
+    private String arn(final String resource) {
+        return String.format("arn:aws:glue:%s:%s:%s", region, accountId, resource);
+    }
+
+    private static AwsServiceException notFound(final String message) {
+        return error(EntityNotFoundException.builder(), "EntityNotFoundException", message);
+    }
+
+    private static AwsServiceException error(
+        final AwsServiceException.Builder builder,
+        final String errorCode,
+        final String message) {
+        return error(builder, errorCode, message, 400);
+    }
+
+    private static AwsServiceException error(
+        final AwsServiceException.Builder builder,
+        final String errorCode,
+        final String message,
+        final int statusCode) {
+        return builder
+            .message(message)
+            .statusCode(statusCode)
+            .awsErrorDetails(AwsErrorDetails.builder()
+                .errorCode(errorCode)
+                .errorMessage(message)
+                .serviceName("Glue")
+                .build())
+            .build();
+    }
+
+    /**
+     * Faults configured for one operation. Per-operation settings replace the {@link #ALL_OPERATIONS} ones as a
+     * whole.
+     */
+    private static final class Faults {
+        private static final Faults NONE = new Faults(0L, 0L, 0d, 0d);
+
+        private final long latencyNanos;
+        private final long jitterNanos;
+        private final double throttlingRate;
+        private final double errorRate;
+
+        private Faults(final long latencyNanos, final long jitterNanos, final double throttlingRate, final double errorRate) {
+            this.latencyNanos = latencyNanos;
+            this.jitterNanos = jitterNanos;
+            this.throttlingRate = throttlingRate;
+            this.errorRate = errorRate;
+        }
+
+        private Faults latency(final long latency, final long jitter) {
+            return new Faults(latency, jitter, throttlingRate, errorRate);
+        }
+
+        private Faults throttlingRate(final double rate) {
+            return new Faults(latencyNanos, jitterNanos, rate, errorRate);
+        }
+
+        private Faults errorRate(final double rate) {
+            return new Faults(latencyNanos, jitterNanos, throttlingRate, rate);
+        }
+    }
+
+    private static final class Slice<T> {
+        private final List<T> items;
+        private final String nextToken;
+
+        private Slice(final List<T> items, final String nextToken) {
+            this.items = items;
+            this.nextToken = nextToken;
+        }
+
+        /**
+         * Pages are addressed by the offset of their first item, encoded as the next token.
+         */
+        static <T> Slice<T> of(final List<T> all, final String nextToken, final Integer maxResults) {
+            final int from = nextToken == null ? 0 : Math.min(all.size(), Integer.parseInt(nextToken));
+            final int to = Math.min(all.size(), from + (maxResults == null ? DEFAULT_PAGE_SIZE : maxResults));
+            return new Slice<>(
+                new ArrayList<>(all.subList(from, to)),
+                to < all.size() ? String.valueOf(to) : null);
+        }
+    }
+
+    private static final class RegistryEntry {
+        private final String name;
+        private final String arn;
+        private final String createdTime;
+        private String description;
+        private String updatedTime;
+
+        private RegistryEntry(final String name, final String arn, final String description) {
+            this.name = name;
+            this.arn = arn;
+            this.description = description;
+            this.createdTime = Instant.now().toString();
+            this.updatedTime = createdTime;
+        }
+    }
+
+    private static final class SchemaEntry {
+        private final String registryName;
+        private final String registryArn;
+        private final String name;
+        private final String arn;
+        private final String createdTime;
+        private final TreeMap<Long, VersionEntry> versions = new TreeMap<>();
+        private String description;
+        private String dataFormat;
+        private String compatibility;
+        private String updatedTime;
+        private long checkpoint;
+        private long nextVersion = 1L;
+
+        private SchemaEntry(final RegistryEntry registry, final String name, final String arn) {
+            this.registryName = registry.name;
+            this.registryArn = registry.arn;
+            this.name = name;
+            this.arn = arn;
+            this.createdTime = Instant.now().toString();
+            this.updatedTime = createdTime;
+        }
+
+        private Long latestVersion() {
+            return versions.isEmpty() ? null : versions.lastKey();
+        }
+    }
+
+    private static final class VersionEntry {
+        private final SchemaEntry schema;
+        private final String id = UUID.randomUUID().toString();
+        private final long number;
+        private final String definition;
+        private final String createdTime = Instant.now().toString();
+        private SchemaVersionStatus status = SchemaVersionStatus.AVAILABLE;
+        private long availableAtNanos;
+        // key -> value -> created time, in insertion order so the newest value is last
+        private final Map<String, Map<String, String>> metadata = new TreeMap<>();
+
+        private VersionEntry(final SchemaEntry schema, final long number, final String definition) {
+            this.schema = schema;
+            this.number = number;
+            this.definition = definition;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package software.amazon.glue.emulator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ColdStartHarnessTest {
+
+    @Test
+    public void parse_ReadsEveryField() {
+        final Map<String, Long> metrics = ColdStartHarness.parse("ColdStart firstResponseMillis=412 totalMillis=655");
+
+        assertThat(metrics).containsEntry("firstResponseMillis", 412L).containsEntry("totalMillis", 655L).hasSize(2);
+    }
+
+    @Test
+    public void percentile_UsesNearestRank() {
+        final List<Map<String, Long>> runs = new ArrayList<>();
+        for (long millis = 10; millis >= 1; millis--) {
+            runs.add(Collections.singletonMap("totalMillis", millis * 100));
+        }
+
+        assertThat(ColdStartHarness.percentile(runs, "totalMillis", 50)).isEqualTo(500L);
+        assertThat(ColdStartHarness.percentile(runs, "totalMillis", 90)).isEqualTo(900L);
+        assertThat(ColdStartHarness.percentile(runs.subList(0, 1), "totalMillis", 90)).isEqualTo(1000L);
+        assertThat(ColdStartHarness.percentile(runs, "firstResponseMillis", 50)).isEqualTo(-1L);
+    }
+}
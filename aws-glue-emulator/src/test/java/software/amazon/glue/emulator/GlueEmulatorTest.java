@@ -0,0 +1,214 @@
+package software.amazon.glue.emulator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.model.AlreadyExistsException;
+import software.amazon.awssdk.services.glue.model.ConcurrentModificationException;
+import software.amazon.awssdk.services.glue.model.CreateJobRequest;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
+import software.amazon.awssdk.services.glue.model.DeleteJobRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.GetJobRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.InternalServiceException;
+import software.amazon.awssdk.services.glue.model.JobCommand;
+import software.amazon.awssdk.services.glue.model.ListJobsRequest;
+import software.amazon.awssdk.services.glue.model.ListJobsResponse;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionResponse;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+
+import java.time.Duration;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GlueEmulatorTest {
+
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final String DEFINITION = "{\"type\":\"record\",\"name\":\"Order\",\"fields\":[]}";
+
+    private long now;
+    private GlueEmulator glue;
+
+    @BeforeEach
+    public void setup() {
+        now = 0L;
+        glue = new GlueEmulator(REGION, ACCOUNT_ID, () -> now);
+    }
+
+    @Test
+    public void job_CreateReadDelete() {
+        glue.createJob(CreateJobRequest.builder()
+            .name("job")
+            .role("role")
+            .command(JobCommand.builder().name("glueetl").build())
+            .tags(Collections.singletonMap("team", "platform"))
+            .build());
+
+        assertThat(glue.getJob(GetJobRequest.builder().jobName("job").build()).job().role()).isEqualTo("role");
+        assertThat(glue.getTags(GetTagsRequest.builder().resourceArn(glue.jobArn("job")).build()).tags())
+            .containsEntry("team", "platform");
+        assertThrows(AlreadyExistsException.class, () -> glue.createJob(CreateJobRequest.builder().name("job").build()));
+
+        glue.deleteJob(DeleteJobRequest.builder().jobName("job").build());
+
+        final EntityNotFoundException e = assertThrows(EntityNotFoundException.class,
+            () -> glue.getJob(GetJobRequest.builder().jobName("job").build()));
+        assertThat(e.awsErrorDetails().errorCode()).isEqualTo("EntityNotFoundException");
+        assertThat(glue.getTags(GetTagsRequest.builder().resourceArn(glue.jobArn("job")).build()).tags()).isEmpty();
+    }
+
+    @Test
+    public void listJobs_PagesByNextToken() {
+        for (int i = 0; i < 5; i++) {
+            glue.createJob(CreateJobRequest.builder().name("job-" + i).build());
+        }
+
+        final ListJobsResponse first = glue.listJobs(ListJobsRequest.builder().maxResults(3).build());
+        assertThat(first.jobNames()).containsExactly("job-0", "job-1", "job-2");
+
+        final ListJobsResponse second =
+            glue.listJobs(ListJobsRequest.builder().maxResults(3).nextToken(first.nextToken()).build());
+        assertThat(second.jobNames()).containsExactly("job-3", "job-4");
+        assertThat(second.nextToken()).isNull();
+    }
+
+    @Test
+    public void registerSchemaVersion_PendingUntilRegistrationDelayPasses() {
+        glue.registrationDelay(Duration.ofSeconds(2));
+        final CreateSchemaResponse schema = createSchema();
+        assertThat(schema.schemaVersionStatus()).isEqualTo(SchemaVersionStatus.PENDING);
+
+        final RegisterSchemaVersionResponse registered = glue.registerSchemaVersion(RegisterSchemaVersionRequest.builder()
+            .schemaId(SchemaId.builder().schemaArn(schema.schemaArn()).build())
+            .schemaDefinition("{\"type\":\"record\",\"name\":\"Order\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}")
+            .build());
+        assertThat(registered.status()).isEqualTo(SchemaVersionStatus.PENDING);
+        assertThat(registered.versionNumber()).isEqualTo(2L);
+
+        now += Duration.ofSeconds(2).toNanos();
+        assertThat(glue.getSchemaVersion(GetSchemaVersionRequest.builder()
+            .schemaVersionId(registered.schemaVersionId())
+            .build())
+            .status()).isEqualTo(SchemaVersionStatus.AVAILABLE);
+    }
+
+    @Test
+    public void deleteSchemaVersions_ReportsMissingVersions() {
+        final CreateSchemaResponse schema = createSchema();
+        registerVersion(schema.schemaArn());
+
+        assertThat(glue.deleteSchemaVersions(DeleteSchemaVersionsRequest.builder()
+            .schemaId(SchemaId.builder().schemaArn(schema.schemaArn()).build())
+            .versions("2-3")
+            .build())
+            .schemaVersionErrors())
+            .extracting(error -> error.versionNumber() + ":" + error.errorDetails().errorCode())
+            .containsExactly("3:EntityNotFoundException");
+    }
+
+    @Test
+    public void deleteSchemaVersions_WhenRangeIncludesCheckpoint_FailsTheWholeRequest() {
+        final CreateSchemaResponse schema = createSchema();
+        registerVersion(schema.schemaArn());
+        final SchemaId schemaId = SchemaId.builder().schemaArn(schema.schemaArn()).build();
+
+        final ConcurrentModificationException exception = assertThrows(ConcurrentModificationException.class,
+            () -> glue.deleteSchemaVersions(DeleteSchemaVersionsRequest.builder()
+                .schemaId(schemaId)
+                .versions("1-2")
+                .build()));
+
+        assertThat(exception.statusCode()).isEqualTo(409);
+        assertThat(glue.getSchemaVersion(GetSchemaVersionRequest.builder()
+            .schemaId(schemaId)
+            .schemaVersionNumber(SchemaVersionNumber.builder().versionNumber(2L).build())
+            .build())
+            .versionNumber()).isEqualTo(2L);
+    }
+
+    @Test
+    public void schemaVersionMetadata_PutAndQuery() {
+        final CreateSchemaResponse schema = createSchema();
+        for (final String value : new String[] {"a", "b"}) {
+            glue.putSchemaVersionMetadata(PutSchemaVersionMetadataRequest.builder()
+                .schemaVersionId(schema.schemaVersionId())
+                .metadataKeyValue(MetadataKeyValuePair.builder().metadataKey("key").metadataValue(value).build())
+                .build());
+        }
+
+        assertThat(glue.querySchemaVersionMetadata(QuerySchemaVersionMetadataRequest.builder()
+            .schemaVersionId(schema.schemaVersionId())
+            .build())
+            .metadataInfoMap().get("key").metadataValue()).isEqualTo("b");
+    }
+
+    @Test
+    public void throttlingRate_FailsCallsWithThrottlingException() {
+        glue.throttlingRate("GetJob", 1.0);
+
+        final AwsServiceException e = assertThrows(AwsServiceException.class,
+            () -> glue.getJob(GetJobRequest.builder().jobName("job").build()));
+        assertThat(e.awsErrorDetails().errorCode()).isEqualTo("ThrottlingException");
+        assertThat(e.statusCode()).isEqualTo(400);
+
+        // Other operations are unaffected
+        glue.createJob(CreateJobRequest.builder().name("job").build());
+    }
+
+    @Test
+    public void errorRate_FailsCallsWithInternalServiceException() {
+        glue.errorRate(GlueEmulator.ALL_OPERATIONS, 1.0);
+
+        final InternalServiceException e = assertThrows(InternalServiceException.class,
+            () -> glue.createRegistry(CreateRegistryRequest.builder().registryName("registry").build()));
+        assertThat(e.statusCode()).isEqualTo(500);
+
+        glue.clearFaults();
+        glue.createRegistry(CreateRegistryRequest.builder().registryName("registry").build());
+    }
+
+    @Test
+    public void callCount_CountsFailedCalls() {
+        glue.getTags(GetTagsRequest.builder().resourceArn(glue.jobArn("job")).build());
+        assertThrows(EntityNotFoundException.class, () -> glue.getJob(GetJobRequest.builder().jobName("job").build()));
+        assertThrows(EntityNotFoundException.class, () -> glue.getJob(GetJobRequest.builder().jobName("job").build()));
+
+        assertThat(glue.callCount("GetJob")).isEqualTo(2L);
+        assertThat(glue.callCounts()).containsEntry("GetTags", 1L).hasSize(2);
+
+        glue.resetCallCounts();
+        assertThat(glue.callCount("GetJob")).isZero();
+    }
+
+    private CreateSchemaResponse createSchema() {
+        glue.createRegistry(CreateRegistryRequest.builder().registryName("registry").build());
+        return glue.createSchema(CreateSchemaRequest.builder()
+            .registryId(RegistryId.builder().registryName("registry").build())
+            .schemaName("schema")
+            .dataFormat("AVRO")
+            .schemaDefinition(DEFINITION)
+            .build());
+    }
+
+    private void registerVersion(final String schemaArn) {
+        glue.registerSchemaVersion(RegisterSchemaVersionRequest.builder()
+            .schemaId(SchemaId.builder().schemaArn(schemaArn).build())
+            .schemaDefinition("{\"type\":\"record\",\"name\":\"Order\",\"fields\":[{\"name\":\"id\",\"type\":\"string\"}]}")
+            .build());
+    }
+}
@@ -1,6 +1,8 @@
 package software.amazon.glue.job;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetJobRequest;
+import software.amazon.awssdk.services.glue.model.GetJobResponse;
 import software.amazon.awssdk.services.glue.model.GlueRequest;
 import software.amazon.cloudformation.exceptions.BaseHandlerException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
@@ -22,7 +24,11 @@ import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnNotStabilizedException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import java.util.Set;
+import java.util.function.Supplier;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.glue.common.GlueCallMetrics;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.InstrumentedProxyClient;
 import static java.util.Objects.requireNonNull;
 
 	 public abstract class BaseHandlerStd  extends BaseHandler<CallbackContext>{
@@ -40,6 +46,18 @@ import static java.util.Objects.requireNonNull;
 	         return glueClient;
 	     }
 
+	     private static final boolean METRICS_ENABLED = HandlerSetting.METRICS_ENABLED.booleanValue();
+
+	     private static final HandlerLog.Config LOG = HandlerLog.Config.fromSettings(
+	             HandlerSetting.LOG_LEVEL, HandlerSetting.LOG_FORMAT, HandlerSetting.LOG_MAX_FIELD_LENGTH);
+
+	     static {
+	         // Handlers are created in the Lambda init phase, so the SDK is warmed up before the first invocation
+	         if (HandlerSetting.WARM_UP_ENABLED.booleanValue()) {
+	             ClientBuilder.warmUp();
+	         }
+	     }
+
 	     public static final int GENERATED_PHYSICAL_ID_MAX_LEN = 40;
 		 static final int CALLBACK_DELAY = 1;
 	     public static final String ENTITY_NOT_FOUND_EXCEPTION = "EntityNotFoundException";
@@ -73,13 +91,25 @@ import static java.util.Objects.requireNonNull;
 	             final ResourceHandlerRequest<ResourceModel> request,
 	             final CallbackContext callbackContext,
 	             final Logger logger) {
-	         return handleRequest(
-	                 proxy,
-	                 request,
-	                 callbackContext != null ? callbackContext : new CallbackContext(),
-	                 proxy.newProxy(this::getGlueClient),
-	                 logger
-	         );
+	         final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+	         final ProxyClient<GlueClient> proxyClient = proxy.newProxy(this::getGlueClient);
+	         if (!METRICS_ENABLED) {
+	             return handleRequest(proxy, request, context, proxyClient, logger);
+	         }
+
+	         final GlueCallMetrics.Invocation invocation = GlueCallMetrics.shared().start(getClass().getSimpleName());
+	         try {
+	             return handleRequest(
+	                     proxy, request, context, new InstrumentedProxyClient<>(proxyClient, invocation), logger);
+	         } finally {
+	             if (invocation.callCount() > 0) {
+	                 handlerLog(logger).log(HandlerLog.Level.INFO, invocation::summary);
+	             }
+	         }
+	     }
+
+	     protected static HandlerLog handlerLog(final Logger logger) {
+	         return LOG.to(logger);
 	     }
 
 	     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -109,7 +139,9 @@ import static java.util.Objects.requireNonNull;
 
 				String errorMessage = getErrorCode(e);
 
-				logger.log(String.format("[ERROR] Failed Request: %s, Error Message: %s", request, errorMessage));
+				final HandlerLog log = handlerLog(logger);
+				log.error("Failed Request", "Request", GlueCallMetrics.api(request), "Error Message", errorMessage);
+				log.debug("Failed Request", "Request", request);
 
 	         BaseHandlerException bhe;
 
@@ -123,7 +155,9 @@ import static java.util.Objects.requireNonNull;
 				bhe = new CfnServiceInternalErrorException(e);
 			} else if (OPERATION_TIMEOUT_EXCEPTION.equals(errorMessage)) {
 				bhe = new CfnThrottlingException(e);
-				logger.log(String.format("Error during operation: %s, Error message: %s", this.getClass().getSimpleName(), e.getMessage()));
+				log.error("Error during operation",
+						"Operation", this.getClass().getSimpleName(),
+						"Error message", e.getMessage());
 				return ProgressEvent.failed(resourceModel, callbackContext, bhe.getErrorCode(), bhe.getMessage());
 			} else if (IDEMPOTENT_PARAMETER_MISMATCH_EXCEPTION.equals(errorMessage)) {
 				bhe = new CfnAlreadyExistsException(e);
@@ -156,7 +190,9 @@ import static java.util.Objects.requireNonNull;
 							THROTTLING_ERROR_CODE.equals(errorCode) ||
 							REQUEST_LIMIT_EXCEEDED.equals(errorCode) ||
 							TOO_MANY_REQUESTS_EXCEPTION.equals(errorCode)) {
-						logger.log("retrying when Deployment Limit is Exceeded");
+						log.warn("retrying when Deployment Limit is Exceeded");
+						ClientBuilder.rateLimiter().ifPresent(limiter ->
+								log.info("Glue client rate limiter", "Metrics", (Supplier<Object>) limiter::metrics));
 						return buildRetryProgressEvent(resourceModel, callbackContext, HandlerErrorCode.Throttling, CALLBACK_DELAY);
 					}
 				} else if (errorStatus >= 500) {
@@ -168,6 +204,30 @@ import static java.util.Objects.requireNonNull;
 	}
 
 
+	     /**
+	      * GetJob through the process-wide {@link GetJobResponseCache}.
+	      */
+	     protected GetJobResponse getJobThroughCache(
+	             final ProxyClient<GlueClient> proxyClient,
+	             final GetJobRequest getJobRequest,
+	             final ResourceHandlerRequest<ResourceModel> request) {
+	         return GetJobResponseCache.shared().get(
+	                 GetJobResponseCache.key(request.getAwsAccountId(), request.getRegion(), getJobRequest.jobName()),
+	                 () -> proxyClient.injectCredentialsAndInvokeV2(getJobRequest, proxyClient.client()::getJob));
+	     }
+
+	     /**
+	      * Runs a call that mutates the named job, keeping {@link GetJobResponseCache} from serving the pre-write state.
+	      */
+	     protected <T> T invalidatingJobCache(
+	             final ResourceHandlerRequest<ResourceModel> request,
+	             final String jobName,
+	             final Supplier<T> call) {
+	         return GetJobResponseCache.shared().mutate(
+	                 GetJobResponseCache.key(request.getAwsAccountId(), request.getRegion(), jobName),
+	                 call);
+	     }
+
 	     protected static String getErrorCode(Exception e) {
 	         if (e instanceof AwsServiceException) {
 	             return ((AwsServiceException) e).awsErrorDetails().errorCode();
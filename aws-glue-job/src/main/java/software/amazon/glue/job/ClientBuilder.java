@@ -1,14 +1,26 @@
 package software.amazon.glue.job;
-import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
-import software.amazon.awssdk.core.internal.retry.SdkDefaultRetrySetting;
-import software.amazon.awssdk.core.retry.RetryPolicy;
-import software.amazon.awssdk.core.retry.backoff.BackoffStrategy;
-import software.amazon.awssdk.core.retry.backoff.EqualJitterBackoffStrategy;
-import software.amazon.awssdk.core.retry.conditions.RetryCondition;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
-import software.amazon.cloudformation.AbstractWrapper;
+import software.amazon.awssdk.services.glue.model.CreateJobRequest;
+import software.amazon.awssdk.services.glue.model.DeleteJobRequest;
+import software.amazon.awssdk.services.glue.model.GetJobRequest;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
+import software.amazon.awssdk.services.glue.model.JobCommand;
+import software.amazon.awssdk.services.glue.model.JobUpdate;
+import software.amazon.awssdk.services.glue.model.ListJobsRequest;
+import software.amazon.awssdk.services.glue.model.TagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UntagResourceRequest;
+import software.amazon.awssdk.services.glue.model.UpdateJobRequest;
+import software.amazon.glue.common.AdaptiveRateLimiter;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.GlueWarmUp;
+import software.amazon.glue.common.Settings;
 
-import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
 
 public class ClientBuilder {
 
@@ -16,25 +28,91 @@ public class ClientBuilder {
         throw new IllegalStateException("Utility class");
     }
 
-    private static final BackoffStrategy GLUE_CLIENT_BACKOFF_THROTTLING_STRATEGY =
-            EqualJitterBackoffStrategy.builder()
-                    .baseDelay(Duration.ofMillis(2000)) // 1st retry is ~2 sec
-                    .maxBackoffTime(SdkDefaultRetrySetting.MAX_BACKOFF) // default is 20s
-                    .build();
+    private static final int ASYNC_MAX_CONCURRENCY = 16;
 
-    private static final RetryPolicy GLUE_CLIENT_RETRY_POLICY =
-            RetryPolicy.builder()
-                    .numRetries(4)
-                    .retryCondition(RetryCondition.defaultRetryCondition())
-                    .throttlingBackoffStrategy(GLUE_CLIENT_BACKOFF_THROTTLING_STRATEGY)
-                    .build();
+    private static final AdaptiveRateLimiter RATE_LIMITER =
+            Settings.booleanValue(HandlerSetting.RATE_LIMITER_ENABLED)
+                    ? AdaptiveRateLimiter.fromSettings(
+                            HandlerSetting.RATE_LIMITER_INITIAL_RATE,
+                            HandlerSetting.RATE_LIMITER_MIN_RATE,
+                            HandlerSetting.RATE_LIMITER_MAX_RATE,
+                            HandlerSetting.RATE_LIMITER_INCREASE_STEP,
+                            HandlerSetting.RATE_LIMITER_DECREASE_FACTOR,
+                            HandlerSetting.RATE_LIMITER_COOLDOWN_MILLIS,
+                            HandlerSetting.RATE_LIMITER_MAX_WAIT_MILLIS)
+                    : null;
+
+    private static final GlueClients<GlueClient> GLUE_CLIENTS =
+            new GlueClients<>(GlueClient::builder, GlueClients.overrideConfiguration(RATE_LIMITER));
+
+    private static final String WARM_UP_NAME = "warm-up";
+    private static final String WARM_UP_ARN = "arn:aws:glue:us-east-1:123456789012:job/warm-up";
+
+    // One representative request per Glue operation the Job handlers call, see warmUp()
+    private static final GlueWarmUp<GlueClient> WARM_UP = new GlueWarmUp<>(GlueClient::builder,
+            Arrays.<Function<GlueClient, ?>>asList(
+                    glue -> glue.createJob(CreateJobRequest.builder()
+                            .name(WARM_UP_NAME)
+                            .role(WARM_UP_ARN)
+                            .command(JobCommand.builder()
+                                    .name("glueetl")
+                                    .scriptLocation("s3://warm-up/script.py")
+                                    .build())
+                            .defaultArguments(Collections.singletonMap("--warm-up", WARM_UP_NAME))
+                            .tags(Collections.singletonMap(WARM_UP_NAME, WARM_UP_NAME))
+                            .build()),
+                    glue -> glue.getJob(GetJobRequest.builder().jobName(WARM_UP_NAME).build()),
+                    glue -> glue.updateJob(UpdateJobRequest.builder()
+                            .jobName(WARM_UP_NAME)
+                            .jobUpdate(JobUpdate.builder().role(WARM_UP_ARN).build())
+                            .build()),
+                    glue -> glue.getTags(GetTagsRequest.builder().resourceArn(WARM_UP_ARN).build()),
+                    glue -> glue.tagResource(TagResourceRequest.builder()
+                            .resourceArn(WARM_UP_ARN)
+                            .tagsToAdd(Collections.singletonMap(WARM_UP_NAME, WARM_UP_NAME))
+                            .build()),
+                    glue -> glue.untagResource(UntagResourceRequest.builder()
+                            .resourceArn(WARM_UP_ARN)
+                            .tagsToRemove(WARM_UP_NAME)
+                            .build()),
+                    glue -> glue.listJobs(ListJobsRequest.builder().build()),
+                    glue -> glue.deleteJob(DeleteJobRequest.builder().jobName(WARM_UP_NAME).build())))
+            .registerForCheckpoint();
 
     public static GlueClient getClient() {
-        return GlueClient.builder()
-                .httpClient(AbstractWrapper.HTTP_CLIENT)
-                .overrideConfiguration(ClientOverrideConfiguration.builder()
-                        .retryPolicy(GLUE_CLIENT_RETRY_POLICY)
+        return GLUE_CLIENTS.client();
+    }
+
+    /**
+     * Async client used where a handler issues independent calls concurrently. A single instance is shared
+     * per JVM so its event loop and connection pool are created only once.
+     */
+    public static GlueAsyncClient getAsyncClient() {
+        return AsyncClientHolder.CLIENT;
+    }
+
+    /**
+     * Rate limiter shared by the Job clients of this JVM, empty when disabled.
+     */
+    static Optional<AdaptiveRateLimiter> rateLimiter() {
+        return Optional.ofNullable(RATE_LIMITER);
+    }
+
+    /**
+     * Makes every Glue call of the Job handlers once without a network round trip, so the first invocation does
+     * not pay for loading and initializing the SDK. Runs once per JVM, see {@link GlueWarmUp}.
+     */
+    static GlueWarmUp.Result warmUp() {
+        return WARM_UP.run();
+    }
+
+    private static final class AsyncClientHolder {
+        private static final GlueAsyncClient CLIENT = GlueAsyncClient.builder()
+                .httpClient(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(ASYNC_MAX_CONCURRENCY)
                         .build())
+                // Same retries, but the rate limiter would block the event loop of the async client
+                .overrideConfiguration(GlueClients.overrideConfiguration(null))
                 .build();
     }
 }
@@ -18,6 +18,7 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.cloudformation.resource.IdentifierUtils;
 import com.amazonaws.util.StringUtils;
+import software.amazon.glue.common.HandlerLog;
 
 
 public class CreateHandler extends BaseHandlerStd {
@@ -49,17 +50,16 @@ public class CreateHandler extends BaseHandlerStd {
             model.setName(resourceIdentifier);
         }
 
-        logger.log(String.format("[StackId: %s, Name: %s] Entered Create Handler",
-                request.getStackId(),request.getClientRequestToken(), model.getName()));
-
         final Map<String, String> consolidatedTags = new HashMap<>();
         Map<String, String> convertedTags = Translator.convertObjectMapToStringMap(model.getTags());
 
         consolidatedTags.putAll(Optional.ofNullable(convertedTags).orElse(Collections.emptyMap()));
         consolidatedTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
 
-        logger.log(String.format("[StackId: %s, ClientRequestToken: %s, Name: %s] Entered Create Handler",
-                request.getStackId(), request.getClientRequestToken(), model.getName()));
+        handlerLog(logger).info("Entered Create Handler",
+                "StackId", request.getStackId(),
+                "ClientRequestToken", request.getClientRequestToken(),
+                "Name", model.getName());
 
 
         return ProgressEvent.progress(model, callbackContext)
@@ -79,13 +79,14 @@ public class CreateHandler extends BaseHandlerStd {
     ){
         return proxy.initiate("AWS-Glue-Job::CreateHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToCreateRequest(tags, name, model))
-                .makeServiceCall((getRequest, client) -> client.injectCredentialsAndInvokeV2(getRequest, client.client()::createJob))
+                .makeServiceCall((getRequest, client) -> invalidatingJobCache(request, name,
+                        () -> client.injectCredentialsAndInvokeV2(getRequest, client.client()::createJob)))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
                 .done(createJobResponse -> {
                     model.setName(createJobResponse.name());
-                    logger.log(String.format("Resource created in StackId: %s with name: %s",
-                            request.getStackId(),
-                            model.getName()));
+                    handlerLog(logger).info("Resource created",
+                            "StackId", request.getStackId(),
+                            "Name", model.getName());
                     return ProgressEvent.<ResourceModel, CallbackContext> builder()
                             .resourceModel(Translator.translateFromCreateResponse(createJobResponse))
                             .status(OperationStatus.SUCCESS)
@@ -106,16 +107,19 @@ public class CreateHandler extends BaseHandlerStd {
             return ProgressEvent.progress(model, callbackContext);
 
         }
-        logger.log(String.format("[ClientRequestToken: %s][StackId: %s] Create Handler Existence Check", request.getClientRequestToken(), request.getStackId()));
+        handlerLog(logger).info("Create Handler Existence Check",
+                "ClientRequestToken", request.getClientRequestToken(),
+                "StackId", request.getStackId());
         return proxy.initiate("AWS-Glue-Job::CreateCheckExistence", proxyClient, model, callbackContext)
                 .translateToServiceRequest(resourceModel -> Translator.translateToReadRequest(resourceModel.getName()))
                 .makeServiceCall((getRequest, client) -> client.injectCredentialsAndInvokeV2(getRequest, client.client()::getJob))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handlePreExistenceCheckErrors(errorRequest, exception, proxyClient, resourceModel, context, request, logger))
                 .done(awsResponse -> {
-                    logger.log(String.format("[ClientRequestToken: %s] Resource %s already exists" + "failing CREATE operation, CallbackContext: %s%n",
-                        request.getClientRequestToken(),
-                        awsResponse.job().name(),
-                        callbackContext));
+                    final HandlerLog log = handlerLog(logger);
+                    log.info("Resource already exists, failing CREATE operation",
+                        "ClientRequestToken", request.getClientRequestToken(),
+                        "Name", awsResponse.job().name());
+                    log.debug("Callback context", "CallbackContext", callbackContext);
                     return ProgressEvent.failed(
                         model,
                         callbackContext,
@@ -139,7 +143,8 @@ public class CreateHandler extends BaseHandlerStd {
             final String errorCode = getErrorCode(exception);
 
             if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorCode)){
-                logger.log(String.format("[ClientRequestToke: %n] Resource does not exist." , request.getClientRequestToken()));
+                handlerLog(logger).info("Resource does not exist",
+                    "ClientRequestToken", request.getClientRequestToken());
              return ProgressEvent.<ResourceModel, CallbackContext>builder()
                     .callbackContext(callbackContext)
                     .resourceModel(resourceModel)
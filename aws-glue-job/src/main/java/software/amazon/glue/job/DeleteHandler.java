@@ -13,6 +13,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLog;
 
 public class DeleteHandler extends BaseHandlerStd {
 
@@ -36,12 +37,13 @@ public class DeleteHandler extends BaseHandlerStd {
 
 		return ProgressEvent.progress(model, callbackContext)
 		.checkExistence(request, progress -> checkExistence(proxy, request, callbackContext, proxyClient, logger, model))
-	    .then(progress -> deleteJob(proxyClient, callbackContext, model, logger, proxy))
+	    .then(progress -> deleteJob(proxyClient, request, callbackContext, model, logger, proxy))
 		.then(progress -> ProgressEvent.defaultSuccessHandler(null));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> deleteJob(
             final ProxyClient<GlueClient> proxyClient,
+            final ResourceHandlerRequest<ResourceModel> request,
             final CallbackContext callbackContext,
             final ResourceModel model,
             final Logger logger,
@@ -49,7 +51,8 @@ public class DeleteHandler extends BaseHandlerStd {
 
         return proxy.initiate("AWS-Glue-Job::DeleteHandler", proxyClient, model, callbackContext)
                 .translateToServiceRequest(Translator::translateToDeleteRequest)
-				.makeServiceCall((awsRequest, client) -> client.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::deleteJob))
+				.makeServiceCall((awsRequest, client) -> invalidatingJobCache(request, model.getName(),
+						() -> client.injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::deleteJob)))
                 .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
                 .progress();
             }
@@ -68,8 +71,9 @@ private ProgressEvent<ResourceModel, CallbackContext> checkExistence(
 	             return ProgressEvent.progress(model, callbackContext);
 	         }
 
-	         logger.log(String.format("[ClientRequestToken: %s][StackId: %s] Entered Delete Handler (existence check)",
-	                 request.getClientRequestToken(), request.getStackId()));
+	         handlerLog(logger).info("Entered Delete Handler (existence check)",
+	                 "ClientRequestToken", request.getClientRequestToken(),
+	                 "StackId", request.getStackId());
 	         return proxy.initiate("AWS-Glue-Job::DeleteCheckExistence", proxyClient,
 	                         model, callbackContext)
 	                 .translateToServiceRequest(resourceModel -> Translator.translateToReadRequest(resourceModel.getName()))
@@ -78,9 +82,9 @@ private ProgressEvent<ResourceModel, CallbackContext> checkExistence(
 	                 .handleError((errorRequest, exception, client, resourceModel, context) ->
 	                         handlePreExistenceCheckErrors(errorRequest, exception, proxyClient, resourceModel, context, request))
 	                 .done(awsResponse -> {
-	                     logger.log(String.format("[ClientRequestToken: %s] Resource exists. Returning control to " +
-	                                     "Workflows to continue DELETE (existence check).",
-	                             request.getClientRequestToken()));
+	                     handlerLog(logger).info(
+	                             "Resource exists. Returning control to Workflows to continue DELETE (existence check).",
+	                             "ClientRequestToken", request.getClientRequestToken());
 	                     return ProgressEvent.progress(model, callbackContext);
 	                 });
 	     }
@@ -97,10 +101,10 @@ private ProgressEvent<ResourceModel, CallbackContext> checkExistence(
 
 	         final String errorCode = getErrorCode(exception);
 	         if (ENTITY_NOT_FOUND_EXCEPTION.equals(errorCode)) {
-	             logger.log(String.format("[ClientRequestToken: %s] Resource does not exists." +
-	                             "Failing Delete operation. CallbackContext: %s%n",
-	                     request.getClientRequestToken(),
-	                     callbackContext));
+	             final HandlerLog log = handlerLog(logger);
+	             log.info("Resource does not exist. Failing Delete operation.",
+	                     "ClientRequestToken", request.getClientRequestToken());
+	             log.debug("Callback context", "CallbackContext", callbackContext);
 
 	             return ProgressEvent.failed(
 	                     resourceModel,
@@ -0,0 +1,152 @@
+package software.amazon.glue.job;
+
+import lombok.Value;
+import software.amazon.awssdk.services.glue.model.GetJobResponse;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived GetJob response cache shared by the Job handlers running in this JVM, keyed by
+ * (account, region, job name).
+ *
+ * Only successful responses are cached. Every mutating call made through this provider invalidates
+ * the entry before and after it is sent and bumps a write epoch; a load that started before a write
+ * completed is never stored, so a read can not resurrect the pre-write state.
+ *
+ * The existence checks of Create and Delete do not go through the cache: a job created or deleted
+ * outside this JVM would otherwise be reported as missing or present for up to the TTL.
+ */
+final class GetJobResponseCache {
+
+    private static final GetJobResponseCache SHARED = new GetJobResponseCache(
+            HandlerSetting.GET_JOB_CACHE_ENABLED.booleanValue(),
+            HandlerSetting.GET_JOB_CACHE_MAX_ENTRIES.longValue(),
+            TimeUnit.MILLISECONDS.toNanos(HandlerSetting.GET_JOB_CACHE_TTL_MILLIS.longValue()),
+            System::nanoTime);
+
+    private final boolean enabled;
+    private final long maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    // Access ordered, so iteration starts at the least recently used entry
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final AtomicLong writeEpoch = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    GetJobResponseCache(final boolean enabled, final long maxEntries, final long ttlNanos, final LongSupplier nanoTime) {
+        this.enabled = enabled && maxEntries > 0 && ttlNanos > 0;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    static GetJobResponseCache shared() {
+        return SHARED;
+    }
+
+    static String key(final String awsAccountId, final String region, final String jobName) {
+        return awsAccountId + ":" + region + ":" + jobName;
+    }
+
+    /**
+     * Returns the cached response for the key, or invokes the loader and caches its result. Exceptions
+     * thrown by the loader propagate unchanged and nothing is cached.
+     */
+    GetJobResponse get(final String key, final Supplier<GetJobResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        final long epoch;
+        synchronized (this) {
+            final CachedResponse entry = entries.get(key);
+            if (entry != null) {
+                if (nanoTime.getAsLong() - entry.loadedAtNanos < ttlNanos) {
+                    hits.incrementAndGet();
+                    return entry.response;
+                }
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+            misses.incrementAndGet();
+            epoch = writeEpoch.get();
+        }
+        final GetJobResponse response = loader.get();
+        if (response != null) {
+            put(key, response, epoch);
+        }
+        return response;
+    }
+
+    /**
+     * Runs a mutating call for the job behind the key, invalidating its entry before and after the call.
+     */
+    <T> T mutate(final String key, final Supplier<T> call) {
+        invalidate(key);
+        try {
+            return call.get();
+        } finally {
+            invalidate(key);
+        }
+    }
+
+    synchronized void invalidate(final String key) {
+        writeEpoch.incrementAndGet();
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        writeEpoch.incrementAndGet();
+        entries.clear();
+    }
+
+    Stats stats() {
+        final int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new Stats(size, hits.get(), misses.get(), evictions.get());
+    }
+
+    private synchronized void put(final String key, final GetJobResponse response, final long epoch) {
+        if (writeEpoch.get() != epoch) {
+            return;
+        }
+        entries.put(key, new CachedResponse(response, nanoTime.getAsLong()));
+        final Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private static final class CachedResponse {
+        private final GetJobResponse response;
+        private final long loadedAtNanos;
+
+        private CachedResponse(final GetJobResponse response, final long loadedAtNanos) {
+            this.response = response;
+            this.loadedAtNanos = loadedAtNanos;
+        }
+    }
+
+    /**
+     * Point in time view of the cache counters.
+     */
+    @Value
+    static class Stats {
+        int size;
+        long hits;
+        long misses;
+        long evictions;
+    }
+}
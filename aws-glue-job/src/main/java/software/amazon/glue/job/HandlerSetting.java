@@ -0,0 +1,72 @@
+package software.amazon.glue.job;
+
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.glue.common.Settings;
+
+import java.util.Locale;
+
+/**
+ * Tunables for the Job handlers. Each setting can be supplied as a JVM system property
+ * or as the matching environment variable (upper case, dots replaced with underscores).
+ */
+enum HandlerSetting implements SystemSetting {
+    RATE_LIMITER_ENABLED("glue.job.rateLimiter.enabled", "true"),
+    RATE_LIMITER_INITIAL_RATE("glue.job.rateLimiter.initialRate", "10"),
+    RATE_LIMITER_MIN_RATE("glue.job.rateLimiter.minRate", "0.5"),
+    RATE_LIMITER_MAX_RATE("glue.job.rateLimiter.maxRate", "20"),
+    RATE_LIMITER_INCREASE_STEP("glue.job.rateLimiter.increaseStep", "0.1"),
+    RATE_LIMITER_DECREASE_FACTOR("glue.job.rateLimiter.decreaseFactor", "0.5"),
+    RATE_LIMITER_COOLDOWN_MILLIS("glue.job.rateLimiter.cooldownMillis", "1000"),
+    RATE_LIMITER_MAX_WAIT_MILLIS("glue.job.rateLimiter.maxWaitMillis", "20000"),
+    CONCURRENT_READ_ENABLED("glue.job.read.concurrent", "false"),
+    GET_JOB_CACHE_ENABLED("glue.job.getJobCache.enabled", "true"),
+    GET_JOB_CACHE_MAX_ENTRIES("glue.job.getJobCache.maxEntries", "512"),
+    GET_JOB_CACHE_TTL_MILLIS("glue.job.getJobCache.ttlMillis", "5000"),
+    LIST_DRAIN_ENABLED("glue.job.list.drain.enabled", "false"),
+    LIST_DRAIN_TIME_BUDGET_MILLIS("glue.job.list.drain.timeBudgetMillis", "20000"),
+    LIST_DRAIN_MAX_BYTES("glue.job.list.drain.maxBytes", "1048576"),
+    WARM_UP_ENABLED("glue.job.warmUp.enabled", "true"),
+    METRICS_ENABLED("glue.job.metrics.enabled", "true"),
+    LOG_LEVEL("glue.job.log.level", "INFO"),
+    LOG_FORMAT("glue.job.log.format", "TEXT"),
+    LOG_MAX_FIELD_LENGTH("glue.job.log.maxFieldLength", "2048");
+
+    private final String property;
+    private final String defaultValue;
+
+    HandlerSetting(final String property, final String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return property.replace('.', '_').toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    boolean booleanValue() {
+        return Settings.booleanValue(this);
+    }
+
+    long longValue() {
+        return Settings.longValue(this);
+    }
+
+    double doubleValue() {
+        return Settings.doubleValue(this);
+    }
+
+    <E extends Enum<E>> E enumValue(final Class<E> type) {
+        return Settings.enumValue(this, type);
+    }
+}
@@ -0,0 +1,81 @@
+package software.amazon.glue.job;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Builds Job ARNs for the Job handlers running in this JVM, memoized by (account, region, job name).
+ *
+ * The partition is resolved from a precomputed table of region prefixes rather than by matching the
+ * region name, so regions of the ISO partitions resolve correctly and a region is only resolved once.
+ */
+final class JobArns {
+
+    private static final int MAX_ENTRIES = 1024;
+    private static final JobArns SHARED = new JobArns(MAX_ENTRIES);
+
+    // Longest prefix first, us-isob- has to be checked before us-iso-
+    private static final String[][] PARTITIONS_BY_REGION_PREFIX = {
+            {"us-isob-", "aws-iso-b"},
+            {"us-isof-", "aws-iso-f"},
+            {"eu-isoe-", "aws-iso-e"},
+            {"us-iso-", "aws-iso"},
+            {"us-gov-", "aws-us-gov"},
+            {"cn-", "aws-cn"},
+    };
+    private static final String DEFAULT_PARTITION = "aws";
+
+    private static final ConcurrentMap<String, String> PARTITIONS = new ConcurrentHashMap<>();
+
+    private final int maxEntries;
+    // Access ordered, so iteration starts at the least recently used entry
+    private final Map<String, String> arns = new LinkedHashMap<>(16, 0.75f, true);
+
+    JobArns(final int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    static JobArns shared() {
+        return SHARED;
+    }
+
+    static String partition(final String region) {
+        return PARTITIONS.computeIfAbsent(region, JobArns::resolvePartition);
+    }
+
+    String jobArn(final String awsAccountId, final String region, final String jobName) {
+        final String key = GetJobResponseCache.key(awsAccountId, region, jobName);
+        synchronized (this) {
+            final String arn = arns.get(key);
+            if (arn != null) {
+                return arn;
+            }
+        }
+        final String arn = "arn:" + partition(region) + ":glue:" + region + ":" + awsAccountId + ":job/" + jobName;
+        synchronized (this) {
+            arns.put(key, arn);
+            final Iterator<Map.Entry<String, String>> eldest = arns.entrySet().iterator();
+            while (arns.size() > maxEntries && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return arn;
+    }
+
+    synchronized int size() {
+        return arns.size();
+    }
+
+    private static String resolvePartition(final String region) {
+        for (final String[] entry : PARTITIONS_BY_REGION_PREFIX) {
+            if (region.startsWith(entry[0])) {
+                return entry[1];
+            }
+        }
+        return DEFAULT_PARTITION;
+    }
+}
@@ -9,12 +9,29 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import java.util.ArrayList;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.ListPaginator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Rough JSON overhead of a model besides the job name
+    private static final long MODEL_OVERHEAD_BYTES = 16L;
 
+    private final ListPaginator paginator;
+
+    public ListHandler() {
+        this(ListPaginator.fromSettings(
+            HandlerSetting.LIST_DRAIN_ENABLED,
+            HandlerSetting.LIST_DRAIN_TIME_BUDGET_MILLIS,
+            HandlerSetting.LIST_DRAIN_MAX_BYTES));
+    }
+
+    ListHandler(final ListPaginator paginator) {
+        this.paginator = paginator;
+    }
 
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -26,8 +43,9 @@ public class ListHandler extends BaseHandlerStd {
 
 
         final ResourceModel model = request.getDesiredResourceState();
-        logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Calling List Jobs", request.getStackId(),
-                             request.getClientRequestToken()));
+        handlerLog(logger).info("Calling List Jobs",
+            "StackId", request.getStackId(),
+            "ClientRequestToken", request.getClientRequestToken());
 
         return listJobs(proxyClient, callbackContext, model, logger, request, proxy);
 
@@ -43,7 +61,7 @@ public class ListHandler extends BaseHandlerStd {
     ){
         return proxy.initiate("AWS-Glue-Job::ListHandler", proxyClient, model, callbackContext)
             .translateToServiceRequest(listRequest -> Translator.translateToListRequest(request.getNextToken()))
-            .makeServiceCall((awsRequest, client) -> listJobResponse(proxyClient, awsRequest, logger))
+            .makeServiceCall((awsRequest, client) -> listJobPages(proxyClient, awsRequest, logger))
             .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
             .done(listJobsResponse -> ProgressEvent.<ResourceModel, CallbackContext> builder()
                     .resourceModels(Translator.translateFromListResponse(listJobsResponse))
@@ -52,13 +70,36 @@ public class ListHandler extends BaseHandlerStd {
                     .build());
     }
 
+    /**
+     * Lists one page, or several when draining is enabled, and folds them into a single response
+     * carrying the token of the first page that was not fetched.
+     */
+    private ListJobsResponse listJobPages(
+        final ProxyClient<GlueClient> proxyClient,
+        final ListJobsRequest awsRequest,
+        final Logger logger) {
+        final ListPaginator.Page<String> page = paginator.list(
+            awsRequest.nextToken(),
+            nextToken -> listJobResponse(proxyClient, awsRequest.toBuilder().nextToken(nextToken).build(), logger),
+            listJobsResponse -> Optional.ofNullable(listJobsResponse.jobNames())
+                .map(List::stream)
+                .orElseGet(Stream::empty),
+            ListJobsResponse::nextToken,
+            jobName -> MODEL_OVERHEAD_BYTES + jobName.length());
+        handlerLog(logger).log(HandlerLog.Level.INFO, page::summary);
+        return ListJobsResponse.builder()
+                .jobNames(page.getModels())
+                .nextToken(page.getNextToken())
+                .build();
+    }
+
     private ListJobsResponse listJobResponse (
         final ProxyClient<GlueClient> proxyClient,
         final ListJobsRequest awsRequest,
         final Logger logger){
         ListJobsResponse response = proxyClient
                 .injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::listJobs);
-        logger.log("Successfully listed all jobs.");
+        handlerLog(logger).info("Successfully listed all jobs.");
         return response;
     }
 }
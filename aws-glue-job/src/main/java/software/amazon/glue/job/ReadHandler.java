@@ -1,4 +1,5 @@
 package software.amazon.glue.job;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.GetTagsRequest;
 import software.amazon.awssdk.services.glue.model.GetTagsResponse;
@@ -12,10 +13,26 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
 public class ReadHandler extends BaseHandlerStd {
 
+    private final Supplier<GlueAsyncClient> glueAsyncClient;
+
     private Logger logger;
 
+    public ReadHandler() {
+        super();
+        this.glueAsyncClient = HandlerSetting.CONCURRENT_READ_ENABLED.booleanValue() ? ClientBuilder::getAsyncClient : null;
+    }
+
+    ReadHandler(final GlueClient glueClient, final GlueAsyncClient glueAsyncClient) {
+        super(glueClient);
+        this.glueAsyncClient = glueAsyncClient != null ? () -> glueAsyncClient : null;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -35,11 +52,17 @@ public class ReadHandler extends BaseHandlerStd {
                         .failed(model, callbackContext, HandlerErrorCode.InvalidRequest, NAME_CANNOT_BE_EMPTY);
             }
 
-        logger.log(String.format("[StackId: %s, ClientRequestToken: %s, Name: %s] Entered Read Handler",
-	                 request.getStackId(), request.getClientRequestToken(), model.getName()));
+        handlerLog(logger).info("Entered Read Handler",
+            "StackId", request.getStackId(),
+            "ClientRequestToken", request.getClientRequestToken(),
+            "Name", model.getName());
+
+        if (glueAsyncClient != null) {
+            return readConcurrently(proxy, request, callbackContext, proxyClient, model, logger);
+        }
 
         return ProgressEvent.progress(model, callbackContext)
-            .then(progress -> getJob(proxyClient, callbackContext, model, logger, proxy))
+            .then(progress -> getJob(proxyClient, callbackContext, model, logger, proxy, request))
             .then(progress -> getTags(proxyClient, callbackContext, model, logger, proxy, request));
     }
 
@@ -48,11 +71,12 @@ public class ReadHandler extends BaseHandlerStd {
         final CallbackContext callbackContext,
         final ResourceModel model,
         final Logger logger,
-        final AmazonWebServicesClientProxy proxy){
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request){
 
         return proxy.initiate("AWS-Glue-Job::ReadHandler", proxyClient, model, callbackContext)
             .translateToServiceRequest(resourcemodel -> Translator.translateToReadRequest(resourcemodel.getName()))
-            .makeServiceCall((getJobRequest,client) -> getJobResponse (proxyClient, model.getName(),getJobRequest, callbackContext))
+            .makeServiceCall((getJobRequest,client) -> getJobResponse (proxyClient, model.getName(),getJobRequest, callbackContext, request))
             .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
             .progress();
             }
@@ -74,15 +98,58 @@ public class ReadHandler extends BaseHandlerStd {
                 Translator.translateFromReadResponse(callbackContext)));
             }
 
+    /**
+     * Sends GetTags and, on a cache miss, GetJob at the same time on the async client, so the read takes
+     * as long as the slower of the two calls. GetJob failures are reported first, which keeps NotFound semantics
+     * identical to the sequential path.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> readConcurrently(
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final CallbackContext callbackContext,
+        final ProxyClient<GlueClient> proxyClient,
+        final ResourceModel model,
+        final Logger logger) {
+
+        final ProxyClient<GlueAsyncClient> asyncProxyClient = proxy.newProxy(glueAsyncClient);
+        final GetJobRequest getJobRequest = Translator.translateToReadRequest(model.getName());
+        final GetTagsRequest getTagsRequest = Translator.translateToReadTagRequest(generateArn(request, model));
+
+        final CompletableFuture<GetTagsResponse> getTagsFuture =
+            asyncProxyClient.injectCredentialsAndInvokeV2Async(getTagsRequest, asyncProxyClient.client()::getTags);
+
+        try {
+            // GetJob is only sent on a cache miss, still overlapping with the GetTags call already in flight
+            callbackContext.setGetJobResponse(GetJobResponseCache.shared().get(
+                GetJobResponseCache.key(request.getAwsAccountId(), request.getRegion(), model.getName()),
+                () -> asyncProxyClient.injectCredentialsAndInvokeV2Async(getJobRequest, asyncProxyClient.client()::getJob).join()));
+            handlerLog(logger).info("Reading Job", "Name", model.getName());
+        } catch (final CompletionException e) {
+            getTagsFuture.cancel(true);
+            return handleError(getJobRequest, logger, unwrap(e), proxyClient, model, callbackContext);
+        }
+        try {
+            callbackContext.setGetTagsResponse(getTagsFuture.join());
+        } catch (final CompletionException e) {
+            return handleError(getTagsRequest, logger, unwrap(e), proxyClient, model, callbackContext);
+        }
+        return ProgressEvent.defaultSuccessHandler(Translator.translateFromReadResponse(callbackContext));
+    }
+
+    private static Exception unwrap(final CompletionException e) {
+        final Throwable cause = e.getCause();
+        return cause instanceof Exception ? (Exception) cause : e;
+    }
+
     private GetJobResponse getJobResponse(
                 final ProxyClient<GlueClient> proxyClient,
                 final String jobName,
                 final GetJobRequest awsRequest,
-                final CallbackContext callbackContext){
+                final CallbackContext callbackContext,
+                final ResourceHandlerRequest<ResourceModel> request){
 
-            GetJobResponse response = proxyClient
-                .injectCredentialsAndInvokeV2(awsRequest, proxyClient.client()::getJob);
-            logger.log(String.format("Reading Job %s.", jobName));
+            GetJobResponse response = getJobThroughCache(proxyClient, awsRequest, request);
+            handlerLog(logger).info("Reading Job", "Name", jobName);
             callbackContext.setGetJobResponse(response);
                 return response;
         }
@@ -98,22 +165,6 @@ public class ReadHandler extends BaseHandlerStd {
 
     private String generateArn(final ResourceHandlerRequest<ResourceModel> request,
                                final ResourceModel model) {
-
-        String regionName = request.getRegion();
-        String partition = getPartition(regionName);
-        return String.format("arn:%s:glue:%s:%s:job/%s",
-                partition,
-                regionName,
-                request.getAwsAccountId(),
-                model.getName());
-    }
-
-    private String getPartition(String regionName) {
-        if (regionName.matches(".*cn.*")) {
-            return "aws-cn";
-        } else if (regionName.matches(".*gov.*")) {
-            return "aws-us-gov";
-        }
-        return "aws";
+        return JobArns.shared().jobArn(request.getAwsAccountId(), request.getRegion(), model.getName());
     }
 }
@@ -1,6 +1,7 @@
 package software.amazon.glue.job;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -61,31 +62,6 @@ public class Translator {
         final String jobName,
         final ResourceModel model)
         {
-        if(CollectionUtils.isNullOrEmpty(tags)){
-            return CreateJobRequest.builder()
-                .name(jobName)
-                .description(model.getDescription())
-                .logUri(model.getLogUri())
-                .role(model.getRole())
-                .executionProperty(translateToSDKCompatibleExecutionProperty(model.getExecutionProperty()))
-                .command(translateToSDKCompatibleJobCommand(model.getCommand()))
-                .defaultArguments(convertObjectMapToStringMap(model.getDefaultArguments()))
-                .nonOverridableArguments(convertObjectMapToStringMap(model.getNonOverridableArguments()))
-                .connections(translateToSDKCompatibleConnections(model.getConnections()))
-                .maxRetries(doubleToInt(model.getMaxRetries()))
-                .allocatedCapacity(doubleToInt(model.getAllocatedCapacity()))
-                .timeout(model.getTimeout())
-                .maxCapacity(model.getMaxCapacity())
-                .securityConfiguration(model.getSecurityConfiguration())
-                .tags(Collections.emptyMap())
-                .notificationProperty(translateToSDKCompatibleNotificationProperty(model.getNotificationProperty()))
-                .glueVersion(model.getGlueVersion())
-                .numberOfWorkers(model.getNumberOfWorkers())
-                .workerType(model.getWorkerType())
-                .executionClass(model.getExecutionClass())
-                .maintenanceWindow(model.getMaintenanceWindow())
-                .build();
-        }
         return CreateJobRequest.builder()
                 .name(jobName)
                 .description(model.getDescription())
@@ -101,7 +77,7 @@ public class Translator {
                 .timeout(model.getTimeout())
                 .maxCapacity(model.getMaxCapacity())
                 .securityConfiguration(model.getSecurityConfiguration())
-                .tags(tags)
+                .tags(CollectionUtils.isNullOrEmpty(tags) ? Collections.emptyMap() : tags)
                 .notificationProperty(translateToSDKCompatibleNotificationProperty(model.getNotificationProperty()))
                 .glueVersion(model.getGlueVersion())
                 .numberOfWorkers(model.getNumberOfWorkers())
@@ -133,6 +109,19 @@ public class Translator {
 
 
 
+    /**
+     * UpdateJob replaces the whole job definition, so it only has to be called when the JobUpdate built
+     * from the desired model differs from the one built from the previous model. Tags are updated
+     * separately and do not count.
+     *
+     * @param previousModel the previous resource state, null if unknown
+     * @param desiredModel the desired resource state
+     * @return whether UpdateJob has to be called
+     */
+    static boolean isJobUpdateRequired(final ResourceModel previousModel, final ResourceModel desiredModel) {
+        return previousModel == null || !translateToJobUpdate(previousModel).equals(translateToJobUpdate(desiredModel));
+    }
+
     static JobUpdate translateToJobUpdate(final ResourceModel desiredModel){
         final JobUpdate.Builder builder = JobUpdate.builder()
             .role(desiredModel.getRole())
@@ -210,15 +199,38 @@ public class Translator {
                 .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (v1, v2) -> v2));
     }
 
+    /**
+     * Converts model arguments to the String map the SDK expects. Argument values are almost always Strings
+     * already, in which case the model map is returned as a read-only view instead of being copied, the SDK
+     * builders take their own copy anyway. Otherwise the values are converted in a single pass into a map
+     * sized for the arguments up front.
+     *
+     * @param objectMap arguments from the resource model
+     * @return the arguments with String values, or null if there are none
+     */
+    @SuppressWarnings("unchecked")
     static Map<String, String> convertObjectMapToStringMap(Map<String, Object> objectMap) {
         if (MapUtils.isEmpty(objectMap)) {
 
             return null;
         }
-        return objectMap.entrySet().stream()
-                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().toString()));
-
+        boolean allStrings = true;
+        for (final Object value : objectMap.values()) {
+            if (!(value instanceof String)) {
+                allStrings = false;
+                break;
+            }
+        }
+        if (allStrings) {
+            return Collections.unmodifiableMap((Map<String, String>) (Map<String, ?>) objectMap);
+        }
 
+        final Map<String, String> stringMap = new HashMap<>((int) (objectMap.size() / 0.75f) + 1);
+        for (final Map.Entry<String, Object> entry : objectMap.entrySet()) {
+            final Object value = entry.getValue();
+            stringMap.put(entry.getKey(), value instanceof String ? (String) value : value.toString());
+        }
+        return stringMap;
     }
 
     static Integer doubleToInt(Double num){
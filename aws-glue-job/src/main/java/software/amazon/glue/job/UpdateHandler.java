@@ -1,10 +1,7 @@
 package software.amazon.glue.job;
-import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import com.google.common.collect.Sets;
 
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.utils.StringUtils;
@@ -14,6 +11,7 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.TagReconciler;
 
 public class UpdateHandler extends BaseHandlerStd {
 
@@ -37,10 +35,19 @@ public class UpdateHandler extends BaseHandlerStd {
             .failed(model, callbackContext, HandlerErrorCode.InvalidRequest, NAME_CANNOT_BE_EMPTY);
 
         }
-        logger.log(String.format("[StackId: %s, ClientRequestToken: %s] Update Job", request.getStackId(), request.getClientRequestToken()));
+        handlerLog(logger).info("Update Job",
+            "StackId", request.getStackId(),
+            "ClientRequestToken", request.getClientRequestToken());
 
         return ProgressEvent.progress(model, callbackContext)
-            .then(progress -> updateJob(proxy, proxyClient, model, callbackContext, request))
+            .then(progress -> {
+                if (!Translator.isJobUpdateRequired(previousModel, model)) {
+                    handlerLog(logger).info("Job definition unchanged, skipping UpdateJob",
+                        "StackId", request.getStackId());
+                    return progress;
+                }
+                return updateJob(proxy, proxyClient, model, callbackContext, request);
+            })
             .then(progress -> updateTags(proxy, proxyClient, progress, request, callbackContext, model, previousModel))
             .then(progress -> ProgressEvent.success(model, callbackContext));
 
@@ -57,8 +64,9 @@ public class UpdateHandler extends BaseHandlerStd {
         return proxy.initiate("AWS-Glue-Job::UpdateHandler", proxyClient, desiredModel, callbackContext)
             .translateToServiceRequest(resourceModel -> Translator.translateToUpdateRequest(desiredModel))
             .makeServiceCall((updateJobRequest, client) -> {
-                logger.log(String.format("[StackId: %s] Invoking update Job request", request.getStackId()));
-                return proxyClient.injectCredentialsAndInvokeV2(updateJobRequest, client.client()::updateJob);
+                handlerLog(logger).debug("Invoking update Job request", "StackId", request.getStackId());
+                return invalidatingJobCache(request, desiredModel.getName(),
+                    () -> proxyClient.injectCredentialsAndInvokeV2(updateJobRequest, client.client()::updateJob));
             })
             .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
             .progress();
@@ -75,26 +83,40 @@ public class UpdateHandler extends BaseHandlerStd {
         final ResourceModel previousModel){
 
 
-            final Map<String, String> previousTags = new HashMap<>();
-            Map<String, String> convertedPreviousTags = Translator.convertObjectMapToStringMap(previousModel.getTags());
-            previousTags.putAll(Optional.ofNullable(convertedPreviousTags).orElse(Collections.emptyMap()));
-            previousTags.putAll(Optional.ofNullable(request.getPreviousResourceTags()).orElse(Collections.emptyMap()));
+            final Map<String, String> previousTags = mergeTags(
+                previousModel == null ? null : previousModel.getTags(), request.getPreviousResourceTags());
+            final Map<String, String> desiredTags = mergeTags(resourceModel.getTags(), request.getDesiredResourceTags());
 
-            final Map<String, String> desiredTags = new HashMap<>();
-            Map<String, String> convertedDesiredTags = Translator.convertObjectMapToStringMap(resourceModel.getTags());
-            desiredTags.putAll(Optional.ofNullable(convertedDesiredTags).orElse(Collections.emptyMap()));
-            desiredTags.putAll(Optional.ofNullable(request.getDesiredResourceTags()).orElse(Collections.emptyMap()));
+            // Only the tags the template changed are touched, tags added to the job outside of the stack are kept
+            return applyTags(proxy, proxyClient, resourceModel, callbackContext, request,
+                TagReconciler.reconcile(previousTags, desiredTags));
+        }
 
-            Map<String, String> tagsToDelete = getTagsToDelete(previousTags, desiredTags);
-            Map<String, String> tagsToCreate = getTagsToCreate(previousTags, desiredTags);
+        private ProgressEvent<ResourceModel, CallbackContext> applyTags(
+            final AmazonWebServicesClientProxy proxy,
+            final ProxyClient<GlueClient> proxyClient,
+            final ResourceModel resourceModel,
+            final CallbackContext callbackContext,
+            final ResourceHandlerRequest<ResourceModel> request,
+            final TagReconciler.Plan plan) {
 
-            return progress
-                    .then(_progress -> tagsToDelete.isEmpty()
-                            ? ProgressEvent.progress(resourceModel, callbackContext)
-                            : deleteTags(proxy, proxyClient, resourceModel, callbackContext, request, tagsToDelete))
-                    .then(_progress -> tagsToCreate.isEmpty()
-                            ? ProgressEvent.progress(resourceModel, callbackContext)
-                            : createTags(proxy, proxyClient, resourceModel, callbackContext, request, tagsToCreate));
+            ProgressEvent<ResourceModel, CallbackContext> progress = ProgressEvent.progress(resourceModel, callbackContext);
+            if (plan.isEmpty()) {
+                return progress;
+            }
+            final List<Map<String, String>> removals = plan.tagsToRemoveInBatches();
+            for (int i = 0; i < removals.size(); i++) {
+                final int batch = i;
+                progress = progress.then(_progress ->
+                    deleteTags(proxy, proxyClient, resourceModel, callbackContext, request, removals.get(batch), batch));
+            }
+            final List<Map<String, String>> additions = plan.tagsToAddInBatches();
+            for (int i = 0; i < additions.size(); i++) {
+                final int batch = i;
+                progress = progress.then(_progress ->
+                    createTags(proxy, proxyClient, resourceModel, callbackContext, request, additions.get(batch), batch));
+            }
+            return progress;
         }
 
         protected ProgressEvent<ResourceModel, CallbackContext> createTags(
@@ -103,11 +125,13 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel desiredModel,
             final CallbackContext callbackContext,
             final ResourceHandlerRequest<ResourceModel> request,
-            final Map<String, String> tagsToCreate){
-                return proxy. initiate("AWS-Glue-Job::CreateTags", proxyClient, desiredModel, callbackContext)
+            final Map<String, String> tagsToCreate,
+            final int batch){
+                return proxy. initiate("AWS-Glue-Job::CreateTags-" + batch, proxyClient, desiredModel, callbackContext)
                     .translateToServiceRequest(cbRequest -> Translator.translateToCreateTagsRequest(tagsToCreate, generateArn
                     (request, desiredModel)))
-                    .makeServiceCall((cbRequest, cbProxyClient) -> cbProxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::tagResource))
+                    .makeServiceCall((cbRequest, cbProxyClient) -> invalidatingJobCache(request, desiredModel.getName(),
+                        () -> cbProxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::tagResource)))
                     .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
                     .progress();
             }
@@ -118,84 +142,39 @@ public class UpdateHandler extends BaseHandlerStd {
             final ResourceModel desiredModel,
             final CallbackContext callbackContext,
             final ResourceHandlerRequest<ResourceModel> request,
-            final Map<String, String> tagsToDelete)
+            final Map<String, String> tagsToDelete,
+            final int batch)
             {
-                return proxy.initiate("AWS-Glue-Job::DeleteTags", proxyClient, desiredModel, callbackContext)
+                return proxy.initiate("AWS-Glue-Job::DeleteTags-" + batch, proxyClient, desiredModel, callbackContext)
                     .translateToServiceRequest(cbRequest -> Translator.translateToRemoveTagsRequest(tagsToDelete, generateArn(request, desiredModel)))
-                    .makeServiceCall((cbRequest, cbProxyClient) -> cbProxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::untagResource))
+                    .makeServiceCall((cbRequest, cbProxyClient) -> invalidatingJobCache(request, desiredModel.getName(),
+                        () -> cbProxyClient.injectCredentialsAndInvokeV2(cbRequest, cbProxyClient.client()::untagResource)))
                     .handleError((errorRequest, exception, client, resourceModel, context) -> handleError(errorRequest, logger, exception, client, resourceModel, context))
                     .progress();
 
             }
 
-        private static Map<String, String> getTagsToDelete(
-            final Map<String, String> oldTags,
-            final Map<String, String> newTags) {
+        /**
+         * Tags from the model, overridden by the resource level tags CloudFormation passes in.
+         */
+        private static Map<String, String> mergeTags(
+            final Map<String, Object> modelTags,
+            final Map<String, String> resourceTags) {
 
             final Map<String, String> tags = new HashMap<>();
-            if (oldTags != null && newTags != null){
-                if (newTags.isEmpty())
-                {
-                    return oldTags;
-                } else if (oldTags.isEmpty())
-                {
-                    return newTags;
-                }
-                final Set<String> removedKeys = Sets.difference(oldTags.keySet(), newTags.keySet());
-                for (String key : removedKeys){
-                    if (oldTags.get(key) != null){
-                        tags.put(key, oldTags.get(key));
-                    }
-                }
+            final Map<String, String> convertedModelTags = Translator.convertObjectMapToStringMap(modelTags);
+            if (convertedModelTags != null) {
+                tags.putAll(convertedModelTags);
             }
-            return tags;
-        }
-
-        private static Map<String, String> getTagsToCreate(
-            final Map<String, String> oldTags,
-            final Map<String, String> newTags ){
-
-            final Map<String, String> tags = new HashMap<>();
-            if (oldTags != null && newTags != null) {
-                if (newTags.isEmpty())
-                {
-                    return Collections.emptyMap();
-                }
-                else if (oldTags.isEmpty())
-                {
-                    return newTags;
-                }
-                final Set<Map.Entry<String, String>> entriesToCreate = Sets.difference(newTags.entrySet(), oldTags.entrySet());
-                for (Map.Entry<String, String> entry: entriesToCreate)
-                {
-                    if(entry.getKey() != null && entry.getValue() != null)
-                    {
-                        tags.put(entry.getKey(), entry.getValue());
-                    }
-                }
+            if (resourceTags != null) {
+                tags.putAll(resourceTags);
             }
             return tags;
         }
 
         private String generateArn(final ResourceHandlerRequest<ResourceModel> request,
                                final ResourceModel model) {
-
-        String regionName = request.getRegion();
-        String partition = getPartition(regionName);
-        return String.format("arn:%s:glue:%s:%s:job/%s",
-                partition,
-                regionName,
-                request.getAwsAccountId(),
-                model.getName());
+        return JobArns.shared().jobArn(request.getAwsAccountId(), request.getRegion(), model.getName());
     }
 
-        private String getPartition(String regionName) {
-            if (regionName.matches(".*cn.*")) {
-                return "aws-cn";
-            } else if (regionName.matches(".*gov.*")) {
-                return "aws-us-gov";
-            }
-            return "aws";
-        }
-
 }
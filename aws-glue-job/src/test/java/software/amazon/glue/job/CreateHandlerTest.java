@@ -58,6 +58,7 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         System.setProperty("aws.region", "us-east-1");
+        GetJobResponseCache.shared().clear();
         handler = new CreateHandler();
         glueClient = mock(glueClient.getClass());
         proxyClient = MOCK_PROXY(proxy, glueClient);
@@ -27,6 +27,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -55,6 +56,7 @@ public class DeleteHandlerTest extends AbstractTestBase{
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         System.setProperty("aws.region", "us-east-1");
+        GetJobResponseCache.shared().clear();
         handler = new DeleteHandler();
         glueClient = mock(glueClient.getClass());
         proxyClient = MOCK_PROXY(proxy, glueClient);
@@ -177,6 +179,25 @@ public class DeleteHandlerTest extends AbstractTestBase{
                 tear_down();
             }
 
+    @Test
+    public void handleRequest_PreExistenceCheckIgnoresCachedJob() {
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateResourceModel(name), null);
+        // a job deleted outside this JVM while a read of it is still cached
+        GetJobResponseCache.shared().get(
+                GetJobResponseCache.key(request.getAwsAccountId(), request.getRegion(), name),
+                () -> GetJobResponse.builder().job(Job.builder().name(name).role(role).build()).build());
+
+        when(proxyClient.client().getJob(any(GetJobRequest.class)))
+                .thenThrow(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.NotFound);
+        verify(glueClient, never()).deleteJob(any(DeleteJobRequest.class));
+    }
+
         @Test
              void handleRequestThrottlingException_ShouldProgress() {
                  final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateResourceModel(name), null);
@@ -0,0 +1,118 @@
+package software.amazon.glue.job;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.GetJobResponse;
+import software.amazon.awssdk.services.glue.model.Job;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class GetJobResponseCacheTest {
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final String KEY = GetJobResponseCache.key("123456789012", "us-east-1", "job");
+
+    private long now;
+    private AtomicInteger loads;
+    private GetJobResponseCache cache;
+
+    @BeforeEach
+    public void setup() {
+        now = 0L;
+        loads = new AtomicInteger();
+        cache = new GetJobResponseCache(true, 2, TTL_NANOS, () -> now);
+    }
+
+    @Test
+    public void get_ServesCachedResponseUntilTtlExpires() {
+        final GetJobResponse first = cache.get(KEY, loader("job"));
+        assertThat(cache.get(KEY, loader("job"))).isSameAs(first);
+        assertThat(loads.get()).isEqualTo(1);
+
+        now += TTL_NANOS;
+        assertThat(cache.get(KEY, loader("job"))).isNotSameAs(first);
+        assertThat(loads.get()).isEqualTo(2);
+
+        final GetJobResponseCache.Stats stats = cache.stats();
+        assertThat(stats.getHits()).isEqualTo(1);
+        assertThat(stats.getMisses()).isEqualTo(2);
+        assertThat(stats.getEvictions()).isEqualTo(1);
+        assertThat(stats.getSize()).isEqualTo(1);
+    }
+
+    @Test
+    public void get_DoesNotCacheFailures() {
+        assertThrows(IllegalStateException.class, () -> cache.get(KEY, () -> {
+            throw new IllegalStateException("EntityNotFoundException");
+        }));
+
+        cache.get(KEY, loader("job"));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void mutate_InvalidatesEntry() {
+        cache.get(KEY, loader("job"));
+
+        assertThat(cache.mutate(KEY, () -> "updated")).isEqualTo("updated");
+
+        cache.get(KEY, loader("job"));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_DiscardsLoadThatRacedWithWrite() {
+        // A write lands while GetJob is in flight, the pre-write response must not be cached
+        cache.get(KEY, () -> {
+            cache.invalidate(KEY);
+            return loader("job").get();
+        });
+
+        cache.get(KEY, loader("job"));
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    public void get_EvictsLeastRecentlyUsedEntryBeyondCapacity() {
+        final String otherKey = GetJobResponseCache.key("123456789012", "us-east-1", "other");
+        final String thirdKey = GetJobResponseCache.key("123456789012", "us-west-2", "job");
+
+        cache.get(KEY, loader("job"));
+        cache.get(otherKey, loader("other"));
+        cache.get(KEY, loader("job"));
+        cache.get(thirdKey, loader("job"));
+
+        assertThat(cache.stats().getEvictions()).isEqualTo(1);
+        assertThat(cache.stats().getSize()).isEqualTo(2);
+
+        cache.get(KEY, loader("job"));
+        assertThat(loads.get()).isEqualTo(3);
+        cache.get(otherKey, loader("other"));
+        assertThat(loads.get()).isEqualTo(4);
+    }
+
+    @Test
+    public void get_AlwaysLoadsWhenDisabled() {
+        cache = new GetJobResponseCache(false, 2, TTL_NANOS, () -> now);
+
+        cache.get(KEY, loader("job"));
+        cache.get(KEY, loader("job"));
+
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(cache.stats().getHits()).isZero();
+    }
+
+    private Supplier<GetJobResponse> loader(final String name) {
+        return () -> {
+            loads.incrementAndGet();
+            return GetJobResponse.builder()
+                    .job(Job.builder().name(name).build())
+                    .build();
+        };
+    }
+}
@@ -0,0 +1,43 @@
+package software.amazon.glue.job;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JobArnsTest {
+
+    @Test
+    public void partition_ResolvesFromRegionPrefix() {
+        assertThat(JobArns.partition("us-east-1")).isEqualTo("aws");
+        assertThat(JobArns.partition("eu-central-1")).isEqualTo("aws");
+        assertThat(JobArns.partition("cn-northwest-1")).isEqualTo("aws-cn");
+        assertThat(JobArns.partition("us-gov-west-1")).isEqualTo("aws-us-gov");
+        assertThat(JobArns.partition("us-iso-east-1")).isEqualTo("aws-iso");
+        assertThat(JobArns.partition("us-isob-east-1")).isEqualTo("aws-iso-b");
+        assertThat(JobArns.partition("eu-isoe-west-1")).isEqualTo("aws-iso-e");
+        assertThat(JobArns.partition("us-isof-south-1")).isEqualTo("aws-iso-f");
+    }
+
+    @Test
+    public void jobArn_BuildsArnInRegionPartition() {
+        final JobArns arns = new JobArns(10);
+
+        assertThat(arns.jobArn("123456789012", "us-east-1", "job"))
+            .isEqualTo("arn:aws:glue:us-east-1:123456789012:job/job");
+        assertThat(arns.jobArn("123456789012", "us-isob-east-1", "job"))
+            .isEqualTo("arn:aws-iso-b:glue:us-isob-east-1:123456789012:job/job");
+    }
+
+    @Test
+    public void jobArn_MemoizesUpToMaxEntries() {
+        final JobArns arns = new JobArns(2);
+
+        final String first = arns.jobArn("123456789012", "us-east-1", "first");
+        assertThat(arns.jobArn("123456789012", "us-east-1", "first")).isSameAs(first);
+
+        arns.jobArn("123456789012", "us-east-1", "second");
+        arns.jobArn("123456789012", "us-east-1", "third");
+        assertThat(arns.size()).isEqualTo(2);
+        assertThat(arns.jobArn("123456789012", "us-east-1", "first")).isNotSameAs(first).isEqualTo(first);
+    }
+}
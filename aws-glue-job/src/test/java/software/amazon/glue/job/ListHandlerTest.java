@@ -16,16 +16,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.cloudformation.proxy.HandlerErrorCode;
+import software.amazon.glue.common.ListPaginator;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -169,6 +172,24 @@ public class ListHandlerTest extends AbstractTestBase {
                          assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
                      }
 
+    @Test
+    public void handleRequest_DrainsAllPagesWhenEnabled() {
+        handler = new ListHandler(new ListPaginator(true, TimeUnit.SECONDS.toNanos(30), Long.MAX_VALUE, System::nanoTime));
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateStandardValidResourceModel(), null);
+
+        when(proxyClient.client().listJobs(any(ListJobsRequest.class)))
+                .thenReturn(ListJobsResponse.builder().jobNames("job1").nextToken("token").build())
+                .thenReturn(ListJobsResponse.builder().jobNames("job2").build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(resourceModels);
+        assertThat(response.getNextToken()).isNull();
+        verify(glueClient, times(2)).listJobs(any(ListJobsRequest.class));
+    }
+
                      private void givenproxyClientReturnsError(String errorCode, int statusCode) {
                          AwsServiceException exception = AwsServiceException.builder()
                                  .statusCode(statusCode)
@@ -1,5 +1,6 @@
 package software.amazon.glue.job;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.GetTagsRequest;
 import software.amazon.awssdk.services.glue.model.GetTagsResponse;
@@ -28,6 +29,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
@@ -47,8 +52,20 @@ public class ReadHandlerTest extends AbstractTestBase{
 
     @Mock
     GlueClient glueClient;
+
+    @Mock
+    GlueAsyncClient glueAsyncClient;
+
     private ReadHandler handler;
 
+    private static final long GET_JOB_LATENCY_MILLIS = 400L;
+    private static final long GET_TAGS_LATENCY_MILLIS = 300L;
+    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        final Thread thread = new Thread(runnable, "read-handler-test-scheduler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     String name = "sample_glue_job";
     String description = "dummy job for test";
 
@@ -60,6 +77,7 @@ public class ReadHandlerTest extends AbstractTestBase{
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         System.setProperty("aws.region", "us-east-1");
+        GetJobResponseCache.shared().clear();
         handler = new ReadHandler();
         glueClient = mock(glueClient.getClass());
         proxyClient = MOCK_PROXY(proxy, glueClient);
@@ -222,6 +240,88 @@ public class ReadHandlerTest extends AbstractTestBase{
             when(proxyClient.client().getJob(any(GetJobRequest.class))).thenThrow(exception);
         }
 
+    @Test
+    public void handleRequest_ConcurrentRead_TakesAsLongAsSlowerCall() {
+        final ReadHandler concurrentHandler = new ReadHandler(glueClient, glueAsyncClient);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateStandardValidResourceModel(), null);
+
+        final GetJobResponse getJobResponse = GetJobResponse.builder()
+                .job(Job.builder()
+                        .name(name)
+                        .description(description)
+                        .build())
+                .build();
+        final GetTagsResponse getTagsResponse = GetTagsResponse.builder()
+                .tags(tags)
+                .build();
+
+        when(glueAsyncClient.getJob(any(GetJobRequest.class))).thenReturn(completeAfter(GET_JOB_LATENCY_MILLIS, getJobResponse));
+        when(glueAsyncClient.getTags(any(GetTagsRequest.class))).thenReturn(completeAfter(GET_TAGS_LATENCY_MILLIS, getTagsResponse));
+
+        final long start = System.nanoTime();
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = concurrentHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        ResourceModel expectedModel = ResourceModel.builder()
+                .name(name)
+                .description(description)
+                .tags(Translator.convertStringMapToObjectMap(tags))
+                .build();
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(expectedModel);
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(GET_JOB_LATENCY_MILLIS);
+        assertThat(elapsedMillis).isLessThan(GET_JOB_LATENCY_MILLIS + GET_TAGS_LATENCY_MILLIS);
+        verifyNoMoreInteractions(glueClient);
+    }
+
+    @Test
+    public void handleRequest_ConcurrentRead_GetJobNotFoundWins() {
+        final ReadHandler concurrentHandler = new ReadHandler(glueClient, glueAsyncClient);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateStandardValidResourceModel(), null);
+
+        when(glueAsyncClient.getJob(any(GetJobRequest.class)))
+                .thenReturn(failed(exceptionCreator(BaseHandlerStd.ENTITY_NOT_FOUND_EXCEPTION)));
+        when(glueAsyncClient.getTags(any(GetTagsRequest.class)))
+                .thenReturn(failed(exceptionCreator(BaseHandlerStd.ACCESS_DENIED_EXCEPTION)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = concurrentHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode().toString()).isEqualTo(BaseHandlerStd.NOT_FOUND);
+    }
+
+    @Test
+    public void handleRequest_ConcurrentRead_GetTagsFailure() {
+        final ReadHandler concurrentHandler = new ReadHandler(glueClient, glueAsyncClient);
+        final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(generateStandardValidResourceModel(), null);
+
+        when(glueAsyncClient.getJob(any(GetJobRequest.class)))
+                .thenReturn(CompletableFuture.completedFuture(GetJobResponse.builder().job(Job.builder().name(name).build()).build()));
+        when(glueAsyncClient.getTags(any(GetTagsRequest.class)))
+                .thenReturn(failed(exceptionCreator(BaseHandlerStd.ACCESS_DENIED_EXCEPTION)));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response
+                = concurrentHandler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.FAILED);
+        assertThat(response.getErrorCode()).isEqualTo(HandlerErrorCode.AccessDenied);
+    }
+
+    private static <T> CompletableFuture<T> completeAfter(final long delayMillis, final T value) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        SCHEDULER.schedule(() -> future.complete(value), delayMillis, TimeUnit.MILLISECONDS);
+        return future;
+    }
+
+    private static <T> CompletableFuture<T> failed(final Throwable throwable) {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        future.completeExceptionally(throwable);
+        return future;
+    }
+
     private ResourceModel generateStandardValidResourceModel() {
         return ResourceModel.builder()
                 .name(name)
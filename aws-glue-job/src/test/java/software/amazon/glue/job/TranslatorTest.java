@@ -0,0 +1,62 @@
+package software.amazon.glue.job;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.CreateJobRequest;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TranslatorTest {
+
+    @Test
+    public void convertObjectMapToStringMap_ReturnsNullForNoArguments() {
+        assertThat(Translator.convertObjectMapToStringMap(null)).isNull();
+        assertThat(Translator.convertObjectMapToStringMap(Collections.emptyMap())).isNull();
+    }
+
+    @Test
+    public void convertObjectMapToStringMap_KeepsStringValues() {
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("--conf", "spark.sql.shuffle.partitions=200");
+        arguments.put("--extra-py-files", "s3://bucket/a.py,s3://bucket/b.py");
+
+        assertThat(Translator.convertObjectMapToStringMap(arguments))
+            .containsEntry("--conf", "spark.sql.shuffle.partitions=200")
+            .containsEntry("--extra-py-files", "s3://bucket/a.py,s3://bucket/b.py")
+            .hasSize(2);
+    }
+
+    @Test
+    public void convertObjectMapToStringMap_ConvertsOtherValues() {
+        final Map<String, Object> arguments = new HashMap<>();
+        arguments.put("--conf", "spark.sql.shuffle.partitions=200");
+        arguments.put("--retries", 3);
+        arguments.put("--enable-metrics", true);
+
+        assertThat(Translator.convertObjectMapToStringMap(arguments))
+            .containsEntry("--conf", "spark.sql.shuffle.partitions=200")
+            .containsEntry("--retries", "3")
+            .containsEntry("--enable-metrics", "true")
+            .hasSize(3);
+    }
+
+    @Test
+    public void translateToCreateRequest_DefaultsToEmptyTags() {
+        final ResourceModel model = ResourceModel.builder()
+            .role("role")
+            .defaultArguments(Collections.singletonMap("--conf", "value"))
+            .build();
+
+        final CreateJobRequest request = Translator.translateToCreateRequest(null, "job", model);
+
+        assertThat(request.name()).isEqualTo("job");
+        assertThat(request.tags()).isEmpty();
+        assertThat(request.defaultArguments()).containsEntry("--conf", "value");
+        assertThat(request.nonOverridableArguments()).isEmpty();
+        assertThat(Translator.translateToCreateRequest(Collections.singletonMap("team", "platform"), "job", model).tags())
+            .containsEntry("team", "platform");
+    }
+}
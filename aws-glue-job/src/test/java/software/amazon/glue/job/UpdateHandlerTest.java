@@ -7,6 +7,7 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.GetTagsRequest;
 import software.amazon.awssdk.services.glue.model.TagResourceRequest;
 import software.amazon.awssdk.services.glue.model.TagResourceResponse;
 import software.amazon.awssdk.services.glue.model.Job;
@@ -21,8 +22,10 @@ import software.amazon.cloudformation.proxy.HandlerErrorCode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.glue.common.TagReconciler;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -33,6 +36,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -63,6 +68,7 @@ public class UpdateHandlerTest extends AbstractTestBase{
     public void setup() {
         proxy = new AmazonWebServicesClientProxy(logger, MOCK_CREDENTIALS, () -> Duration.ofSeconds(600).toMillis());
         System.setProperty("aws.region", "us-east-1");
+        GetJobResponseCache.shared().clear();
         handler = new UpdateHandler();
         glueClient = mock(glueClient.getClass());
         proxyClient = MOCK_PROXY(proxy, glueClient);
@@ -221,19 +227,6 @@ public class UpdateHandlerTest extends AbstractTestBase{
             when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
                     .thenReturn(tagResourceResponse);
 
-            final UntagResourceResponse untagResourceResponse = UntagResourceResponse.builder()
-                    .build();
-
-            when(proxyClient.client().untagResource(any(UntagResourceRequest.class)))
-                    .thenReturn(untagResourceResponse);
-
-            final UpdateJobResponse updateJobResponse = UpdateJobResponse.builder()
-                            .jobName(name)
-                            .build();
-
-            when(proxyClient.client().updateJob(any(UpdateJobRequest.class)))
-                    .thenReturn(updateJobResponse);
-
             final ProgressEvent<ResourceModel, CallbackContext> response
                     = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
 
@@ -247,6 +240,9 @@ public class UpdateHandlerTest extends AbstractTestBase{
             assertThat(response.getMessage()).isNull();
             assertThat(response.getErrorCode()).isNull();
 
+            // Only the tags changed, so the job definition is left alone and nothing is untagged
+            verify(glueClient, never()).updateJob(any(UpdateJobRequest.class));
+            verify(glueClient, never()).untagResource(any(UntagResourceRequest.class));
             tear_down();
 
         }
@@ -340,7 +336,7 @@ public class UpdateHandlerTest extends AbstractTestBase{
         void handleRequestThrottlingException_ShouldProgress() {
                 ResourceModel previousModel = ResourceModel.builder()
                 .name(name)
-                .description(newDescription)
+                .description(Description)
                 .tags(Collections.emptyMap())
                 .build();
 
@@ -384,6 +380,81 @@ public class UpdateHandlerTest extends AbstractTestBase{
                 assertThat(response.getCallbackDelaySeconds()).isGreaterThan(0);
         }
 
+        @Test
+        public void handleRequest_UnchangedJobMakesNoCalls() {
+                final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(
+                        generateStandardDesiredResourceModel(),
+                        generateStandardDesiredResourceModel());
+
+                final ProgressEvent<ResourceModel, CallbackContext> response
+                        = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+                assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                verifyNoMoreInteractions(glueClient);
+        }
+
+        @Test
+        public void handleRequest_KeepsTagsAddedOutOfBand() {
+                ResourceModel previousModel = ResourceModel.builder()
+                .name(name)
+                .description(newDescription)
+                .tags(previousTags)
+                .build();
+
+                final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(
+                        generateStandardDesiredResourceModel(),
+                        previousModel);
+
+                when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
+                        .thenReturn(TagResourceResponse.builder().build());
+                when(proxyClient.client().untagResource(any(UntagResourceRequest.class)))
+                        .thenReturn(UntagResourceResponse.builder().build());
+
+                final ProgressEvent<ResourceModel, CallbackContext> response
+                        = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+                assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                // Tags are diffed against the previous template, the live tags are never read
+                verify(glueClient, never()).getTags(any(GetTagsRequest.class));
+                final ArgumentCaptor<UntagResourceRequest> untagRequest =
+                        ArgumentCaptor.forClass(UntagResourceRequest.class);
+                verify(glueClient).untagResource(untagRequest.capture());
+                assertThat(untagRequest.getValue().tagsToRemove()).containsExactly("key2");
+                final ArgumentCaptor<TagResourceRequest> tagRequest = ArgumentCaptor.forClass(TagResourceRequest.class);
+                verify(glueClient).tagResource(tagRequest.capture());
+                assertThat(tagRequest.getValue().tagsToAdd()).containsOnlyKeys("key1");
+                tear_down();
+        }
+
+        @Test
+        public void handleRequest_BatchesLargeTagSets() {
+                final Map<String, Object> manyTags = new HashMap<>();
+                for (int i = 0; i < TagReconciler.MAX_TAGS_PER_CALL + 1; i++) {
+                        manyTags.put("key-" + i, "value-" + i);
+                }
+                ResourceModel previousModel = ResourceModel.builder()
+                .name(name)
+                .description(newDescription)
+                .build();
+                ResourceModel desiredModel = ResourceModel.builder()
+                .name(name)
+                .description(newDescription)
+                .tags(manyTags)
+                .build();
+
+                final ResourceHandlerRequest<ResourceModel> request = generateResourceHandlerRequest(desiredModel, previousModel);
+
+                when(proxyClient.client().tagResource(any(TagResourceRequest.class)))
+                        .thenReturn(TagResourceResponse.builder().build());
+
+                final ProgressEvent<ResourceModel, CallbackContext> response
+                        = handler.handleRequest(proxy, request, new CallbackContext(), proxyClient, logger);
+
+                assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+                verify(glueClient, times(2)).tagResource(any(TagResourceRequest.class));
+                tear_down();
+        }
+
         private void givenproxyClientReturnsError(String errorCode, int statusCode) {
                 AwsServiceException exception = AwsServiceException.builder()
                         .statusCode(statusCode)
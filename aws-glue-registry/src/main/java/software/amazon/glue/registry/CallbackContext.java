@@ -1,10 +1,13 @@
 package software.amazon.glue.registry;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.glue.common.Checkpoint;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Steps of this operation already completed by an earlier invocation
+    private Checkpoint checkpoint = new Checkpoint();
 }
@@ -1,16 +1,77 @@
 package software.amazon.glue.registry;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.glue.GlueClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.awssdk.services.glue.model.DeleteRegistryRequest;
+import software.amazon.awssdk.services.glue.model.GetRegistryRequest;
+import software.amazon.awssdk.services.glue.model.ListRegistriesRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.UpdateRegistryRequest;
+import software.amazon.glue.common.AdaptiveRateLimiter;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.GlueWarmUp;
+import software.amazon.glue.common.Settings;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
 
 public class ClientBuilder {
     private ClientBuilder() {
     }
 
+    private static final AdaptiveRateLimiter RATE_LIMITER =
+            Settings.booleanValue(HandlerSetting.RATE_LIMITER_ENABLED)
+                    ? AdaptiveRateLimiter.fromSettings(
+                            HandlerSetting.RATE_LIMITER_INITIAL_RATE,
+                            HandlerSetting.RATE_LIMITER_MIN_RATE,
+                            HandlerSetting.RATE_LIMITER_MAX_RATE,
+                            HandlerSetting.RATE_LIMITER_INCREASE_STEP,
+                            HandlerSetting.RATE_LIMITER_DECREASE_FACTOR,
+                            HandlerSetting.RATE_LIMITER_COOLDOWN_MILLIS,
+                            HandlerSetting.RATE_LIMITER_MAX_WAIT_MILLIS)
+                    : null;
+
+    // Without the rate limiter the client keeps the SDK default retry policy, with its attempts counted
+    private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION =
+            RATE_LIMITER != null
+                ? GlueClients.overrideConfiguration(RATE_LIMITER)
+                : GlueClients.defaultOverrideConfiguration();
+
+    private static final GlueClients<GlueClient> GLUE_CLIENTS =
+            new GlueClients<>(GlueClient::builder, OVERRIDE_CONFIGURATION);
+
+    private static final String WARM_UP_NAME = "warm-up";
+    private static final RegistryId WARM_UP_REGISTRY = RegistryId.builder().registryName(WARM_UP_NAME).build();
+
+    // One representative request per Glue operation the Registry handlers call, see warmUp()
+    private static final GlueWarmUp<GlueClient> WARM_UP = new GlueWarmUp<>(GlueClient::builder,
+            Arrays.<Function<GlueClient, ?>>asList(
+                    glue -> glue.createRegistry(CreateRegistryRequest.builder()
+                            .registryName(WARM_UP_NAME)
+                            .description(WARM_UP_NAME)
+                            .tags(Collections.singletonMap(WARM_UP_NAME, WARM_UP_NAME))
+                            .build()),
+                    glue -> glue.getRegistry(GetRegistryRequest.builder().registryId(WARM_UP_REGISTRY).build()),
+                    glue -> glue.updateRegistry(UpdateRegistryRequest.builder()
+                            .registryId(WARM_UP_REGISTRY)
+                            .description(WARM_UP_NAME)
+                            .build()),
+                    glue -> glue.listRegistries(ListRegistriesRequest.builder().build()),
+                    glue -> glue.deleteRegistry(DeleteRegistryRequest.builder().registryId(WARM_UP_REGISTRY).build())))
+            .registerForCheckpoint();
+
     //It is recommended to use static HTTP client so less memory is consumed.
     public static GlueClient getClient() {
-        return GlueClient.builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return GLUE_CLIENTS.client();
+    }
+
+    /**
+     * Makes every Glue call of the Registry handlers once without a network round trip, so the first invocation does
+     * not pay for loading and initializing the SDK. Runs once per JVM, see {@link GlueWarmUp}.
+     */
+    static GlueWarmUp.Result warmUp() {
+        return WARM_UP.run();
     }
 }
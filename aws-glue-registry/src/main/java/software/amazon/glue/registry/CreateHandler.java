@@ -58,12 +58,9 @@ public class CreateHandler extends BaseHandlerStd {
             translateToCfnException(e, createRegistryRequest.registryName());
         }
 
-        logger.log(
-            String.format("%s [%s] successfully created.",
-                ResourceModel.TYPE_NAME,
-                createRegistryRequest.registryName()
-            )
-        );
+        handlerLog(logger).info("Successfully created",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", createRegistryRequest.registryName());
         return createRegistryResponse;
     }
 
@@ -14,19 +14,18 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.proxy.OperationStatus;
-
-import java.time.Duration;
+import software.amazon.glue.common.Checkpoint;
+import software.amazon.glue.common.StabilizationDelay;
 
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
     private static final Delay DELAY =
-        Constant.of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(2L))
-            .build();
+        StabilizationDelay.fromSettings(
+            HandlerSetting.STABILIZATION_BASE_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_MAX_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_TIMEOUT_SECONDS);
 
     private Logger logger;
 
@@ -49,7 +48,8 @@ public class DeleteHandler extends BaseHandlerStd {
                 )
                     .translateToServiceRequest(this::fromResourceModel)
                     .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteRegistry)
+                    .makeServiceCall((deleteRegistryRequest, client) ->
+                        deleteRegistry(deleteRegistryRequest, client, progress.getCallbackContext()))
                     .stabilize(this::isDeleteStabilized)
                     .done(
                         awsResponse ->
@@ -66,6 +66,8 @@ public class DeleteHandler extends BaseHandlerStd {
         final CallbackContext callbackContext
     ) {
         final String registryName = deleteRegistryResponse.registryName();
+        final Checkpoint checkpoint = callbackContext.getCheckpoint();
+        checkpoint.recordPoll(System.currentTimeMillis());
 
         try {
             final GlueClient glueClient = proxyClient.client();
@@ -85,13 +87,12 @@ public class DeleteHandler extends BaseHandlerStd {
 
             return false;
         } catch (EntityNotFoundException e) {
-            logger.log(
-                String.format(
-                    "%s [%s] successfully deleted.",
-                    ResourceModel.TYPE_NAME,
-                    registryName
-                )
-            );
+            checkpoint.advanceTo(Checkpoint.Phase.STABILIZED);
+            handlerLog(logger).info("Successfully deleted",
+                "Type", ResourceModel.TYPE_NAME,
+                "Id", registryName,
+                "Polls", checkpoint.getPollAttempts(),
+                "PollingMillis", checkpoint.pollingMillis());
             return true;
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(
@@ -105,7 +106,8 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private DeleteRegistryResponse deleteRegistry(
         final DeleteRegistryRequest deleteRegistryRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final CallbackContext callbackContext) {
 
         DeleteRegistryResponse deleteRegistryResponse = null;
 
@@ -113,22 +115,27 @@ public class DeleteHandler extends BaseHandlerStd {
 
         final String registryName =
             deleteRegistryRequest.registryId().registryName();
+        final Checkpoint checkpoint = callbackContext.getCheckpoint();
+
+        if (checkpoint.hasReached(Checkpoint.Phase.REQUESTED)) {
+            handlerLog(logger).info("Delete was already requested, resuming stabilization",
+                "Type", ResourceModel.TYPE_NAME,
+                "Id", registryName);
+            return DeleteRegistryResponse.builder().registryName(registryName).build();
+        }
 
         try {
             deleteRegistryResponse = proxyClient.injectCredentialsAndInvokeV2(
                 deleteRegistryRequest,
                 glueClient::deleteRegistry
             );
+            checkpoint.advanceTo(Checkpoint.Phase.REQUESTED);
         } catch (final AwsServiceException e) {
             translateToCfnException(e, registryName);
         }
-        logger.log(
-            String.format(
-                "Requested to delete %s [%s].",
-                ResourceModel.TYPE_NAME,
-                registryName
-            )
-        );
+        handlerLog(logger).info("Requested to delete",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", registryName);
         return deleteRegistryResponse;
     }
 
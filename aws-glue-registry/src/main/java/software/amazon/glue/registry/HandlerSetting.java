@@ -0,0 +1,67 @@
+package software.amazon.glue.registry;
+
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.glue.common.Settings;
+
+import java.util.Locale;
+
+/**
+ * Tunables for the Registry handlers. Each setting can be supplied as a JVM system property
+ * or as the matching environment variable (upper case, dots replaced with underscores).
+ */
+enum HandlerSetting implements SystemSetting {
+    STABILIZATION_BASE_DELAY_MILLIS("glue.registry.stabilization.baseDelayMillis", "500"),
+    STABILIZATION_MAX_DELAY_MILLIS("glue.registry.stabilization.maxDelayMillis", "8000"),
+    STABILIZATION_TIMEOUT_SECONDS("glue.registry.stabilization.timeoutSeconds", "120"),
+    LIST_DRAIN_ENABLED("glue.registry.list.drain.enabled", "false"),
+    LIST_DRAIN_TIME_BUDGET_MILLIS("glue.registry.list.drain.timeBudgetMillis", "20000"),
+    LIST_DRAIN_MAX_BYTES("glue.registry.list.drain.maxBytes", "1048576"),
+    RATE_LIMITER_ENABLED("glue.registry.rateLimiter.enabled", "false"),
+    RATE_LIMITER_INITIAL_RATE("glue.registry.rateLimiter.initialRate", "10"),
+    RATE_LIMITER_MIN_RATE("glue.registry.rateLimiter.minRate", "0.5"),
+    RATE_LIMITER_MAX_RATE("glue.registry.rateLimiter.maxRate", "20"),
+    RATE_LIMITER_INCREASE_STEP("glue.registry.rateLimiter.increaseStep", "0.1"),
+    RATE_LIMITER_DECREASE_FACTOR("glue.registry.rateLimiter.decreaseFactor", "0.5"),
+    RATE_LIMITER_COOLDOWN_MILLIS("glue.registry.rateLimiter.cooldownMillis", "1000"),
+    RATE_LIMITER_MAX_WAIT_MILLIS("glue.registry.rateLimiter.maxWaitMillis", "20000"),
+    WARM_UP_ENABLED("glue.registry.warmUp.enabled", "true"),
+    METRICS_ENABLED("glue.registry.metrics.enabled", "true"),
+    LOG_LEVEL("glue.registry.log.level", "INFO"),
+    LOG_FORMAT("glue.registry.log.format", "TEXT"),
+    LOG_MAX_FIELD_LENGTH("glue.registry.log.maxFieldLength", "2048");
+
+    private final String property;
+    private final String defaultValue;
+
+    HandlerSetting(final String property, final String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return property.replace('.', '_').toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    boolean booleanValue() {
+        return Settings.booleanValue(this);
+    }
+
+    long longValue() {
+        return Settings.longValue(this);
+    }
+
+    <E extends Enum<E>> E enumValue(final Class<E> type) {
+        return Settings.enumValue(this, type);
+    }
+}
@@ -4,21 +4,37 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.ListRegistriesRequest;
 import software.amazon.awssdk.services.glue.model.ListRegistriesResponse;
-import software.amazon.awssdk.services.glue.model.RegistryListItem;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.ListPaginator;
 
-import java.util.List;
+import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
 import static software.amazon.glue.registry.ExceptionTranslator.translateToCfnException;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Rough JSON overhead of a model besides its field values
+    private static final long MODEL_OVERHEAD_BYTES = 32L;
+
+    private final ListPaginator paginator;
+
+    public ListHandler() {
+        this(ListPaginator.fromSettings(
+            HandlerSetting.LIST_DRAIN_ENABLED,
+            HandlerSetting.LIST_DRAIN_TIME_BUDGET_MILLIS,
+            HandlerSetting.LIST_DRAIN_MAX_BYTES));
+    }
+
+    ListHandler(final ListPaginator paginator) {
+        this.paginator = paginator;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -27,11 +43,29 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        final ListRegistriesRequest listRegistriesRequest =
-            translateToListRequest(request.getNextToken());
-
         final GlueClient glueClient = proxyClient.client();
 
+        final ListPaginator.Page<ResourceModel> page = paginator.list(
+            request.getNextToken(),
+            nextToken -> listRegistries(proxy, glueClient, translateToListRequest(nextToken), request),
+            this::translateFromListResponse,
+            ListRegistriesResponse::nextToken,
+            ListHandler::estimateSize);
+
+        handlerLog(logger).log(HandlerLog.Level.INFO, page::summary);
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+            .resourceModels(page.getModels())
+            .nextToken(page.getNextToken())
+            .status(OperationStatus.SUCCESS)
+            .build();
+    }
+
+    private ListRegistriesResponse listRegistries(
+        final AmazonWebServicesClientProxy proxy,
+        final GlueClient glueClient,
+        final ListRegistriesRequest listRegistriesRequest,
+        final ResourceHandlerRequest<ResourceModel> request) {
         ListRegistriesResponse listRegistriesResponse = null;
 
         try {
@@ -41,15 +75,7 @@ public class ListHandler extends BaseHandlerStd {
             final String identifier = request.getAwsAccountId();
             translateToCfnException(e, identifier);
         }
-
-        final List<ResourceModel> models = translateFromListResponse(listRegistriesResponse);
-        String nextToken = listRegistriesResponse.nextToken();
-
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .nextToken(nextToken)
-            .status(OperationStatus.SUCCESS)
-            .build();
+        return listRegistriesResponse;
     }
 
     private ListRegistriesRequest translateToListRequest(final String nextToken) {
@@ -60,17 +86,22 @@ public class ListHandler extends BaseHandlerStd {
             .build();
     }
 
-    private List<ResourceModel> translateFromListResponse(
+    private Stream<ResourceModel> translateFromListResponse(
         final ListRegistriesResponse listRegistriesResponse) {
-        final List<RegistryListItem> registryListItems = listRegistriesResponse.registries();
-
-        return registryListItems.stream()
+        return listRegistriesResponse.registries().stream()
             .map(registryItem ->
                 ResourceModel
                     .builder()
                     .arn(registryItem.registryArn())
                     .name(registryItem.registryName())
-                    .build())
-            .collect(toList());
+                    .build());
+    }
+
+    private static long estimateSize(final ResourceModel model) {
+        return MODEL_OVERHEAD_BYTES + length(model.getArn()) + length(model.getName());
+    }
+
+    private static long length(final String value) {
+        return value == null ? 0L : value.length();
     }
 }
@@ -50,13 +50,9 @@ public class ReadHandler extends BaseHandlerStd {
             translateToCfnException(e, registryName);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] has successfully been read. ",
-                ResourceModel.TYPE_NAME,
-                registryName
-            )
-        );
+        handlerLog(logger).info("Successfully read",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", registryName);
         return getRegistryResponse;
     }
 
@@ -52,7 +52,8 @@ public class UpdateHandler extends BaseHandlerStd {
             translateToCfnException(e, awsRequest.registryId().registryName());
         }
 
-        logger.log(String.format("%s has successfully been updated.", ResourceModel.TYPE_NAME));
+        handlerLog(logger).info("Successfully updated",
+            "Type", ResourceModel.TYPE_NAME);
         return updateRegistryResponse;
     }
 
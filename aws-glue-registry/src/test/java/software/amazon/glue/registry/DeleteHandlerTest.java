@@ -21,12 +21,17 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.Checkpoint;
 
 import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -126,6 +131,58 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Registry");
     }
 
+    @Test
+    public void handleRequest_WhenDeleteWasAlreadyRequested_OnlyPolls() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.getCheckpoint().advanceTo(Checkpoint.Phase.REQUESTED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getCheckpoint().getPhase()).isEqualTo(Checkpoint.Phase.STABILIZED);
+        verify(glueClient, never()).deleteRegistry(any(DeleteRegistryRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenReinvokedAfterDeleteWasRequested_PollsWithoutDeletingAgain() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_REGISTRY_REQUEST,
+            glueClient::deleteRegistry)
+        ).thenReturn(TestData.DELETE_REGISTRY_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_REGISTRY_REQUEST,
+            glueClient::getRegistry)
+        )
+            //First invocation fails while polling
+            .thenThrow(AccessDeniedException.class)
+            //Re-invocation
+            .thenReturn(TestData.GET_REGISTRY_RESPONSE)
+            .thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(
+            CfnGeneralServiceException.class,
+            () -> handler
+                .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger));
+        assertThat(callbackContext.getCheckpoint().getPhase()).isEqualTo(Checkpoint.Phase.REQUESTED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getCheckpoint().getPhase()).isEqualTo(Checkpoint.Phase.STABILIZED);
+        assertThat(callbackContext.getCheckpoint().getPollAttempts()).isEqualTo(3);
+        verify(glueClient, times(1)).deleteRegistry(any(DeleteRegistryRequest.class));
+        verify(glueClient, times(3)).getRegistry(TestData.GET_REGISTRY_REQUEST);
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
@@ -17,13 +17,18 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.ListPaginator;
 
 import java.time.Instant;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -89,6 +94,31 @@ public class ListHandlerTest extends AbstractTestBase {
             .contains("Error occurred during operation");
     }
 
+    @Test
+    public void handleRequest_DrainsAllPages_WhenDrainingEnabled() {
+        handler = new ListHandler(
+            new ListPaginator(true, TimeUnit.SECONDS.toNanos(30), Long.MAX_VALUE, System::nanoTime));
+
+        when(glueClient.listRegistries(any(ListRegistriesRequest.class)))
+            .thenReturn(ListRegistriesResponse
+                .builder()
+                .nextToken(TestData.ANOTHER_NEXT_TOKEN)
+                .registries(TestData.REGISTRY_LIST_ITEM_1)
+                .build())
+            .thenReturn(ListRegistriesResponse
+                .builder()
+                .registries(TestData.REGISTRY_LIST_ITEM_2)
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(TestData.REGISTRIES_MODELS);
+        assertThat(response.getNextToken()).isNull();
+        verify(glueClient, times(2)).listRegistries(any(ListRegistriesRequest.class));
+    }
+
     private static class TestData {
         public static final String NEXT_TOKEN = "1231j091j23";
         public static final String ANOTHER_NEXT_TOKEN = "09018023nj";
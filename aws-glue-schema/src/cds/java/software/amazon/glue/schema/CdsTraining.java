@@ -0,0 +1,117 @@
+package software.amazon.glue.schema;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.CreateRegistryRequest;
+import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Credentials;
+import software.amazon.cloudformation.proxy.LoggerProxy;
+import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.cloudformation.proxy.ProgressEvent;
+import software.amazon.cloudformation.proxy.ProxyClient;
+import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.cloudformation.resource.Serializer;
+import software.amazon.glue.emulator.GlueEmulator;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Runs every Schema handler once against an in-memory Glue, so {@code -XX:DumpLoadedClassList} records the classes a
+ * first invocation loads, and prints the JVM uptime at the first response and at the end for ColdStartHarness. Built
+ * and run by the cds profile only, it is not part of the shaded jar.
+ */
+public final class CdsTraining {
+
+    private static final String REGION = "us-east-1";
+    private static final String ACCOUNT_ID = "123456789012";
+    private static final int MAX_INVOCATIONS = 16;
+    private static final String REGISTRY = "cds-training-registry";
+    private static final String DEFINITION =
+        "{\"type\":\"record\",\"name\":\"Order\",\"namespace\":\"com.example\",\"fields\":["
+            + "{\"name\":\"id\",\"type\":\"string\"}]}";
+
+    private static final Serializer SERIALIZER = new Serializer();
+
+    private CdsTraining() {
+    }
+
+    public static void main(final String[] args) throws Exception {
+        // Without it, the default client the handlers build would look the region up in the instance metadata
+        System.setProperty("aws.region", REGION);
+
+        final LoggerProxy logger = new LoggerProxy();
+        final AmazonWebServicesClientProxy proxy = new AmazonWebServicesClientProxy(
+            logger,
+            new Credentials("accessKey", "secretKey", "token"),
+            () -> Duration.ofMinutes(15).toMillis());
+        final GlueEmulator glue = new GlueEmulator(REGION, ACCOUNT_ID);
+        final ProxyClient<GlueClient> proxyClient = proxy.newProxy(() -> glue);
+
+        glue.createRegistry(CreateRegistryRequest.builder().registryName(REGISTRY).build());
+        final ResourceModel model = ResourceModel.builder()
+            .name("cds-training-schema")
+            .registry(Registry.builder().name(REGISTRY).build())
+            .dataFormat("AVRO")
+            .compatibility("BACKWARD")
+            .description("Schema of the class data sharing training run")
+            .schemaDefinition(DEFINITION)
+            .tags(Arrays.asList(new Tag("team", "platform"), new Tag("stage", "training")))
+            .build();
+        final String arn = complete(new CreateHandler(), proxy, request(model), proxyClient, logger)
+            .getResourceModel().getArn();
+        final long firstResponseMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+
+        final ResourceModel identifier = ResourceModel.builder().arn(arn).build();
+        complete(new ReadHandler(), proxy, request(identifier), proxyClient, logger);
+        model.setArn(arn);
+        model.setDescription("Updated schema of the class data sharing training run");
+        model.setCompatibility("FULL");
+        complete(new UpdateHandler(), proxy, request(model), proxyClient, logger);
+        final ResourceModel registry = ResourceModel.builder().registry(model.getRegistry()).build();
+        complete(new ListHandler(), proxy, request(registry), proxyClient, logger);
+        complete(new DeleteHandler(), proxy, request(identifier), proxyClient, logger);
+
+        System.out.println(String.format("ColdStart firstResponseMillis=%d totalMillis=%d",
+            firstResponseMillis, ManagementFactory.getRuntimeMXBean().getUptime()));
+    }
+
+    /**
+     * Re-invokes the handler with the callback context it hands back until it completes, serializing each event the
+     * way the handler wrapper does.
+     */
+    private static ProgressEvent<ResourceModel, CallbackContext> complete(
+        final BaseHandlerStd handler,
+        final AmazonWebServicesClientProxy proxy,
+        final ResourceHandlerRequest<ResourceModel> request,
+        final ProxyClient<GlueClient> proxyClient,
+        final LoggerProxy logger) throws Exception {
+
+        CallbackContext callbackContext = new CallbackContext();
+        for (int invocation = 0; invocation < MAX_INVOCATIONS; invocation++) {
+            final ProgressEvent<ResourceModel, CallbackContext> event =
+                handler.handleRequest(proxy, request, callbackContext, proxyClient, logger);
+            SERIALIZER.serialize(event);
+            if (event.getStatus() == OperationStatus.SUCCESS) {
+                return event;
+            }
+            if (event.getStatus() != OperationStatus.IN_PROGRESS) {
+                throw new IllegalStateException(handler.getClass().getSimpleName() + " failed: " + event.getMessage());
+            }
+            callbackContext = event.getCallbackContext() != null ? event.getCallbackContext() : callbackContext;
+        }
+        throw new IllegalStateException(handler.getClass().getSimpleName() + " did not complete");
+    }
+
+    private static ResourceHandlerRequest<ResourceModel> request(final ResourceModel model) throws Exception {
+        // The wrapper deserializes every request, a round trip loads the same Jackson classes
+        final ResourceModel deserialized =
+            SERIALIZER.deserialize(SERIALIZER.serialize(model), new TypeReference<ResourceModel>() { });
+        return ResourceHandlerRequest.<ResourceModel>builder()
+            .desiredResourceState(deserialized)
+            .region(REGION)
+            .awsAccountId(ACCOUNT_ID)
+            .build();
+    }
+}
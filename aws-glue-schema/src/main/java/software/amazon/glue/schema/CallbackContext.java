@@ -1,10 +1,19 @@
 package software.amazon.glue.schema;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.glue.common.Checkpoint;
+
+import java.util.List;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+    // Steps of this operation already completed by an earlier invocation
+    private Checkpoint checkpoint = new Checkpoint();
+    // Version ranges still to be deleted before DeleteSchema, null until the versions are listed
+    private List<String> pendingVersionRanges;
+    private int deletedVersionCount;
+    private long versionCleanupMillis;
 }
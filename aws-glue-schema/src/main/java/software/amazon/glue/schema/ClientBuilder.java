@@ -1,19 +1,117 @@
 package software.amazon.glue.schema;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
+import software.amazon.awssdk.services.glue.model.RegistryId;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionNumber;
+import software.amazon.awssdk.services.glue.model.UpdateSchemaRequest;
+import software.amazon.glue.common.AdaptiveRateLimiter;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.GlueWarmUp;
+import software.amazon.glue.common.Settings;
 
-public class ClientBuilder {
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Function;
 
+public class ClientBuilder {
     private ClientBuilder() {
     }
 
+    private static final int ASYNC_MAX_CONCURRENCY = 16;
+
+    private static final AdaptiveRateLimiter RATE_LIMITER =
+        Settings.booleanValue(HandlerSetting.RATE_LIMITER_ENABLED)
+            ? AdaptiveRateLimiter.fromSettings(
+                HandlerSetting.RATE_LIMITER_INITIAL_RATE,
+                HandlerSetting.RATE_LIMITER_MIN_RATE,
+                HandlerSetting.RATE_LIMITER_MAX_RATE,
+                HandlerSetting.RATE_LIMITER_INCREASE_STEP,
+                HandlerSetting.RATE_LIMITER_DECREASE_FACTOR,
+                HandlerSetting.RATE_LIMITER_COOLDOWN_MILLIS,
+                HandlerSetting.RATE_LIMITER_MAX_WAIT_MILLIS)
+            : null;
+
+    // Without the rate limiter the client keeps the SDK default retry policy, with its attempts counted
+    private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION =
+        RATE_LIMITER != null
+            ? GlueClients.overrideConfiguration(RATE_LIMITER)
+            : GlueClients.defaultOverrideConfiguration();
+
+    private static final GlueClients<GlueClient> GLUE_CLIENTS =
+        new GlueClients<>(GlueClient::builder, OVERRIDE_CONFIGURATION);
+
+    private static final String WARM_UP_NAME = "warm-up";
+    private static final String WARM_UP_DEFINITION = "{\"type\":\"record\",\"name\":\"WarmUp\",\"fields\":[]}";
+    private static final SchemaId WARM_UP_SCHEMA =
+        SchemaId.builder().registryName(WARM_UP_NAME).schemaName(WARM_UP_NAME).build();
+
+    // One representative request per Glue operation the Schema handlers call, see warmUp()
+    private static final GlueWarmUp<GlueClient> WARM_UP = new GlueWarmUp<>(GlueClient::builder,
+        Arrays.<Function<GlueClient, ?>>asList(
+            glue -> glue.createSchema(CreateSchemaRequest.builder()
+                .registryId(RegistryId.builder().registryName(WARM_UP_NAME).build())
+                .schemaName(WARM_UP_NAME)
+                .dataFormat("AVRO")
+                .compatibility("BACKWARD")
+                .schemaDefinition(WARM_UP_DEFINITION)
+                .tags(Collections.singletonMap(WARM_UP_NAME, WARM_UP_NAME))
+                .build()),
+            glue -> glue.getSchema(GetSchemaRequest.builder().schemaId(WARM_UP_SCHEMA).build()),
+            glue -> glue.getSchemaVersion(GetSchemaVersionRequest.builder()
+                .schemaId(WARM_UP_SCHEMA)
+                .schemaVersionNumber(SchemaVersionNumber.builder().latestVersion(true).build())
+                .build()),
+            glue -> glue.updateSchema(UpdateSchemaRequest.builder()
+                .schemaId(WARM_UP_SCHEMA)
+                .compatibility("FULL")
+                .description(WARM_UP_NAME)
+                .build()),
+            glue -> glue.listSchemas(ListSchemasRequest.builder().build()),
+            glue -> glue.listSchemaVersions(ListSchemaVersionsRequest.builder().schemaId(WARM_UP_SCHEMA).build()),
+            glue -> glue.deleteSchemaVersions(DeleteSchemaVersionsRequest.builder()
+                .schemaId(WARM_UP_SCHEMA)
+                .versions("1-2")
+                .build()),
+            glue -> glue.deleteSchema(DeleteSchemaRequest.builder().schemaId(WARM_UP_SCHEMA).build())))
+        .registerForCheckpoint();
+
     //It is recommended to use static HTTP client so less memory is consumed.
     public static GlueClient getClient() {
-        return
-            GlueClient
-                .builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return GLUE_CLIENTS.client();
+    }
+
+    /**
+     * Async client for handlers that overlap independent calls instead of blocking a thread per call. A single
+     * instance is shared per JVM so its event loop and connection pool are created only once.
+     */
+    public static GlueAsyncClient getAsyncClient() {
+        return AsyncClientHolder.CLIENT;
+    }
+
+    /**
+     * Makes every Glue call of the Schema handlers once without a network round trip, so the first invocation does
+     * not pay for loading and initializing the SDK. Runs once per JVM, see {@link GlueWarmUp}.
+     */
+    static GlueWarmUp.Result warmUp() {
+        return WARM_UP.run();
+    }
+
+    private static final class AsyncClientHolder {
+        private static final GlueAsyncClient CLIENT = GlueAsyncClient.builder()
+            .httpClient(NettyNioAsyncHttpClient.builder()
+                .maxConcurrency(ASYNC_MAX_CONCURRENCY)
+                .build())
+            .build();
     }
 }
@@ -5,11 +5,14 @@ import software.amazon.awssdk.services.glue.model.CreateSchemaRequest;
 import software.amazon.awssdk.services.glue.model.CreateSchemaResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.utils.StringUtils;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.SchemaNormalizer;
 import software.amazon.glue.schema.Tag;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.Registry;
@@ -22,8 +25,18 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 public class CreateHandler extends BaseHandlerStd {
+    private final boolean validateDefinition;
+
     private Logger logger;
 
+    public CreateHandler() {
+        this(HandlerSetting.CREATE_VALIDATE_DEFINITION_ENABLED.booleanValue());
+    }
+
+    CreateHandler(final boolean validateDefinition) {
+        this.validateDefinition = validateDefinition;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -54,6 +67,10 @@ public class CreateHandler extends BaseHandlerStd {
         final CreateSchemaRequest createSchemaRequest,
         final ProxyClient<GlueClient> proxyClient) {
 
+        if (validateDefinition) {
+            validateSchemaDefinition(createSchemaRequest);
+        }
+
         CreateSchemaResponse createSchemaResponse = null;
         final GlueClient glueClient = proxyClient.client();
         try {
@@ -65,15 +82,29 @@ public class CreateHandler extends BaseHandlerStd {
             ExceptionTranslator.translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] successfully created.",
-                ResourceModel.TYPE_NAME,
-                createSchemaRequest.schemaName())
-        );
+        handlerLog(logger).info("Successfully created",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", createSchemaRequest.schemaName());
         return createSchemaResponse;
     }
 
+    /**
+     * Rejects a definition that is not well formed for its DataFormat before it is uploaded to Glue.
+     * Opt-in: Glue stays the authority on what it accepts, the check only saves the round trip.
+     */
+    private void validateSchemaDefinition(final CreateSchemaRequest createSchemaRequest) {
+        if (StringUtils.isEmpty(createSchemaRequest.schemaDefinition())) {
+            return;
+        }
+        try {
+            SchemaNormalizer.canonicalize(
+                createSchemaRequest.dataFormatAsString(),
+                createSchemaRequest.schemaDefinition());
+        } catch (IllegalArgumentException e) {
+            throw new CfnInvalidRequestException(e.getMessage(), e);
+        }
+    }
+
     private CreateSchemaRequest fromResourceModel(final ResourceModel model) {
         RegistryId registryId = null;
         final Registry registry = model.getRegistry();
@@ -14,23 +14,35 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.glue.common.Checkpoint;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.cloudformation.proxy.OperationStatus;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.StabilizationDelay;
 
-import java.time.Duration;
+import java.util.function.Supplier;
 
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
     private static final Delay DELAY =
-        Constant.of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(2L))
-            .build();
+        StabilizationDelay.fromSettings(
+            HandlerSetting.STABILIZATION_BASE_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_MAX_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_TIMEOUT_SECONDS);
+
+    private final SchemaVersionCleanup versionCleanup;
 
     private Logger logger;
 
+    public DeleteHandler() {
+        this(SchemaVersionCleanup.fromSettings());
+    }
+
+    DeleteHandler(final SchemaVersionCleanup versionCleanup) {
+        this.versionCleanup = versionCleanup;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -41,12 +53,16 @@ public class DeleteHandler extends BaseHandlerStd {
         this.logger = logger;
 
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
+            .then(progress -> versionCleanup.isEnabled()
+                ? cleanUpSchemaVersions(progress, proxyClient)
+                : progress)
             .then(progress ->
                 proxy.initiate("AWS-Glue-Schema::Delete", proxyClient, progress.getResourceModel(),
                     progress.getCallbackContext())
                     .translateToServiceRequest(this::fromResourceModel)
                     .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteSchema)
+                    .makeServiceCall((deleteSchemaRequest, client) ->
+                        deleteSchema(deleteSchemaRequest, client, progress.getCallbackContext()))
                     .stabilize(this::isDeleteStabilized)
                     .done(
                         awsResponse ->
@@ -55,6 +71,47 @@ public class DeleteHandler extends BaseHandlerStd {
                                 .build()));
     }
 
+    /**
+     * Deletes the versions of the schema in ranged batches before DeleteSchema. When the time budget runs out
+     * the remaining ranges are kept in the callback context and the handler is invoked again to carry on.
+     */
+    private ProgressEvent<ResourceModel, CallbackContext> cleanUpSchemaVersions(
+        final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final ProxyClient<GlueClient> proxyClient) {
+
+        final ResourceModel model = progress.getResourceModel();
+        final CallbackContext context = progress.getCallbackContext();
+        final String schemaArn = model.getArn();
+
+        if (context.getPendingVersionRanges() == null) {
+            context.setPendingVersionRanges(versionCleanup.listVersionRanges(proxyClient, schemaArn));
+        }
+        if (context.getPendingVersionRanges().isEmpty()) {
+            return progress;
+        }
+
+        final SchemaVersionCleanup.Result result =
+            versionCleanup.deleteVersionRanges(proxyClient, schemaArn, context.getPendingVersionRanges());
+        context.setPendingVersionRanges(result.getRemainingRanges());
+        context.setDeletedVersionCount(context.getDeletedVersionCount() + result.getDeletedVersions());
+        context.setVersionCleanupMillis(context.getVersionCleanupMillis() + result.getElapsedMillis());
+        handlerLog(logger).log(HandlerLog.Level.INFO, () -> result.summary(schemaArn));
+
+        if (!result.getRemainingRanges().isEmpty()) {
+            return ProgressEvent.defaultInProgressHandler(context, 1, model);
+        }
+
+        handlerLog(logger).info("Deleted schema versions",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", schemaArn,
+            "Versions", context.getDeletedVersionCount(),
+            "Millis", context.getVersionCleanupMillis(),
+            "VersionsPerSecond", (Supplier<String>) () -> String.format("%.1f",
+                SchemaVersionCleanup.versionsPerSecond(
+                    context.getDeletedVersionCount(), context.getVersionCleanupMillis())));
+        return progress;
+    }
+
     private Boolean isDeleteStabilized(
         final DeleteSchemaRequest deleteSchemaRequest,
         final DeleteSchemaResponse deleteSchemaResponse,
@@ -62,6 +119,8 @@ public class DeleteHandler extends BaseHandlerStd {
         final ResourceModel resourceModel,
         final CallbackContext callbackContext) {
         final String schemaArn = deleteSchemaResponse.schemaArn();
+        final Checkpoint checkpoint = callbackContext.getCheckpoint();
+        checkpoint.recordPoll(System.currentTimeMillis());
 
         try {
             final GlueClient glueClient = proxyClient.client();
@@ -81,13 +140,12 @@ public class DeleteHandler extends BaseHandlerStd {
 
             return false;
         } catch (EntityNotFoundException e) {
-            logger.log(
-                String.format(
-                    "%s [%s] successfully deleted.",
-                    ResourceModel.TYPE_NAME,
-                    schemaArn
-                )
-            );
+            checkpoint.advanceTo(Checkpoint.Phase.STABILIZED);
+            handlerLog(logger).info("Successfully deleted",
+                "Type", ResourceModel.TYPE_NAME,
+                "Id", schemaArn,
+                "Polls", checkpoint.getPollAttempts(),
+                "PollingMillis", checkpoint.pollingMillis());
             return true;
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(
@@ -101,27 +159,34 @@ public class DeleteHandler extends BaseHandlerStd {
 
     private DeleteSchemaResponse deleteSchema(
         final DeleteSchemaRequest deleteSchemaRequest,
-        final ProxyClient<GlueClient> client) {
+        final ProxyClient<GlueClient> client,
+        final CallbackContext callbackContext) {
 
         DeleteSchemaResponse deleteSchemaResponse = null;
         final GlueClient glueClient = client.client();
         final String identifier = deleteSchemaRequest.schemaId().toString();
+        final Checkpoint checkpoint = callbackContext.getCheckpoint();
+
+        if (checkpoint.hasReached(Checkpoint.Phase.REQUESTED)) {
+            handlerLog(logger).info("Delete was already requested, resuming stabilization",
+                "Type", ResourceModel.TYPE_NAME,
+                "Id", identifier);
+            return DeleteSchemaResponse.builder().schemaArn(deleteSchemaRequest.schemaId().schemaArn()).build();
+        }
 
         try {
             deleteSchemaResponse =
                 client.injectCredentialsAndInvokeV2(deleteSchemaRequest, glueClient::deleteSchema);
+            checkpoint.advanceTo(Checkpoint.Phase.REQUESTED);
+            InitialSchemaVersionCache.shared().remove(deleteSchemaRequest.schemaId().schemaArn());
 
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "Requested to delete %s [%s].",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
-        );
+        handlerLog(logger).info("Requested to delete",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", identifier);
         return deleteSchemaResponse;
     }
 
@@ -0,0 +1,75 @@
+package software.amazon.glue.schema;
+
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.glue.common.Settings;
+
+import java.util.Locale;
+
+/**
+ * Tunables for the Schema handlers. Each setting can be supplied as a JVM system property
+ * or as the matching environment variable (upper case, dots replaced with underscores).
+ */
+enum HandlerSetting implements SystemSetting {
+    STABILIZATION_BASE_DELAY_MILLIS("glue.schema.stabilization.baseDelayMillis", "500"),
+    STABILIZATION_MAX_DELAY_MILLIS("glue.schema.stabilization.maxDelayMillis", "8000"),
+    STABILIZATION_TIMEOUT_SECONDS("glue.schema.stabilization.timeoutSeconds", "120"),
+    CREATE_VALIDATE_DEFINITION_ENABLED("glue.schema.create.validateDefinition.enabled", "false"),
+    CONCURRENT_READ_ENABLED("glue.schema.read.concurrent", "false"),
+    INITIAL_VERSION_CACHE_ENABLED("glue.schema.read.initialVersionCache.enabled", "true"),
+    INITIAL_VERSION_CACHE_MAX_ENTRIES("glue.schema.read.initialVersionCache.maxEntries", "4096"),
+    UPDATE_MERGE_RESPONSE_ENABLED("glue.schema.update.mergeResponse.enabled", "false"),
+    LIST_DRAIN_ENABLED("glue.schema.list.drain.enabled", "false"),
+    LIST_DRAIN_TIME_BUDGET_MILLIS("glue.schema.list.drain.timeBudgetMillis", "20000"),
+    LIST_DRAIN_MAX_BYTES("glue.schema.list.drain.maxBytes", "1048576"),
+    DELETE_VERSION_FAN_OUT_ENABLED("glue.schema.delete.versionFanOut.enabled", "false"),
+    DELETE_VERSION_FAN_OUT_BATCH_SIZE("glue.schema.delete.versionFanOut.batchSize", "50"),
+    DELETE_VERSION_FAN_OUT_TIME_BUDGET_MILLIS("glue.schema.delete.versionFanOut.timeBudgetMillis", "30000"),
+    RATE_LIMITER_ENABLED("glue.schema.rateLimiter.enabled", "false"),
+    RATE_LIMITER_INITIAL_RATE("glue.schema.rateLimiter.initialRate", "10"),
+    RATE_LIMITER_MIN_RATE("glue.schema.rateLimiter.minRate", "0.5"),
+    RATE_LIMITER_MAX_RATE("glue.schema.rateLimiter.maxRate", "20"),
+    RATE_LIMITER_INCREASE_STEP("glue.schema.rateLimiter.increaseStep", "0.1"),
+    RATE_LIMITER_DECREASE_FACTOR("glue.schema.rateLimiter.decreaseFactor", "0.5"),
+    RATE_LIMITER_COOLDOWN_MILLIS("glue.schema.rateLimiter.cooldownMillis", "1000"),
+    RATE_LIMITER_MAX_WAIT_MILLIS("glue.schema.rateLimiter.maxWaitMillis", "20000"),
+    WARM_UP_ENABLED("glue.schema.warmUp.enabled", "true"),
+    METRICS_ENABLED("glue.schema.metrics.enabled", "true"),
+    LOG_LEVEL("glue.schema.log.level", "INFO"),
+    LOG_FORMAT("glue.schema.log.format", "TEXT"),
+    LOG_MAX_FIELD_LENGTH("glue.schema.log.maxFieldLength", "2048");
+
+    private final String property;
+    private final String defaultValue;
+
+    HandlerSetting(final String property, final String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return property.replace('.', '_').toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    boolean booleanValue() {
+        return Settings.booleanValue(this);
+    }
+
+    long longValue() {
+        return Settings.longValue(this);
+    }
+
+    <E extends Enum<E>> E enumValue(final Class<E> type) {
+        return Settings.enumValue(this, type);
+    }
+}
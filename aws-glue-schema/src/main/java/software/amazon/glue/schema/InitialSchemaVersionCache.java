@@ -0,0 +1,98 @@
+package software.amazon.glue.schema;
+
+import lombok.Value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * SchemaVersionId of version 1 of the schemas read by the handlers running in this JVM, keyed by schema ARN,
+ * along with the other fields a schema keeps for its whole life: its name, data format and registry.
+ * None of them change, so entries do not expire. A schema deleted and created again under the same name keeps
+ * its ARN, which is why every entry also records the creation time of the schema it was looked up for and the
+ * initial version only matches a GetSchema response with the same creation time.
+ */
+final class InitialSchemaVersionCache {
+
+    private static final InitialSchemaVersionCache SHARED = new InitialSchemaVersionCache(
+        HandlerSetting.INITIAL_VERSION_CACHE_ENABLED.booleanValue(),
+        HandlerSetting.INITIAL_VERSION_CACHE_MAX_ENTRIES.longValue());
+
+    private final boolean enabled;
+    private final long maxEntries;
+
+    // Access ordered, so iteration starts at the least recently used entry
+    private final Map<String, SchemaFields> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    InitialSchemaVersionCache(final boolean enabled, final long maxEntries) {
+        this.enabled = enabled && maxEntries > 0;
+        this.maxEntries = maxEntries;
+    }
+
+    static InitialSchemaVersionCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Whether some initial version is known for the ARN, before the schema's creation time is known.
+     */
+    synchronized boolean contains(final String schemaArn) {
+        return enabled && schemaArn != null && entries.containsKey(schemaArn);
+    }
+
+    synchronized Optional<String> get(final String schemaArn, final String schemaCreatedTime) {
+        if (!enabled || schemaArn == null) {
+            return Optional.empty();
+        }
+        final SchemaFields entry = entries.get(schemaArn);
+        if (entry == null || !entry.getSchemaCreatedTime().equals(schemaCreatedTime)) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.getInitialSchemaVersionId());
+    }
+
+    /**
+     * Fields of the schema last seen under the ARN, for callers that know the schema exists but not when it
+     * was created.
+     */
+    synchronized Optional<SchemaFields> fields(final String schemaArn) {
+        if (!enabled || schemaArn == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(schemaArn));
+    }
+
+    synchronized void put(final String schemaArn, final SchemaFields fields) {
+        if (!enabled || schemaArn == null || fields.getSchemaCreatedTime() == null
+            || fields.getInitialSchemaVersionId() == null) {
+            return;
+        }
+        entries.put(schemaArn, fields);
+        final Iterator<Map.Entry<String, SchemaFields>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    synchronized void remove(final String schemaArn) {
+        if (schemaArn != null) {
+            entries.remove(schemaArn);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    @Value
+    static class SchemaFields {
+        String schemaCreatedTime;
+        String initialSchemaVersionId;
+        String schemaName;
+        String dataFormat;
+        String registryArn;
+    }
+}
@@ -5,7 +5,6 @@ import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.ListSchemasRequest;
 import software.amazon.awssdk.services.glue.model.ListSchemasResponse;
 import software.amazon.awssdk.services.glue.model.RegistryId;
-import software.amazon.awssdk.services.glue.model.SchemaListItem;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
@@ -14,14 +13,31 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.Registry;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.ListPaginator;
 
-import java.util.List;
+import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Rough JSON overhead of a model besides its field values
+    private static final long MODEL_OVERHEAD_BYTES = 32L;
+
+    private final ListPaginator paginator;
+
+    public ListHandler() {
+        this(ListPaginator.fromSettings(
+            HandlerSetting.LIST_DRAIN_ENABLED,
+            HandlerSetting.LIST_DRAIN_TIME_BUDGET_MILLIS,
+            HandlerSetting.LIST_DRAIN_MAX_BYTES));
+    }
+
+    ListHandler(final ListPaginator paginator) {
+        this.paginator = paginator;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -30,9 +46,28 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        final ListSchemasRequest listSchemasRequest =
-            translateToListRequest(request);
+        final RegistryId registryId = translateToRegistryId(request);
+
+        final ListPaginator.Page<ResourceModel> page = paginator.list(
+            request.getNextToken(),
+            nextToken -> listSchemas(proxy, proxyClient, translateToListRequest(registryId, nextToken)),
+            this::translateFromListResponse,
+            ListSchemasResponse::nextToken,
+            ListHandler::estimateSize);
+
+        handlerLog(logger).log(HandlerLog.Level.INFO, page::summary);
 
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+            .resourceModels(page.getModels())
+            .nextToken(page.getNextToken())
+            .status(OperationStatus.SUCCESS)
+            .build();
+    }
+
+    private ListSchemasResponse listSchemas(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<GlueClient> proxyClient,
+        final ListSchemasRequest listSchemasRequest) {
         ListSchemasResponse listSchemasResponse = null;
         try {
             listSchemasResponse =
@@ -45,21 +80,11 @@ public class ListHandler extends BaseHandlerStd {
                 listSchemasRequest.registryId());
             translateToCfnException(e, identifier);
         }
-
-        final String nextToken = listSchemasResponse.nextToken();
-        final List<ResourceModel> models = translateFromListResponse(listSchemasResponse);
-
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .nextToken(nextToken)
-            .status(OperationStatus.SUCCESS)
-            .build();
+        return listSchemasResponse;
     }
 
-    private ListSchemasRequest translateToListRequest(
+    private RegistryId translateToRegistryId(
         final ResourceHandlerRequest<ResourceModel> request) {
-        final String nextToken = request.getNextToken();
-
         RegistryId registryId = null;
         final Registry registry = request.getDesiredResourceState().getRegistry();
 
@@ -71,7 +96,12 @@ public class ListHandler extends BaseHandlerStd {
                     .registryArn(registry.getArn())
                     .build();
         }
+        return registryId;
+    }
 
+    private ListSchemasRequest translateToListRequest(
+        final RegistryId registryId,
+        final String nextToken) {
         return ListSchemasRequest
             .builder()
             .maxResults(50)
@@ -80,17 +110,22 @@ public class ListHandler extends BaseHandlerStd {
             .build();
     }
 
-    private List<ResourceModel> translateFromListResponse(
+    private Stream<ResourceModel> translateFromListResponse(
         final ListSchemasResponse listSchemasResponse) {
-        final List<SchemaListItem> schemaListItems = listSchemasResponse.schemas();
-
-        return schemaListItems.stream()
+        return listSchemasResponse.schemas().stream()
             .map(schemaListItem ->
                 ResourceModel
                     .builder()
                     .arn(schemaListItem.schemaArn())
                     .name(schemaListItem.schemaName())
-                    .build())
-            .collect(toList());
+                    .build());
+    }
+
+    private static long estimateSize(final ResourceModel model) {
+        return MODEL_OVERHEAD_BYTES + length(model.getArn()) + length(model.getName());
+    }
+
+    private static long length(final String value) {
+        return value == null ? 0L : value.length();
     }
 }
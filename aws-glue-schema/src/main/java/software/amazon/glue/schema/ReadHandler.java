@@ -1,5 +1,6 @@
 package software.amazon.glue.schema;
 
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
@@ -15,11 +16,31 @@ import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class ReadHandler extends BaseHandlerStd {
+    private final InitialSchemaVersionCache initialVersions;
+    private final Supplier<GlueAsyncClient> glueAsyncClient;
+
+    private AmazonWebServicesClientProxy proxy;
     private Logger logger;
 
+    public ReadHandler() {
+        this(
+            InitialSchemaVersionCache.shared(),
+            HandlerSetting.CONCURRENT_READ_ENABLED.booleanValue() ? ClientBuilder::getAsyncClient : null);
+    }
+
+    ReadHandler(final InitialSchemaVersionCache initialVersions, final Supplier<GlueAsyncClient> glueAsyncClient) {
+        this.initialVersions = initialVersions;
+        this.glueAsyncClient = glueAsyncClient;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -27,6 +48,7 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
+        this.proxy = proxy;
         this.logger = logger;
 
         return proxy.initiate(
@@ -45,31 +67,73 @@ public class ReadHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient) {
 
         GetSchemaResponse getSchemaResponse = null;
-        GetSchemaVersionResponse getSchemaVersionResponse = null;
+        String initialSchemaVersionId = null;
         final String identifier = getSchemaRequest.schemaId().toString();
+        final String schemaArn = getSchemaRequest.schemaId().schemaArn();
+
+        // Version 1 only depends on the ARN already in the model, so on a cache miss it is looked up while
+        // GetSchema is in flight instead of after it.
+        final CompletableFuture<GetSchemaVersionResponse> initialVersionFuture =
+            glueAsyncClient != null && schemaArn != null && !initialVersions.contains(schemaArn)
+                ? getInitialSchemaVersionAsync(schemaArn)
+                : null;
 
         try {
             final GlueClient glueClient = proxyClient.client();
 
             getSchemaResponse = proxyClient.injectCredentialsAndInvokeV2(getSchemaRequest, glueClient::getSchema);
-            GetSchemaVersionRequest getSchemaVersionRequest = getInitialSchemaVersionRequest(getSchemaResponse.schemaArn());
-
-            getSchemaVersionResponse = proxyClient.injectCredentialsAndInvokeV2(
-                getSchemaVersionRequest,
-                glueClient::getSchemaVersion);
 
+            final Optional<String> cachedVersionId =
+                initialVersions.get(getSchemaResponse.schemaArn(), getSchemaResponse.createdTime());
+            if (cachedVersionId.isPresent()) {
+                initialSchemaVersionId = cachedVersionId.get();
+            } else {
+                final GetSchemaVersionResponse getSchemaVersionResponse = initialVersionFuture != null
+                    ? joinInitialSchemaVersion(initialVersionFuture)
+                    : proxyClient.injectCredentialsAndInvokeV2(
+                        getInitialSchemaVersionRequest(getSchemaResponse.schemaArn()),
+                        glueClient::getSchemaVersion);
+                initialSchemaVersionId = getSchemaVersionResponse.schemaVersionId();
+                initialVersions.put(
+                    getSchemaResponse.schemaArn(),
+                    new InitialSchemaVersionCache.SchemaFields(
+                        getSchemaResponse.createdTime(),
+                        initialSchemaVersionId,
+                        getSchemaResponse.schemaName(),
+                        getSchemaResponse.dataFormatAsString(),
+                        getSchemaResponse.registryArn()));
+            }
         } catch (final AwsServiceException e) {
+            // GetSchema failures win over the version lookup, keeping NotFound semantics of the sequential path
+            if (initialVersionFuture != null) {
+                initialVersionFuture.cancel(true);
+            }
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] has successfully been read.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
-        );
-        return toResourceModel(getSchemaResponse, getSchemaVersionResponse.schemaVersionId());
+        handlerLog(logger).info("Successfully read",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", identifier);
+        return toResourceModel(getSchemaResponse, initialSchemaVersionId);
+    }
+
+    private CompletableFuture<GetSchemaVersionResponse> getInitialSchemaVersionAsync(final String schemaArn) {
+        final ProxyClient<GlueAsyncClient> asyncProxyClient = proxy.newProxy(glueAsyncClient);
+        return asyncProxyClient.injectCredentialsAndInvokeV2Async(
+            getInitialSchemaVersionRequest(schemaArn),
+            asyncProxyClient.client()::getSchemaVersion);
+    }
+
+    private static GetSchemaVersionResponse joinInitialSchemaVersion(
+        final CompletableFuture<GetSchemaVersionResponse> initialVersionFuture) {
+        try {
+            return initialVersionFuture.join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof AwsServiceException) {
+                throw (AwsServiceException) e.getCause();
+            }
+            throw e;
+        }
     }
 
     private GetSchemaVersionRequest getInitialSchemaVersionRequest(
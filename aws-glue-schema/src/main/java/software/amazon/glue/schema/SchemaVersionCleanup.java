@@ -0,0 +1,228 @@
+package software.amazon.glue.schema;
+
+import lombok.Value;
+import software.amazon.awssdk.awscore.exception.AwsServiceException;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
+
+/**
+ * Deletes the versions of a schema ahead of DeleteSchema, so that deleting a schema with hundreds of
+ * versions does not spend the whole stabilization timeout waiting for Glue to remove them one by one.
+ *
+ * The versions are enumerated once with ListSchemaVersions and grouped into ranges of consecutive
+ * version numbers, at most {@code batchSize} long, such as "1-50". The checkpoint version of the schema
+ * is left out of the ranges: DeleteSchemaVersions fails the whole request with a conflict when it names
+ * the checkpoint, which only goes away with DeleteSchema. Ranges are deleted with DeleteSchemaVersions one
+ * call at a time, as concurrent calls on the same schema conflict with each other, until none are left or
+ * the time budget of the invocation is spent; the ranges left over are handed back to be kept in the
+ * callback context. Versions Glue reports as not deleted, such as versions already gone, are counted as
+ * refused.
+ */
+final class SchemaVersionCleanup {
+
+    static final int LIST_PAGE_SIZE = 100;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long timeBudgetNanos;
+    private final LongSupplier nanoTime;
+
+    SchemaVersionCleanup(final boolean enabled,
+                         final int batchSize,
+                         final long timeBudgetNanos,
+                         final LongSupplier nanoTime) {
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.timeBudgetNanos = timeBudgetNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    static SchemaVersionCleanup fromSettings() {
+        return new SchemaVersionCleanup(
+            HandlerSetting.DELETE_VERSION_FAN_OUT_ENABLED.booleanValue(),
+            (int) HandlerSetting.DELETE_VERSION_FAN_OUT_BATCH_SIZE.longValue(),
+            TimeUnit.MILLISECONDS.toNanos(HandlerSetting.DELETE_VERSION_FAN_OUT_TIME_BUDGET_MILLIS.longValue()),
+            System::nanoTime);
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Version ranges of every version of the schema that is not already being deleted, leaving out the
+     * checkpoint version.
+     */
+    List<String> listVersionRanges(final ProxyClient<GlueClient> proxyClient, final String schemaArn) {
+        final SchemaId schemaId = SchemaId.builder().schemaArn(schemaArn).build();
+        GetSchemaResponse schema = null;
+        try {
+            schema = proxyClient.injectCredentialsAndInvokeV2(
+                GetSchemaRequest.builder().schemaId(schemaId).build(),
+                proxyClient.client()::getSchema);
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, schemaArn);
+        }
+        final Long checkpoint = schema.schemaCheckpoint();
+
+        final List<Long> versionNumbers = new ArrayList<>();
+        String nextToken = null;
+        do {
+            final ListSchemaVersionsRequest request = ListSchemaVersionsRequest
+                .builder()
+                .schemaId(schemaId)
+                .maxResults(LIST_PAGE_SIZE)
+                .nextToken(nextToken)
+                .build();
+
+            ListSchemaVersionsResponse response = null;
+            try {
+                response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::listSchemaVersions);
+            } catch (final AwsServiceException e) {
+                translateToCfnException(e, schemaArn);
+            }
+
+            if (response.hasSchemas()) {
+                for (final SchemaVersionListItem version : response.schemas()) {
+                    if (version.status() != SchemaVersionStatus.DELETING
+                        && version.versionNumber() != null
+                        && !version.versionNumber().equals(checkpoint)) {
+                        versionNumbers.add(version.versionNumber());
+                    }
+                }
+            }
+            nextToken = response.nextToken();
+        } while (nextToken != null && !nextToken.isEmpty());
+
+        return ranges(versionNumbers, batchSize);
+    }
+
+    /**
+     * Deletes ranges one at a time until all are gone or the time budget is spent. A failed range stops the
+     * run with its translated exception.
+     */
+    Result deleteVersionRanges(
+        final ProxyClient<GlueClient> proxyClient,
+        final String schemaArn,
+        final List<String> versionRanges) {
+
+        final long start = nanoTime.getAsLong();
+        final List<String> remaining = new ArrayList<>(versionRanges);
+        int deleted = 0;
+        int refused = 0;
+
+        while (!remaining.isEmpty() && nanoTime.getAsLong() - start < timeBudgetNanos) {
+            final String range = remaining.get(0);
+            final DeleteSchemaVersionsResponse response = deleteSchemaVersions(proxyClient, schemaArn, range);
+            final int errors = response.hasSchemaVersionErrors() ? response.schemaVersionErrors().size() : 0;
+            deleted += rangeSize(range) - errors;
+            refused += errors;
+            remaining.remove(0);
+        }
+
+        return new Result(remaining, deleted, refused, TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - start));
+    }
+
+    private DeleteSchemaVersionsResponse deleteSchemaVersions(
+        final ProxyClient<GlueClient> proxyClient,
+        final String schemaArn,
+        final String versionRange) {
+
+        final DeleteSchemaVersionsRequest request = DeleteSchemaVersionsRequest
+            .builder()
+            .schemaId(SchemaId.builder().schemaArn(schemaArn).build())
+            .versions(versionRange)
+            .build();
+
+        DeleteSchemaVersionsResponse response = null;
+        try {
+            response = proxyClient.injectCredentialsAndInvokeV2(request, proxyClient.client()::deleteSchemaVersions);
+        } catch (final AwsServiceException e) {
+            translateToCfnException(e, schemaArn + ":" + versionRange);
+        }
+        return response;
+    }
+
+    /**
+     * Groups version numbers into ranges of consecutive numbers of at most {@code batchSize} versions.
+     */
+    static List<String> ranges(final List<Long> versionNumbers, final int batchSize) {
+        if (versionNumbers.isEmpty()) {
+            return Collections.emptyList();
+        }
+        final List<Long> sorted = new ArrayList<>(versionNumbers);
+        Collections.sort(sorted);
+
+        final List<String> ranges = new ArrayList<>();
+        long first = sorted.get(0);
+        long last = first;
+        for (int i = 1; i < sorted.size(); i++) {
+            final long version = sorted.get(i);
+            if (version == last) {
+                continue;
+            }
+            if (version != last + 1 || version - first >= batchSize) {
+                ranges.add(range(first, last));
+                first = version;
+            }
+            last = version;
+        }
+        ranges.add(range(first, last));
+        return ranges;
+    }
+
+    private static String range(final long first, final long last) {
+        return first == last ? Long.toString(first) : first + "-" + last;
+    }
+
+    private static int rangeSize(final String range) {
+        final int dash = range.indexOf('-');
+        if (dash < 0) {
+            return 1;
+        }
+        return (int) (Long.parseLong(range.substring(dash + 1)) - Long.parseLong(range.substring(0, dash)) + 1);
+    }
+
+    /**
+     * Outcome of one invocation's share of the cleanup.
+     */
+    @Value
+    static class Result {
+        List<String> remainingRanges;
+        int deletedVersions;
+        int refusedVersions;
+        long elapsedMillis;
+
+        String summary(final String schemaArn) {
+            return String.format(
+                "Deleted %d versions of %s in %d ms (%.1f versions/s), %d refused, %d ranges left",
+                deletedVersions,
+                schemaArn,
+                elapsedMillis,
+                versionsPerSecond(deletedVersions, elapsedMillis),
+                refusedVersions,
+                remainingRanges.size());
+        }
+    }
+
+    static double versionsPerSecond(final long versions, final long elapsedMillis) {
+        return elapsedMillis <= 0 ? versions : versions * 1000.0 / elapsedMillis;
+    }
+}
@@ -13,12 +13,36 @@ import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import software.amazon.glue.schema.ResourceModel;
 import software.amazon.glue.schema.SchemaVersion;
+import software.amazon.glue.schema.Registry;
+
+import java.util.Objects;
+import java.util.Optional;
 
 import static software.amazon.glue.schema.ExceptionTranslator.translateToCfnException;
 
 public class UpdateHandler extends BaseHandlerStd {
+    private final ReadHandler readHandler;
+    private final InitialSchemaVersionCache schemaFields;
+    private final boolean mergeResponse;
+
     private Logger logger;
 
+    public UpdateHandler() {
+        this(
+            new ReadHandler(),
+            InitialSchemaVersionCache.shared(),
+            HandlerSetting.UPDATE_MERGE_RESPONSE_ENABLED.booleanValue());
+    }
+
+    UpdateHandler(
+        final ReadHandler readHandler,
+        final InitialSchemaVersionCache schemaFields,
+        final boolean mergeResponse) {
+        this.readHandler = readHandler;
+        this.schemaFields = schemaFields;
+        this.mergeResponse = mergeResponse;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -40,8 +64,71 @@ public class UpdateHandler extends BaseHandlerStd {
                     .makeServiceCall(this::updateSchema)
                     //Stabilization is not required for Schema Update.
                     .stabilize((awsRequest, awsResponse, client, model, context) -> true)
-                    .progress())
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+                    .done((awsRequest, awsResponse, client, model, context) ->
+                        mergeResponse(awsResponse, model)
+                            .map(ProgressEvent::<ResourceModel, CallbackContext>defaultSuccessHandler)
+                            .orElseGet(() -> ProgressEvent.progress(model, context))))
+            .then(progress -> readHandler.handleRequest(proxy, request, callbackContext, proxyClient, logger));
+    }
+
+    /**
+     * Builds the model Read would return from the UpdateSchema response, the desired model and the fields
+     * cached when the schema was last read. Empty when any field can only be known from Glue: the cache has
+     * no entry for the schema, the response names another schema, or the update left a property as it was.
+     * The checkpoint is only known when the desired model pins it to the latest version with a version number:
+     * Read derives IsLatest from the schema's latest version, which the response does not carry, so a
+     * checkpoint the template marks as not the latest may well be reported as the latest by Read.
+     *
+     * Off by default: the response carries no creation time, so a cache entry can not be told apart from
+     * the one of a schema deleted and created again under the same ARN outside this JVM, whose initial
+     * version and data format differ. Only enable it where schemas are not recreated out of band.
+     */
+    private Optional<ResourceModel> mergeResponse(
+        final UpdateSchemaResponse updateSchemaResponse,
+        final ResourceModel desiredModel) {
+
+        if (!mergeResponse) {
+            return Optional.empty();
+        }
+        final SchemaVersion checkpointVersion = desiredModel.getCheckpointVersion();
+        if (desiredModel.getDescription() == null
+            || desiredModel.getCompatibility() == null
+            || checkpointVersion == null
+            || checkpointVersion.getVersionNumber() == null
+            || !Boolean.TRUE.equals(checkpointVersion.getIsLatest())) {
+            return Optional.empty();
+        }
+        final Optional<InitialSchemaVersionCache.SchemaFields> fields =
+            schemaFields.fields(updateSchemaResponse.schemaArn());
+        if (!fields.isPresent() || !Objects.equals(fields.get().getSchemaName(), updateSchemaResponse.schemaName())) {
+            return Optional.empty();
+        }
+
+        handlerLog(logger).info("Built from the update response without reading it back",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", updateSchemaResponse.schemaArn());
+        return Optional.of(
+            ResourceModel
+                .builder()
+                .arn(updateSchemaResponse.schemaArn())
+                .name(updateSchemaResponse.schemaName())
+                .description(desiredModel.getDescription())
+                .dataFormat(fields.get().getDataFormat())
+                .compatibility(desiredModel.getCompatibility())
+                .initialSchemaVersionId(fields.get().getInitialSchemaVersionId())
+                .checkpointVersion(
+                    SchemaVersion
+                        .builder()
+                        .versionNumber(checkpointVersion.getVersionNumber())
+                        .isLatest(checkpointVersion.getIsLatest())
+                        .build())
+                .registry(
+                    Registry
+                        .builder()
+                        .arn(fields.get().getRegistryArn())
+                        .build()
+                )
+                .build());
     }
 
     private UpdateSchemaResponse updateSchema(
@@ -58,12 +145,9 @@ public class UpdateHandler extends BaseHandlerStd {
         } catch (AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
-        logger.log(
-            String.format(
-                "%s [%s] successfully updated.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            ));
+        handlerLog(logger).info("Successfully updated",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", identifier);
         return updateSchemaResponse;
 
     }
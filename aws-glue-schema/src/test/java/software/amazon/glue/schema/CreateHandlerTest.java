@@ -16,6 +16,7 @@ import software.amazon.awssdk.services.glue.model.ResourceNumberLimitExceededExc
 import software.amazon.awssdk.services.glue.model.SchemaStatus;
 import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
 import software.amazon.cloudformation.exceptions.CfnAlreadyExistsException;
+import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnServiceLimitExceededException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
@@ -30,6 +31,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -204,6 +208,28 @@ public class CreateHandlerTest extends AbstractTestBase {
             .contains("Limit exceeded for resource of type 'AWS::Glue::Schema'.");
     }
 
+    @Test
+    public void handleRequest_WhenValidationIsEnabledAndDefinitionIsMalformed_ThrowsWithoutCreating() {
+        final ResourceModel model = ResourceModel
+            .builder()
+            .name(TestData.SCHEMA_NAME)
+            .dataFormat(TestData.DATA_FORMAT)
+            .schemaDefinition("{\"type\": \"fixed\", \"size\": 16,")
+            .compatibility(TestData.COMPATIBILITY)
+            .build();
+
+        Exception exception = assertThrows(CfnInvalidRequestException.class, () ->
+            new CreateHandler(true).handleRequest(
+                proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(),
+                new CallbackContext(), proxyClient, logger
+            )
+        );
+
+        assertThat(exception.getMessage()).contains("Schema definition is not valid JSON");
+        verify(glueClient, never()).createSchema(any(CreateSchemaRequest.class));
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
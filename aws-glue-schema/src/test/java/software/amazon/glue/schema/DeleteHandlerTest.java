@@ -1,17 +1,25 @@
 package software.amazon.glue.schema;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.AccessDeniedException;
 import software.amazon.awssdk.services.glue.model.DeleteSchemaRequest;
 import software.amazon.awssdk.services.glue.model.DeleteSchemaResponse;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
 import software.amazon.awssdk.services.glue.model.InvalidInputException;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.SchemaId;
 import software.amazon.awssdk.services.glue.model.SchemaStatus;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -22,12 +30,17 @@ import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -127,6 +140,63 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Schema");
     }
 
+    @Test
+    public void handleRequest_WhenVersionFanOutIsEnabled_DeletesVersionsBeforeSchema() {
+        handler = new DeleteHandler(
+            new SchemaVersionCleanup(true, 2, TimeUnit.SECONDS.toNanos(30), System::nanoTime));
+
+        when(glueClient.listSchemaVersions(any(ListSchemaVersionsRequest.class)))
+            .thenReturn(ListSchemaVersionsResponse.builder()
+                .schemas(
+                    SchemaVersionListItem.builder().versionNumber(1L).status(SchemaVersionStatus.AVAILABLE).build(),
+                    SchemaVersionListItem.builder().versionNumber(2L).status(SchemaVersionStatus.AVAILABLE).build(),
+                    SchemaVersionListItem.builder().versionNumber(3L).status(SchemaVersionStatus.AVAILABLE).build())
+                .build());
+        when(glueClient.deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class)))
+            .thenReturn(DeleteSchemaVersionsResponse.builder().build());
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_REQUEST,
+            glueClient::deleteSchema)
+        ).thenReturn(TestData.DELETE_SCHEMA_RESPONSE);
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST,
+            glueClient::getSchema)
+        )
+            //Checkpoint lookup, version 1 is left for DeleteSchema
+            .thenReturn(GetSchemaResponse.builder().schemaArn(TestData.SCHEMA_ARN).schemaCheckpoint(1L).build())
+            //Stabilization
+            .thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getPendingVersionRanges()).isEmpty();
+        assertThat(callbackContext.getDeletedVersionCount()).isEqualTo(2);
+        final ArgumentCaptor<DeleteSchemaVersionsRequest> requests =
+            ArgumentCaptor.forClass(DeleteSchemaVersionsRequest.class);
+        verify(glueClient, times(1)).deleteSchemaVersions(requests.capture());
+        assertThat(requests.getValue().versions()).isEqualTo("2-3");
+    }
+
+    @Test
+    public void handleRequest_WhenVersionRangesRemain_ReturnsInProgress() {
+        // a spent time budget leaves every range for the next invocation
+        handler = new DeleteHandler(new SchemaVersionCleanup(true, 50, 0L, System::nanoTime));
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.setPendingVersionRanges(Arrays.asList("51-100", "101-120"));
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.IN_PROGRESS);
+        assertThat(response.getCallbackDelaySeconds()).isEqualTo(1);
+        assertThat(response.getCallbackContext().getPendingVersionRanges()).containsExactly("51-100", "101-120");
+        verify(glueClient, never()).listSchemaVersions(any(ListSchemaVersionsRequest.class));
+        verify(glueClient, never()).deleteSchema(any(DeleteSchemaRequest.class));
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String SCHEMA_NAME = "unit-test-schema";
@@ -0,0 +1,75 @@
+package software.amazon.glue.schema;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InitialSchemaVersionCacheTest {
+
+    private static final String SCHEMA_ARN =
+        "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+    private static final String OTHER_SCHEMA_ARN =
+        "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/other-schema";
+    private static final String CREATED_TIME = "2020-11-18T22:56:25.523Z";
+    private static final String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
+
+    @Test
+    public void get_ReturnsWhatWasPutForTheSameCreationTime() {
+        final InitialSchemaVersionCache cache = new InitialSchemaVersionCache(true, 4);
+        cache.put(SCHEMA_ARN, fields(CREATED_TIME, "version-1"));
+
+        assertThat(cache.contains(SCHEMA_ARN)).isTrue();
+        assertThat(cache.get(SCHEMA_ARN, CREATED_TIME)).contains("version-1");
+        assertThat(cache.get(SCHEMA_ARN, "2021-01-01T00:00:00.000Z")).isEmpty();
+        assertThat(cache.get(OTHER_SCHEMA_ARN, CREATED_TIME)).isEmpty();
+    }
+
+    @Test
+    public void put_IgnoresEntriesWithoutCreationTime() {
+        final InitialSchemaVersionCache cache = new InitialSchemaVersionCache(true, 4);
+        cache.put(SCHEMA_ARN, fields(null, "version-1"));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsedBeyondMaxEntries() {
+        final InitialSchemaVersionCache cache = new InitialSchemaVersionCache(true, 1);
+        cache.put(SCHEMA_ARN, fields(CREATED_TIME, "version-1"));
+        cache.put(OTHER_SCHEMA_ARN, fields(CREATED_TIME, "version-2"));
+
+        assertThat(cache.contains(SCHEMA_ARN)).isFalse();
+        assertThat(cache.get(OTHER_SCHEMA_ARN, CREATED_TIME)).contains("version-2");
+    }
+
+    @Test
+    public void fields_IgnoresCreationTime() {
+        final InitialSchemaVersionCache cache = new InitialSchemaVersionCache(true, 4);
+        cache.put(SCHEMA_ARN, fields(CREATED_TIME, "version-1"));
+
+        assertThat(cache.fields(SCHEMA_ARN)).contains(fields(CREATED_TIME, "version-1"));
+        assertThat(cache.fields(OTHER_SCHEMA_ARN)).isEmpty();
+    }
+
+    @Test
+    public void remove_DropsTheEntry() {
+        final InitialSchemaVersionCache cache = new InitialSchemaVersionCache(true, 4);
+        cache.put(SCHEMA_ARN, fields(CREATED_TIME, "version-1"));
+        cache.remove(SCHEMA_ARN);
+
+        assertThat(cache.contains(SCHEMA_ARN)).isFalse();
+    }
+
+    @Test
+    public void get_WhenDisabled_AlwaysMisses() {
+        final InitialSchemaVersionCache cache = new InitialSchemaVersionCache(false, 4);
+        cache.put(SCHEMA_ARN, fields(CREATED_TIME, "version-1"));
+
+        assertThat(cache.get(SCHEMA_ARN, CREATED_TIME)).isEmpty();
+    }
+
+    private static InitialSchemaVersionCache.SchemaFields fields(final String createdTime, final String versionId) {
+        return new InitialSchemaVersionCache.SchemaFields(
+            createdTime, versionId, "unit-testing-schema", "AVRO", REGISTRY_ARN);
+    }
+}
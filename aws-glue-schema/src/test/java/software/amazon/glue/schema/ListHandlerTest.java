@@ -20,11 +20,16 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.ListPaginator;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -137,6 +142,31 @@ public class ListHandlerTest extends AbstractTestBase {
             .contains("Error occurred during operation ");
     }
 
+    @Test
+    public void handleRequest_WhenDrainingEnabled_DrainsAllPages() {
+        handler = new ListHandler(
+            new ListPaginator(true, TimeUnit.SECONDS.toNanos(30), Long.MAX_VALUE, System::nanoTime));
+
+        when(glueClient.listSchemas(any(ListSchemasRequest.class)))
+            .thenReturn(ListSchemasResponse
+                .builder()
+                .nextToken(TestData.ANOTHER_NEXT_TOKEN)
+                .schemas(TestData.SCHEMA_LIST_ITEM_1)
+                .build())
+            .thenReturn(ListSchemasResponse
+                .builder()
+                .schemas(TestData.SCHEMA_LIST_ITEM_2)
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST_WITH_NAME, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(TestData.SCHEMA_MODELS);
+        assertThat(response.getNextToken()).isNull();
+        verify(glueClient, times(2)).listSchemas(any(ListSchemasRequest.class));
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
@@ -1,5 +1,6 @@
 package software.amazon.glue.schema;
 
+import software.amazon.awssdk.services.glue.GlueAsyncClient;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
 import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
@@ -23,8 +24,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,13 +44,19 @@ public class ReadHandlerTest extends AbstractTestBase {
     @Mock
     private GlueClient glueClient;
 
+    @Mock
+    private GlueAsyncClient glueAsyncClient;
+
+    private InitialSchemaVersionCache initialVersions;
+
     private ReadHandler handler;
 
     @BeforeEach
     public void setup() {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
-        handler = new ReadHandler();
+        initialVersions = new InitialSchemaVersionCache(true, 16);
+        handler = new ReadHandler(initialVersions, null);
     }
 
     @Test
@@ -86,6 +99,82 @@ public class ReadHandlerTest extends AbstractTestBase {
                 + "'SchemaId(SchemaArn=arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema)' was not found.");
 }
 
+    @Test
+    public void handleRequest_WhenInitialVersionIsCached_OnlyCallsGetSchema() {
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
+            .thenReturn(TestData.GET_SCHEMA_RESPONSE_WITH_CREATED_TIME);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(), proxyClient,
+            logger);
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(), proxyClient,
+                logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESPONSE_RESOURCE_MODEL);
+        verify(glueClient, times(2)).getSchema(any(GetSchemaRequest.class));
+        verify(glueClient, times(1)).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenSchemaWasRecreated_LooksUpInitialVersionAgain() {
+        initialVersions.put(TestData.SCHEMA_ARN, new InitialSchemaVersionCache.SchemaFields(
+            "1", "version-of-a-deleted-schema", TestData.SCHEMA_NAME, TestData.DATA_FORMAT, TestData.REGISTRY_ARN));
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
+            .thenReturn(TestData.GET_SCHEMA_RESPONSE_WITH_CREATED_TIME);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(), proxyClient,
+                logger);
+
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESPONSE_RESOURCE_MODEL);
+        assertThat(initialVersions.get(TestData.SCHEMA_ARN, TestData.CREATED_TIME)).contains(TestData.SCHEMA_VERSION_ID);
+    }
+
+    @Test
+    public void handleRequest_WhenConcurrentReadIsEnabled_GetsInitialVersionOnAsyncClient() {
+        final ReadHandler concurrentHandler = new ReadHandler(initialVersions, () -> glueAsyncClient);
+
+        when(proxyClient
+            .injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
+            .thenReturn(TestData.GET_SCHEMA_RESPONSE);
+        when(glueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class)))
+            .thenReturn(CompletableFuture.completedFuture(TestData.GET_SCHEMA_VERSION_RESPONSE));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            concurrentHandler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(),
+                proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESPONSE_RESOURCE_MODEL);
+        verify(glueClient, never()).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenConcurrentReadIsEnabledAndGetSchemaFails_ThrowsNotFound() {
+        final ReadHandler concurrentHandler = new ReadHandler(initialVersions, () -> glueAsyncClient);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(TestData.GET_SCHEMA_REQUEST_WITH_ARN, glueClient::getSchema))
+            .thenThrow(EntityNotFoundException.class);
+        when(glueAsyncClient.getSchemaVersion(any(GetSchemaVersionRequest.class))).thenReturn(new CompletableFuture<>());
+
+        assertThrows(CfnNotFoundException.class, () ->
+            concurrentHandler.handleRequest(proxy, TestData.RESOURCE_HANDLER_WITH_SCHEMA_ARN, new CallbackContext(),
+                proxyClient, logger));
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String REGISTRY_ARN = "arn:aws:glue:us-east-1:123456789:registry/unit-testing-registry";
@@ -100,6 +189,7 @@ public class ReadHandlerTest extends AbstractTestBase {
             "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
         private static final Long CHECKPOINT_VERSION = 1l;
         private static final String SCHEMA_VERSION_ID = "123e4567-e89b-12d3-a456-426614174000";
+        private static final String CREATED_TIME = "2020-11-18T22:56:25.523Z";
 
         public final static ResourceModel RESOURCE_MODEL_WITH_SCHEMA_NAME = ResourceModel
             .builder()
@@ -164,6 +254,11 @@ public class ReadHandlerTest extends AbstractTestBase {
                 .dataFormat(DATA_FORMAT)
                 .build();
 
+        public final static GetSchemaResponse GET_SCHEMA_RESPONSE_WITH_CREATED_TIME =
+            GET_SCHEMA_RESPONSE.toBuilder()
+                .createdTime(CREATED_TIME)
+                .build();
+
         public final static GetSchemaVersionRequest GET_SCHEMA_VERSION_REQUEST =
             GetSchemaVersionRequest
                 .builder()
@@ -0,0 +1,187 @@
+package software.amazon.glue.schema;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.services.glue.GlueClient;
+import software.amazon.awssdk.services.glue.model.AccessDeniedException;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.ErrorDetails;
+import software.amazon.awssdk.services.glue.model.GetSchemaRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaResponse;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
+import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
+import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
+import software.amazon.cloudformation.exceptions.CfnAccessDeniedException;
+import software.amazon.cloudformation.proxy.ProxyClient;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SchemaVersionCleanupTest extends AbstractTestBase {
+
+    private static final String SCHEMA_ARN =
+        "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+
+    @Mock
+    private GlueClient glueClient;
+
+    private ProxyClient<GlueClient> proxyClient;
+
+    @BeforeEach
+    public void setup() {
+        proxyClient = MOCK_PROXY(getAmazonWebServicesClientProxy(), glueClient);
+    }
+
+    @Test
+    public void ranges_GroupsConsecutiveVersionsUpToBatchSize() {
+        assertThat(SchemaVersionCleanup.ranges(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L), 3))
+            .containsExactly("1-3", "4-6", "7");
+    }
+
+    @Test
+    public void ranges_SplitsAtGapsAndIgnoresOrderAndDuplicates() {
+        assertThat(SchemaVersionCleanup.ranges(Arrays.asList(9L, 2L, 1L, 2L, 5L, 6L, 12L), 50))
+            .containsExactly("1-2", "5-6", "9", "12");
+        assertThat(SchemaVersionCleanup.ranges(Collections.emptyList(), 50)).isEmpty();
+    }
+
+    @Test
+    public void listVersionRanges_ReadsEveryPageAndSkipsVersionsBeingDeleted() {
+        givenCheckpoint(5L);
+        when(glueClient.listSchemaVersions(any(ListSchemaVersionsRequest.class)))
+            .thenReturn(
+                ListSchemaVersionsResponse.builder()
+                    .schemas(version(1L, SchemaVersionStatus.AVAILABLE), version(2L, SchemaVersionStatus.DELETING))
+                    .nextToken("page-2")
+                    .build(),
+                ListSchemaVersionsResponse.builder()
+                    .schemas(version(3L, SchemaVersionStatus.AVAILABLE), version(4L, SchemaVersionStatus.FAILURE))
+                    .build());
+
+        final List<String> ranges = cleanup(50, 30_000L, System::nanoTime).listVersionRanges(proxyClient, SCHEMA_ARN);
+
+        assertThat(ranges).containsExactly("1", "3-4");
+        final ArgumentCaptor<ListSchemaVersionsRequest> requests =
+            ArgumentCaptor.forClass(ListSchemaVersionsRequest.class);
+        verify(glueClient, times(2)).listSchemaVersions(requests.capture());
+        assertThat(requests.getAllValues())
+            .extracting(ListSchemaVersionsRequest::nextToken)
+            .containsExactly(null, "page-2");
+    }
+
+    @Test
+    public void listVersionRanges_LeavesOutTheCheckpoint() {
+        givenCheckpoint(3L);
+        when(glueClient.listSchemaVersions(any(ListSchemaVersionsRequest.class)))
+            .thenReturn(ListSchemaVersionsResponse.builder()
+                .schemas(
+                    version(1L, SchemaVersionStatus.AVAILABLE),
+                    version(2L, SchemaVersionStatus.AVAILABLE),
+                    version(3L, SchemaVersionStatus.AVAILABLE),
+                    version(4L, SchemaVersionStatus.AVAILABLE),
+                    version(5L, SchemaVersionStatus.AVAILABLE))
+                .build());
+
+        final List<String> ranges = cleanup(50, 30_000L, System::nanoTime).listVersionRanges(proxyClient, SCHEMA_ARN);
+
+        assertThat(ranges).containsExactly("1-2", "4-5");
+    }
+
+    @Test
+    public void deleteVersionRanges_DeletesRangesOneAtATimeAndCountsRefusedVersions() {
+        when(glueClient.deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class)))
+            .thenAnswer(invocation -> {
+                final DeleteSchemaVersionsRequest request = invocation.getArgument(0);
+                if ("101-120".equals(request.versions())) {
+                    // deleted outside of the handler since the versions were listed
+                    return DeleteSchemaVersionsResponse.builder()
+                        .schemaVersionErrors(SchemaVersionErrorItem.builder()
+                            .versionNumber(120L)
+                            .errorDetails(ErrorDetails.builder().errorCode("EntityNotFoundException").build())
+                            .build())
+                        .build();
+                }
+                return DeleteSchemaVersionsResponse.builder().build();
+            });
+
+        final SchemaVersionCleanup.Result result = cleanup(50, 30_000L, System::nanoTime)
+            .deleteVersionRanges(proxyClient, SCHEMA_ARN, Arrays.asList("1-50", "51-100", "101-120"));
+
+        assertThat(result.getRemainingRanges()).isEmpty();
+        assertThat(result.getDeletedVersions()).isEqualTo(119);
+        assertThat(result.getRefusedVersions()).isEqualTo(1);
+        final ArgumentCaptor<DeleteSchemaVersionsRequest> requests =
+            ArgumentCaptor.forClass(DeleteSchemaVersionsRequest.class);
+        verify(glueClient, times(3)).deleteSchemaVersions(requests.capture());
+        assertThat(requests.getAllValues())
+            .extracting(DeleteSchemaVersionsRequest::versions)
+            .containsExactly("1-50", "51-100", "101-120");
+    }
+
+    @Test
+    public void deleteVersionRanges_WhenTimeBudgetIsSpent_ReturnsRemainingRanges() {
+        when(glueClient.deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class)))
+            .thenReturn(DeleteSchemaVersionsResponse.builder().build());
+        // every reading of the clock advances it by a second, so only two ranges fit a 2.5 s budget
+        final AtomicLong clock = new AtomicLong();
+        final SchemaVersionCleanup cleanup =
+            cleanup(50, 2_500L, () -> clock.getAndAdd(TimeUnit.SECONDS.toNanos(1)));
+
+        final SchemaVersionCleanup.Result result = cleanup
+            .deleteVersionRanges(proxyClient, SCHEMA_ARN, Arrays.asList("1-50", "51-100", "101-150", "151"));
+
+        assertThat(result.getRemainingRanges()).containsExactly("101-150", "151");
+        assertThat(result.getDeletedVersions()).isEqualTo(100);
+        verify(glueClient, times(2)).deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class));
+    }
+
+    @Test
+    public void deleteVersionRanges_WhenARangeFails_Throws() {
+        when(glueClient.deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class)))
+            .thenThrow(AccessDeniedException.builder().message("denied").build());
+
+        assertThrows(CfnAccessDeniedException.class, () -> cleanup(50, 30_000L, System::nanoTime)
+            .deleteVersionRanges(proxyClient, SCHEMA_ARN, Arrays.asList("1-50", "51-60")));
+        verify(glueClient, times(1)).deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class));
+    }
+
+    private void givenCheckpoint(final long checkpoint) {
+        when(glueClient.getSchema(any(GetSchemaRequest.class)))
+            .thenReturn(GetSchemaResponse.builder().schemaArn(SCHEMA_ARN).schemaCheckpoint(checkpoint).build());
+    }
+
+    private static SchemaVersionCleanup cleanup(
+        final int batchSize,
+        final long timeBudgetMillis,
+        final LongSupplier nanoTime) {
+        return new SchemaVersionCleanup(
+            true, batchSize, TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis), nanoTime);
+    }
+
+    private static SchemaVersionListItem version(final long versionNumber, final SchemaVersionStatus status) {
+        return SchemaVersionListItem.builder()
+            .schemaArn(SCHEMA_ARN)
+            .versionNumber(versionNumber)
+            .status(status)
+            .build();
+    }
+}
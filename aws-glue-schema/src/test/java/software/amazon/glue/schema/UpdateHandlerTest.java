@@ -30,7 +30,10 @@ import software.amazon.glue.schema.Registry;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,6 +45,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
 
     private UpdateHandler handler;
 
+    private InitialSchemaVersionCache schemaFields;
+
     @Mock
     private GlueClient glueClient;
 
@@ -50,7 +55,8 @@ public class UpdateHandlerTest extends AbstractTestBase {
         proxy = getAmazonWebServicesClientProxy();
         glueClient = mock(GlueClient.class);
         proxyClient = MOCK_PROXY(proxy, glueClient);
-        handler = new UpdateHandler();
+        schemaFields = new InitialSchemaVersionCache(true, 16);
+        handler = new UpdateHandler(new ReadHandler(schemaFields, null), schemaFields, true);
     }
 
     @Test
@@ -189,6 +195,84 @@ public class UpdateHandlerTest extends AbstractTestBase {
         assertThat(response.getErrorCode()).isNull();
     }
 
+    @Test
+    public void handleRequest_whenSchemaFieldsAreCached_ReturnsMergedModelWithoutRead() {
+        schemaFields.put(TestData.SCHEMA_ARN, TestData.SCHEMA_FIELDS);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UPDATE_SCHEMA_REQUEST_WITH_FULL_CHECKPOINT,
+            glueClient::updateSchema)
+        ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST_WITH_FULL_CHECKPOINT,
+            new CallbackContext(),
+            proxyClient,
+            logger
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESOURCE_MODEL);
+        verify(glueClient, never()).getSchema(any(GetSchemaRequest.class));
+        verify(glueClient, never()).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_whenCheckpointVersionNumberIsUnknown_ReadsSchemaBack() {
+        schemaFields.put(TestData.SCHEMA_ARN, TestData.SCHEMA_FIELDS);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UPDATE_SCHEMA_REQUEST_WITH_NO_REGISTRY,
+            glueClient::updateSchema)
+        ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST_WITH_NO_REGISTRY,
+            new CallbackContext(),
+            proxyClient,
+            logger
+        );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESOURCE_MODEL);
+        verify(glueClient, never()).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_whenCheckpointIsNotPinnedToLatest_ReadsSchemaBack() {
+        schemaFields.put(TestData.SCHEMA_ARN, TestData.SCHEMA_FIELDS);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.UPDATE_SCHEMA_REQUEST_WITH_CHECKPOINT_NOT_LATEST,
+            glueClient::updateSchema)
+        ).thenReturn(TestData.UPDATE_SCHEMA_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_REQUEST_WITH_ARN,
+            glueClient::getSchema)
+        ).thenReturn(TestData.GET_SCHEMA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response = handler.handleRequest(
+            proxy,
+            TestData.RESOURCE_HANDLER_REQUEST_WITH_CHECKPOINT_NOT_LATEST,
+            new CallbackContext(),
+            proxyClient,
+            logger
+        );
+
+        // The checkpoint is the latest version, which only Read can tell
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_RESOURCE_MODEL);
+        verify(glueClient, never()).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
     @Test
     public void handleRequest_whenUpdateSchemaFails_ThrowsException() {
 
@@ -330,6 +414,92 @@ public class UpdateHandlerTest extends AbstractTestBase {
                 .compatibility(COMPATIBILITY)
                 .build();
 
+        public final static ResourceModel RESOURCE_MODEL_WITH_FULL_CHECKPOINT =
+            ResourceModel
+                .builder()
+                .name(SCHEMA_NAME)
+                .arn(SCHEMA_ARN)
+                .description(SCHEMA_DESC)
+                .checkpointVersion(
+                    SchemaVersion
+                        .builder()
+                        .versionNumber(CHECKPOINT_VERSION.intValue())
+                        .isLatest(true)
+                        .build()
+                )
+                .compatibility(COMPATIBILITY)
+                .build();
+
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITH_FULL_CHECKPOINT =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(RESOURCE_MODEL_WITH_FULL_CHECKPOINT)
+                .build();
+
+        public final static UpdateSchemaRequest UPDATE_SCHEMA_REQUEST_WITH_FULL_CHECKPOINT =
+            UpdateSchemaRequest
+                .builder()
+                .schemaId(
+                    SchemaId
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .build()
+                )
+                .schemaVersionNumber(
+                    SchemaVersionNumber
+                        .builder()
+                        .versionNumber(CHECKPOINT_VERSION)
+                        .latestVersion(true)
+                        .build()
+                )
+                .description(SCHEMA_DESC)
+                .compatibility(COMPATIBILITY)
+                .build();
+
+        public final static ResourceModel RESOURCE_MODEL_WITH_CHECKPOINT_NOT_LATEST =
+            ResourceModel
+                .builder()
+                .name(SCHEMA_NAME)
+                .arn(SCHEMA_ARN)
+                .description(SCHEMA_DESC)
+                .checkpointVersion(
+                    SchemaVersion
+                        .builder()
+                        .versionNumber(CHECKPOINT_VERSION.intValue())
+                        .isLatest(false)
+                        .build()
+                )
+                .compatibility(COMPATIBILITY)
+                .build();
+
+        public final static ResourceHandlerRequest<ResourceModel> RESOURCE_HANDLER_REQUEST_WITH_CHECKPOINT_NOT_LATEST =
+            ResourceHandlerRequest.<ResourceModel>builder()
+                .desiredResourceState(RESOURCE_MODEL_WITH_CHECKPOINT_NOT_LATEST)
+                .build();
+
+        public final static UpdateSchemaRequest UPDATE_SCHEMA_REQUEST_WITH_CHECKPOINT_NOT_LATEST =
+            UpdateSchemaRequest
+                .builder()
+                .schemaId(
+                    SchemaId
+                        .builder()
+                        .schemaArn(SCHEMA_ARN)
+                        .build()
+                )
+                .schemaVersionNumber(
+                    SchemaVersionNumber
+                        .builder()
+                        .versionNumber(CHECKPOINT_VERSION)
+                        .latestVersion(false)
+                        .build()
+                )
+                .description(SCHEMA_DESC)
+                .compatibility(COMPATIBILITY)
+                .build();
+
+        public static final InitialSchemaVersionCache.SchemaFields SCHEMA_FIELDS =
+            new InitialSchemaVersionCache.SchemaFields(
+                CREATED_TIME, SCHEMA_VERSION_ID, SCHEMA_NAME, DATA_FORMAT, REGISTRY_ARN);
+
         public static final UpdateSchemaResponse UPDATE_SCHEMA_RESPONSE =
             UpdateSchemaResponse
                 .builder()
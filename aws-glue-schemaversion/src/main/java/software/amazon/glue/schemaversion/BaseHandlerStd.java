@@ -6,10 +6,25 @@ import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.GlueCallMetrics;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.InstrumentedProxyClient;
 
 // Placeholder for the functionality that could be shared across Create/Read/Update/Delete/List Handlers
 
 public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
+    private static final boolean METRICS_ENABLED = HandlerSetting.METRICS_ENABLED.booleanValue();
+
+    private static final HandlerLog.Config LOG = HandlerLog.Config.fromSettings(
+        HandlerSetting.LOG_LEVEL, HandlerSetting.LOG_FORMAT, HandlerSetting.LOG_MAX_FIELD_LENGTH);
+
+    static {
+        // Handlers are created in the Lambda init phase, so the SDK is warmed up before the first invocation
+        if (HandlerSetting.WARM_UP_ENABLED.booleanValue()) {
+            ClientBuilder.warmUp();
+        }
+    }
+
 
     @Override
     public final ProgressEvent<ResourceModel, CallbackContext> handleRequest(
@@ -17,13 +32,25 @@ public abstract class BaseHandlerStd extends BaseHandler<CallbackContext> {
         final ResourceHandlerRequest<ResourceModel> request,
         final CallbackContext callbackContext,
         final Logger logger) {
-        return handleRequest(
-            proxy,
-            request,
-            callbackContext != null ? callbackContext : new CallbackContext(),
-            proxy.newProxy(ClientBuilder::getClient),
-            logger
-        );
+        final CallbackContext context = callbackContext != null ? callbackContext : new CallbackContext();
+        final ProxyClient<GlueClient> proxyClient = proxy.newProxy(ClientBuilder::getClient);
+        if (!METRICS_ENABLED) {
+            return handleRequest(proxy, request, context, proxyClient, logger);
+        }
+
+        final GlueCallMetrics.Invocation invocation = GlueCallMetrics.shared().start(getClass().getSimpleName());
+        try {
+            return handleRequest(
+                proxy, request, context, new InstrumentedProxyClient<>(proxyClient, invocation), logger);
+        } finally {
+            if (invocation.callCount() > 0) {
+                handlerLog(logger).log(HandlerLog.Level.INFO, invocation::summary);
+            }
+        }
+    }
+
+    protected static HandlerLog handlerLog(final Logger logger) {
+        return LOG.to(logger);
     }
 
     protected abstract ProgressEvent<ResourceModel, CallbackContext> handleRequest(
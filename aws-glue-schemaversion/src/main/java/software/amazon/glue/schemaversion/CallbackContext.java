@@ -1,10 +1,34 @@
 package software.amazon.glue.schemaversion;
 
 import software.amazon.cloudformation.proxy.StdCallbackContext;
+import software.amazon.glue.common.Checkpoint;
+
+import java.util.Map;
 
 @lombok.Getter
 @lombok.Setter
 @lombok.ToString
 @lombok.EqualsAndHashCode(callSuper = true)
 public class CallbackContext extends StdCallbackContext {
+
+    // Identifiers resolved into the checkpoint, such as the version number behind a VersionId
+    static final String VERSION_ID = "VersionId";
+    static final String SCHEMA_ARN = "SchemaArn";
+    static final String VERSION_NUMBER = "VersionNumber";
+
+    /**
+     * Steps of this operation already completed by an earlier invocation.
+     */
+    private Checkpoint checkpoint = new Checkpoint();
+
+    /**
+     * Fingerprint index entries learnt by this operation, carried across invocations when
+     * {@link HandlerSetting#FINGERPRINT_INDEX_PERSIST_IN_CONTEXT} is enabled.
+     */
+    private Map<String, String> schemaVersionFingerprints;
+
+    /**
+     * Fingerprint index key GetSchemaByDefinition already reported as not registered in this operation.
+     */
+    private String unregisteredFingerprint;
 }
@@ -1,18 +1,82 @@
 package software.amazon.glue.schemaversion;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.glue.GlueClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaByDefinitionRequest;
+import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
+import software.amazon.awssdk.services.glue.model.RegisterSchemaVersionRequest;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.glue.common.AdaptiveRateLimiter;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.GlueWarmUp;
+import software.amazon.glue.common.Settings;
+
+import java.util.Arrays;
+import java.util.function.Function;
 
 public class ClientBuilder {
     private ClientBuilder() {
     }
 
+    private static final AdaptiveRateLimiter RATE_LIMITER =
+        Settings.booleanValue(HandlerSetting.RATE_LIMITER_ENABLED)
+            ? AdaptiveRateLimiter.fromSettings(
+                HandlerSetting.RATE_LIMITER_INITIAL_RATE,
+                HandlerSetting.RATE_LIMITER_MIN_RATE,
+                HandlerSetting.RATE_LIMITER_MAX_RATE,
+                HandlerSetting.RATE_LIMITER_INCREASE_STEP,
+                HandlerSetting.RATE_LIMITER_DECREASE_FACTOR,
+                HandlerSetting.RATE_LIMITER_COOLDOWN_MILLIS,
+                HandlerSetting.RATE_LIMITER_MAX_WAIT_MILLIS)
+            : null;
+
+    // Without the rate limiter the client keeps the SDK default retry policy, with its attempts counted
+    private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION =
+        RATE_LIMITER != null
+            ? GlueClients.overrideConfiguration(RATE_LIMITER)
+            : GlueClients.defaultOverrideConfiguration();
+
+    private static final GlueClients<GlueClient> GLUE_CLIENTS =
+        new GlueClients<>(GlueClient::builder, OVERRIDE_CONFIGURATION);
+
+    private static final String WARM_UP_NAME = "warm-up";
+    private static final String WARM_UP_VERSION_ID = "00000000-0000-0000-0000-000000000000";
+    private static final String WARM_UP_DEFINITION = "{\"type\":\"record\",\"name\":\"WarmUp\",\"fields\":[]}";
+    private static final SchemaId WARM_UP_SCHEMA =
+        SchemaId.builder().registryName(WARM_UP_NAME).schemaName(WARM_UP_NAME).build();
+
+    // One representative request per Glue operation the SchemaVersion handlers call, see warmUp()
+    private static final GlueWarmUp<GlueClient> WARM_UP = new GlueWarmUp<>(GlueClient::builder,
+        Arrays.<Function<GlueClient, ?>>asList(
+            glue -> glue.getSchemaByDefinition(GetSchemaByDefinitionRequest.builder()
+                .schemaId(WARM_UP_SCHEMA)
+                .schemaDefinition(WARM_UP_DEFINITION)
+                .build()),
+            glue -> glue.registerSchemaVersion(RegisterSchemaVersionRequest.builder()
+                .schemaId(WARM_UP_SCHEMA)
+                .schemaDefinition(WARM_UP_DEFINITION)
+                .build()),
+            glue -> glue.getSchemaVersion(
+                GetSchemaVersionRequest.builder().schemaVersionId(WARM_UP_VERSION_ID).build()),
+            glue -> glue.listSchemaVersions(ListSchemaVersionsRequest.builder().schemaId(WARM_UP_SCHEMA).build()),
+            glue -> glue.deleteSchemaVersions(DeleteSchemaVersionsRequest.builder()
+                .schemaId(WARM_UP_SCHEMA)
+                .versions("1")
+                .build())))
+        .registerForCheckpoint();
+
     //It is recommended to use static HTTP client so less memory is consumed.
     public static GlueClient getClient() {
-        return
-            GlueClient
-                .builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return GLUE_CLIENTS.client();
+    }
+
+    /**
+     * Makes every Glue call of the SchemaVersion handlers once without a network round trip, so the first invocation does
+     * not pay for loading and initializing the SDK. Runs once per JVM, see {@link GlueWarmUp}.
+     */
+    static GlueWarmUp.Result warmUp() {
+        return WARM_UP.run();
     }
 }
@@ -17,29 +17,46 @@ import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
 import software.amazon.cloudformation.exceptions.CfnResourceConflictException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
+import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
+import software.amazon.glue.common.Checkpoint;
+import software.amazon.glue.common.SchemaNormalizer;
+import software.amazon.glue.common.StabilizationDelay;
 
-import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class CreateHandler extends BaseHandlerStd {
-    private static final Constant BACK_OFF_DELAY =
-        Constant
-            .of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(3L))
-            .build();
+    private static final Delay BACK_OFF_DELAY =
+        StabilizationDelay.fromSettings(
+            HandlerSetting.STABILIZATION_BASE_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_MAX_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_TIMEOUT_SECONDS);
+
+    private static final boolean PERSIST_FINGERPRINTS =
+        HandlerSetting.FINGERPRINT_INDEX_PERSIST_IN_CONTEXT.booleanValue();
+
+    private final SchemaFingerprintIndex fingerprintIndex;
 
     private Logger logger;
 
+    public CreateHandler() {
+        this(SchemaFingerprintIndex.shared());
+    }
+
+    CreateHandler(final SchemaFingerprintIndex fingerprintIndex) {
+        this.fingerprintIndex = fingerprintIndex;
+    }
+
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
         final ResourceHandlerRequest<ResourceModel> request,
@@ -48,10 +65,17 @@ public class CreateHandler extends BaseHandlerStd {
         final Logger logger) {
 
         this.logger = logger;
+        seedFingerprintIndex(callbackContext);
+        // The GetSchemaVersion response that reported AVAILABLE already holds everything Read would return
+        final AtomicReference<GetSchemaVersionResponse> availableVersion = new AtomicReference<>();
         return ProgressEvent.progress(request.getDesiredResourceState(), callbackContext)
             .then(progress -> createSchemaVersion(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::Create"))
-            .then(progress -> stabilize(proxy, proxyClient, progress, "AWS-Glue-SchemaVersion::PostCreateStabilize"))
-            .then(progress -> new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
+            .then(progress -> stabilize(proxy, proxyClient, progress, availableVersion,
+                "AWS-Glue-SchemaVersion::PostCreateStabilize"))
+            .then(progress -> availableVersion.get() != null
+                ? ProgressEvent.defaultSuccessHandler(ReadHandler.toResourceModel(availableVersion.get()))
+                // Stabilized by an earlier invocation, so the response is gone
+                : new ReadHandler().handleRequest(proxy, request, callbackContext, proxyClient, logger));
     }
 
     private ProgressEvent<ResourceModel, CallbackContext> createSchemaVersion(
@@ -60,39 +84,49 @@ public class CreateHandler extends BaseHandlerStd {
         final ProgressEvent<ResourceModel, CallbackContext> progress,
         final String callGraph) {
 
+        final Checkpoint checkpoint = progress.getCallbackContext().getCheckpoint();
+        if (checkpoint.hasReached(Checkpoint.Phase.REQUESTED)) {
+            // Registered by an earlier invocation
+            progress.getResourceModel().setVersionId(checkpoint.resolved(CallbackContext.VERSION_ID));
+            return progress;
+        }
+
         return proxy.initiate(
             callGraph, proxyClient, progress.getResourceModel(), progress.getCallbackContext()
         )
             .translateToServiceRequest(this::resourceModelToRegisterRequest)
             .backoffDelay(BACK_OFF_DELAY)
-            .makeServiceCall(this::registerSchemaVersion)
+            .makeServiceCall((registerSchemaVersionRequest, client) ->
+                registerSchemaVersion(registerSchemaVersionRequest, client, progress.getCallbackContext()))
             //Set VersionId in Resource model for stabilization to use it.
             .done(this::setVersionId);
     }
 
     private RegisterSchemaVersionResponse registerSchemaVersion(
         final RegisterSchemaVersionRequest registerSchemaVersionRequest,
-        final ProxyClient<GlueClient> proxyClient) {
+        final ProxyClient<GlueClient> proxyClient,
+        final CallbackContext callbackContext) {
 
         final GlueClient glueClient = proxyClient.client();
         RegisterSchemaVersionResponse registerSchemaVersionResponse = null;
 
-        final Optional<String> versionId = getSchemaVersionId(
-            proxyClient,
+        final String fingerprintKey = SchemaFingerprintIndex.key(
             registerSchemaVersionRequest.schemaId(),
             registerSchemaVersionRequest.schemaDefinition()
         );
+        final Optional<String> versionId = findSchemaVersionId(
+            proxyClient,
+            registerSchemaVersionRequest,
+            fingerprintKey,
+            callbackContext
+        );
 
         //Resource requested to be created already exists.
         if (versionId.isPresent()) {
             throw new CfnAlreadyExistsException(ResourceModel.TYPE_NAME, versionId.get());
         }
-        logger.log(
-            String.format(
-                "SchemaDefinition is not present in schemaId: %s. Proceeding to create",
-                registerSchemaVersionRequest.schemaId()
-            )
-        );
+        handlerLog(logger).info("SchemaDefinition is not present, proceeding to create",
+            "SchemaId", registerSchemaVersionRequest.schemaId());
 
         try {
             registerSchemaVersionResponse =
@@ -106,16 +140,120 @@ public class CreateHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "Registered %s with ID %s.",
-                ResourceModel.TYPE_NAME,
-                registerSchemaVersionResponse.schemaVersionId()
-            )
-        );
+        handlerLog(logger).info("Registered",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", registerSchemaVersionResponse.schemaVersionId());
+        indexSchemaVersion(fingerprintKey, registerSchemaVersionResponse.schemaVersionId(), callbackContext);
+        // Schemas addressed by name are resolved to their ARN once the version becomes available
+        SchemaVersionResolutionCache.shared().put(
+            registerSchemaVersionResponse.schemaVersionId(),
+            registerSchemaVersionRequest.schemaId().schemaArn(),
+            registerSchemaVersionResponse.versionNumber());
         return registerSchemaVersionResponse;
     }
 
+    /**
+     * A fingerprint index hit is only a hint, the version may have been deleted outside of these handlers
+     * since, so it is confirmed with GetSchemaVersion by its id, which does not send the definition again,
+     * and dropped from the index when Glue no longer knows it. A confirmed hit fails Create for a definition
+     * that only differs in formatting from the registered one, without registering it again. The definition
+     * is only looked up with GetSchemaByDefinition without a confirmed hit. Without a hint, an earlier
+     * GetSchemaByDefinition miss recorded in the callback context proves the definition is new.
+     */
+    private Optional<String> findSchemaVersionId(
+        final ProxyClient<GlueClient> proxyClient,
+        final RegisterSchemaVersionRequest registerSchemaVersionRequest,
+        final String fingerprintKey,
+        final CallbackContext callbackContext) {
+
+        final Optional<String> indexedVersionId = fingerprintIndex.versionId(fingerprintKey);
+        if (indexedVersionId.isPresent()) {
+            if (isRegisteredAs(proxyClient, registerSchemaVersionRequest, indexedVersionId.get())) {
+                handlerLog(logger).info("SchemaDefinition is registered according to the fingerprint index",
+                    "Type", ResourceModel.TYPE_NAME,
+                    "Id", indexedVersionId.get());
+                return indexedVersionId;
+            }
+            fingerprintIndex.invalidateVersion(indexedVersionId.get());
+            if (PERSIST_FINGERPRINTS && callbackContext.getSchemaVersionFingerprints() != null) {
+                callbackContext.getSchemaVersionFingerprints().remove(fingerprintKey);
+            }
+        } else if (PERSIST_FINGERPRINTS && fingerprintKey.equals(callbackContext.getUnregisteredFingerprint())) {
+            return Optional.empty();
+        }
+
+        final Optional<String> versionId = getSchemaVersionId(
+            proxyClient,
+            registerSchemaVersionRequest.schemaId(),
+            registerSchemaVersionRequest.schemaDefinition()
+        );
+        if (versionId.isPresent()) {
+            indexSchemaVersion(fingerprintKey, versionId.get(), callbackContext);
+        } else if (PERSIST_FINGERPRINTS) {
+            callbackContext.setUnregisteredFingerprint(fingerprintKey);
+        }
+        return versionId;
+    }
+
+    /**
+     * Whether an indexed version still exists in the schema of the request, is neither being deleted nor
+     * failed to register, and has the same canonical definition in the DataFormat of its schema.
+     */
+    private boolean isRegisteredAs(
+        final ProxyClient<GlueClient> proxyClient,
+        final RegisterSchemaVersionRequest registerSchemaVersionRequest,
+        final String versionId) {
+        final SchemaId schemaId = registerSchemaVersionRequest.schemaId();
+        final GetSchemaVersionRequest getSchemaVersionRequest =
+            GetSchemaVersionRequest
+                .builder()
+                .schemaVersionId(versionId)
+                .build();
+
+        final GetSchemaVersionResponse response;
+        try {
+            response = proxyClient
+                .injectCredentialsAndInvokeV2(getSchemaVersionRequest, proxyClient.client()::getSchemaVersion);
+        } catch (EntityNotFoundException e) {
+            return false;
+        } catch (AwsServiceException e) {
+            throw
+                new CfnGeneralServiceException(
+                    String.format("Error determining pre-existence of schema version: %s", e.getMessage())
+                );
+        }
+        return response.status() != SchemaVersionStatus.DELETING
+            && response.status() != SchemaVersionStatus.FAILURE
+            && (schemaId == null || schemaId.schemaArn() == null || schemaId.schemaArn().equals(response.schemaArn()))
+            && SchemaNormalizer.fingerprint(response.dataFormatAsString(), response.schemaDefinition())
+                .equals(SchemaNormalizer.fingerprint(
+                    response.dataFormatAsString(), registerSchemaVersionRequest.schemaDefinition()));
+    }
+
+    private void indexSchemaVersion(
+        final String fingerprintKey,
+        final String versionId,
+        final CallbackContext callbackContext) {
+
+        fingerprintIndex.put(fingerprintKey, versionId);
+        if (!PERSIST_FINGERPRINTS) {
+            return;
+        }
+        Map<String, String> fingerprints = callbackContext.getSchemaVersionFingerprints();
+        if (fingerprints == null) {
+            fingerprints = new HashMap<>();
+            callbackContext.setSchemaVersionFingerprints(fingerprints);
+        }
+        fingerprints.put(fingerprintKey, versionId);
+    }
+
+    private void seedFingerprintIndex(final CallbackContext callbackContext) {
+        if (!PERSIST_FINGERPRINTS || callbackContext.getSchemaVersionFingerprints() == null) {
+            return;
+        }
+        callbackContext.getSchemaVersionFingerprints().forEach(fingerprintIndex::put);
+    }
+
     /**
      * Even though, we cannot create the same schema version.
      * This check is required to show consistent error messages to customers.
@@ -159,6 +297,11 @@ public class CreateHandler extends BaseHandlerStd {
         final CallbackContext callbackContext) {
 
         resourceModel.setVersionId(registerSchemaVersionResponse.schemaVersionId());
+
+        final Checkpoint checkpoint = callbackContext.getCheckpoint();
+        checkpoint.resolve(CallbackContext.VERSION_ID, registerSchemaVersionResponse.schemaVersionId());
+        checkpoint.resolve(CallbackContext.VERSION_NUMBER, registerSchemaVersionResponse.versionNumber());
+        checkpoint.advanceTo(Checkpoint.Phase.REQUESTED);
         return ProgressEvent.progress(resourceModel, callbackContext);
     }
 
@@ -169,32 +312,35 @@ public class CreateHandler extends BaseHandlerStd {
         final AmazonWebServicesClientProxy proxy,
         final ProxyClient<GlueClient> proxyClient,
         final ProgressEvent<ResourceModel, CallbackContext> progress,
+        final AtomicReference<GetSchemaVersionResponse> availableVersion,
         final String callGraph) {
 
+        if (progress.getCallbackContext().getCheckpoint().hasReached(Checkpoint.Phase.STABILIZED)) {
+            return progress;
+        }
+
         return proxy.initiate(callGraph, proxyClient, progress.getResourceModel(),
             progress.getCallbackContext())
             .translateToServiceRequest(Function.identity())
             .backoffDelay(BACK_OFF_DELAY)
             .makeServiceCall(EMPTY_CALL)
             .stabilize(
-                (request, response, proxyInvocation, model, callbackContext) -> isStabilized(proxyClient, response))
+                (request, response, proxyInvocation, model, callbackContext) ->
+                    isStabilized(proxyClient, response, callbackContext.getCheckpoint(), availableVersion))
             .progress();
     }
 
-    private SchemaVersionStatus getSchemaVersionRegistrationStatus(
+    private GetSchemaVersionResponse getSchemaVersionRegistrationStatus(
         final GetSchemaVersionRequest request,
         final ProxyClient<GlueClient> proxyClient) {
 
         final GlueClient glueClient = proxyClient.client();
 
         final GetSchemaVersionResponse getSchemaVersionResponse;
-        final SchemaVersionStatus schemaVersionStatus;
 
         try {
             getSchemaVersionResponse =
                 proxyClient.injectCredentialsAndInvokeV2(request, glueClient::getSchemaVersion);
-
-            schemaVersionStatus = getSchemaVersionResponse.status();
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(
                 String.format(
@@ -205,15 +351,12 @@ public class CreateHandler extends BaseHandlerStd {
                 e);
         }
 
-        logger.log(
-            String.format(
-                "Creation status of resource %s with ID %s is %s",
-                ResourceModel.TYPE_NAME,
-                request.schemaVersionId(),
-                schemaVersionStatus
-            ));
+        handlerLog(logger).debug("Creation status",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", request.schemaVersionId(),
+            "Status", getSchemaVersionResponse.status());
 
-        return schemaVersionStatus;
+        return getSchemaVersionResponse;
     }
 
     private GetSchemaVersionRequest resourceModelToGetRequest(final ResourceModel resourceModel) {
@@ -225,16 +368,30 @@ public class CreateHandler extends BaseHandlerStd {
 
     private Boolean isStabilized(
         final ProxyClient<GlueClient> proxyClient,
-        final ResourceModel resourceModel) {
+        final ResourceModel resourceModel,
+        final Checkpoint checkpoint,
+        final AtomicReference<GetSchemaVersionResponse> availableVersion) {
 
-        final SchemaVersionStatus status =
+        checkpoint.recordPoll(System.currentTimeMillis());
+        final GetSchemaVersionResponse getSchemaVersionResponse =
             getSchemaVersionRegistrationStatus(
                 resourceModelToGetRequest(resourceModel),
                 proxyClient
             );
 
-        switch (status) {
+        switch (getSchemaVersionResponse.status()) {
             case AVAILABLE:
+                checkpoint.advanceTo(Checkpoint.Phase.STABILIZED);
+                availableVersion.set(getSchemaVersionResponse);
+                SchemaVersionResolutionCache.shared().put(
+                    getSchemaVersionResponse.schemaVersionId(),
+                    getSchemaVersionResponse.schemaArn(),
+                    getSchemaVersionResponse.versionNumber());
+                handlerLog(logger).info("Became available",
+                    "Type", ResourceModel.TYPE_NAME,
+                    "Id", resourceModel.getVersionId(),
+                    "Polls", checkpoint.getPollAttempts(),
+                    "PollingMillis", checkpoint.pollingMillis());
                 return true;
             case PENDING:
                 return false;
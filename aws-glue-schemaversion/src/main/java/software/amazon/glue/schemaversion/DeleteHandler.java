@@ -5,30 +5,43 @@ import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsRequest;
 import software.amazon.awssdk.services.glue.model.DeleteSchemaVersionsResponse;
 import software.amazon.awssdk.services.glue.model.EntityNotFoundException;
+import software.amazon.awssdk.services.glue.model.ErrorDetails;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionRequest;
 import software.amazon.awssdk.services.glue.model.GetSchemaVersionResponse;
 import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Delay;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
-import software.amazon.cloudformation.proxy.delay.Constant;
 import software.amazon.cloudformation.proxy.OperationStatus;
-
-import java.time.Duration;
+import software.amazon.glue.common.Checkpoint;
+import software.amazon.glue.common.StabilizationDelay;
 
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class DeleteHandler extends BaseHandlerStd {
+    private static final String ENTITY_NOT_FOUND = "EntityNotFoundException";
     private Logger logger;
     private static final Delay DELAY =
-        Constant.of()
-            .timeout(Duration.ofSeconds(120L))
-            .delay(Duration.ofSeconds(4L))
-            .build();
+        StabilizationDelay.fromSettings(
+            HandlerSetting.STABILIZATION_BASE_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_MAX_DELAY_MILLIS,
+            HandlerSetting.STABILIZATION_TIMEOUT_SECONDS);
+
+    private final SchemaVersionResolutionCache resolutionCache;
+
+    public DeleteHandler() {
+        this(SchemaVersionResolutionCache.shared());
+    }
+
+    DeleteHandler(final SchemaVersionResolutionCache resolutionCache) {
+        this.resolutionCache = resolutionCache;
+    }
 
     protected ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -44,7 +57,8 @@ public class DeleteHandler extends BaseHandlerStd {
                     progress.getCallbackContext())
                     .translateToServiceRequest(this::getSchemaVersionRequest)
                     .backoffDelay(DELAY)
-                    .makeServiceCall(this::deleteSchemaVersion)
+                    .makeServiceCall((getSchemaVersionRequest, client) ->
+                        deleteSchemaVersion(getSchemaVersionRequest, client, progress.getCallbackContext()))
                     .stabilize(this::isDeleteStabilized)
                     .done(
                         awsResponse ->
@@ -61,6 +75,8 @@ public class DeleteHandler extends BaseHandlerStd {
         final CallbackContext callbackContext) {
 
         final String versionId = resourceModel.getVersionId();
+        final Checkpoint checkpoint = callbackContext.getCheckpoint();
+        checkpoint.recordPoll(System.currentTimeMillis());
         try {
             final GlueClient glueClient = proxyClient.client();
 
@@ -70,20 +86,19 @@ public class DeleteHandler extends BaseHandlerStd {
                     glueClient::getSchemaVersion
                 );
 
-            logger.log(
-                String.format("%s [%s] is not deleted yet",
-                    ResourceModel.TYPE_NAME,
-                    versionId
-                )
-            );
+            handlerLog(logger).debug("Not deleted yet",
+                "Type", ResourceModel.TYPE_NAME,
+                "Id", versionId,
+                "Polls", checkpoint.getPollAttempts());
 
             return false;
         } catch (EntityNotFoundException e) {
-            logger.log(
-                String.format("%s [%s] successfully deleted.",
-                    ResourceModel.TYPE_NAME,
-                    versionId
-                ));
+            checkpoint.advanceTo(Checkpoint.Phase.STABILIZED);
+            handlerLog(logger).info("Successfully deleted",
+                "Type", ResourceModel.TYPE_NAME,
+                "Id", versionId,
+                "Polls", checkpoint.getPollAttempts(),
+                "PollingMillis", checkpoint.pollingMillis());
             return true;
         } catch (AwsServiceException e) {
             throw new CfnGeneralServiceException(
@@ -100,60 +115,109 @@ public class DeleteHandler extends BaseHandlerStd {
      * schema version number as input. We need to fetch the version number first by using
      * the versionId.
      *
+     * The version number is taken from the {@link Checkpoint} of an earlier invocation, or from the
+     * {@link SchemaVersionResolutionCache} when a Read or Create in this process has already seen the version;
+     * GetSchemaVersion is only called when neither knows it. The resolved version number and the completed
+     * delete are recorded in the checkpoint, so a re-invocation neither resolves the version again nor repeats
+     * the delete.
+     *
      * @param getSchemaVersionRequest {@link GetSchemaVersionRequest}.
      * @param client                  ProxyClient
+     * @param callbackContext         CallbackContext holding the checkpoint
      * @return DeleteSchemaVersionsResponse
      */
     private DeleteSchemaVersionsResponse deleteSchemaVersion(
         final GetSchemaVersionRequest getSchemaVersionRequest,
-        final ProxyClient<GlueClient> client) {
+        final ProxyClient<GlueClient> client,
+        final CallbackContext callbackContext) {
 
         final GlueClient glueClient = client.client();
         final String identifier = getSchemaVersionRequest.schemaVersionId();
+        final Checkpoint checkpoint = callbackContext.getCheckpoint();
+
+        if (checkpoint.hasReached(Checkpoint.Phase.REQUESTED)) {
+            handlerLog(logger).info("Delete was already requested, resuming stabilization",
+                "Type", ResourceModel.TYPE_NAME,
+                "Id", identifier);
+            return DeleteSchemaVersionsResponse.builder().build();
+        }
 
         DeleteSchemaVersionsResponse deleteSchemaVersionsResponse = null;
         try {
-            final GetSchemaVersionResponse getSchemaVersionResponse =
-                client.injectCredentialsAndInvokeV2(
-                    getSchemaVersionRequest, glueClient::getSchemaVersion);
-
-            final Long versionNumber = getSchemaVersionResponse.versionNumber();
-
-            logger.log(
-                String.format(
-                    "Fetched version number %s for %s [%s]",
-                    versionNumber,
-                    ResourceModel.TYPE_NAME,
-                    identifier
-                )
-            );
+            if (!checkpoint.hasReached(Checkpoint.Phase.RESOLVED)) {
+                resolutionCache.get(identifier).ifPresent(resolved -> {
+                    checkpoint.resolve(CallbackContext.SCHEMA_ARN, resolved.getSchemaArn());
+                    checkpoint.resolve(CallbackContext.VERSION_NUMBER, resolved.getVersionNumber());
+                    checkpoint.advanceTo(Checkpoint.Phase.RESOLVED);
+                });
+            }
+            if (!checkpoint.hasReached(Checkpoint.Phase.RESOLVED)) {
+                final GetSchemaVersionResponse getSchemaVersionResponse =
+                    client.injectCredentialsAndInvokeV2(
+                        getSchemaVersionRequest, glueClient::getSchemaVersion);
+
+                checkpoint.resolve(CallbackContext.SCHEMA_ARN, getSchemaVersionResponse.schemaArn());
+                checkpoint.resolve(CallbackContext.VERSION_NUMBER, getSchemaVersionResponse.versionNumber());
+                checkpoint.advanceTo(Checkpoint.Phase.RESOLVED);
+
+                handlerLog(logger).info("Fetched version number",
+                    "Type", ResourceModel.TYPE_NAME,
+                    "VersionNumber", getSchemaVersionResponse.versionNumber(),
+                    "Id", identifier);
+            }
 
             final DeleteSchemaVersionsRequest deleteSchemaVersionsRequest =
                 deleteSchemaVersionRequest(
                     Schema
                         .builder()
-                        .schemaArn(getSchemaVersionResponse.schemaArn())
+                        .schemaArn(checkpoint.resolved(CallbackContext.SCHEMA_ARN))
                         .build(),
-                    versionNumber
+                    Long.valueOf(checkpoint.resolved(CallbackContext.VERSION_NUMBER))
                 );
 
             deleteSchemaVersionsResponse =
                 client.injectCredentialsAndInvokeV2(deleteSchemaVersionsRequest, glueClient::deleteSchemaVersions);
+            checkVersionErrors(deleteSchemaVersionsResponse, identifier);
+            checkpoint.advanceTo(Checkpoint.Phase.REQUESTED);
+            SchemaFingerprintIndex.shared().invalidateVersion(identifier);
+            resolutionCache.remove(identifier);
 
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "Requested to delete %s [%s].",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
-        );
+        handlerLog(logger).info("Requested to delete",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", identifier);
         return deleteSchemaVersionsResponse;
     }
 
+    /**
+     * DeleteSchemaVersions reports a version it did not delete as an error item rather than failing the call, so a
+     * version number resolved from the cache that no longer exists only shows up here.
+     */
+    private void checkVersionErrors(
+        final DeleteSchemaVersionsResponse deleteSchemaVersionsResponse,
+        final String identifier) {
+
+        if (!deleteSchemaVersionsResponse.hasSchemaVersionErrors()
+            || deleteSchemaVersionsResponse.schemaVersionErrors().isEmpty()) {
+            return;
+        }
+        final SchemaVersionErrorItem error = deleteSchemaVersionsResponse.schemaVersionErrors().get(0);
+        final ErrorDetails errorDetails = error.errorDetails();
+        resolutionCache.remove(identifier);
+        if (errorDetails != null && ENTITY_NOT_FOUND.equals(errorDetails.errorCode())) {
+            throw new CfnNotFoundException(ResourceModel.TYPE_NAME, identifier);
+        }
+        throw new CfnGeneralServiceException(
+            String.format("%s [%s] version %d couldn't be deleted: %s",
+                ResourceModel.TYPE_NAME,
+                identifier,
+                error.versionNumber(),
+                errorDetails == null ? null : errorDetails.errorCode() + ": " + errorDetails.errorMessage()));
+    }
+
     private GetSchemaVersionRequest getSchemaVersionRequest(final ResourceModel model) {
         return GetSchemaVersionRequest
             .builder()
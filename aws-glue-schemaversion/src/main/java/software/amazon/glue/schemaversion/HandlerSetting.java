@@ -0,0 +1,73 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.glue.common.Settings;
+
+import java.util.Locale;
+
+/**
+ * Tunables for the SchemaVersion handlers. Each setting can be supplied as a JVM system property
+ * or as the matching environment variable (upper case, dots replaced with underscores).
+ */
+enum HandlerSetting implements SystemSetting {
+    STABILIZATION_BASE_DELAY_MILLIS("glue.schemaversion.stabilization.baseDelayMillis", "500"),
+    STABILIZATION_MAX_DELAY_MILLIS("glue.schemaversion.stabilization.maxDelayMillis", "8000"),
+    STABILIZATION_TIMEOUT_SECONDS("glue.schemaversion.stabilization.timeoutSeconds", "120"),
+    LIST_DRAIN_ENABLED("glue.schemaversion.list.drain.enabled", "false"),
+    LIST_DRAIN_TIME_BUDGET_MILLIS("glue.schemaversion.list.drain.timeBudgetMillis", "20000"),
+    LIST_DRAIN_MAX_BYTES("glue.schemaversion.list.drain.maxBytes", "1048576"),
+    FINGERPRINT_INDEX_ENABLED("glue.schemaversion.fingerprintIndex.enabled", "true"),
+    FINGERPRINT_INDEX_MAX_ENTRIES("glue.schemaversion.fingerprintIndex.maxEntries", "1024"),
+    FINGERPRINT_INDEX_TTL_MILLIS("glue.schemaversion.fingerprintIndex.ttlMillis", "60000"),
+    FINGERPRINT_INDEX_PERSIST_IN_CONTEXT("glue.schemaversion.fingerprintIndex.persistInContext", "false"),
+    RESOLUTION_CACHE_ENABLED("glue.schemaversion.resolutionCache.enabled", "true"),
+    RESOLUTION_CACHE_MAX_ENTRIES("glue.schemaversion.resolutionCache.maxEntries", "4096"),
+    RATE_LIMITER_ENABLED("glue.schemaversion.rateLimiter.enabled", "false"),
+    RATE_LIMITER_INITIAL_RATE("glue.schemaversion.rateLimiter.initialRate", "10"),
+    RATE_LIMITER_MIN_RATE("glue.schemaversion.rateLimiter.minRate", "0.5"),
+    RATE_LIMITER_MAX_RATE("glue.schemaversion.rateLimiter.maxRate", "20"),
+    RATE_LIMITER_INCREASE_STEP("glue.schemaversion.rateLimiter.increaseStep", "0.1"),
+    RATE_LIMITER_DECREASE_FACTOR("glue.schemaversion.rateLimiter.decreaseFactor", "0.5"),
+    RATE_LIMITER_COOLDOWN_MILLIS("glue.schemaversion.rateLimiter.cooldownMillis", "1000"),
+    RATE_LIMITER_MAX_WAIT_MILLIS("glue.schemaversion.rateLimiter.maxWaitMillis", "20000"),
+    WARM_UP_ENABLED("glue.schemaversion.warmUp.enabled", "true"),
+    METRICS_ENABLED("glue.schemaversion.metrics.enabled", "true"),
+    LOG_LEVEL("glue.schemaversion.log.level", "INFO"),
+    LOG_FORMAT("glue.schemaversion.log.format", "TEXT"),
+    LOG_MAX_FIELD_LENGTH("glue.schemaversion.log.maxFieldLength", "2048");
+
+    private final String property;
+    private final String defaultValue;
+
+    HandlerSetting(final String property, final String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return property.replace('.', '_').toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    boolean booleanValue() {
+        return Settings.booleanValue(this);
+    }
+
+    long longValue() {
+        return Settings.longValue(this);
+    }
+
+    <E extends Enum<E>> E enumValue(final Class<E> type) {
+        return Settings.enumValue(this, type);
+    }
+}
@@ -4,21 +4,37 @@ import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
 import software.amazon.awssdk.services.glue.model.ListSchemaVersionsRequest;
 import software.amazon.awssdk.services.glue.model.ListSchemaVersionsResponse;
-import software.amazon.awssdk.services.glue.model.SchemaVersionListItem;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.Logger;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.ListPaginator;
 
-import java.util.List;
+import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
 import static software.amazon.glue.schemaversion.ExceptionTranslator.translateToCfnException;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Rough JSON overhead of a model besides its field values
+    private static final long MODEL_OVERHEAD_BYTES = 32L;
+
+    private final ListPaginator paginator;
+
+    public ListHandler() {
+        this(ListPaginator.fromSettings(
+            HandlerSetting.LIST_DRAIN_ENABLED,
+            HandlerSetting.LIST_DRAIN_TIME_BUDGET_MILLIS,
+            HandlerSetting.LIST_DRAIN_MAX_BYTES));
+    }
+
+    ListHandler(final ListPaginator paginator) {
+        this.paginator = paginator;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -27,14 +43,36 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        final ListSchemaVersionsRequest listSchemaVersionsRequest =
-            translateToListRequest(request);
-
-        ListSchemaVersionsResponse listSchemaVersionsResponse = null;
+        final software.amazon.awssdk.services.glue.model.SchemaId requestSchemaId =
+            translateToSchemaId(request);
 
         final String identifier =
-            listSchemaVersionsRequest.schemaId() == null ?
-                null : listSchemaVersionsRequest.schemaId().toString();
+            requestSchemaId == null ?
+                null : requestSchemaId.toString();
+
+        final ListPaginator.Page<ResourceModel> page = paginator.list(
+            request.getNextToken(),
+            nextToken -> listSchemaVersions(
+                proxy, proxyClient, translateToListRequest(requestSchemaId, nextToken), identifier),
+            this::translateFromListResponse,
+            ListSchemaVersionsResponse::nextToken,
+            ListHandler::estimateSize);
+
+        handlerLog(logger).log(HandlerLog.Level.INFO, page::summary);
+
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+            .resourceModels(page.getModels())
+            .nextToken(page.getNextToken())
+            .status(OperationStatus.SUCCESS)
+            .build();
+    }
+
+    private ListSchemaVersionsResponse listSchemaVersions(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<GlueClient> proxyClient,
+        final ListSchemaVersionsRequest listSchemaVersionsRequest,
+        final String identifier) {
+        ListSchemaVersionsResponse listSchemaVersionsResponse = null;
 
         try {
             listSchemaVersionsResponse =
@@ -45,35 +83,23 @@ public class ListHandler extends BaseHandlerStd {
         } catch (AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
-
-        final String nextToken = listSchemaVersionsResponse.nextToken();
-        final List<ResourceModel> models = translateFromListResponse(listSchemaVersionsResponse);
-
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .nextToken(nextToken)
-            .status(OperationStatus.SUCCESS)
-            .build();
+        return listSchemaVersionsResponse;
     }
 
-    private List<ResourceModel> translateFromListResponse(
+    private Stream<ResourceModel> translateFromListResponse(
         final ListSchemaVersionsResponse listSchemaVersionsResponse) {
-        final List<SchemaVersionListItem> schemas = listSchemaVersionsResponse.schemas();
-
-        return schemas.stream()
+        return listSchemaVersionsResponse.schemas().stream()
             .map(schema ->
                 ResourceModel
                     .builder()
                     .versionId(schema.schemaVersionId())
                     .build()
-            )
-            .collect(toList());
+            );
     }
 
-    private ListSchemaVersionsRequest translateToListRequest(
+    private software.amazon.awssdk.services.glue.model.SchemaId translateToSchemaId(
         final ResourceHandlerRequest<ResourceModel> request) {
         final Schema schemaId = request.getDesiredResourceState().getSchema();
-        final String nextToken = request.getNextToken();
 
         software.amazon.awssdk.services.glue.model.SchemaId requestSchemaId = null;
 
@@ -86,7 +112,12 @@ public class ListHandler extends BaseHandlerStd {
                     .schemaArn(schemaId.getSchemaArn())
                     .build();
         }
+        return requestSchemaId;
+    }
 
+    private ListSchemaVersionsRequest translateToListRequest(
+        final software.amazon.awssdk.services.glue.model.SchemaId requestSchemaId,
+        final String nextToken) {
         return ListSchemaVersionsRequest
             .builder()
             .maxResults(50)
@@ -94,4 +125,8 @@ public class ListHandler extends BaseHandlerStd {
             .schemaId(requestSchemaId)
             .build();
     }
+
+    private static long estimateSize(final ResourceModel model) {
+        return MODEL_OVERHEAD_BYTES + (model.getVersionId() == null ? 0L : model.getVersionId().length());
+    }
 }
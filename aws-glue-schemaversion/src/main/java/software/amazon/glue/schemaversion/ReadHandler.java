@@ -52,15 +52,17 @@ public class ReadHandler extends BaseHandlerStd {
                     glueClient::getSchemaVersion
                 );
             identifier = getSchemaVersionResponse.schemaVersionId();
+            SchemaVersionResolutionCache.shared().put(
+                identifier,
+                getSchemaVersionResponse.schemaArn(),
+                getSchemaVersionResponse.versionNumber());
         } catch (final AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format("%s [%s] has successfully been read.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            ));
+        handlerLog(logger).info("Successfully read",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", identifier);
         return getSchemaVersionResponse;
     }
 
@@ -71,7 +73,7 @@ public class ReadHandler extends BaseHandlerStd {
             .build();
     }
 
-    private ResourceModel toResourceModel(final GetSchemaVersionResponse getSchemaVersionResponse) {
+    static ResourceModel toResourceModel(final GetSchemaVersionResponse getSchemaVersionResponse) {
         return ResourceModel
             .builder()
             .schema(
@@ -0,0 +1,123 @@
+package software.amazon.glue.schemaversion;
+
+import software.amazon.awssdk.services.glue.model.SchemaId;
+import software.amazon.glue.common.SchemaNormalizer;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Index of schema definitions known to be registered, shared by the SchemaVersion handlers running in
+ * this JVM. Keys combine the schema identifier with the {@link SchemaNormalizer} fingerprint of the
+ * definition, so definitions that only differ in formatting share an entry, values are the SchemaVersionId
+ * the definition was registered as.
+ *
+ * A hit is only a hint: a version deleted outside of these handlers stays indexed until its entry
+ * expires, so callers confirm hits with GetSchemaVersion by id and invalidate the ones Glue no longer
+ * knows. A miss says nothing either, so callers fall back to GetSchemaByDefinition.
+ */
+final class SchemaFingerprintIndex {
+
+    static final String DEFAULT_REGISTRY_NAME = "default-registry";
+
+    private static final SchemaFingerprintIndex SHARED = new SchemaFingerprintIndex(
+        HandlerSetting.FINGERPRINT_INDEX_ENABLED.booleanValue(),
+        HandlerSetting.FINGERPRINT_INDEX_MAX_ENTRIES.longValue(),
+        TimeUnit.MILLISECONDS.toNanos(HandlerSetting.FINGERPRINT_INDEX_TTL_MILLIS.longValue()),
+        System::nanoTime);
+
+    private final boolean enabled;
+    private final long maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier nanoTime;
+
+    // Access ordered, so iteration starts at the least recently used entry
+    private final Map<String, IndexedVersion> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    SchemaFingerprintIndex(final boolean enabled, final long maxEntries, final long ttlNanos,
+                           final LongSupplier nanoTime) {
+        this.enabled = enabled && maxEntries > 0 && ttlNanos > 0;
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttlNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    static SchemaFingerprintIndex shared() {
+        return SHARED;
+    }
+
+    /**
+     * Index key of a definition within a schema. Schemas addressed by name without a registry live in
+     * the default registry, the same way Glue resolves them.
+     */
+    static String key(final SchemaId schemaId, final String schemaDefinition) {
+        final String schema;
+        if (schemaId == null) {
+            schema = "";
+        } else if (schemaId.schemaArn() != null) {
+            schema = schemaId.schemaArn();
+        } else {
+            final String registryName = schemaId.registryName() == null
+                ? DEFAULT_REGISTRY_NAME
+                : schemaId.registryName();
+            schema = registryName + "/" + schemaId.schemaName();
+        }
+        return schema + "#" + SchemaNormalizer.fingerprint(null, schemaDefinition);
+    }
+
+    synchronized Optional<String> versionId(final String key) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        final IndexedVersion entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (nanoTime.getAsLong() - entry.indexedAtNanos >= ttlNanos) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.versionId);
+    }
+
+    synchronized void put(final String key, final String versionId) {
+        if (!enabled || versionId == null) {
+            return;
+        }
+        entries.put(key, new IndexedVersion(versionId, nanoTime.getAsLong()));
+        final Iterator<Map.Entry<String, IndexedVersion>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Drops every definition registered as the version, called once the version is being deleted.
+     */
+    synchronized void invalidateVersion(final String versionId) {
+        entries.values().removeIf(entry -> entry.versionId.equals(versionId));
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class IndexedVersion {
+        private final String versionId;
+        private final long indexedAtNanos;
+
+        private IndexedVersion(final String versionId, final long indexedAtNanos) {
+            this.versionId = versionId;
+            this.indexedAtNanos = indexedAtNanos;
+        }
+    }
+}
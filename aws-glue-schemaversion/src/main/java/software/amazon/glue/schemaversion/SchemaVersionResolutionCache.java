@@ -0,0 +1,73 @@
+package software.amazon.glue.schemaversion;
+
+import lombok.Value;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Schema ARN and version number of the SchemaVersionIds seen by the SchemaVersion handlers running in
+ * this JVM. DeleteSchemaVersions only accepts version numbers, so without it every delete first calls
+ * GetSchemaVersion to translate the VersionId.
+ *
+ * Glue never reuses a VersionId nor moves it to another schema or number, so entries do not expire; the
+ * cache is only bounded in size, dropping the least recently used entry first.
+ */
+final class SchemaVersionResolutionCache {
+
+    private static final SchemaVersionResolutionCache SHARED = new SchemaVersionResolutionCache(
+        HandlerSetting.RESOLUTION_CACHE_ENABLED.booleanValue(),
+        HandlerSetting.RESOLUTION_CACHE_MAX_ENTRIES.longValue());
+
+    private final boolean enabled;
+    private final long maxEntries;
+
+    // Access ordered, so iteration starts at the least recently used entry
+    private final Map<String, ResolvedVersion> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    SchemaVersionResolutionCache(final boolean enabled, final long maxEntries) {
+        this.enabled = enabled && maxEntries > 0;
+        this.maxEntries = maxEntries;
+    }
+
+    static SchemaVersionResolutionCache shared() {
+        return SHARED;
+    }
+
+    synchronized Optional<ResolvedVersion> get(final String versionId) {
+        if (!enabled || versionId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(entries.get(versionId));
+    }
+
+    synchronized void put(final String versionId, final String schemaArn, final Long versionNumber) {
+        if (!enabled || versionId == null || schemaArn == null || versionNumber == null) {
+            return;
+        }
+        entries.put(versionId, new ResolvedVersion(schemaArn, versionNumber));
+        final Iterator<Map.Entry<String, ResolvedVersion>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+        }
+    }
+
+    synchronized void remove(final String versionId) {
+        if (versionId != null) {
+            entries.remove(versionId);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    @Value
+    static class ResolvedVersion {
+        String schemaArn;
+        long versionNumber;
+    }
+}
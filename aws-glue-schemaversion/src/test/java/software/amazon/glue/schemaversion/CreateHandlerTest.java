@@ -32,11 +32,17 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.Checkpoint;
 
 import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static software.amazon.awssdk.services.glue.model.SchemaVersionStatus.AVAILABLE;
 import static software.amazon.awssdk.services.glue.model.SchemaVersionStatus.DELETING;
@@ -51,6 +57,8 @@ public class CreateHandlerTest extends AbstractTestBase {
 
     private ProxyClient<GlueClient> proxyClient;
 
+    private SchemaFingerprintIndex fingerprintIndex;
+
     private CreateHandler handler;
 
     @Mock
@@ -60,7 +68,8 @@ public class CreateHandlerTest extends AbstractTestBase {
     public void setup() {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
-        handler = new CreateHandler();
+        fingerprintIndex = new SchemaFingerprintIndex(true, 16, TimeUnit.MINUTES.toNanos(1), System::nanoTime);
+        handler = new CreateHandler(fingerprintIndex);
     }
 
     @Test
@@ -76,11 +85,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         when(proxy.injectCredentialsAndInvokeV2(
             TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
-            .thenReturn(
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
-                //From ReadHandler.
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
-            );
+            .thenReturn(TestData.getSchemaVersionResponseWithStatus(AVAILABLE));
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(
@@ -98,6 +103,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(glueClient, times(1)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN);
     }
 
     @Test
@@ -117,8 +123,6 @@ public class CreateHandlerTest extends AbstractTestBase {
                 //Return pending initially.
                 TestData.getSchemaVersionResponseWithStatus(PENDING),
                 //Then return available.
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
-                //Then from Read handler.
                 TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
             );
 
@@ -138,6 +142,7 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(glueClient, times(2)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN);
     }
 
     @Test
@@ -153,11 +158,7 @@ public class CreateHandlerTest extends AbstractTestBase {
 
         when(proxy.injectCredentialsAndInvokeV2(
             TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
-            .thenReturn(
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE),
-                //Then from Read handler.
-                TestData.getSchemaVersionResponseWithStatus(AVAILABLE)
-            );
+            .thenReturn(TestData.getSchemaVersionResponseWithStatus(AVAILABLE));
 
         final ProgressEvent<ResourceModel, CallbackContext> response =
             handler.handleRequest(
@@ -175,6 +176,31 @@ public class CreateHandlerTest extends AbstractTestBase {
         assertThat(response.getResourceModels()).isNull();
         assertThat(response.getMessage()).isNull();
         assertThat(response.getErrorCode()).isNull();
+        verify(glueClient, times(1)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN);
+    }
+
+    @Test
+    public void handleRequest_WhenStabilizedByEarlierInvocation_ReadsTheVersion() {
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.getCheckpoint().resolve(CallbackContext.VERSION_ID, TestData.NEXT_SCHEMA_VERSION_ID);
+        callbackContext.getCheckpoint().advanceTo(Checkpoint.Phase.STABILIZED);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
+            .thenReturn(TestData.getSchemaVersionResponseWithStatus(AVAILABLE));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_MODEL_RESOURCE_HANDLER_FOR_VERSION_BY_ARN,
+                callbackContext,
+                proxyClient,
+                logger
+            );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModel()).isEqualTo(TestData.GET_SCHEMA_VERSION_RESPONSE_RESOURCE_MODEL);
+        verify(glueClient, times(1)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN);
     }
 
     @Test
@@ -354,6 +380,136 @@ public class CreateHandlerTest extends AbstractTestBase {
             .contains("AWS::Glue::SchemaVersion' with identifier 'yurt9301-dc50-11ea-87d0-8iofb18nkrp8' already exists.");
     }
 
+    @Test
+    public void handleRequest_WhenExistingVersionIsIndexed_ConfirmsWithVersionLookup() {
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_BY_DEFINITION_REQUEST_BY_ARN, glueClient::getSchemaByDefinition))
+            .thenReturn(TestData.GET_SCHEMA_BY_DEFINITION_RESPONSE);
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_INDEXED_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.getIndexedSchemaVersionResponseWithStatus(AVAILABLE));
+
+        for (int i = 0; i < 2; i++) {
+            Exception exception = assertThrows(
+                CfnAlreadyExistsException.class,
+                () -> handler.handleRequest(
+                    proxy,
+                    TestData.RESOURCE_MODEL_RESOURCE_HANDLER_FOR_VERSION_BY_ARN,
+                    new CallbackContext(),
+                    proxyClient,
+                    logger
+                )
+            );
+
+            assertThat(exception.getMessage())
+                .contains("with identifier 'yurt9301-dc50-11ea-87d0-8iofb18nkrp8' already exists.");
+        }
+        // The second Create is answered by the index, confirmed without sending the definition again
+        verify(glueClient, times(1)).getSchemaByDefinition(TestData.GET_SCHEMA_BY_DEFINITION_REQUEST_BY_ARN);
+        verify(glueClient, times(1)).getSchemaVersion(TestData.GET_INDEXED_SCHEMA_VERSION_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenDefinitionOnlyDiffersInFormatting_ThrowsAlreadyExistsWithoutLookup() {
+        fingerprintIndex.put(
+            SchemaFingerprintIndex.key(
+                TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN.schemaId(),
+                TestData.SCHEMA_DEFINITION),
+            TestData.SCHEMA_VERSION_ID);
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_INDEXED_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenReturn(TestData.getIndexedSchemaVersionResponseWithStatus(AVAILABLE));
+
+        final ResourceModel model = ResourceModel
+            .builder()
+            .schema(Schema.builder().schemaArn(TestData.SCHEMA_ARN).build())
+            .schemaDefinition("{\n  \"name\": \"md5\",\n  \"size\": 16,\n  \"type\": \"fixed\"\n}")
+            .build();
+        Exception exception = assertThrows(
+            CfnAlreadyExistsException.class,
+            () -> handler.handleRequest(
+                proxy,
+                ResourceHandlerRequest.<ResourceModel>builder().desiredResourceState(model).build(),
+                new CallbackContext(),
+                proxyClient,
+                logger
+            )
+        );
+
+        assertThat(exception.getMessage())
+            .contains("with identifier 'yurt9301-dc50-11ea-87d0-8iofb18nkrp8' already exists.");
+        verify(glueClient, never()).getSchemaByDefinition(any(GetSchemaByDefinitionRequest.class));
+        verify(glueClient, never()).registerSchemaVersion(any(RegisterSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenIndexedVersionIsGone_RegistersSchemaVersion() {
+        final String fingerprintKey = SchemaFingerprintIndex.key(
+            TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN.schemaId(),
+            TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN.schemaDefinition());
+        fingerprintIndex.put(fingerprintKey, TestData.SCHEMA_VERSION_ID);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_INDEXED_SCHEMA_VERSION_REQUEST, glueClient::getSchemaVersion))
+            .thenThrow(EntityNotFoundException.class);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_BY_DEFINITION_REQUEST_BY_ARN, glueClient::getSchemaByDefinition))
+            .thenThrow(EntityNotFoundException.class);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN, glueClient::registerSchemaVersion))
+            .thenReturn(TestData.getRegisterSchemaVersionResponseWithStatus(AVAILABLE));
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
+            .thenReturn(TestData.getSchemaVersionResponseWithStatus(AVAILABLE));
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_MODEL_RESOURCE_HANDLER_FOR_VERSION_BY_ARN,
+                new CallbackContext(),
+                proxyClient,
+                logger
+            );
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(fingerprintIndex.versionId(fingerprintKey)).contains(TestData.NEXT_SCHEMA_VERSION_ID);
+        verify(glueClient, times(1)).getSchemaByDefinition(TestData.GET_SCHEMA_BY_DEFINITION_REQUEST_BY_ARN);
+        verify(glueClient, times(1)).registerSchemaVersion(TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN);
+    }
+
+    @Test
+    public void handleRequest_WhenIndexedVersionIsBeingDeleted_LooksTheDefinitionUp() {
+        final String fingerprintKey = SchemaFingerprintIndex.key(
+            TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN.schemaId(),
+            TestData.REGISTER_SCHEMA_VERSION_REQUEST_BY_ARN.schemaDefinition());
+        fingerprintIndex.put(fingerprintKey, TestData.NEXT_SCHEMA_VERSION_ID);
+
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST_BY_SCHEMA_ARN, glueClient::getSchemaVersion))
+            .thenReturn(TestData.getSchemaVersionResponseWithStatus(DELETING));
+        when(proxy.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_BY_DEFINITION_REQUEST_BY_ARN, glueClient::getSchemaByDefinition))
+            .thenReturn(TestData.GET_SCHEMA_BY_DEFINITION_RESPONSE);
+
+        Exception exception = assertThrows(
+            CfnAlreadyExistsException.class,
+            () -> handler.handleRequest(
+                proxy,
+                TestData.RESOURCE_MODEL_RESOURCE_HANDLER_FOR_VERSION_BY_ARN,
+                new CallbackContext(),
+                proxyClient,
+                logger
+            )
+        );
+
+        assertThat(exception.getMessage())
+            .contains("with identifier 'yurt9301-dc50-11ea-87d0-8iofb18nkrp8' already exists.");
+        assertThat(fingerprintIndex.versionId(fingerprintKey)).contains(TestData.SCHEMA_VERSION_ID);
+    }
+
     @Test
     public void handleRequest_WhenVersionExistsCheckFailsWithInvalidInputException_ThrowsException() {
         when(proxy.injectCredentialsAndInvokeV2(
@@ -586,6 +742,25 @@ public class CreateHandlerTest extends AbstractTestBase {
                 .schemaVersionId(NEXT_SCHEMA_VERSION_ID)
                 .build();
 
+        public static final GetSchemaVersionRequest GET_INDEXED_SCHEMA_VERSION_REQUEST =
+            GetSchemaVersionRequest
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .build();
+
+        public static final GetSchemaVersionResponse getIndexedSchemaVersionResponseWithStatus(
+            SchemaVersionStatus status) {
+            return GetSchemaVersionResponse
+                .builder()
+                .schemaVersionId(SCHEMA_VERSION_ID)
+                .schemaArn(SCHEMA_ARN)
+                .dataFormat(DataFormat.AVRO)
+                .status(status)
+                .createdTime(Instant.now().toString())
+                .schemaDefinition(SCHEMA_DEFINITION)
+                .build();
+        }
+
         public static final GetSchemaVersionResponse getSchemaVersionResponseWithStatus(SchemaVersionStatus status) {
             return GetSchemaVersionResponse
                 .builder()
@@ -18,14 +18,20 @@ import software.amazon.awssdk.services.glue.model.SchemaVersionErrorItem;
 import software.amazon.awssdk.services.glue.model.SchemaVersionStatus;
 import software.amazon.cloudformation.exceptions.CfnGeneralServiceException;
 import software.amazon.cloudformation.exceptions.CfnInvalidRequestException;
+import software.amazon.cloudformation.exceptions.CfnNotFoundException;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
 import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.Checkpoint;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +42,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
 
     private DeleteHandler handler;
 
+    private SchemaVersionResolutionCache resolutionCache;
+
     @Mock
     private GlueClient glueClient;
 
@@ -43,7 +51,8 @@ public class DeleteHandlerTest extends AbstractTestBase {
     public void setup() {
         proxy = getAmazonWebServicesClientProxy();
         proxyClient = MOCK_PROXY(proxy, glueClient);
-        handler = new DeleteHandler();
+        resolutionCache = new SchemaVersionResolutionCache(true, 16);
+        handler = new DeleteHandler(resolutionCache);
     }
 
     @Test
@@ -124,6 +133,156 @@ public class DeleteHandlerTest extends AbstractTestBase {
             .contains("Invalid Schema");
     }
 
+    @Test
+    public void handleRequest_WhenVersionIsAlreadyResolved_DeletesWithoutFetchingIt() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.getCheckpoint().resolve(CallbackContext.SCHEMA_ARN, TestData.SCHEMA_ARN);
+        callbackContext.getCheckpoint().resolve(CallbackContext.VERSION_NUMBER, TestData.VERSION_NUMBER);
+        callbackContext.getCheckpoint().advanceTo(Checkpoint.Phase.RESOLVED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getCheckpoint().getPhase()).isEqualTo(Checkpoint.Phase.STABILIZED);
+        assertThat(callbackContext.getCheckpoint().getPollAttempts()).isEqualTo(1);
+        // the only GetSchemaVersion is the stabilization poll
+        verify(glueClient, times(1)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenVersionWasSeenByThisProcess_DeletesWithoutFetchingIt() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+        resolutionCache.put(TestData.VERSION_ID, TestData.SCHEMA_ARN, TestData.VERSION_NUMBER);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getCheckpoint().resolved(CallbackContext.VERSION_NUMBER))
+            .isEqualTo(TestData.VERSION_NUMBER.toString());
+        assertThat(resolutionCache.get(TestData.VERSION_ID)).isEmpty();
+        verify(glueClient, times(1)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST);
+    }
+
+    @Test
+    public void handleRequest_WhenCachedVersionIsGone_ThrowsNotFound() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(versionErrorResponse("EntityNotFoundException"));
+        resolutionCache.put(TestData.VERSION_ID, TestData.SCHEMA_ARN, TestData.VERSION_NUMBER);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(CfnNotFoundException.class, () -> handler
+            .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger));
+
+        assertThat(callbackContext.getCheckpoint().hasReached(Checkpoint.Phase.REQUESTED)).isFalse();
+        assertThat(resolutionCache.get(TestData.VERSION_ID)).isEmpty();
+        verify(glueClient, never()).getSchemaVersion(any(GetSchemaVersionRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenCachedVersionIsNotDeleted_ThrowsException() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(versionErrorResponse("InvalidInputException"));
+        resolutionCache.put(TestData.VERSION_ID, TestData.SCHEMA_ARN, TestData.VERSION_NUMBER);
+
+        final Exception exception = assertThrows(CfnGeneralServiceException.class, () -> handler
+            .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger));
+
+        assertThat(exception.getMessage()).contains("InvalidInputException");
+    }
+
+    @Test
+    public void handleRequest_WhenDeleteWasAlreadyRequested_OnlyPolls() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        ).thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        callbackContext.getCheckpoint().advanceTo(Checkpoint.Phase.REQUESTED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        verify(glueClient, never()).deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class));
+    }
+
+    @Test
+    public void handleRequest_WhenReinvokedAfterDeleteWasRequested_PollsWithoutDeletingAgain() {
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.DELETE_SCHEMA_VERSION_REQUEST,
+            glueClient::deleteSchemaVersions)
+        ).thenReturn(TestData.DELETE_SCHEMA_VERSIONS_RESPONSE);
+
+        when(proxyClient.injectCredentialsAndInvokeV2(
+            TestData.GET_SCHEMA_VERSION_REQUEST,
+            glueClient::getSchemaVersion)
+        )
+            //Version number lookup
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE)
+            //First invocation fails while polling
+            .thenThrow(AccessDeniedException.builder().message("Invalid Cred").build())
+            //Re-invocation
+            .thenReturn(TestData.GET_SCHEMA_VERSION_RESPONSE)
+            .thenThrow(EntityNotFoundException.class);
+
+        final CallbackContext callbackContext = new CallbackContext();
+        assertThrows(
+            CfnGeneralServiceException.class,
+            () -> handler
+                .handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger));
+        assertThat(callbackContext.getCheckpoint().getPhase()).isEqualTo(Checkpoint.Phase.REQUESTED);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, callbackContext, proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(callbackContext.getCheckpoint().getPhase()).isEqualTo(Checkpoint.Phase.STABILIZED);
+        assertThat(callbackContext.getCheckpoint().getPollAttempts()).isEqualTo(3);
+        verify(glueClient, times(1)).deleteSchemaVersions(any(DeleteSchemaVersionsRequest.class));
+        // One lookup of the version number and three stabilization polls, all for the version being deleted
+        verify(glueClient, times(4)).getSchemaVersion(TestData.GET_SCHEMA_VERSION_REQUEST);
+    }
+
+    private static DeleteSchemaVersionsResponse versionErrorResponse(final String errorCode) {
+        return DeleteSchemaVersionsResponse.builder()
+            .schemaVersionErrors(
+                SchemaVersionErrorItem
+                    .builder()
+                    .versionNumber(TestData.VERSION_NUMBER)
+                    .errorDetails(ErrorDetails
+                        .builder()
+                        .errorCode(errorCode)
+                        .errorMessage("Version " + TestData.VERSION_NUMBER + " was not deleted")
+                        .build())
+                    .build()
+            )
+            .build();
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String SCHEMA_ARN =
@@ -142,16 +301,7 @@ public class DeleteHandlerTest extends AbstractTestBase {
                 .build();
 
         public final static DeleteSchemaVersionsResponse DELETE_SCHEMA_VERSIONS_RESPONSE =
-            DeleteSchemaVersionsResponse.builder()
-                .schemaVersionErrors(
-                    SchemaVersionErrorItem
-                        .builder()
-                        .versionNumber(VERSION_NUMBER)
-                        .errorDetails(ErrorDetails
-                            .builder().build())
-                        .build()
-                )
-                .build();
+            DeleteSchemaVersionsResponse.builder().build();
 
         private static final String VERSION_ID = "6eff3f2b-89c0-40ea-a268-9eb34b9cdd2d";
 
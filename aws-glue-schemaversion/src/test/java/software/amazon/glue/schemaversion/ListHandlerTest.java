@@ -18,12 +18,17 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.ListPaginator;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -128,6 +133,31 @@ public class ListHandlerTest extends AbstractTestBase {
             .contains("Access denied for operation 'AWS::Glue::SchemaVersion'");
     }
 
+    @Test
+    public void handleRequest_WhenDrainingEnabled_DrainsAllPages() {
+        handler = new ListHandler(
+            new ListPaginator(true, TimeUnit.SECONDS.toNanos(30), Long.MAX_VALUE, System::nanoTime));
+
+        when(glueClient.listSchemaVersions(any(ListSchemaVersionsRequest.class)))
+            .thenReturn(ListSchemaVersionsResponse
+                .builder()
+                .nextToken(TestData.ANOTHER_NEXT_TOKEN)
+                .schemas(TestData.SCHEMA_VERSION_LIST_ITEM_1)
+                .build())
+            .thenReturn(ListSchemaVersionsResponse
+                .builder()
+                .schemas(TestData.SCHEMA_VERSION_LIST_ITEM_2)
+                .build());
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_BY_SCHEMA_NAME, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).isEqualTo(TestData.RESOURCE_MODEL_LIST);
+        assertThat(response.getNextToken()).isNull();
+        verify(glueClient, times(2)).listSchemaVersions(any(ListSchemaVersionsRequest.class));
+    }
+
     private static class TestData {
         public final static String REGISTRY_NAME = "unit-test-registry";
         public final static String SCHEMA_NAME = "unit-test-schema";
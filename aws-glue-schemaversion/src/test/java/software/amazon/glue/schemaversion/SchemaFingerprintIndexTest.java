@@ -0,0 +1,88 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.services.glue.model.SchemaId;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaFingerprintIndexTest {
+
+    private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final String DEFINITION = "{\"type\":\"record\",\"name\":\"Order\",\"fields\":[]}";
+
+    private long now;
+    private SchemaFingerprintIndex index;
+
+    @BeforeEach
+    public void setup() {
+        now = 0L;
+        index = new SchemaFingerprintIndex(true, 2, TTL_NANOS, () -> now);
+    }
+
+    @Test
+    public void key_SchemaByNameDefaultsToDefaultRegistry() {
+        final SchemaId byName = SchemaId.builder().schemaName("orders").build();
+        final SchemaId inDefaultRegistry = SchemaId.builder().registryName("default-registry").schemaName("orders").build();
+        final SchemaId inOtherRegistry = SchemaId.builder().registryName("payments").schemaName("orders").build();
+
+        assertThat(SchemaFingerprintIndex.key(byName, DEFINITION))
+            .isEqualTo(SchemaFingerprintIndex.key(inDefaultRegistry, DEFINITION))
+            .isNotEqualTo(SchemaFingerprintIndex.key(inOtherRegistry, DEFINITION));
+    }
+
+    @Test
+    public void key_SameForFormattingOnlyDifferences() {
+        final SchemaId schemaId = SchemaId.builder().schemaArn("arn:aws:glue:us-east-1:123456789012:schema/r/s").build();
+        final String reformatted = "{\n  \"name\": \"Order\",\n  \"type\": \"record\",\n  \"fields\": []\n}\n";
+
+        assertThat(SchemaFingerprintIndex.key(schemaId, DEFINITION))
+            .startsWith("arn:aws:glue:us-east-1:123456789012:schema/r/s#")
+            .isEqualTo(SchemaFingerprintIndex.key(schemaId, reformatted))
+            .isNotEqualTo(SchemaFingerprintIndex.key(schemaId, DEFINITION.replace("Order", "Invoice")));
+    }
+
+    @Test
+    public void versionId_ExpiresAfterTtl() {
+        index.put("a", "version-a");
+        now += TTL_NANOS - 1;
+        assertThat(index.versionId("a")).contains("version-a");
+
+        now += 1;
+        assertThat(index.versionId("a")).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsed() {
+        index.put("a", "version-a");
+        index.put("b", "version-b");
+        index.versionId("a");
+        index.put("c", "version-c");
+
+        assertThat(index.versionId("a")).contains("version-a");
+        assertThat(index.versionId("b")).isEmpty();
+        assertThat(index.versionId("c")).contains("version-c");
+    }
+
+    @Test
+    public void invalidateVersion_RemovesEveryKeyOfTheVersion() {
+        index.put("a", "version-a");
+        index.put("b", "version-a");
+
+        index.invalidateVersion("version-a");
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    public void disabledIndex_NeverReturnsVersions() {
+        final SchemaFingerprintIndex disabled = new SchemaFingerprintIndex(false, 2, TTL_NANOS, () -> now);
+        disabled.put("a", "version-a");
+
+        assertThat(disabled.versionId("a")).isEmpty();
+        assertThat(disabled.size()).isZero();
+    }
+}
@@ -0,0 +1,51 @@
+package software.amazon.glue.schemaversion;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SchemaVersionResolutionCacheTest {
+
+    private static final String SCHEMA_ARN =
+        "arn:aws:glue:us-east-1:123456789:schema/unit-testing-registry/unit-testing-schema";
+
+    @Test
+    public void get_ReturnsWhatWasPut() {
+        final SchemaVersionResolutionCache cache = new SchemaVersionResolutionCache(true, 4);
+        cache.put("version-1", SCHEMA_ARN, 3L);
+
+        assertThat(cache.get("version-1"))
+            .contains(new SchemaVersionResolutionCache.ResolvedVersion(SCHEMA_ARN, 3L));
+        assertThat(cache.get("version-2")).isEmpty();
+    }
+
+    @Test
+    public void put_IgnoresIncompleteEntries() {
+        final SchemaVersionResolutionCache cache = new SchemaVersionResolutionCache(true, 4);
+        cache.put("version-1", null, 3L);
+        cache.put("version-2", SCHEMA_ARN, null);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    public void put_EvictsLeastRecentlyUsedBeyondMaxEntries() {
+        final SchemaVersionResolutionCache cache = new SchemaVersionResolutionCache(true, 2);
+        cache.put("version-1", SCHEMA_ARN, 1L);
+        cache.put("version-2", SCHEMA_ARN, 2L);
+        cache.get("version-1");
+        cache.put("version-3", SCHEMA_ARN, 3L);
+
+        assertThat(cache.get("version-1")).isPresent();
+        assertThat(cache.get("version-2")).isEmpty();
+        assertThat(cache.get("version-3")).isPresent();
+    }
+
+    @Test
+    public void get_WhenDisabled_AlwaysMisses() {
+        final SchemaVersionResolutionCache cache = new SchemaVersionResolutionCache(false, 4);
+        cache.put("version-1", SCHEMA_ARN, 1L);
+
+        assertThat(cache.get("version-1")).isEmpty();
+    }
+}
@@ -1,18 +1,74 @@
 package software.amazon.glue.schemaversionmetadata;
 
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.services.glue.GlueClient;
-import software.amazon.cloudformation.LambdaWrapper;
+import software.amazon.awssdk.services.glue.model.MetadataKeyValuePair;
+import software.amazon.awssdk.services.glue.model.PutSchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
+import software.amazon.awssdk.services.glue.model.RemoveSchemaVersionMetadataRequest;
+import software.amazon.glue.common.AdaptiveRateLimiter;
+import software.amazon.glue.common.GlueClients;
+import software.amazon.glue.common.GlueWarmUp;
+import software.amazon.glue.common.Settings;
+
+import java.util.Arrays;
+import java.util.function.Function;
 
 public class ClientBuilder {
     private ClientBuilder() {
     }
 
+    private static final AdaptiveRateLimiter RATE_LIMITER =
+        Settings.booleanValue(HandlerSetting.RATE_LIMITER_ENABLED)
+            ? AdaptiveRateLimiter.fromSettings(
+                HandlerSetting.RATE_LIMITER_INITIAL_RATE,
+                HandlerSetting.RATE_LIMITER_MIN_RATE,
+                HandlerSetting.RATE_LIMITER_MAX_RATE,
+                HandlerSetting.RATE_LIMITER_INCREASE_STEP,
+                HandlerSetting.RATE_LIMITER_DECREASE_FACTOR,
+                HandlerSetting.RATE_LIMITER_COOLDOWN_MILLIS,
+                HandlerSetting.RATE_LIMITER_MAX_WAIT_MILLIS)
+            : null;
+
+    // Without the rate limiter the client keeps the SDK default retry policy, with its attempts counted
+    private static final ClientOverrideConfiguration OVERRIDE_CONFIGURATION =
+        RATE_LIMITER != null
+            ? GlueClients.overrideConfiguration(RATE_LIMITER)
+            : GlueClients.defaultOverrideConfiguration();
+
+    private static final GlueClients<GlueClient> GLUE_CLIENTS =
+        new GlueClients<>(GlueClient::builder, OVERRIDE_CONFIGURATION);
+
+    private static final String WARM_UP_VERSION_ID = "00000000-0000-0000-0000-000000000000";
+    private static final MetadataKeyValuePair WARM_UP_METADATA =
+        MetadataKeyValuePair.builder().metadataKey("warm-up").metadataValue("warm-up").build();
+
+    // One representative request per Glue operation the SchemaVersionMetadata handlers call, see warmUp()
+    private static final GlueWarmUp<GlueClient> WARM_UP = new GlueWarmUp<>(GlueClient::builder,
+        Arrays.<Function<GlueClient, ?>>asList(
+            glue -> glue.putSchemaVersionMetadata(PutSchemaVersionMetadataRequest.builder()
+                .schemaVersionId(WARM_UP_VERSION_ID)
+                .metadataKeyValue(WARM_UP_METADATA)
+                .build()),
+            glue -> glue.querySchemaVersionMetadata(QuerySchemaVersionMetadataRequest.builder()
+                .schemaVersionId(WARM_UP_VERSION_ID)
+                .build()),
+            glue -> glue.removeSchemaVersionMetadata(RemoveSchemaVersionMetadataRequest.builder()
+                .schemaVersionId(WARM_UP_VERSION_ID)
+                .metadataKeyValue(WARM_UP_METADATA)
+                .build())))
+        .registerForCheckpoint();
+
     //It is recommended to use static HTTP client so less memory is consumed.
     public static GlueClient getClient() {
-        return
-            GlueClient
-                .builder()
-                .httpClient(LambdaWrapper.HTTP_CLIENT)
-                .build();
+        return GLUE_CLIENTS.client();
+    }
+
+    /**
+     * Makes every Glue call of the SchemaVersionMetadata handlers once without a network round trip, so the first invocation does
+     * not pay for loading and initializing the SDK. Runs once per JVM, see {@link GlueWarmUp}.
+     */
+    static GlueWarmUp.Result warmUp() {
+        return WARM_UP.run();
     }
 }
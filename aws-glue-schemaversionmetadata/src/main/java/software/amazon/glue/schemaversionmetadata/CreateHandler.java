@@ -74,13 +74,9 @@ public class CreateHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] successfully created.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
-        );
+        handlerLog(logger).info("Successfully created",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", identifier);
         return putSchemaVersionMetadataResponse;
 
     }
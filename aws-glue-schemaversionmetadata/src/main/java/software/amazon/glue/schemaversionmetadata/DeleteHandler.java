@@ -62,13 +62,9 @@ public class DeleteHandler extends BaseHandlerStd {
             translateToCfnException(e, identifier);
         }
 
-        logger.log(
-            String.format(
-                "%s [%s] successfully deleted.",
-                ResourceModel.TYPE_NAME,
-                identifier
-            )
-        );
+        handlerLog(logger).info("Successfully deleted",
+            "Type", ResourceModel.TYPE_NAME,
+            "Id", identifier);
         return removeSchemaVersionMetadataResponse;
     }
 
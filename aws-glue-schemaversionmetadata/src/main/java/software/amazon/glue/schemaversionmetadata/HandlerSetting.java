@@ -0,0 +1,64 @@
+package software.amazon.glue.schemaversionmetadata;
+
+import software.amazon.awssdk.utils.SystemSetting;
+import software.amazon.glue.common.Settings;
+
+import java.util.Locale;
+
+/**
+ * Tunables for the SchemaVersionMetadata handlers. Each setting can be supplied as a JVM system property
+ * or as the matching environment variable (upper case, dots replaced with underscores).
+ */
+enum HandlerSetting implements SystemSetting {
+    LIST_DRAIN_ENABLED("glue.schemaversionmetadata.list.drain.enabled", "false"),
+    LIST_DRAIN_TIME_BUDGET_MILLIS("glue.schemaversionmetadata.list.drain.timeBudgetMillis", "20000"),
+    LIST_DRAIN_MAX_BYTES("glue.schemaversionmetadata.list.drain.maxBytes", "1048576"),
+    RATE_LIMITER_ENABLED("glue.schemaversionmetadata.rateLimiter.enabled", "false"),
+    RATE_LIMITER_INITIAL_RATE("glue.schemaversionmetadata.rateLimiter.initialRate", "10"),
+    RATE_LIMITER_MIN_RATE("glue.schemaversionmetadata.rateLimiter.minRate", "0.5"),
+    RATE_LIMITER_MAX_RATE("glue.schemaversionmetadata.rateLimiter.maxRate", "20"),
+    RATE_LIMITER_INCREASE_STEP("glue.schemaversionmetadata.rateLimiter.increaseStep", "0.1"),
+    RATE_LIMITER_DECREASE_FACTOR("glue.schemaversionmetadata.rateLimiter.decreaseFactor", "0.5"),
+    RATE_LIMITER_COOLDOWN_MILLIS("glue.schemaversionmetadata.rateLimiter.cooldownMillis", "1000"),
+    RATE_LIMITER_MAX_WAIT_MILLIS("glue.schemaversionmetadata.rateLimiter.maxWaitMillis", "20000"),
+    WARM_UP_ENABLED("glue.schemaversionmetadata.warmUp.enabled", "true"),
+    METRICS_ENABLED("glue.schemaversionmetadata.metrics.enabled", "true"),
+    LOG_LEVEL("glue.schemaversionmetadata.log.level", "INFO"),
+    LOG_FORMAT("glue.schemaversionmetadata.log.format", "TEXT"),
+    LOG_MAX_FIELD_LENGTH("glue.schemaversionmetadata.log.maxFieldLength", "2048");
+
+    private final String property;
+    private final String defaultValue;
+
+    HandlerSetting(final String property, final String defaultValue) {
+        this.property = property;
+        this.defaultValue = defaultValue;
+    }
+
+    @Override
+    public String property() {
+        return property;
+    }
+
+    @Override
+    public String environmentVariable() {
+        return property.replace('.', '_').toUpperCase(Locale.ROOT);
+    }
+
+    @Override
+    public String defaultValue() {
+        return defaultValue;
+    }
+
+    boolean booleanValue() {
+        return Settings.booleanValue(this);
+    }
+
+    long longValue() {
+        return Settings.longValue(this);
+    }
+
+    <E extends Enum<E>> E enumValue(final Class<E> type) {
+        return Settings.enumValue(this, type);
+    }
+}
@@ -2,7 +2,6 @@ package software.amazon.glue.schemaversionmetadata;
 
 import software.amazon.awssdk.awscore.exception.AwsServiceException;
 import software.amazon.awssdk.services.glue.GlueClient;
-import software.amazon.awssdk.services.glue.model.MetadataInfo;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataRequest;
 import software.amazon.awssdk.services.glue.model.QuerySchemaVersionMetadataResponse;
 import software.amazon.cloudformation.proxy.AmazonWebServicesClientProxy;
@@ -11,16 +10,31 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.HandlerLog;
+import software.amazon.glue.common.ListPaginator;
 
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
-import static java.util.stream.Collectors.toList;
 import static software.amazon.glue.schemaversionmetadata.ExceptionTranslator.translateToCfnException;
 
 public class ListHandler extends BaseHandlerStd {
 
+    // Rough JSON overhead of a model besides its field values
+    private static final long MODEL_OVERHEAD_BYTES = 48L;
+
+    private final ListPaginator paginator;
+
+    public ListHandler() {
+        this(ListPaginator.fromSettings(
+            HandlerSetting.LIST_DRAIN_ENABLED,
+            HandlerSetting.LIST_DRAIN_TIME_BUDGET_MILLIS,
+            HandlerSetting.LIST_DRAIN_MAX_BYTES));
+    }
+
+    ListHandler(final ListPaginator paginator) {
+        this.paginator = paginator;
+    }
+
     @Override
     public ProgressEvent<ResourceModel, CallbackContext> handleRequest(
         final AmazonWebServicesClientProxy proxy,
@@ -29,12 +43,31 @@ public class ListHandler extends BaseHandlerStd {
         final ProxyClient<GlueClient> proxyClient,
         final Logger logger) {
 
-        final QuerySchemaVersionMetadataRequest querySchemaVersionMetadataRequest =
-            translateToListRequest(request);
+        final String identifier = request.getDesiredResourceState().getSchemaVersionId();
 
-        QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse = null;
+        final ListPaginator.Page<ResourceModel> page = paginator.list(
+            request.getNextToken(),
+            nextToken -> querySchemaVersionMetadata(
+                proxy, proxyClient, translateToListRequest(identifier, nextToken), identifier),
+            this::translateFromListResponse,
+            QuerySchemaVersionMetadataResponse::nextToken,
+            ListHandler::estimateSize);
+
+        handlerLog(logger).log(HandlerLog.Level.INFO, page::summary);
 
-        final String identifier = querySchemaVersionMetadataRequest.schemaVersionId();
+        return ProgressEvent.<ResourceModel, CallbackContext>builder()
+            .resourceModels(page.getModels())
+            .nextToken(page.getNextToken())
+            .status(OperationStatus.SUCCESS)
+            .build();
+    }
+
+    private QuerySchemaVersionMetadataResponse querySchemaVersionMetadata(
+        final AmazonWebServicesClientProxy proxy,
+        final ProxyClient<GlueClient> proxyClient,
+        final QuerySchemaVersionMetadataRequest querySchemaVersionMetadataRequest,
+        final String identifier) {
+        QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse = null;
 
         try {
             querySchemaVersionMetadataResponse =
@@ -45,29 +78,18 @@ public class ListHandler extends BaseHandlerStd {
         } catch (AwsServiceException e) {
             translateToCfnException(e, identifier);
         }
-
-        final String nextToken = querySchemaVersionMetadataResponse.nextToken();
-        final List<ResourceModel> models = translateFromListResponse(querySchemaVersionMetadataResponse);
-
-        return ProgressEvent.<ResourceModel, CallbackContext>builder()
-            .resourceModels(models)
-            .nextToken(nextToken)
-            .status(OperationStatus.SUCCESS)
-            .build();
+        return querySchemaVersionMetadataResponse;
     }
 
-    private List<ResourceModel> translateFromListResponse(
+    private Stream<ResourceModel> translateFromListResponse(
         final QuerySchemaVersionMetadataResponse querySchemaVersionMetadataResponse) {
 
         if (!querySchemaVersionMetadataResponse.hasMetadataInfoMap()) {
-            return Collections.emptyList();
+            return Stream.empty();
         }
 
-        final Map<String, MetadataInfo> metadataInfoMap =
-            querySchemaVersionMetadataResponse.metadataInfoMap();
-
         return
-            metadataInfoMap
+            querySchemaVersionMetadataResponse.metadataInfoMap()
                 .entrySet()
                 .stream()
                 .map(entry ->
@@ -77,19 +99,28 @@ public class ListHandler extends BaseHandlerStd {
                         .key(entry.getKey())
                         .value(entry.getValue().metadataValue())
                         .build()
-                )
-                .collect(toList());
+                );
     }
 
     private QuerySchemaVersionMetadataRequest translateToListRequest(
-        final ResourceHandlerRequest<ResourceModel> request) {
-        final String schemaVersionId = request.getDesiredResourceState().getSchemaVersionId();
-
+        final String schemaVersionId,
+        final String nextToken) {
         return QuerySchemaVersionMetadataRequest
             .builder()
-            .nextToken(request.getNextToken())
+            .nextToken(nextToken)
             .schemaVersionId(schemaVersionId)
             .maxResults(50)
             .build();
     }
+
+    private static long estimateSize(final ResourceModel model) {
+        return MODEL_OVERHEAD_BYTES
+            + length(model.getSchemaVersionId())
+            + length(model.getKey())
+            + length(model.getValue());
+    }
+
+    private static long length(final String value) {
+        return value == null ? 0L : value.length();
+    }
 }
@@ -76,11 +76,9 @@ public class ReadHandler extends BaseHandlerStd {
             identifier
         );
 
-        logger.log(
-            String.format("%s for %s has successfully been read.",
-                ResourceModel.TYPE_NAME,
-                schemaVersionId
-            ));
+        handlerLog(logger).info("Successfully read",
+            "Type", ResourceModel.TYPE_NAME,
+            "SchemaVersionId", schemaVersionId);
         return querySchemaVersionMetadataResponse;
     }
 
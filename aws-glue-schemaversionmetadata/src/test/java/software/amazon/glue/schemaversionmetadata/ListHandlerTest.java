@@ -19,12 +19,17 @@ import software.amazon.cloudformation.proxy.OperationStatus;
 import software.amazon.cloudformation.proxy.ProgressEvent;
 import software.amazon.cloudformation.proxy.ProxyClient;
 import software.amazon.cloudformation.proxy.ResourceHandlerRequest;
+import software.amazon.glue.common.ListPaginator;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -109,6 +114,25 @@ public class ListHandlerTest extends AbstractTestBase {
             .contains("Error occurred during operation ");
     }
 
+    @Test
+    public void handleRequest_WhenDrainingEnabled_DrainsAllPages() {
+        handler = new ListHandler(
+            new ListPaginator(true, TimeUnit.SECONDS.toNanos(30), Long.MAX_VALUE, System::nanoTime));
+
+        when(glueClient.querySchemaVersionMetadata(any(QuerySchemaVersionMetadataRequest.class)))
+            .thenReturn(TestData.QUERY_SCHEMA_VERSION_METADATA_RESPONSE)
+            .thenReturn(TestData.NULL_METADATA_INFO_QUERY_SCHEMA_VERSION_METADATA_RESPONSE);
+
+        final ProgressEvent<ResourceModel, CallbackContext> response =
+            handler.handleRequest(proxy, TestData.RESOURCE_HANDLER_REQUEST, new CallbackContext(), proxyClient, logger);
+
+        assertThat(response.getStatus()).isEqualTo(OperationStatus.SUCCESS);
+        assertThat(response.getResourceModels()).containsOnlyElementsOf(TestData.RESOURCE_MODEL_LIST);
+        assertThat(response.getResourceModels()).hasSize(2);
+        assertThat(response.getNextToken()).isNull();
+        verify(glueClient, times(2)).querySchemaVersionMetadata(any(QuerySchemaVersionMetadataRequest.class));
+    }
+
     private static class TestData {
         public final static String SCHEMA_VERSION_ID = "yurt9301-dc50-11ea-87d0-8iofb18nkrp8";
         private static final String METADATA_KEY_1 = "META_KEY_1";